@@ -49,6 +49,7 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
     private CamelContext camelContext;
     private boolean unwrapSingleInstance = true;
     private boolean allowEmptyStream;
+    private boolean lazyLoad;
 
     public BindyAbstractDataFormat() {
     }
@@ -89,6 +90,18 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
         this.allowEmptyStream = allowEmptyStream;
     }
 
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads and binds the records on the fly,
+     * instead of reading all the records at once into a list. This allows to split big files in streaming mode.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     public BindyAbstractFactory getFactory() throws Exception {
         if (modelFactory == null) {
             FormatFactory formatFactory = createFormatFactory();
@@ -193,6 +206,14 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
         }
     }
 
+    protected Object extractUnmarshalResult(BindyRecordIterator iterator, boolean allowEmptyStream, String message) {
+        // read ahead the first record so an empty stream is reported at once as when not lazy loading
+        if (!iterator.hasNext() && !allowEmptyStream) {
+            throw new IllegalArgumentException(message);
+        }
+        return iterator;
+    }
+
     @Override
     protected void doStart() throws Exception {
         // noop
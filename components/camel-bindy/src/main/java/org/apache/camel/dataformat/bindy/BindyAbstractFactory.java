@@ -28,8 +28,11 @@ import java.util.Map;
 import java.util.Set;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
+import org.apache.camel.dataformat.bindy.annotation.DataField;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.annotation.OneToMany;
+import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.support.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -130,6 +133,24 @@ public abstract class BindyAbstractFactory implements BindyFactory {
     @Override
     public abstract String unbind(CamelContext camelContext, Map<String, Object> model) throws Exception;
 
+    /**
+     * Gets the format to parse the data of the given field, which is created on first use and then
+     * kept in the given cache. The formats are not thread safe, so the cache is created per unmarshal
+     * to avoid creating the formats again for each record of the stream.
+     */
+    protected Format<?> getFormat(Map<Field, Format<?>> formats, Field field, DataField dataField) throws Exception {
+        Format<?> format = formats.get(field);
+        if (format == null) {
+            FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
+                    field.getType(),
+                    field.getAnnotation(BindyConverter.class),
+                    getLocale());
+            format = formatFactory.getFormat(formattingOptions);
+            formats.put(field, format);
+        }
+        return format;
+    }
+
     /**
      * Link objects together
      */
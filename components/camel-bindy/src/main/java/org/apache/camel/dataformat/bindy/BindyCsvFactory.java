@@ -132,6 +132,8 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
                         Field f = annotatedFields.get(pos);
                         LOG.warn("Potentially invalid model: existing @DataField '{}' replaced by '{}'", f.getName(), field.getName());
                     }
+                    // change protection for private field once, instead of for every record
+                    field.setAccessible(true);
                     dataFields.put(pos, dataField);
                     annotatedFields.put(pos, field);
                     maxpos = Math.max(maxpos, pos);
@@ -167,6 +169,14 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
     @Override
     public void bind(CamelContext camelContext, List<String> tokens, Map<String, Object> model, int line) throws Exception {
+        bind(camelContext, tokens, model, line, new HashMap<>());
+    }
+
+    /**
+     * Binds the tokens of a record to the model, using the given cache of formats
+     * which can be reused for all the records of the same unmarshal.
+     */
+    public void bind(CamelContext camelContext, List<String> tokens, Map<String, Object> model, int line, Map<Field, Format<?>> formats) throws Exception {
 
         int pos = 1;
         int counterMandatoryFields = 0;
@@ -179,10 +189,10 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             // If a DataField can be skipped, it needs to check whether it is in dataFields keyset
             if (isSkipField()) {
                 if (dataFields.keySet().contains(pos))  {
-                    counterMandatoryFields = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
+                    counterMandatoryFields = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField, formats);
                 }
             } else {
-                counterMandatoryFields = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
+                counterMandatoryFields = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField, formats);
             }
             
             ++pos;
@@ -196,12 +206,13 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         }
 
         if (pos < totalFields) {
-            setDefaultValuesForFields(model);
+            setDefaultValuesForFields(model, formats);
         }
 
     }
 
-    private int setDataFieldValue(CamelContext camelContext, Map<String, Object> model, int line, int pos, int counterMandatoryFields, String data, DataField dataField) throws Exception {
+    private int setDataFieldValue(CamelContext camelContext, Map<String, Object> model, int line, int pos, int counterMandatoryFields, String data, DataField dataField,
+                                  Map<Field, Format<?>> formats) throws Exception {
         org.apache.camel.util.ObjectHelper.notNull(dataField, "No position " + pos + " defined for the field: " + data + ", line: " + line);
 
         if (dataField.trim()) {
@@ -221,18 +232,13 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
         // Get Field to be setted
         Field field = annotatedFields.get(pos);
-        field.setAccessible(true);
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Pos: {}, Data: {}, Field type: {}", pos, data, field.getType());
         }
 
-        // Create format object to format the field
-        FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                field.getType(),
-                field.getAnnotation(BindyConverter.class),
-                getLocale());
-        Format<?> format = formatFactory.getFormat(formattingOptions);
+        // Get format object to format the field
+        Format<?> format = getFormat(formats, field, dataField);
 
         // field object to be set
         Object modelField = model.get(field.getDeclaringClass().getName());
@@ -684,20 +690,15 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
      * @throws IllegalAccessException if the underlying fields are inaccessible
      * @throws Exception In case the field cannot be parsed
      */
-    private void setDefaultValuesForFields(final Map<String, Object> model) throws IllegalAccessException,
+    private void setDefaultValuesForFields(final Map<String, Object> model, Map<Field, Format<?>> formats) throws IllegalAccessException,
         Exception {
         // Set the default values, if defined
         for (int i = 1; i <= dataFields.size(); i++) {
             Field field = annotatedFields.get(i);
-            field.setAccessible(true);
             DataField dataField = dataFields.get(i);
             Object modelField = model.get(field.getDeclaringClass().getName());
             if (field.get(modelField) == null && !dataField.defaultValue().isEmpty()) {
-                FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                        field.getType(),
-                        field.getAnnotation(BindyConverter.class),
-                        getLocale());
-                Format<?> format = formatFactory.getFormat(formattingOptions);
+                Format<?> format = getFormat(formats, field, dataField);
                 Object value = format.parse(dataField.defaultValue());
                 field.set(modelField, value);
             }
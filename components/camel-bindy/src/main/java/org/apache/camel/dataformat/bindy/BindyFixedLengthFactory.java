@@ -123,6 +123,8 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                         ++numberOptionalFields;
                     }
 
+                    // change protection for private field once, instead of for every record
+                    field.setAccessible(true);
                     dataFields.put(dataField.pos(), dataField);
                     annotatedFields.put(dataField.pos(), field);
                 }
@@ -162,6 +164,14 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
     }
 
     public void bind(CamelContext camelContext, String record, Map<String, Object> model, int line) throws Exception {
+        bind(camelContext, record, model, line, new HashMap<>());
+    }
+
+    /**
+     * Binds the record to the model, using the given cache of formats
+     * which can be reused for all the records of the same unmarshal.
+     */
+    public void bind(CamelContext camelContext, String record, Map<String, Object> model, int line, Map<Field, Format<?>> formats) throws Exception {
 
         int pos = 1;
         int counterMandatoryFields = 0;
@@ -186,7 +196,6 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
             if (length == 0 && dataField.lengthPos() != 0) {
                 Field lengthField = annotatedFields.get(dataField.lengthPos());
-                lengthField.setAccessible(true);
                 Object modelObj = model.get(lengthField.getDeclaringClass().getName());
                 Object lengthObj =  lengthField.get(modelObj);
                 length = ((Integer)lengthObj).intValue();
@@ -247,18 +256,13 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
             // Get Field to be set
             field = annotatedFields.get(dataField.pos());
-            field.setAccessible(true);
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Pos/Offset: {}, Data: {}, Field type: {}", offset, token, field.getType());
             }
 
-            // Create format object to format the field
-            FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                    field.getType(),
-                    field.getAnnotation(BindyConverter.class),
-                    getLocale());
-            Format<?> format = formatFactory.getFormat(formattingOptions);
+            // Get format object to format the field
+            Format<?> format = getFormat(formats, field, dataField);
 
             // field object to be set
             Object modelField = model.get(field.getDeclaringClass().getName());
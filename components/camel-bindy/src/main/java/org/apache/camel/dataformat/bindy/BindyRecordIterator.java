@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * An {@link Iterator} which lazily reads the records of a stream and binds them one by one,
+ * used when unmarshalling with the <tt>lazyLoad</tt> option enabled.
+ * <p/>
+ * The iterator returns the objects of the class type of the data format (or the graph of objects
+ * of the record if no class type has been configured), and closes the stream when all the records
+ * have been read.
+ */
+public abstract class BindyRecordIterator implements Iterator<Object>, Closeable {
+    private final Closeable source;
+    private final Class<?> classType;
+    private Object next;
+    private boolean closed;
+
+    protected BindyRecordIterator(Closeable source, Class<?> classType) {
+        this.source = source;
+        this.classType = classType;
+    }
+
+    /**
+     * Reads and binds the next record of the stream.
+     *
+     * @return the graph of objects of the record, or <tt>null</tt> if there is no more records
+     */
+    protected abstract Map<String, Object> nextModel() throws Exception;
+
+    /**
+     * Callback when there is no more records in the stream, which is invoked before the stream is closed.
+     */
+    protected void onEnd() throws Exception {
+        // noop
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !closed) {
+            next = fetch();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object answer = next;
+        next = null;
+        return answer;
+    }
+
+    private Object fetch() {
+        try {
+            Map<String, Object> model = nextModel();
+            while (model != null) {
+                Object data = classType != null ? model.get(classType.getName()) : model;
+                if (data != null) {
+                    return data;
+                }
+                model = nextModel();
+            }
+            onEnd();
+        } catch (Exception e) {
+            IOHelper.close(this);
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+        IOHelper.close(this);
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            source.close();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -37,6 +38,8 @@ import org.apache.camel.Exchange;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyCsvFactory;
+import org.apache.camel.dataformat.bindy.BindyRecordIterator;
+import org.apache.camel.dataformat.bindy.Format;
 import org.apache.camel.dataformat.bindy.FormatFactory;
 import org.apache.camel.dataformat.bindy.WrappedException;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
@@ -156,11 +159,32 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
 
             // Retrieve the separator defined to split the record
             String separator = factory.getSeparator();
-            String quote = factory.getQuote();
             org.apache.camel.util.ObjectHelper.notNull(separator, "The separator has not been defined in the annotation @CsvRecord or not instantiated during initModel.");
-            Boolean removeQuotes = factory.getRemoveQuotes();
+            Pattern pattern = Pattern.compile(separator);
             AtomicInteger count = new AtomicInteger(0);
 
+            // the formats are reused for all the records of this stream
+            Map<Field, Format<?>> formats = new HashMap<>();
+
+            if (isLazyLoad()) {
+                BufferedReader reader = IOHelper.buffered(in);
+                // If the first line of the CSV file contains columns name, then we
+                // skip this line
+                if (factory.getSkipFirstLine()) {
+                    reader.readLine();
+                }
+                BindyRecordIterator iterator = new BindyRecordIterator(reader, getClassType()) {
+                    @Override
+                    protected Map<String, Object> nextModel() throws Exception {
+                        String line = reader.readLine();
+                        return line != null ? createModel(factory, line, pattern, count, formats) : null;
+                    }
+                };
+                // the iterator closes the stream when done
+                in = null;
+                return extractUnmarshalResult(iterator, factory.isAllowEmptyStream() || isAllowEmptyStream(), "No records have been defined in the CSV");
+            }
+
             // Use a Stream to stream a file across.
             try (Stream<String> lines = new BufferedReader(in).lines()) {
                 int linesToSkip = 0;
@@ -175,7 +199,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
                 // If the internals of the consumer fail, we unrap the checked exception upstream.
                 try {
                     lines.skip(linesToSkip)
-                            .forEachOrdered(consumeFile(factory, models, separator, removeQuotes, quote, count));
+                            .forEachOrdered(consumeFile(factory, models, pattern, count, formats));
                 } catch (WrappedException e) {
                     throw e.getWrappedException();
                 }
@@ -197,74 +221,78 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
     }
 
     private Consumer<String> consumeFile(BindyCsvFactory factory, List<Map<String, Object>> models,
-                                         String separator, Boolean removeQuotes, String quote, AtomicInteger count) {
+                                         Pattern pattern, AtomicInteger count, Map<Field, Format<?>> formats) {
         return line -> {
             try {
-                // Trim the line coming in to remove any trailing whitespace
-                String trimmedLine;
+                // Add objects graph to the list
+                models.add(createModel(factory, line, pattern, count, formats));
+            } catch (Exception e) {
+                throw new WrappedException(e);
+            }
+        };
+    }
 
-                // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
-                if (separator.equals("\t")) {
-                    // trim only trailing whitespaces
-                    trimmedLine = line.replaceAll("\\s+$", "");
-                } else {
-                    trimmedLine = line.trim();
-                }
+    private Map<String, Object> createModel(BindyCsvFactory factory, String line, Pattern pattern,
+                                            AtomicInteger count, Map<Field, Format<?>> formats) throws Exception {
+        String separator = factory.getSeparator();
 
-                // Increment counter
-                count.incrementAndGet();
-                Map<String, Object> model;
+        // Trim the line coming in to remove any trailing whitespace
+        String trimmedLine;
 
-                // Create POJO where CSV data will be stored
-                model = factory.factory();
+        // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
+        if (separator.equals("\t")) {
+            // trim only trailing whitespaces
+            trimmedLine = line.replaceAll("\\s+$", "");
+        } else {
+            trimmedLine = line.trim();
+        }
 
-                // Split the CSV record according to the separator defined in
-                // annotated class @CSVRecord
-                Pattern pattern = Pattern.compile(separator);
-                Matcher matcher = pattern.matcher(trimmedLine);
-                List<String> separators = new ArrayList<>();
+        // Increment counter
+        count.incrementAndGet();
+        Map<String, Object> model;
 
-                // Retrieve separators for each match
-                while (matcher.find()) {
-                    separators.add(matcher.group());
-                }
-                // Add terminal separator
-                if (separators.size() > 0) {
-                    separators.add(separators.get(separators.size() - 1));
-                }
+        // Create POJO where CSV data will be stored
+        model = factory.factory();
 
-                String[] tokens = pattern.split(trimmedLine, factory.getAutospanLine() ? factory.getMaxpos() : -1);
+        // Split the CSV record according to the separator defined in
+        // annotated class @CSVRecord
+        Matcher matcher = pattern.matcher(trimmedLine);
+        List<String> separators = new ArrayList<>();
 
-                List<String> result = Arrays.asList(tokens);
+        // Retrieve separators for each match
+        while (matcher.find()) {
+            separators.add(matcher.group());
+        }
+        // Add terminal separator
+        if (separators.size() > 0) {
+            separators.add(separators.get(separators.size() - 1));
+        }
 
-                // must unquote tokens before use
-                if (removeQuotes) {
-                    result = unquoteTokens(result, separators, quote);
-                }
+        String[] tokens = pattern.split(trimmedLine, factory.getAutospanLine() ? factory.getMaxpos() : -1);
 
-                if (result.isEmpty()) {
-                    throw new IllegalArgumentException("No records have been defined in the CSV");
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Size of the record splitted : {}", result.size());
-                    }
+        List<String> result = Arrays.asList(tokens);
 
-                    // Bind data from CSV record with model classes
+        // must unquote tokens before use
+        if (factory.getRemoveQuotes()) {
+            result = unquoteTokens(result, separators, factory.getQuote());
+        }
 
-                    factory.bind(getCamelContext(), result, model, count.get());
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("No records have been defined in the CSV");
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Size of the record splitted : {}", result.size());
+            }
 
-                    // Link objects together
-                    factory.link(model);
+            // Bind data from CSV record with model classes
+            factory.bind(getCamelContext(), result, model, count.get(), formats);
 
-                    // Add objects graph to the list
-                    models.add(model);
+            // Link objects together
+            factory.link(model);
 
-                    LOG.debug("Graph of objects created: {}", model);
-                }
-            } catch (Exception e) {
-                throw new WrappedException(e);
-            }
-        };
+            LOG.debug("Graph of objects created: {}", model);
+        }
+        return model;
     }
 
     /**
@@ -19,6 +19,7 @@ package org.apache.camel.dataformat.bindy.fixed;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -31,6 +32,8 @@ import org.apache.camel.Exchange;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyFixedLengthFactory;
+import org.apache.camel.dataformat.bindy.BindyRecordIterator;
+import org.apache.camel.dataformat.bindy.Format;
 import org.apache.camel.dataformat.bindy.FormatFactory;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.spi.DataFormat;
@@ -199,6 +202,10 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
 
         AtomicInteger count = new AtomicInteger(0);
 
+        // the formats are reused for all the records of this stream
+        Map<Field, Format<?>> formats = new HashMap<>();
+
+        boolean lazy = false;
         try {
 
             // Parse the header if it exists
@@ -208,7 +215,7 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
                 String line = getNextNonEmptyLine(scanner, count, isEolSet);
 
                 if (!factory.skipHeader()) {
-                    Map<String, Object> headerObjMap = createModel(headerFactory, line, count.intValue());
+                    Map<String, Object> headerObjMap = createModel(headerFactory, line, count.intValue(), formats);
                     exchange.getOut().setHeader(CAMEL_BINDY_FIXED_LENGTH_HEADER, headerObjMap);
                 }
             }
@@ -220,10 +227,17 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
                 nextLine = getNextNonEmptyLine(scanner, count, isEolSet);
             }
 
+            if (isLazyLoad()) {
+                BindyRecordIterator iterator = new FixedLengthRecordIterator(exchange, factory, scanner, isEolSet, count, formats, thisLine, nextLine);
+                // the iterator closes the stream when done
+                lazy = true;
+                return extractUnmarshalResult(iterator, isAllowEmptyStream(), "No records have been defined in the file");
+            }
+
             // Parse the main file content
             while (thisLine != null && nextLine != null) {
 
-                model = createModel(factory, thisLine, count.intValue());
+                model = createModel(factory, thisLine, count.intValue(), formats);
 
                 // Add objects graph to the list
                 models.add(model);
@@ -237,11 +251,11 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
             if (thisLine != null) {
                 if (factory.hasFooter()) {
                     if (!factory.skipFooter()) {
-                        Map<String, Object> footerObjMap = createModel(footerFactory, thisLine, count.intValue());
+                        Map<String, Object> footerObjMap = createModel(footerFactory, thisLine, count.intValue(), formats);
                         exchange.getOut().setHeader(CAMEL_BINDY_FIXED_LENGTH_FOOTER, footerObjMap);
                     }
                 } else {
-                    model = createModel(factory, thisLine, count.intValue());
+                    model = createModel(factory, thisLine, count.intValue(), formats);
                     models.add(model);
                 }
             }
@@ -255,8 +269,10 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
             }
 
         } finally {
-            scanner.close();
-            IOHelper.close(in, "in", LOG);
+            if (!lazy) {
+                scanner.close();
+                IOHelper.close(in, "in", LOG);
+            }
         }
 
     }
@@ -280,6 +296,10 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
     }
 
     protected Map<String, Object> createModel(BindyFixedLengthFactory factory, String line, int count) throws Exception {
+        return createModel(factory, line, count, new HashMap<>());
+    }
+
+    protected Map<String, Object> createModel(BindyFixedLengthFactory factory, String line, int count, Map<Field, Format<?>> formats) throws Exception {
         String myLine = line;
 
         // Check if the record length corresponds to the parameter
@@ -302,7 +322,7 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
         Map<String, Object> model = factory.factory();
 
         // Bind data from Fixed record with model classes
-        factory.bind(getCamelContext(), myLine, model, count);
+        factory.bind(getCamelContext(), myLine, model, count, formats);
 
         // Link objects together
         factory.link(model);
@@ -324,6 +344,55 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
         return myLine.length() < factory.recordLength() && factory.isIgnoreMissingChars();
     }
 
+    /**
+     * Iterator which reads the records on the fly. As the last record may be the footer, the iterator
+     * reads one record ahead, and sets the footer on the message once all the records have been read.
+     */
+    private final class FixedLengthRecordIterator extends BindyRecordIterator {
+        private final Exchange exchange;
+        private final BindyFixedLengthFactory factory;
+        private final Scanner scanner;
+        private final boolean isEolSet;
+        private final AtomicInteger count;
+        private final Map<Field, Format<?>> formats;
+        private String thisLine;
+        private String nextLine;
+
+        private FixedLengthRecordIterator(Exchange exchange, BindyFixedLengthFactory factory, Scanner scanner, boolean isEolSet,
+                                          AtomicInteger count, Map<Field, Format<?>> formats, String thisLine, String nextLine) {
+            super(scanner, getClassType());
+            this.exchange = exchange;
+            this.factory = factory;
+            this.scanner = scanner;
+            this.isEolSet = isEolSet;
+            this.count = count;
+            this.formats = formats;
+            this.thisLine = thisLine;
+            this.nextLine = nextLine;
+        }
+
+        @Override
+        protected Map<String, Object> nextModel() throws Exception {
+            if (thisLine == null) {
+                return null;
+            }
+            if (nextLine == null && factory.hasFooter()) {
+                // this line is the last non-empty line from the file which is the footer
+                if (!factory.skipFooter()) {
+                    Map<String, Object> footerObjMap = createModel(footerFactory, thisLine, count.intValue(), formats);
+                    exchange.getMessage().setHeader(CAMEL_BINDY_FIXED_LENGTH_FOOTER, footerObjMap);
+                }
+                thisLine = null;
+                return null;
+            }
+
+            Map<String, Object> model = createModel(factory, thisLine, count.intValue(), formats);
+            thisLine = nextLine;
+            nextLine = thisLine != null ? getNextNonEmptyLine(scanner, count, isEolSet) : null;
+            return model;
+        }
+    }
+
     @Override
     protected BindyAbstractFactory createModelFactory(FormatFactory formatFactory) throws Exception {
 
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.util.Iterator;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.model.simple.oneclass.Order;
+import org.apache.camel.model.dataformat.BindyDataFormat;
+import org.apache.camel.model.dataformat.BindyType;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class BindySimpleCsvLazyLoadUnmarshallTest extends CamelTestSupport {
+
+    @Test
+    public void testUnmarshallLazyLoad() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= 1000; i++) {
+            sb.append(i).append(",A").append(i).append(",Albert,Cartier,ISIN,LU123456789,BUY,Share,").append(i).append(".5,EUR,08-01-2009\r\n");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1000);
+        mock.allMessages().body().isInstanceOf(Order.class);
+        getMockEndpoint("mock:done").expectedMessageCount(1);
+
+        template.sendBody("direct:start", new ByteArrayInputStream(sb.toString().getBytes()));
+
+        assertMockEndpointsSatisfied();
+
+        Order last = mock.getReceivedExchanges().get(999).getIn().getBody(Order.class);
+        assertEquals(1000, last.getOrderNr());
+        assertEquals("A1000", last.getClientNr());
+        assertEquals(new BigDecimal("1000.50"), last.getAmount());
+    }
+
+    @Test
+    public void testUnmarshallLazyLoadIterator() throws Exception {
+        Object body = template.requestBody("direct:unmarshal", "01,A,Albert,Cartier,ISIN,LU123456789,BUY,Share,1500,EUR,08-01-2009\r\n");
+        assertIsInstanceOf(Iterator.class, body);
+
+        Iterator<?> it = (Iterator<?>) body;
+        assertTrue(it.hasNext());
+        Order order = assertIsInstanceOf(Order.class, it.next());
+        assertEquals("Cartier", order.getLastName());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testUnmarshallLazyLoadBadRecord() throws Exception {
+        getMockEndpoint("mock:done").expectedMessageCount(0);
+
+        try {
+            template.sendBody("direct:start", "01,A,Albert,Cartier,ISIN,LU123456789,BUY,Share,1500,EUR,08-01-2009\r\n"
+                + "02,B,Michel,Preud'Homme,ISIN,LU987654321,SELL,TrustedShare,2500,USD,08-2009\r\n");
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            // the splitter fails when the iterator reads the bad record
+            assertTrue(e.getCause().getMessage(), e.getCause().getMessage().contains("line: 2"));
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                BindyDataFormat bindy = new BindyDataFormat();
+                bindy.setType(BindyType.Csv);
+                bindy.setClassType(Order.class);
+                bindy.setLazyLoad(true);
+
+                from("direct:start")
+                    .unmarshal(bindy)
+                    .split(body()).streaming()
+                        .to("mock:result")
+                    .end()
+                    .to("mock:done");
+
+                from("direct:unmarshal")
+                    .unmarshal(bindy);
+            }
+        };
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.fixed.headerfooter;
+
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.fixed.BindyFixedLengthDataFormat;
+import org.apache.camel.model.dataformat.BindyDataFormat;
+import org.apache.camel.model.dataformat.BindyType;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+/**
+ * This test validates that header and footer records are unmarshalled when the records are lazy loaded.
+ */
+public class BindySimpleFixedLengthHeaderFooterLazyLoadTest extends CamelTestSupport {
+
+    private static final String TEST_HEADER = "101-08-2009\r\n";
+    private static final String TEST_RECORD = "10A9  PaulineM    ISINXD12345678BUYShare000002500.45USD01-08-2009\r\n";
+    private static final String TEST_RECORD2 = "11A9  PaulineM    ISINXD12345678BUYShare000002500.45USD01-08-2009\r\n";
+    private static final String TEST_FOOTER = "9000000002\r\n";
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testUnmarshallLazyLoad() throws Exception {
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedMessageCount(2);
+        result.allMessages().body().isInstanceOf(Order.class);
+        // the header is known before splitting, but the footer is only known when all records has been read
+        result.allMessages().header(BindyFixedLengthDataFormat.CAMEL_BINDY_FIXED_LENGTH_HEADER).isNotNull();
+        MockEndpoint done = getMockEndpoint("mock:done");
+        done.expectedMessageCount(1);
+
+        template.sendBody("direct:unmarshall", TEST_HEADER + TEST_RECORD + TEST_RECORD2 + TEST_FOOTER);
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(10, result.getReceivedExchanges().get(0).getIn().getBody(Order.class).getOrderNr());
+        assertEquals(11, result.getReceivedExchanges().get(1).getIn().getBody(Order.class).getOrderNr());
+
+        Exchange exchange = done.getReceivedExchanges().get(0);
+        Map<String, Object> receivedFooterMap =
+            (Map<String, Object>) exchange.getIn().getHeader(BindyFixedLengthDataFormat.CAMEL_BINDY_FIXED_LENGTH_FOOTER);
+        assertNotNull(receivedFooterMap);
+        OrderFooter receivedFooter = (OrderFooter) receivedFooterMap.get(OrderFooter.class.getName());
+        assertEquals(2, receivedFooter.getNumberOfRecordsInTheFile());
+    }
+
+    @Test
+    public void testUnmarshallLazyLoadNoRecords() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(0);
+        getMockEndpoint("mock:done").expectedMessageCount(0);
+
+        try {
+            template.sendBody("direct:unmarshall", TEST_HEADER + TEST_FOOTER);
+            fail("Should have thrown exception");
+        } catch (Exception e) {
+            IllegalArgumentException cause = assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+            assertEquals("No records have been defined in the file", cause.getMessage());
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                BindyDataFormat bindy = new BindyDataFormat();
+                bindy.setClassType(Order.class);
+                bindy.setLocale("en");
+                bindy.setType(BindyType.Fixed);
+                bindy.setLazyLoad(true);
+
+                from("direct:unmarshall")
+                    .unmarshal(bindy)
+                    .split(body()).streaming()
+                        .to("mock:result")
+                    .end()
+                    .to("mock:done");
+            }
+        };
+    }
+}
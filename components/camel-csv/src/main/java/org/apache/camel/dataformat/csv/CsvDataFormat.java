@@ -19,12 +19,16 @@ package org.apache.camel.dataformat.csv;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.QuoteMode;
 
@@ -38,7 +42,7 @@ import org.apache.commons.csv.QuoteMode;
  * csvConfig are written on the output.
  */
 @Dataformat("csv")
-public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFormatName {
+public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFormatName, CamelContextAware {
     // CSV format options
     private CSVFormat format = CSVFormat.DEFAULT;
     private boolean commentMarkerDisabled;
@@ -65,6 +69,11 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
 
     // Unmarshal options
     private boolean lazyLoad;
+    private boolean parallelProcessing;
+    private int parallelChunkSize = 1024 * 1024;
+    private boolean parallelOrdered = true;
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
     private boolean useMaps;
     private boolean useOrderedMaps;
     private CsvRecordConverter<?> recordConverter;
@@ -73,6 +82,7 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
 
     private volatile CsvMarshaller marshaller;
     private volatile CsvUnmarshaller unmarshaller;
+    private CamelContext camelContext;
 
     public CsvDataFormat() {
     }
@@ -86,6 +96,16 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
         return "csv";
     }
 
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
     @Override
     public void marshal(Exchange exchange, Object object, OutputStream outputStream) throws Exception {
         marshaller.marshal(exchange, object, outputStream);
@@ -98,13 +118,23 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
 
     @Override
     protected void doStart() throws Exception {
+        if (parallelProcessing && executorService == null) {
+            ObjectHelper.notNull(camelContext, "CamelContext");
+            executorService = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "CsvUnmarshal",
+                Runtime.getRuntime().availableProcessors());
+            shutdownExecutorService = true;
+        }
         marshaller = marshallerFactory.create(getActiveFormat(), this);
         unmarshaller = CsvUnmarshaller.create(getActiveFormat(), this);
     }
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        if (shutdownExecutorService && executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
     }
 
     CSVFormat getActiveFormat() {
@@ -681,6 +711,91 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
         return this;
     }
 
+    /**
+     * Indicates whether or not the unmarshalling should parse the records in parallel.
+     *
+     * @return {@code true} for parallel parsing, {@code false} otherwise
+     */
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * Sets whether or not the unmarshalling should parse the records in parallel.
+     * The input is split into chunks of bytes on line breaks which are parsed using the executor service,
+     * so the records must not contain line breaks.
+     *
+     * @param parallelProcessing {@code true} for parallel parsing, {@code false} otherwise
+     * @return Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setParallelProcessing(boolean parallelProcessing) {
+        this.parallelProcessing = parallelProcessing;
+        return this;
+    }
+
+    /**
+     * Gets the size in bytes of the chunks that are parsed in parallel.
+     *
+     * @return Size of the chunks in bytes
+     */
+    public int getParallelChunkSize() {
+        return parallelChunkSize;
+    }
+
+    /**
+     * Sets the size in bytes of the chunks that are parsed in parallel.
+     * The chunks are extended up to the next line break.
+     *
+     * @param parallelChunkSize Size of the chunks in bytes
+     * @return Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setParallelChunkSize(int parallelChunkSize) {
+        this.parallelChunkSize = parallelChunkSize;
+        return this;
+    }
+
+    /**
+     * Indicates whether or not the records parsed in parallel are returned in the order of the input.
+     *
+     * @return {@code true} for the order of the input, {@code false} for the order the chunks are parsed
+     */
+    public boolean isParallelOrdered() {
+        return parallelOrdered;
+    }
+
+    /**
+     * Sets whether or not the records parsed in parallel are returned in the order of the input.
+     * When not ordered the records of a chunk are returned as soon as the chunk is parsed.
+     *
+     * @param parallelOrdered {@code true} for the order of the input, {@code false} for the order the chunks are parsed
+     * @return Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setParallelOrdered(boolean parallelOrdered) {
+        this.parallelOrdered = parallelOrdered;
+        return this;
+    }
+
+    /**
+     * Gets the executor service used to parse the records in parallel.
+     *
+     * @return the executor service
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the executor service used to parse the records in parallel. By default a thread pool with a thread per
+     * processor is created when the data format is started, and shutdown when the data format is stopped.
+     *
+     * @param executorService the executor service
+     * @return Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
     /**
      * Indicates whether or not the unmarshalling should produce maps instead of lists.
      *
@@ -16,19 +16,33 @@
  */
 package org.apache.camel.dataformat.csv;
 
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
@@ -55,6 +69,9 @@ abstract class CsvUnmarshaller {
             format = format.withHeader();
         }
 
+        if (dataFormat.isParallelProcessing()) {
+            return new ParallelCsvUnmarshaller(format, dataFormat);
+        }
         if (dataFormat.isLazyLoad()) {
             return new StreamCsvUnmarshaller(format, dataFormat);
         }
@@ -139,6 +156,306 @@ abstract class CsvUnmarshaller {
         }
     }
 
+    /**
+     * This class splits the CSV into chunks of bytes on record boundaries which are parsed in parallel
+     * using the executor service of the data format. The records must not contain line breaks.
+     */
+    private static final class ParallelCsvUnmarshaller extends CsvUnmarshaller {
+        private final CsvUnmarshaller fallback;
+        private final boolean lazyLoad;
+        private final int chunkSize;
+        private final boolean ordered;
+        private final Executor executor;
+
+        private ParallelCsvUnmarshaller(CSVFormat format, CsvDataFormat dataFormat) {
+            super(format, dataFormat);
+            this.executor = ObjectHelper.notNull(dataFormat.getExecutorService(), "executorService");
+            this.lazyLoad = dataFormat.isLazyLoad();
+            this.chunkSize = dataFormat.getParallelChunkSize();
+            this.ordered = dataFormat.isParallelOrdered();
+            this.fallback = lazyLoad ? new StreamCsvUnmarshaller(format, dataFormat) : new BulkCsvUnmarshaller(format, dataFormat);
+        }
+
+        @Override
+        public Object unmarshal(Exchange exchange, InputStream inputStream) throws IOException {
+            Charset charset = Charset.forName(ExchangeHelper.getCharsetName(exchange));
+            if (!Arrays.equals("\n".getBytes(charset), new byte[] {'\n'})) {
+                // the chunks are split on the line feed byte which is not possible with multi byte charsets such as UTF-16
+                return fallback.unmarshal(exchange, inputStream);
+            }
+
+            ParallelCsvIterator<?> answer;
+            try {
+                answer = new ParallelCsvIterator<>(new ChunkReader(inputStream, chunkSize), charset, format, converter, ordered, executor);
+            } catch (Exception e) {
+                IOHelper.close(inputStream);
+                throw e;
+            }
+            if (lazyLoad) {
+                // add to UoW so we can close the iterator so it can release any resources
+                exchange.adapt(ExtendedExchange.class).addOnCompletion(new CsvUnmarshalOnCompletion(answer));
+                return answer;
+            }
+            try {
+                List<Object> list = new ArrayList<>();
+                while (answer.hasNext()) {
+                    list.add(answer.next());
+                }
+                return list;
+            } finally {
+                answer.close();
+            }
+        }
+    }
+
+    /**
+     * Reads the input in chunks of bytes which end on a line feed.
+     */
+    private static final class ChunkReader implements Closeable {
+        private static final byte[] EMPTY = new byte[0];
+        private final InputStream in;
+        private final int chunkSize;
+        private byte[] remaining = EMPTY;
+        private boolean eof;
+
+        private ChunkReader(InputStream in, int chunkSize) {
+            this.in = in;
+            this.chunkSize = chunkSize;
+        }
+
+        /**
+         * Reads the next line.
+         *
+         * @return the line, or <tt>null</tt> if there is no more data
+         */
+        byte[] nextLine() throws IOException {
+            return next(true);
+        }
+
+        /**
+         * Reads the next chunk of about the chunk size, which ends with a line feed unless it is the last chunk.
+         *
+         * @return the chunk, or <tt>null</tt> if there is no more data
+         */
+        byte[] nextChunk() throws IOException {
+            return next(false);
+        }
+
+        private byte[] next(boolean line) throws IOException {
+            if (eof && remaining.length == 0) {
+                return null;
+            }
+            int length = remaining.length;
+            byte[] buffer = Arrays.copyOf(remaining, Math.max(chunkSize, length));
+            int searched = 0;
+            while (true) {
+                int end = line ? indexOf(buffer, searched, length) : lastIndexOf(buffer, searched, length);
+                if (end >= 0) {
+                    remaining = Arrays.copyOfRange(buffer, end + 1, length);
+                    return Arrays.copyOf(buffer, end + 1);
+                }
+                searched = length;
+                if (eof) {
+                    remaining = EMPTY;
+                    return length > 0 ? Arrays.copyOf(buffer, length) : null;
+                }
+                if (length == buffer.length) {
+                    // a record which is longer than the chunk size
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                // fill up the buffer, and for lines stop as soon as there is data to search
+                while (length < buffer.length) {
+                    int n = in.read(buffer, length, buffer.length - length);
+                    if (n == -1) {
+                        eof = true;
+                        break;
+                    }
+                    length += n;
+                    if (line) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        private static int indexOf(byte[] buffer, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (buffer[i] == '\n') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static int lastIndexOf(byte[] buffer, int from, int to) {
+            for (int i = to - 1; i >= from; i--) {
+                if (buffer[i] == '\n') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public void close() throws IOException {
+            eof = true;
+            remaining = EMPTY;
+            in.close();
+        }
+    }
+
+    /**
+     * This class parses the chunks in parallel and returns the converted records in the order of the input,
+     * or in the order the chunks have been parsed.
+     *
+     * @param <T> Converted type
+     */
+    private static final class ParallelCsvIterator<T> implements Iterator<T>, Closeable {
+        private final ChunkReader reader;
+        private final Charset charset;
+        private final CSVFormat format;
+        private final CsvRecordConverter<T> converter;
+        private final boolean ordered;
+        private final Executor executor;
+        private final int maxPending;
+        private final Deque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+        private final BlockingQueue<CompletableFuture<List<T>>> completed = new LinkedBlockingQueue<>();
+        private Iterator<T> current = Collections.emptyIterator();
+        private boolean closed;
+
+        private ParallelCsvIterator(ChunkReader reader, Charset charset, CSVFormat format, CsvRecordConverter<T> converter,
+                                    boolean ordered, Executor executor) throws IOException {
+            this.reader = reader;
+            this.charset = charset;
+            this.converter = converter;
+            this.ordered = ordered;
+            this.executor = executor;
+            this.maxPending = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+            this.format = readHeader(format);
+        }
+
+        /**
+         * Reads the header record as the chunks cannot each have the header record.
+         *
+         * @return the format to parse the chunks with
+         */
+        private CSVFormat readHeader(CSVFormat format) throws IOException {
+            String[] header = format.getHeader();
+            if (header == null || header.length > 0 && !format.getSkipHeaderRecord()) {
+                // no header record in the data
+                return format;
+            }
+            CSVFormat noHeader = format.withHeader((String[]) null).withSkipHeaderRecord(false);
+            byte[] line = reader.nextLine();
+            while (line != null) {
+                // comments and empty lines before the header record are skipped
+                List<CSVRecord> records = parse(noHeader, line);
+                if (!records.isEmpty()) {
+                    if (header.length == 0) {
+                        CSVRecord record = records.get(0);
+                        header = new String[record.size()];
+                        for (int i = 0; i < header.length; i++) {
+                            header[i] = record.get(i);
+                        }
+                    }
+                    break;
+                }
+                line = reader.nextLine();
+            }
+            return format.withHeader(header).withSkipHeaderRecord(false);
+        }
+
+        private List<CSVRecord> parse(CSVFormat format, byte[] chunk) throws IOException {
+            try (CSVParser parser = new CSVParser(new InputStreamReader(new ByteArrayInputStream(chunk), charset), format)) {
+                return parser.getRecords();
+            }
+        }
+
+        private List<T> convert(byte[] chunk) {
+            try {
+                List<CSVRecord> records = parse(format, chunk);
+                List<T> answer = new ArrayList<>(records.size());
+                for (CSVRecord record : records) {
+                    answer.add(converter.convertRecord(record));
+                }
+                return answer;
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+
+        private void submit() {
+            try {
+                while (!closed && pending.size() < maxPending) {
+                    byte[] chunk = reader.nextChunk();
+                    if (chunk == null) {
+                        break;
+                    }
+                    CompletableFuture<List<T>> future = CompletableFuture.supplyAsync(() -> convert(chunk), executor);
+                    pending.add(future);
+                    if (!ordered) {
+                        future.whenComplete((records, cause) -> completed.add(future));
+                    }
+                }
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+
+        private List<T> take() {
+            CompletableFuture<List<T>> future;
+            if (ordered) {
+                future = pending.poll();
+            } else {
+                try {
+                    future = completed.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                }
+                pending.remove(future);
+            }
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e.getCause());
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                submit();
+                if (pending.isEmpty()) {
+                    IOHelper.close(this);
+                    return false;
+                }
+                current = take().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                for (CompletableFuture<List<T>> future : pending) {
+                    future.cancel(false);
+                }
+                pending.clear();
+                reader.close();
+            }
+        }
+    }
+
     /**
      * This class converts the CSV iterator into the proper result type.
      *
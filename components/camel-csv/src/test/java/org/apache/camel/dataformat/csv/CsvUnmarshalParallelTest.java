@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class CsvUnmarshalParallelTest extends CamelTestSupport {
+
+    private static final int COUNT = 10000;
+
+    private final AtomicInteger tasks = new AtomicInteger();
+    private ThreadPoolExecutor executorService;
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testUnmarshalOrdered() throws Exception {
+        List<List<String>> body = template.requestBody("direct:ordered", createCsv(false), List.class);
+
+        assertEquals(COUNT, body.size());
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(String.valueOf(i), body.get(i).get(0));
+            assertEquals("Camel " + i, body.get(i).get(1));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testUnmarshalUnordered() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:unordered");
+        mock.expectedMessageCount(COUNT);
+
+        template.sendBody("direct:unordered", new ByteArrayInputStream(createCsv(false).getBytes(StandardCharsets.UTF_8)));
+
+        assertMockEndpointsSatisfied();
+        boolean[] seen = new boolean[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            List<String> record = mock.getReceivedExchanges().get(i).getIn().getBody(List.class);
+            seen[Integer.parseInt(record.get(0))] = true;
+        }
+        for (int i = 0; i < COUNT; i++) {
+            assertTrue("Record " + i + " not received", seen[i]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testUnmarshalMapsWithHeader() throws Exception {
+        List<Map<String, String>> body = template.requestBody("direct:maps", "# a comment\n" + createCsv(true), List.class);
+
+        assertEquals(COUNT, body.size());
+        assertEquals("0", body.get(0).get("id"));
+        assertEquals("Camel 9999", body.get(COUNT - 1).get("name"));
+        assertEquals("y", body.get(COUNT - 1).get("last"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testUnmarshalLongRecordAndNoTrailingLineBreak() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append("x");
+        }
+        String csv = "1,a\n2," + sb + "\n3,c";
+
+        List<List<String>> body = template.requestBody("direct:ordered", csv, List.class);
+
+        assertEquals(3, body.size());
+        assertEquals(sb.toString(), body.get(1).get(1));
+        assertEquals("c", body.get(2).get(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testUnmarshalEmpty() throws Exception {
+        List<List<String>> body = template.requestBody("direct:ordered", "", List.class);
+        assertEquals(0, body.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testUnmarshalCustomExecutorService() throws Exception {
+        List<List<String>> body = template.requestBody("direct:custom", createCsv(false), List.class);
+
+        assertEquals(COUNT, body.size());
+        assertTrue("Should parse the chunks using the custom executor service", tasks.get() > 1);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static String createCsv(boolean header) {
+        StringBuilder sb = new StringBuilder();
+        if (header) {
+            sb.append("id,name,last\r\n");
+        }
+        for (int i = 0; i < COUNT; i++) {
+            sb.append(i).append(",Camel ").append(i).append(",").append(i == COUNT - 1 ? "y" : "n").append("\r\n");
+        }
+        return sb.toString();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                // use small chunks so there are many
+                CsvDataFormat ordered = new CsvDataFormat()
+                    .setParallelProcessing(true)
+                    .setParallelChunkSize(16);
+
+                CsvDataFormat unordered = new CsvDataFormat()
+                    .setParallelProcessing(true)
+                    .setParallelChunkSize(1024)
+                    .setParallelOrdered(false)
+                    .setLazyLoad(true);
+
+                CsvDataFormat maps = new CsvDataFormat()
+                    .setParallelProcessing(true)
+                    .setParallelChunkSize(1024)
+                    .setCommentMarker('#')
+                    .setUseMaps(true);
+
+                from("direct:ordered").unmarshal(ordered);
+
+                from("direct:unordered")
+                    .unmarshal(unordered)
+                    .split(body()).streaming()
+                        .to("mock:unordered");
+
+                from("direct:maps").unmarshal(maps);
+
+                executorService = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+                    @Override
+                    public void execute(Runnable command) {
+                        tasks.incrementAndGet();
+                        super.execute(command);
+                    }
+                };
+                CsvDataFormat custom = new CsvDataFormat()
+                    .setParallelProcessing(true)
+                    .setParallelChunkSize(1024)
+                    .setExecutorService(executorService);
+
+                from("direct:custom").unmarshal(custom);
+            }
+        };
+    }
+}
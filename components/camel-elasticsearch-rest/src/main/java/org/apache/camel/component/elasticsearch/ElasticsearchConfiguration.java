@@ -62,6 +62,10 @@ public class ElasticsearchConfiguration {
     private int snifferInterval = ElasticsearchConstants.DEFAULT_SNIFFER_INTERVAL;
     @UriParam(defaultValue = "" + ElasticsearchConstants.DEFAULT_AFTER_FAILURE_DELAY)
     private int sniffAfterFailureDelay = ElasticsearchConstants.DEFAULT_AFTER_FAILURE_DELAY;
+    @UriParam
+    private int batchSize;
+    @UriParam(defaultValue = "" + ElasticsearchConstants.DEFAULT_BATCH_TIMEOUT)
+    private long batchTimeout = ElasticsearchConstants.DEFAULT_BATCH_TIMEOUT;
 
     /**
      * Name of the cluster
@@ -258,4 +262,28 @@ public class ElasticsearchConfiguration {
     public void setScrollKeepAliveMs(int scrollKeepAliveMs) {
         this.scrollKeepAliveMs = scrollKeepAliveMs;
     }
+
+    /**
+     * The number of exchanges of the Index operation to gather and send to Elasticsearch as one bulk request.
+     * Each exchange is completed with the id of its indexed document, or with the failure of its item in
+     * the bulk response. The default value of 0 turns batching off. Batching is not used in disconnect mode.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * The maximum time in millis to wait for a batch to be full before the gathered index requests are sent.
+     */
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
 }
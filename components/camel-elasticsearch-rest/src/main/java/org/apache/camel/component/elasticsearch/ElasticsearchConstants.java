@@ -35,5 +35,6 @@ public interface ElasticsearchConstants {
     int    DEFAULT_SNIFFER_INTERVAL = 60000 * 5; // Meaning how often it should search for elasticsearch nodes
     int    DEFAULT_AFTER_FAILURE_DELAY = 60000; // Meaning when should the sniff execution scheduled after a failure
     int    DEFAULT_SCROLL_KEEP_ALIVE_MS = 60000; // Meaning how many milliseconds elasticsearch will keep the search context
+    int    DEFAULT_BATCH_TIMEOUT = 1000; // Meaning how many milliseconds to wait for a batch of index requests to be full
 
 }
@@ -16,13 +16,18 @@
  */
 package org.apache.camel.component.elasticsearch;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.UnknownHostException;
 import java.util.Collections;
+import java.util.List;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.DefaultAsyncProducer;
+import org.apache.camel.support.ExchangeBatcher;
+import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.IOHelper;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
@@ -31,6 +36,7 @@ import org.apache.http.client.CredentialsProvider;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.elasticsearch.ElasticsearchStatusException;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.get.GetRequest;
@@ -38,6 +44,7 @@ import org.elasticsearch.action.get.MultiGetRequest;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.search.MultiSearchRequest;
 import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.support.ActiveShardCount;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestClient;
@@ -57,13 +64,14 @@ import static org.apache.camel.component.elasticsearch.ElasticsearchConstants.PA
 /**
  * Represents an Elasticsearch producer.
  */
-public class ElasticsearchProducer extends DefaultProducer {
+public class ElasticsearchProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchProducer.class);
 
     protected final ElasticsearchConfiguration configuration;
     private RestClient client;
     private Sniffer sniffer;
+    private ExchangeBatcher<IndexRequest> batcher;
 
     public ElasticsearchProducer(ElasticsearchEndpoint endpoint, ElasticsearchConfiguration configuration) {
         super(endpoint);
@@ -118,7 +126,31 @@ public class ElasticsearchProducer extends DefaultProducer {
     }
 
     @Override
-    public void process(Exchange exchange) throws Exception {
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        IndexRequest batchRequest;
+        try {
+            batchRequest = doProcess(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        if (batchRequest != null) {
+            // the exchange is completed when its index request has been sent as part of a bulk request
+            return batcher.add(exchange, batchRequest, callback);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    /**
+     * Processes the exchange
+     *
+     * @return the index request to send in a batch, or <tt>null</tt> if the exchange has been processed
+     */
+    private IndexRequest doProcess(Exchange exchange) throws Exception {
+        IndexRequest batchRequest = null;
         if (configuration.isDisconnect() && client == null) {
             startClient();
         }
@@ -157,7 +189,11 @@ public class ElasticsearchProducer extends DefaultProducer {
             if (indexRequest == null) {
                 throw new IllegalArgumentException("Wrong body type. Only Map, String, byte[], XContentBuilder or IndexRequest is allowed as a type");
             }
-            message.setBody(restHighLevelClient.index(indexRequest, RequestOptions.DEFAULT).getId());
+            if (batcher != null) {
+                batchRequest = indexRequest;
+            } else {
+                message.setBody(restHighLevelClient.index(indexRequest, RequestOptions.DEFAULT).getId());
+            }
         } else if (operation == ElasticsearchOperation.Update) {
             UpdateRequest updateRequest = message.getBody(UpdateRequest.class);
             if (updateRequest == null) {
@@ -261,7 +297,30 @@ public class ElasticsearchProducer extends DefaultProducer {
                 sniffer = null;
             }
         }
+        return batchRequest;
+    }
+
+    /**
+     * Sends the gathered index requests as one bulk request and sets the id of the indexed document, or the
+     * failure of the item, on each exchange.
+     */
+    private void processBatch(List<Exchange> exchanges, List<IndexRequest> indexRequests) throws IOException {
+        BulkRequest bulkRequest = new BulkRequest();
+        bulkRequest.waitForActiveShards(ActiveShardCount.from(configuration.getWaitForActiveShards()));
+        for (IndexRequest indexRequest : indexRequests) {
+            bulkRequest.add(indexRequest);
+        }
 
+        BulkItemResponse[] items = new HighLevelClient(client).bulk(bulkRequest, RequestOptions.DEFAULT).getItems();
+        for (int i = 0; i < items.length; i++) {
+            BulkItemResponse item = items[i];
+            Exchange exchange = exchanges.get(i);
+            if (item.isFailed()) {
+                exchange.setException(item.getFailure().getCause());
+            } else {
+                exchange.getIn().setBody(item.getId());
+            }
+        }
     }
 
     @Override
@@ -270,6 +329,11 @@ public class ElasticsearchProducer extends DefaultProducer {
         super.doStart();
         if (!configuration.isDisconnect()) {
             startClient();
+            if (configuration.getBatchSize() > 0) {
+                batcher = new ExchangeBatcher<>(getEndpoint().getCamelContext(), this, "ElasticsearchBatcher",
+                    configuration.getBatchSize(), configuration.getBatchTimeout(), this::processBatch);
+                ServiceHelper.startService(batcher);
+            }
         }
     }
 
@@ -311,6 +375,9 @@ public class ElasticsearchProducer extends DefaultProducer {
 
     @Override
     protected void doStop() throws Exception {
+        // send the gathered index requests before disconnecting
+        ServiceHelper.stopService(batcher);
+        batcher = null;
         if (client != null) {
             LOG.info("Disconnecting from ElasticSearch cluster: {}", configuration.getClusterName());
             client.close();
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.elasticsearch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.elasticsearch.action.get.GetResponse;
+import org.junit.Test;
+
+public class ElasticsearchIndexBatchTest extends ElasticsearchBaseTest {
+
+    @Test
+    public void testIndexBatch() throws Exception {
+        List<Map<String, String>> documents = new ArrayList<>();
+        List<Future<String>> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Map<String, String> map = createIndexedData("batch" + i);
+            documents.add(map);
+            ids.add(template.asyncRequestBody("direct:index", map, String.class));
+        }
+
+        for (int i = 0; i < 10; i++) {
+            String indexId = ids.get(i).get(5, TimeUnit.SECONDS);
+            assertNotNull("indexId should be set", indexId);
+
+            GetResponse response = template.requestBodyAndHeader("direct:get", indexId, ElasticsearchConstants.PARAM_INDEX_NAME, "twitter", GetResponse.class);
+            assertEquals(documents.get(i), response.getSource());
+        }
+    }
+
+    @Test
+    public void testIndexBatchTimeout() throws Exception {
+        Map<String, String> map = createIndexedData();
+        String indexId = template.requestBody("direct:index", map, String.class);
+        assertNotNull("indexId should be set", indexId);
+    }
+
+    @Test
+    public void testIndexBatchItemFailure() throws Exception {
+        Future<Exchange> failed = template.asyncSend("direct:index", exchange -> {
+            exchange.getIn().setBody(createIndexedData("failed"));
+            // upper case is not allowed in index names
+            exchange.getIn().setHeader(ElasticsearchConstants.PARAM_INDEX_NAME, "INVALID");
+        });
+        Future<String> ok = template.asyncRequestBody("direct:index", createIndexedData("ok"), String.class);
+
+        assertNotNull(failed.get(5, TimeUnit.SECONDS).getException());
+        assertNotNull("indexId should be set", ok.get(5, TimeUnit.SECONDS));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:index").to("elasticsearch-rest://elasticsearch?operation=Index&indexName=twitter&batchSize=5&batchTimeout=500&hostAddresses=localhost:" + ES_BASE_HTTP_PORT);
+                from("direct:get").to("elasticsearch-rest://elasticsearch?operation=GetById&hostAddresses=localhost:" + ES_BASE_HTTP_PORT);
+            }
+        };
+    }
+}
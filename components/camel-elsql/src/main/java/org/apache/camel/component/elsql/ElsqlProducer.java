@@ -209,6 +209,9 @@ public class ElsqlProducer extends DefaultProducer {
         try {
             con = dataSource.getConnection();
             ps = statementCreator.createPreparedStatement(con);
+            if (getEndpoint().getFetchSize() > 0) {
+                ps.setFetchSize(getEndpoint().getFetchSize());
+            }
 
             final boolean isResultSet = ps.execute();
             if (isResultSet) {
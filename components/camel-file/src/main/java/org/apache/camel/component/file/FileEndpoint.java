@@ -130,7 +130,7 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
 
         if (ObjectHelper.isNotEmpty(getReadLock())) {
             // check if its a valid
-            String valid = "none,markerFile,fileLock,rename,changed,idempotent,idempotent-changed,idempotent-rename";
+            String valid = "none,markerFile,fileLock,rename,changed,batch-changed,idempotent,idempotent-changed,idempotent-rename";
             String[] arr = valid.split(",");
             boolean matched = Arrays.stream(arr).anyMatch(n -> n.equals(getReadLock()));
             if (!matched) {
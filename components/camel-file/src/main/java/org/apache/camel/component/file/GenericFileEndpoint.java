@@ -165,7 +165,7 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
     protected Comparator<Exchange> sortBy;
     @UriParam(label = "consumer,sort")
     protected boolean shuffle;
-    @UriParam(label = "consumer,lock", defaultValue = "none", enums = "none,markerFile,fileLock,rename,changed,idempotent,idempotent-changed,idempotent-rename")
+    @UriParam(label = "consumer,lock", defaultValue = "none", enums = "none,markerFile,fileLock,rename,changed,batch-changed,idempotent,idempotent-changed,idempotent-rename")
     protected String readLock = "none";
     @UriParam(label = "consumer,lock", defaultValue = "1000")
     protected long readLockCheckInterval = 1000;
@@ -844,6 +844,9 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
      *     - changed - Changed is using file length/modification timestamp to detect whether the file is currently being copied or not. Will at least use 1 sec
      *     to determine this, so this option cannot consume files as fast as the others, but can be more reliable as the JDK IO API cannot
      *     always determine whether a file is currently being used by another process. The option readLockCheckInterval can be used to set the check frequency.\n
+     *     - batch-changed - (only for file component) batch-changed is using file length/modification timestamp like changed, but without sleeping
+     *     on the consumer thread. The files are tracked across polls and only consumed when they have not changed for the readLockCheckInterval,
+     *     which is faster when many files are being written to the directory at the same time. The consumer delay should be lower than the readLockCheckInterval.\n
      *     - fileLock - is for using java.nio.channels.FileLock. This option is not avail for Windows OS and the FTP component. This approach should be avoided when accessing
      *     a remote file system via a mount/share unless that file system supports distributed file locks.\n
      *     - rename - rename is for using a try to rename the file as a test if we can get exclusive read-lock.\n
@@ -939,7 +942,7 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
      * Logging level used when a read lock could not be acquired.
      * By default a DEBUG is logged.
      * You can change this level, for example to OFF to not have any logging.
-     * This option is only applicable for readLock of types: changed, fileLock, idempotent, idempotent-changed, idempotent-rename, rename.
+     * This option is only applicable for readLock of types: changed, batch-changed, fileLock, idempotent, idempotent-changed, idempotent-rename, rename.
      */
     public void setReadLockLoggingLevel(LoggingLevel readLockLoggingLevel) {
         this.readLockLoggingLevel = readLockLoggingLevel;
@@ -950,7 +953,7 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
     }
 
     /**
-     * This option is applied only for readLock=changed. It allows you to configure a minimum file length.
+     * This option is applied only for readLock=changed and readLock=batch-changed. It allows you to configure a minimum file length.
      * By default Camel expects the file to contain data, and thus the default value is 1.
      * You can set this option to zero, to allow consuming zero-length files.
      */
@@ -963,7 +966,7 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
     }
 
     /**
-     * This option is applied only for readLock=changed.
+     * This option is applied only for readLock=changed and readLock=batch-changed.
      * It allows to specify a minimum age the file must be before attempting to acquire the read lock.
      * For example use readLockMinAge=300s to require the file is at last 5 minutes old.
      * This can speedup the changed read lock as it will only attempt to acquire files which are at least that given age.
@@ -31,6 +31,7 @@ import org.apache.camel.LoggingLevel;
  * <li>FileLockExclusiveReadLockStrategy acquiring a RW file lock for the duration of the processing.</li>
  * <li>MarkerFileExclusiveReadLockStrategy using a marker file for acquiring read lock.</li>
  * <li>FileChangedExclusiveReadLockStrategy using a file changed detection for acquiring read lock.</li>
+ * <li>FileBatchChangedExclusiveReadLockStrategy using a file changed detection tracked across polls for acquiring read lock without blocking.</li>
  * <li>FileIdempotentRepositoryReadLockStrategy using a {@link org.apache.camel.spi.IdempotentRepository} to hold the read locks which allows to support clustering.</li>
  * </ul>
  */
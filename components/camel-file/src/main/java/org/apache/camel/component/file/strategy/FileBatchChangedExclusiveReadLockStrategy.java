@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.strategy;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.component.file.GenericFile;
+import org.apache.camel.component.file.GenericFileOperations;
+import org.apache.camel.spi.CamelLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Acquires exclusive read lock to the given file by checking whether the file is being
+ * changed, tracking the file length and modification timestamp across polls.
+ * <p/>
+ * Unlike {@link FileChangedExclusiveReadLockStrategy} this strategy never sleeps on the consumer thread.
+ * Each poll checks all the candidate files once, and a file is only granted the read lock when it has been
+ * seen unchanged for at least the check interval. Files that are not yet stable are skipped and checked again
+ * on the next poll, which allows a directory receiving many concurrent uploads to be scanned without
+ * serializing on a sleep per file. The consumer <tt>delay</tt> should therefore be lower than the check interval.
+ * <p/>
+ * Setting the option {@link #setMarkerFiler(boolean)} to <tt>false</tt> allows to turn off using marker files.
+ */
+public class FileBatchChangedExclusiveReadLockStrategy extends MarkerFileExclusiveReadLockStrategy {
+    private static final Logger LOG = LoggerFactory.getLogger(FileBatchChangedExclusiveReadLockStrategy.class);
+    private final Map<String, FileState> states = new ConcurrentHashMap<>();
+    private long timeout;
+    private long checkInterval = 1000;
+    private long minLength = 1;
+    private long minAge;
+    private LoggingLevel readLockLoggingLevel = LoggingLevel.DEBUG;
+    private volatile long lastEviction;
+
+    @Override
+    public boolean acquireExclusiveReadLock(GenericFileOperations<File> operations, GenericFile<File> file, Exchange exchange) throws Exception {
+        long now = System.currentTimeMillis();
+        evictStaleStates(now);
+
+        String key = file.getAbsoluteFilePath();
+        File target = new File(key);
+        if (!target.exists()) {
+            CamelLogger.log(LOG, readLockLoggingLevel, "Cannot acquire read lock as file no longer exists. Will skip the file: " + file);
+            states.remove(key);
+            return false;
+        }
+
+        long newLastModified = target.lastModified();
+        long newLength = target.length();
+
+        boolean stable;
+        if (minAge != 0) {
+            stable = newLength >= minLength && newLastModified < now - minAge;
+        } else {
+            FileState state = states.get(key);
+            if (state == null || state.lastModified != newLastModified || state.length != newLength) {
+                LOG.trace("File: {} is new or has changed (length: {}, last modified: {}), will check it again on next poll", file, newLength, newLastModified);
+                states.put(key, new FileState(newLastModified, newLength, now, now));
+                return false;
+            }
+            state.lastChecked = now;
+            stable = newLength >= minLength && now - state.unchangedSince >= checkInterval;
+        }
+
+        if (!stable) {
+            LOG.trace("Exclusive read lock not granted for file: {}. Will check it again on next poll.", file);
+            return false;
+        }
+
+        // must call super
+        if (!super.acquireExclusiveReadLock(operations, file, exchange)) {
+            return false;
+        }
+
+        LOG.trace("Read lock acquired.");
+        states.remove(key);
+        return true;
+    }
+
+    /**
+     * Removes the tracked state of files which has not been checked for a while,
+     * such as files that was deleted or moved away by a third party before they was picked up.
+     */
+    private void evictStaleStates(long now) {
+        long age = Math.max(timeout, checkInterval * 10);
+        if (now - lastEviction < age) {
+            return;
+        }
+        lastEviction = now;
+
+        Iterator<FileState> it = states.values().iterator();
+        while (it.hasNext()) {
+            FileState state = it.next();
+            if (now - state.lastChecked > age) {
+                it.remove();
+            }
+        }
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * The timeout is used to evict the tracked state of files that has not been seen
+     * by the consumer within this period (will use at least 10 times the check interval).
+     */
+    @Override
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    public long getCheckInterval() {
+        return checkInterval;
+    }
+
+    @Override
+    public void setCheckInterval(long checkInterval) {
+        this.checkInterval = checkInterval;
+    }
+
+    @Override
+    public void setReadLockLoggingLevel(LoggingLevel readLockLoggingLevel) {
+        this.readLockLoggingLevel = readLockLoggingLevel;
+    }
+
+    public long getMinLength() {
+        return minLength;
+    }
+
+    public void setMinLength(long minLength) {
+        this.minLength = minLength;
+    }
+
+    public long getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(long minAge) {
+        this.minAge = minAge;
+    }
+
+    private static final class FileState {
+        private final long lastModified;
+        private final long length;
+        private final long unchangedSince;
+        private volatile long lastChecked;
+
+        private FileState(long lastModified, long length, long unchangedSince, long lastChecked) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.unchangedSince = unchangedSince;
+            this.lastChecked = lastChecked;
+        }
+    }
+}
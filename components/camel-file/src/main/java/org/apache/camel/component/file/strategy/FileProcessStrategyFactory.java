@@ -129,6 +129,17 @@ public final class FileProcessStrategyFactory {
                     readLockStrategy.setMinAge(minAge);
                 }
                 strategy = readLockStrategy;
+            } else if ("batch-changed".equals(readLock)) {
+                FileBatchChangedExclusiveReadLockStrategy readLockStrategy = new FileBatchChangedExclusiveReadLockStrategy();
+                Long minLength = (Long) params.get("readLockMinLength");
+                if (minLength != null) {
+                    readLockStrategy.setMinLength(minLength);
+                }
+                Long minAge = (Long) params.get("readLockMinAge");
+                if (null != minAge) {
+                    readLockStrategy.setMinAge(minAge);
+                }
+                strategy = readLockStrategy;
             } else if ("idempotent".equals(readLock)) {
                 FileIdempotentRepositoryReadLockStrategy readLockStrategy = new FileIdempotentRepositoryReadLockStrategy();
                 Boolean readLockRemoveOnRollback = (Boolean) params.get("readLockRemoveOnRollback");
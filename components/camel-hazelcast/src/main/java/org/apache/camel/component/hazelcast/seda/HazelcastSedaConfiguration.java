@@ -38,6 +38,14 @@ public class HazelcastSedaConfiguration {
     private boolean transferExchange;
     @UriParam(label = "seda")
     private boolean transacted;
+    @UriParam(label = "seda", defaultValue = "1")
+    private int maxMessagesPerPoll = 1;
+    @UriParam(label = "seda")
+    private boolean batchExchange;
+    @UriParam(label = "seda", defaultValue = "0")
+    private int offerBatchSize;
+    @UriParam(label = "seda", defaultValue = "100")
+    private long offerBatchTimeout = 100;
 
     public HazelcastSedaConfiguration() {
     }
@@ -126,4 +134,56 @@ public class HazelcastSedaConfiguration {
         this.transacted = transacted;
     }
 
+    public int getMaxMessagesPerPoll() {
+        return maxMessagesPerPoll;
+    }
+
+    /**
+     * The maximum number of messages the consumer takes from the SEDA queue per poll. When transacted the messages
+     * are taken and committed in a single transaction, so they are all put back in the queue if one of them fails.
+     */
+    public void setMaxMessagesPerPoll(int maxMessagesPerPoll) {
+        if (maxMessagesPerPoll < 1) {
+            throw new IllegalArgumentException("Property maxMessagesPerPoll must be a positive number, was " + maxMessagesPerPoll);
+        }
+        this.maxMessagesPerPoll = maxMessagesPerPoll;
+    }
+
+    public boolean isBatchExchange() {
+        return batchExchange;
+    }
+
+    /**
+     * If set to true the messages taken from the SEDA queue in a poll are processed as a single exchange, with
+     * a List of the message bodies as body (or a List of the exchanges if transferExchange is enabled), instead of
+     * an exchange per message.
+     */
+    public void setBatchExchange(boolean batchExchange) {
+        this.batchExchange = batchExchange;
+    }
+
+    public int getOfferBatchSize() {
+        return offerBatchSize;
+    }
+
+    /**
+     * The number of exchanges the producer gathers and adds to the SEDA queue in a single operation. Each exchange
+     * is completed when its message has been added. The default value of 0 turns batching off.
+     */
+    public void setOfferBatchSize(int offerBatchSize) {
+        this.offerBatchSize = offerBatchSize;
+    }
+
+    public long getOfferBatchTimeout() {
+        return offerBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis the producer waits for a batch of exchanges to be full before the gathered
+     * messages are added to the SEDA queue. Default value is 100ms.
+     */
+    public void setOfferBatchTimeout(long offerBatchTimeout) {
+        this.offerBatchTimeout = offerBatchTimeout;
+    }
+
 }
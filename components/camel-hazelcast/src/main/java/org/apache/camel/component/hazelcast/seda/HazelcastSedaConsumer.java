@@ -16,6 +16,10 @@
  */
 package org.apache.camel.component.hazelcast.seda;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -72,13 +76,14 @@ public class HazelcastSedaConsumer extends DefaultConsumer implements Runnable {
 
     @Override
     public void run() {
-        BaseQueue<?> queue = endpoint.getHazelcastInstance().getQueue(endpoint.getConfiguration().getQueueName());
+        final BaseQueue<?> queue = endpoint.getHazelcastInstance().getQueue(endpoint.getConfiguration().getQueueName());
 
         while (queue != null && isRunAllowed()) {
-            final Exchange exchange = this.getEndpoint().createExchange();
+            Exchange exchange = null;
 
             TransactionContext transactionCtx = null;
             try {
+                BaseQueue<?> pollQueue = queue;
                 if (endpoint.getConfiguration().isTransacted()) {
                     // Get and begin transaction if exist
                     transactionCtx = endpoint.getHazelcastInstance().newTransactionContext();
@@ -86,45 +91,38 @@ public class HazelcastSedaConsumer extends DefaultConsumer implements Runnable {
                     if (transactionCtx != null) {
                         LOG.trace("Begin transaction: {}", transactionCtx.getTxnId());
                         transactionCtx.beginTransaction();
-                        queue = transactionCtx.getQueue(endpoint.getConfiguration().getQueueName());
+                        pollQueue = transactionCtx.getQueue(endpoint.getConfiguration().getQueueName());
                     }
                 }
 
-                final Object body = queue.poll(endpoint.getConfiguration().getPollTimeout(), TimeUnit.MILLISECONDS);
-
-                if (body != null) {
-                    if (body instanceof DefaultExchangeHolder) {
-                        DefaultExchangeHolder.unmarshal(exchange, (DefaultExchangeHolder) body);
-                    } else {
-                        exchange.getIn().setBody(body);
-                    }
-                    try {
-                        // process using the asynchronous routing engine
-                        processor.process(exchange, new AsyncCallback() {
-                            public void done(boolean asyncDone) {
-                                // noop
-                            }
-                        });
-
-                        if (exchange.getException() != null) {
-                            // Rollback
+                final List<Object> bodies = poll(pollQueue);
+
+                boolean success = true;
+                if (endpoint.getConfiguration().isBatchExchange() && !bodies.isEmpty()) {
+                    exchange = createBatchExchange(bodies);
+                    success = processExchange(exchange, transactionCtx);
+                } else {
+                    for (int i = 0; i < bodies.size(); i++) {
+                        exchange = createExchange(bodies.get(i));
+                        if (endpoint.getConfiguration().getMaxMessagesPerPoll() > 1) {
+                            exchange.setProperty(Exchange.BATCH_INDEX, i);
+                            exchange.setProperty(Exchange.BATCH_SIZE, bodies.size());
+                            exchange.setProperty(Exchange.BATCH_COMPLETE, i == bodies.size() - 1);
+                        }
+                        if (!processExchange(exchange, transactionCtx)) {
+                            success = false;
                             if (transactionCtx != null) {
-                                transactionCtx.rollbackTransaction();
+                                // the transaction is rolled back, which puts all the messages of the poll back on the queue
+                                break;
                             }
-                            getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
-                        }
-
-                    } catch (Exception e) {
-                        LOG.error("Hzlq Exception caught: {}", e, e);
-                        // Rollback
-                        if (transactionCtx != null) {
-                            LOG.trace("Rollback transaction: {}", transactionCtx.getTxnId());
-                            transactionCtx.rollbackTransaction();
+                            // the failed message has been handled by the exception handler,
+                            // and the other messages are already taken from the queue, so continue processing them
                         }
                     }
                 }
-                // It's OK, I commit
-                if (exchange.getException() == null && transactionCtx != null) {
+
+                // It's OK, I commit all the messages taken in this poll
+                if (success && transactionCtx != null) {
                     LOG.trace("Commit transaction: {}", transactionCtx.getTxnId());
                     transactionCtx.commitTransaction();
                 }
@@ -142,6 +140,9 @@ public class HazelcastSedaConsumer extends DefaultConsumer implements Runnable {
                     } catch (Throwable ignore) {
                     }
                 }
+                if (exchange == null) {
+                    exchange = getEndpoint().createExchange();
+                }
                 getExceptionHandler().handleException("Error processing exchange", exchange, e);
                 try {
                     Thread.sleep(endpoint.getConfiguration().getOnErrorDelay());
@@ -151,4 +152,86 @@ public class HazelcastSedaConsumer extends DefaultConsumer implements Runnable {
         }
     }
 
+    /**
+     * Takes up to maxMessagesPerPoll messages from the queue, waiting at most pollTimeout for the first message.
+     */
+    private List<Object> poll(BaseQueue<?> queue) throws InterruptedException {
+        final Object body = queue.poll(endpoint.getConfiguration().getPollTimeout(), TimeUnit.MILLISECONDS);
+        if (body == null) {
+            return Collections.emptyList();
+        }
+
+        int max = endpoint.getConfiguration().getMaxMessagesPerPoll();
+        List<Object> bodies = new ArrayList<>(Math.min(max, 1000));
+        bodies.add(body);
+        if (max > 1) {
+            if (queue instanceof BlockingQueue) {
+                // drain the available messages in a single operation
+                ((BlockingQueue<?>) queue).drainTo(bodies, max - 1);
+            } else {
+                // the transactional queue has no drain operation, but all the polls are committed together
+                Object next;
+                while (bodies.size() < max && (next = queue.poll()) != null) {
+                    bodies.add(next);
+                }
+            }
+        }
+        return bodies;
+    }
+
+    private Exchange createExchange(Object body) {
+        Exchange exchange = getEndpoint().createExchange();
+        if (body instanceof DefaultExchangeHolder) {
+            DefaultExchangeHolder.unmarshal(exchange, (DefaultExchangeHolder) body);
+        } else {
+            exchange.getIn().setBody(body);
+        }
+        return exchange;
+    }
+
+    private Exchange createBatchExchange(List<Object> bodies) {
+        List<Object> list = new ArrayList<>(bodies.size());
+        for (Object body : bodies) {
+            list.add(body instanceof DefaultExchangeHolder ? createExchange(body) : body);
+        }
+        Exchange exchange = getEndpoint().createExchange();
+        exchange.getIn().setBody(list);
+        exchange.setProperty(Exchange.BATCH_SIZE, list.size());
+        return exchange;
+    }
+
+    /**
+     * Processes the exchange, and rolls back the transaction if it failed.
+     *
+     * @return <tt>true</tt> if the exchange was processed successfully
+     */
+    private boolean processExchange(Exchange exchange, TransactionContext transactionCtx) {
+        try {
+            // process using the asynchronous routing engine
+            processor.process(exchange, new AsyncCallback() {
+                public void done(boolean asyncDone) {
+                    // noop
+                }
+            });
+
+            if (exchange.getException() != null) {
+                // Rollback
+                if (transactionCtx != null) {
+                    transactionCtx.rollbackTransaction();
+                }
+                getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            LOG.error("Hzlq Exception caught: {}", e, e);
+            // Rollback
+            if (transactionCtx != null) {
+                LOG.trace("Rollback transaction: {}", transactionCtx.getTxnId());
+                transactionCtx.rollbackTransaction();
+            }
+            return false;
+        }
+    }
+
 }
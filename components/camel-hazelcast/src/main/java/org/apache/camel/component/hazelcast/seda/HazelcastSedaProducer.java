@@ -17,6 +17,7 @@
 package org.apache.camel.component.hazelcast.seda;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 
 import org.apache.camel.AsyncCallback;
@@ -25,6 +26,8 @@ import org.apache.camel.Producer;
 import org.apache.camel.component.hazelcast.HazelcastComponentHelper;
 import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.ExchangeBatcher;
+import org.apache.camel.support.service.ServiceHelper;
 
 /**
  * Implementation of Hazelcast SEDA {@link Producer} component. Just appends exchange body into a Hazelcast {@link BlockingQueue}.
@@ -32,6 +35,7 @@ import org.apache.camel.support.DefaultExchangeHolder;
 public class HazelcastSedaProducer extends DefaultAsyncProducer {
 
     private final transient BlockingQueue<Object> queue;
+    private ExchangeBatcher<Object> offerBatcher;
 
     public HazelcastSedaProducer(final HazelcastSedaEndpoint endpoint, final BlockingQueue<Object> hzlq) {
         super(endpoint);
@@ -40,12 +44,50 @@ public class HazelcastSedaProducer extends DefaultAsyncProducer {
 
     @Override
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        if (offerBatcher != null) {
+            // the messages are gathered and added to the queue together
+            return offerBatcher.add(exchange, createItem(exchange), callback);
+        }
         checkAndStore(exchange);
         callback.done(true);
         return true;
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        HazelcastSedaConfiguration configuration = ((HazelcastSedaEndpoint) getEndpoint()).getConfiguration();
+        if (configuration.getOfferBatchSize() > 0) {
+            offerBatcher = new ExchangeBatcher<>(getEndpoint().getCamelContext(), this, "HazelcastSedaOfferBatcher",
+                configuration.getOfferBatchSize(), configuration.getOfferBatchTimeout(), this::offerBatch);
+            ServiceHelper.startService(offerBatcher);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // add the gathered messages before stopping
+        ServiceHelper.stopService(offerBatcher);
+        offerBatcher = null;
+        super.doStop();
+    }
+
+    private void offerBatch(List<Exchange> exchanges, List<Object> items) {
+        queue.addAll(items);
+
+        for (Exchange exchange : exchanges) {
+            HazelcastComponentHelper.copyHeaders(exchange);
+        }
+    }
+
     private void checkAndStore(final Exchange exchange) {
+        queue.add(createItem(exchange));
+
+        // finally copy headers
+        HazelcastComponentHelper.copyHeaders(exchange);
+    }
+
+    private Object createItem(final Exchange exchange) {
         Object obj;
         Object body = exchange.getIn().getBody();
 
@@ -62,11 +104,7 @@ public class HazelcastSedaProducer extends DefaultAsyncProducer {
                 obj = body;
             }
         }
-
-        queue.add(obj);
-
-        // finally copy headers
-        HazelcastComponentHelper.copyHeaders(exchange);
+        return obj;
     }
 
 }
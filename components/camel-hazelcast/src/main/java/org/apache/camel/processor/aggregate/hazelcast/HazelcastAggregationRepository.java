@@ -16,6 +16,7 @@
  */
 package org.apache.camel.processor.aggregate.hazelcast;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -31,8 +32,10 @@ import com.hazelcast.transaction.TransactionContext;
 import com.hazelcast.transaction.TransactionOptions;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.BinaryExchangeCodec;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultExchangeHolder;
 import org.apache.camel.support.service.ServiceSupport;
@@ -51,6 +54,7 @@ import org.slf4j.LoggerFactory;
  * If the {@link HazelcastAggregationRepository} uses it's own local {@link HazelcastInstance} it will DESTROY this
  * instance on {@link #doStop()}. You should control {@link HazelcastInstance} lifecycle yourself whenever you instantiate
  * {@link HazelcastAggregationRepository} passing a reference to the instance.
+ * The exchanges are stored encoded using {@link BinaryExchangeCodec}, unless Java serialization is enabled.
  *
  */
 public class HazelcastAggregationRepository extends ServiceSupport
@@ -62,8 +66,8 @@ public class HazelcastAggregationRepository extends ServiceSupport
     private boolean optimistic;
     private boolean useLocalHzInstance;
     private boolean useRecovery = true;
-    private IMap<String, DefaultExchangeHolder> cache;
-    private IMap<String, DefaultExchangeHolder> persistedCache;
+    private IMap<String, Object> cache;
+    private IMap<String, Object> persistedCache;
     private HazelcastInstance hzInstance;
     private String mapName;
     private String persistenceMapName;
@@ -71,6 +75,8 @@ public class HazelcastAggregationRepository extends ServiceSupport
     private long recoveryInterval = 5000;
     private int maximumRedeliveries = 3;
     private boolean allowSerializedHeaders;
+    private boolean useJavaSerialization;
+    private final BinaryExchangeCodec exchangeCodec = new BinaryExchangeCodec();
 
     /**
      * Creates new {@link HazelcastAggregationRepository} that defaults to non-optimistic locking
@@ -181,8 +187,8 @@ public class HazelcastAggregationRepository extends ServiceSupport
         }
         LOG.trace("Adding an Exchange with ID {} for key {} in an optimistic manner.", newExchange.getExchangeId(), key);
         if (oldExchange == null) {
-            DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(newExchange, true, allowSerializedHeaders);
-            final DefaultExchangeHolder misbehaviorHolder = cache.putIfAbsent(key, holder);
+            Object holder = marshallExchange(newExchange);
+            final Object misbehaviorHolder = cache.putIfAbsent(key, holder);
             if (misbehaviorHolder != null) {
                 Exchange misbehaviorEx = unmarshallExchange(camelContext, misbehaviorHolder);
                 LOG.error("Optimistic locking failed for exchange with key {}: IMap#putIfAbsend returned Exchange with ID {}, while it's expected no exchanges to be returned",
@@ -190,9 +196,14 @@ public class HazelcastAggregationRepository extends ServiceSupport
                 throw  new OptimisticLockingException();
             }
         } else {
-            DefaultExchangeHolder oldHolder = DefaultExchangeHolder.marshal(oldExchange, true, allowSerializedHeaders);
-            DefaultExchangeHolder newHolder = DefaultExchangeHolder.marshal(newExchange, true, allowSerializedHeaders);
-            if (!cache.replace(key, oldHolder, newHolder)) {
+            Object oldHolder = marshallExchange(oldExchange);
+            Object newHolder = marshallExchange(newExchange);
+            boolean replaced = cache.replace(key, oldHolder, newHolder);
+            if (!replaced && !useJavaSerialization && cache.get(key) instanceof DefaultExchangeHolder) {
+                // the old exchange was stored using Java serialization
+                replaced = cache.replace(key, DefaultExchangeHolder.marshal(oldExchange, true, allowSerializedHeaders), newHolder);
+            }
+            if (!replaced) {
                 LOG.error("Optimistic locking failed for exchange with key {}: IMap#replace returned no Exchanges, while it's expected to replace one",
                         key);
                 throw new OptimisticLockingException();
@@ -211,8 +222,8 @@ public class HazelcastAggregationRepository extends ServiceSupport
         Lock l = hzInstance.getLock(mapName);
         try {
             l.lock();
-            DefaultExchangeHolder newHolder = DefaultExchangeHolder.marshal(exchange, true, allowSerializedHeaders);
-            DefaultExchangeHolder oldHolder = cache.put(key, newHolder);
+            Object newHolder = marshallExchange(exchange);
+            Object oldHolder = cache.put(key, newHolder);
             return unmarshallExchange(camelContext, oldHolder);
         } finally {
             LOG.trace("Added an Exchange with ID {} for key {} in a thread-safe manner.", exchange.getExchangeId(), key);
@@ -311,6 +322,25 @@ public class HazelcastAggregationRepository extends ServiceSupport
         this.allowSerializedHeaders = allowSerializedHeaders;
     }
 
+    public boolean isUseJavaSerialization() {
+        return useJavaSerialization;
+    }
+
+    /**
+     * Whether to store the exchanges using Java serialization instead of {@link BinaryExchangeCodec}, for example
+     * while the repository is shared with older versions. Exchanges stored using either format can always be read.
+     */
+    public void setUseJavaSerialization(boolean useJavaSerialization) {
+        this.useJavaSerialization = useJavaSerialization;
+    }
+
+    /**
+     * The codec used to encode the exchanges, which can be used to add codecs for custom types.
+     */
+    public BinaryExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
     /**
      * This method performs transactional operation on removing the {@code exchange}
      * from the operational storage and moving it into the persistent one if the {@link HazelcastAggregationRepository}
@@ -321,10 +351,15 @@ public class HazelcastAggregationRepository extends ServiceSupport
      */
     @Override
     public void remove(CamelContext camelContext, String key, Exchange exchange) {
-        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, true, allowSerializedHeaders);
+        Object holder = marshallExchange(exchange);
         if (optimistic) {
             LOG.trace("Removing an exchange with ID {} for key {} in an optimistic manner.", exchange.getExchangeId(), key);
-            if (!cache.remove(key, holder)) {
+            boolean removed = cache.remove(key, holder);
+            if (!removed && !useJavaSerialization && cache.get(key) instanceof DefaultExchangeHolder) {
+                // the exchange was stored using Java serialization
+                removed = cache.remove(key, DefaultExchangeHolder.marshal(exchange, true, allowSerializedHeaders));
+            }
+            if (!removed) {
                 LOG.error("Optimistic locking failed for exchange with key {}: IMap#remove removed no Exchanges, while it's expected to remove one.",
                         key);
                 throw new OptimisticLockingException();
@@ -351,10 +386,10 @@ public class HazelcastAggregationRepository extends ServiceSupport
                 try {
                     tCtx.beginTransaction();
 
-                    TransactionalMap<String, DefaultExchangeHolder> tCache = tCtx.getMap(cache.getName());
-                    TransactionalMap<String, DefaultExchangeHolder> tPersistentCache = tCtx.getMap(persistedCache.getName());
+                    TransactionalMap<String, Object> tCache = tCtx.getMap(cache.getName());
+                    TransactionalMap<String, Object> tPersistentCache = tCtx.getMap(persistedCache.getName());
 
-                    DefaultExchangeHolder removedHolder = tCache.remove(key);
+                    Object removedHolder = tCache.remove(key);
                     LOG.trace("Putting an exchange with ID {} for key {} into a recoverable storage in a thread-safe manner.",
                             exchange.getExchangeId(), key);
                     tPersistentCache.put(exchange.getExchangeId(), removedHolder);
@@ -427,9 +462,31 @@ public class HazelcastAggregationRepository extends ServiceSupport
         }
     }
 
-    protected Exchange unmarshallExchange(CamelContext camelContext, DefaultExchangeHolder holder) {
+    protected Object marshallExchange(Exchange exchange) {
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, true, allowSerializedHeaders);
+        if (useJavaSerialization) {
+            return holder;
+        }
+        try {
+            return exchangeCodec.encode(holder);
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Cannot encode exchange with ID " + exchange.getExchangeId(), e);
+        }
+    }
+
+    protected Exchange unmarshallExchange(CamelContext camelContext, Object data) {
         Exchange exchange = null;
-        if (holder != null) {
+        if (data != null) {
+            DefaultExchangeHolder holder;
+            if (data instanceof byte[]) {
+                try {
+                    holder = exchangeCodec.decode(camelContext, (byte[]) data);
+                } catch (IOException | ClassNotFoundException e) {
+                    throw new RuntimeCamelException("Cannot decode exchange", e);
+                }
+            } else {
+                holder = (DefaultExchangeHolder) data;
+            }
             exchange = new DefaultExchange(camelContext);
             DefaultExchangeHolder.unmarshal(exchange, holder);
         }
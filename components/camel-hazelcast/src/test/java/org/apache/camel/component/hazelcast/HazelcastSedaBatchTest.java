@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.hazelcast;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.Registry;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class HazelcastSedaBatchTest extends CamelTestSupport {
+
+    private HazelcastInstance hazelcastInstance;
+
+    @Override
+    protected void bindToRegistry(Registry registry) throws Exception {
+        // use a single embedded member for all the queues
+        hazelcastInstance = Hazelcast.newHazelcastInstance();
+        registry.bind("hz", hazelcastInstance);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        if (hazelcastInstance != null) {
+            hazelcastInstance.getLifecycleService().shutdown();
+        }
+    }
+
+    @Test
+    public void testBatchPerMessage() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("A", "B", "C", "D", "E", "F");
+        mock.allMessages().exchangeProperty(Exchange.BATCH_SIZE).isNotNull();
+
+        // send concurrently as each exchange waits for its batch to be added to the queue
+        for (String body : new String[] {"A", "B", "C", "D", "E", "F"}) {
+            template.asyncSendBody("direct:start", body);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchExchange() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:batch");
+        mock.expectedMinimumMessageCount(1);
+        mock.allMessages().body().isInstanceOf(List.class);
+
+        for (String body : new String[] {"A", "B", "C", "D", "E", "F"}) {
+            template.asyncSendBody("direct:batch", body);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // wait for the last batch
+        int count = 0;
+        for (int i = 0; i < 50 && count < 6; i++) {
+            count = 0;
+            for (Exchange exchange : mock.getExchanges()) {
+                count += exchange.getIn().getBody(List.class).size();
+            }
+            if (count < 6) {
+                Thread.sleep(100);
+            }
+        }
+        assertEquals(6, count);
+    }
+
+    @Test
+    public void testTransactedBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:transacted");
+        mock.expectedBodiesReceivedInAnyOrder("A", "B", "C", "D", "E", "F");
+
+        for (String body : new String[] {"A", "B", "C", "D", "E", "F"}) {
+            template.asyncSendBody("direct:transacted", body);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testFailedMessageDoesNotLoseBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:failure");
+        // the messages drained after the failed message are still processed
+        mock.expectedBodiesReceivedInAnyOrder("A", "C", "D", "E", "F");
+
+        // fill the queue before the consumer starts, so the failed message is drained together with other messages
+        hazelcastInstance.getQueue("batch4").addAll(Arrays.asList("A", "B", "C", "D", "E", "F"));
+        context.getRouteController().startRoute("failure");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("hazelcast-seda:batch1?hazelcastInstance=#hz&offerBatchSize=3&offerBatchTimeout=50");
+                from("hazelcast-seda:batch1?hazelcastInstance=#hz&maxMessagesPerPoll=3").to("mock:result");
+
+                from("direct:batch").to("hazelcast-seda:batch2?hazelcastInstance=#hz&offerBatchSize=3&offerBatchTimeout=50");
+                from("hazelcast-seda:batch2?hazelcastInstance=#hz&maxMessagesPerPoll=3&batchExchange=true").to("mock:batch");
+
+                from("direct:transacted").to("hazelcast-seda:batch3?hazelcastInstance=#hz&offerBatchSize=3&offerBatchTimeout=50");
+                from("hazelcast-seda:batch3?hazelcastInstance=#hz&maxMessagesPerPoll=3&transacted=true").to("mock:transacted");
+
+                from("hazelcast-seda:batch4?hazelcastInstance=#hz&maxMessagesPerPoll=3").routeId("failure").autoStartup(false)
+                    .process(e -> {
+                        if ("B".equals(e.getIn().getBody())) {
+                            throw new IllegalArgumentException("Forced");
+                        }
+                    })
+                    .to("mock:failure");
+            }
+        };
+    }
+}
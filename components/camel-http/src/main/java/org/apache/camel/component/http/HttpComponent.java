@@ -43,6 +43,7 @@ import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.RestConfiguration;
 import org.apache.camel.spi.RestProducerFactory;
 import org.apache.camel.spi.annotations.Component;
+import org.apache.camel.support.EndpointHelper;
 import org.apache.camel.support.PropertyBindingSupport;
 import org.apache.camel.support.RestProducerFactoryHelper;
 import org.apache.camel.support.jsse.SSLContextParameters;
@@ -207,17 +208,17 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         final Map<String, Object> httpClientOptions = new HashMap<>();
 
         // timeout values can be configured on both component and endpoint level, where endpoint take priority
-        int val = getAndRemoveParameter(parameters, "connectionRequestTimeout", int.class, connectionRequestTimeout);
-        if (val != -1) {
-            httpClientOptions.put("connectionRequestTimeout", val);
+        final int connectionRequestTimeout = getAndRemoveParameter(parameters, "connectionRequestTimeout", int.class, this.connectionRequestTimeout);
+        if (connectionRequestTimeout != -1) {
+            httpClientOptions.put("connectionRequestTimeout", connectionRequestTimeout);
         }
-        val = getAndRemoveParameter(parameters, "connectTimeout", int.class, connectTimeout);
-        if (val != -1) {
-            httpClientOptions.put("connectTimeout", val);
+        final int connectTimeout = getAndRemoveParameter(parameters, "connectTimeout", int.class, this.connectTimeout);
+        if (connectTimeout != -1) {
+            httpClientOptions.put("connectTimeout", connectTimeout);
         }
-        val = getAndRemoveParameter(parameters, "socketTimeout", int.class, socketTimeout);
-        if (val != -1) {
-            httpClientOptions.put("socketTimeout", val);
+        final int socketTimeout = getAndRemoveParameter(parameters, "socketTimeout", int.class, this.socketTimeout);
+        if (socketTimeout != -1) {
+            httpClientOptions.put("socketTimeout", socketTimeout);
         }
 
         final HttpClientBuilder clientBuilder = createHttpClientBuilder(uri, parameters, httpClientOptions);
@@ -275,8 +276,22 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         String endpointUriString = endpointUri.toString();
 
         LOG.debug("Creating endpoint uri {}", endpointUriString);
+        // the connection manager options are removed when creating the connection manager,
+        // but they are also needed by the endpoint when it uses the non-blocking client
+        final String hostnameVerifierRef = getParameter(parameters, "x509HostnameVerifier", String.class);
+        final int maxTotalConnections = getParameter(parameters, "maxTotalConnections", int.class, 0);
+        final int connectionsPerRoute = getParameter(parameters, "connectionsPerRoute", int.class, 0);
         final HttpClientConnectionManager localConnectionManager = createConnectionManager(parameters, sslContextParameters);
         HttpEndpoint endpoint = new HttpEndpoint(endpointUriString, this, clientBuilder, localConnectionManager, configurer);
+        endpoint.setConnectionRequestTimeout(connectionRequestTimeout);
+        endpoint.setConnectTimeout(connectTimeout);
+        endpoint.setSocketTimeout(socketTimeout);
+        endpoint.setMaxTotalConnections(maxTotalConnections);
+        endpoint.setConnectionsPerRoute(connectionsPerRoute);
+        endpoint.setSslContextParameters(sslContextParameters);
+        if (hostnameVerifierRef != null) {
+            endpoint.setX509HostnameVerifier(EndpointHelper.resolveReferenceParameter(getCamelContext(), hostnameVerifierRef, HostnameVerifier.class));
+        }
 
         // configure the endpoint with the common configuration from the component
         if (getHttpConfiguration() != null) {
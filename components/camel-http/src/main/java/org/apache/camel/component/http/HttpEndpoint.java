@@ -20,8 +20,10 @@ import java.io.Closeable;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 
 import org.apache.camel.Consumer;
 import org.apache.camel.PollingConsumer;
@@ -42,13 +44,24 @@ import org.apache.http.HttpHost;
 import org.apache.http.client.CookieStore;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
 import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
 import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpContext;
+import org.apache.http.ssl.SSLContexts;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -124,6 +137,17 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     private HostnameVerifier x509HostnameVerifier;
     @UriParam(label = "producer", description = "To use custom host header for producer.")
     private String customHostHeader;
+    @UriParam(label = "producer,advanced", description = "Whether the producer should use the non-blocking Apache HttpAsyncClient,"
+        + " which does not occupy a thread while waiting for the response."
+        + " The routing continues on the I/O threads of the client when the response has been received,"
+        + " and the response body is always stream cached.")
+    private boolean useAsyncClient;
+    @UriParam(label = "producer,advanced", description = "The number of I/O threads of the non-blocking client, by default the number of processors.")
+    private int asyncIoThreadCount;
+    @UriParam(label = "producer,advanced", description = "Sets a custom HttpAsyncClient to be used by the producer when useAsyncClient is enabled."
+        + " The client must be started.")
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private PoolingNHttpClientConnectionManager asyncConnectionManager;
 
     public HttpEndpoint() {
     }
@@ -151,6 +175,9 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @Override
     public Producer createProducer() throws Exception {
+        if (useAsyncClient) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -198,17 +225,8 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         }
 
         if (!useSystemProperties) {
-            // configure http proxy from camelContext
-            if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost")) && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
-                String host = getCamelContext().getGlobalOption("http.proxyHost");
-                int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
-                String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
-                // fallback and use either http or https depending on secure
-                if (scheme == null) {
-                    scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
-                }
-                LOG.debug("CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}", host, port, scheme);
-                HttpHost proxy = new HttpHost(host, port, scheme);
+            HttpHost proxy = getGlobalProxy();
+            if (proxy != null) {
                 clientBuilder.setProxy(proxy);
             }
         } else {
@@ -234,6 +252,110 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return clientBuilder.build();
     }
 
+    /**
+     * Gets the http proxy configured on the CamelContext, if any
+     */
+    private HttpHost getGlobalProxy() {
+        // configure http proxy from camelContext
+        if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost")) && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
+            String host = getCamelContext().getGlobalOption("http.proxyHost");
+            int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
+            String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
+            // fallback and use either http or https depending on secure
+            if (scheme == null) {
+                scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
+            }
+            LOG.debug("CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}", host, port, scheme);
+            return new HttpHost(host, port, scheme);
+        }
+        return null;
+    }
+
+    public synchronized CloseableHttpAsyncClient getHttpAsyncClient() throws Exception {
+        if (httpAsyncClient == null) {
+            httpAsyncClient = createHttpAsyncClient();
+            httpAsyncClient.start();
+        }
+        return httpAsyncClient;
+    }
+
+    /**
+     * Sets a custom HttpAsyncClient to be used by the producer when useAsyncClient is enabled.
+     * The client must be started.
+     */
+    public void setHttpAsyncClient(CloseableHttpAsyncClient httpAsyncClient) {
+        this.httpAsyncClient = httpAsyncClient;
+    }
+
+    /**
+     * Factory method to create a new non-blocking {@link CloseableHttpAsyncClient} instance, with its own pool of
+     * connections and I/O threads.
+     * <p/>
+     * Producers should use the {@link #getHttpAsyncClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createHttpAsyncClient() throws Exception {
+        int ioThreadCount = asyncIoThreadCount > 0 ? asyncIoThreadCount : Runtime.getRuntime().availableProcessors();
+        IOReactorConfig ioReactorConfig = IOReactorConfig.custom().setIoThreadCount(ioThreadCount).build();
+
+        SSLContext sslContext = sslContextParameters != null ? sslContextParameters.createSSLContext(getCamelContext()) : SSLContexts.createDefault();
+        HostnameVerifier hostnameVerifier = x509HostnameVerifier;
+        if (hostnameVerifier == null) {
+            hostnameVerifier = getComponent() != null ? getComponent().getX509HostnameVerifier() : new DefaultHostnameVerifier();
+        }
+        RegistryBuilder<SchemeIOSessionStrategy> registry = RegistryBuilder.<SchemeIOSessionStrategy>create();
+        registry.register("http", NoopIOSessionStrategy.INSTANCE);
+        registry.register("https", new SSLIOSessionStrategy(sslContext, hostnameVerifier));
+
+        long connectionTimeToLive = getComponent() != null ? getComponent().getConnectionTimeToLive() : -1;
+        asyncConnectionManager = new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(ioReactorConfig), null,
+            registry.build(), null, null, connectionTimeToLive, TimeUnit.MILLISECONDS);
+        int localMaxTotalConnections = maxTotalConnections;
+        if (localMaxTotalConnections == 0 && getComponent() != null) {
+            localMaxTotalConnections = getComponent().getMaxTotalConnections();
+        }
+        if (localMaxTotalConnections > 0) {
+            asyncConnectionManager.setMaxTotal(localMaxTotalConnections);
+        }
+        int localConnectionsPerRoute = connectionsPerRoute;
+        if (localConnectionsPerRoute == 0 && getComponent() != null) {
+            localConnectionsPerRoute = getComponent().getConnectionsPerRoute();
+        }
+        if (localConnectionsPerRoute > 0) {
+            asyncConnectionManager.setDefaultMaxPerRoute(localConnectionsPerRoute);
+        }
+
+        HttpAsyncClientBuilder clientBuilder = HttpAsyncClients.custom();
+        clientBuilder.setConnectionManager(asyncConnectionManager);
+        clientBuilder.setDefaultRequestConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout(connectionRequestTimeout)
+            .setConnectTimeout(connectTimeout)
+            .setSocketTimeout(socketTimeout)
+            .build());
+        // need to use noop cookiestore when bridging as we do not want to keep cookies in memory
+        clientBuilder.setDefaultCookieStore(isBridgeEndpoint() ? new NoopCookieStore() : cookieStore);
+
+        if (!useSystemProperties) {
+            HttpHost proxy = getGlobalProxy();
+            if (proxy != null) {
+                clientBuilder.setProxy(proxy);
+            }
+        } else {
+            clientBuilder.useSystemProperties();
+        }
+
+        if (isAuthenticationPreemptive()) {
+            clientBuilder.addInterceptorFirst(new PreemptiveAuthInterceptor());
+        }
+
+        HttpClientConfigurer configurer = getHttpClientConfigurer();
+        if (configurer != null) {
+            configurer.configureHttpAsyncClient(clientBuilder);
+        }
+
+        LOG.debug("Setup the HttpAsyncClientBuilder {} with {} I/O threads", clientBuilder, ioThreadCount);
+        return clientBuilder.build();
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -248,6 +370,12 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         if (httpClient instanceof Closeable) {
             IOHelper.close((Closeable)httpClient);
         }
+        if (asyncConnectionManager != null) {
+            // only close the async client if it was created by this endpoint
+            IOHelper.close(httpAsyncClient);
+            httpAsyncClient = null;
+            asyncConnectionManager = null;
+        }
     }
 
     // Properties
@@ -519,12 +647,35 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return customHostHeader;
     }
 
+    public boolean isUseAsyncClient() {
+        return useAsyncClient;
+    }
+
+    /**
+     * Whether the producer should use the non-blocking Apache HttpAsyncClient, which does not occupy a thread
+     * while waiting for the response, so many concurrent calls can be made with a few threads.
+     * <p/>
+     * The routing continues on the I/O threads of the client when the response has been received, and the
+     * response body is always stream cached.
+     */
+    public void setUseAsyncClient(boolean useAsyncClient) {
+        this.useAsyncClient = useAsyncClient;
+    }
+
+    public int getAsyncIoThreadCount() {
+        return asyncIoThreadCount;
+    }
+
+    /**
+     * The number of I/O threads of the non-blocking client, by default the number of processors.
+     */
+    public void setAsyncIoThreadCount(int asyncIoThreadCount) {
+        this.asyncIoThreadCount = asyncIoThreadCount;
+    }
+
     @ManagedAttribute(description = "Maximum number of allowed persistent connections")
     public int getClientConnectionsPoolStatsMax() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -536,10 +687,7 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @ManagedAttribute(description = "Number of available idle persistent connections")
     public int getClientConnectionsPoolStatsAvailable() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -551,10 +699,7 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @ManagedAttribute(description = "Number of persistent connections tracked by the connection manager currently being used to execute requests")
     public int getClientConnectionsPoolStatsLeased() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -567,10 +712,7 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     @ManagedAttribute(description = "Number of connection requests being blocked awaiting a free connection."
         + " This can happen only if there are more worker threads contending for fewer connections.")
     public int getClientConnectionsPoolStatsPending() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -580,4 +722,14 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return -1;
     }
 
+    private ConnPoolControl<?> getConnPoolControl() {
+        if (asyncConnectionManager != null) {
+            return asyncConnectionManager;
+        }
+        if (clientConnectionManager instanceof ConnPoolControl) {
+            return (ConnPoolControl<?>) clientConnectionManager;
+        }
+        return null;
+    }
+
 }
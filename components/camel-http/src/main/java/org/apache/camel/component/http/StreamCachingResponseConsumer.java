@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.util.IOHelper;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * A response consumer for the non-blocking client, which writes the response body as it is received to a
+ * {@link CachedOutputStream}, so large bodies are spooled to disk according to the stream caching strategy
+ * instead of being kept in memory.
+ * <p/>
+ * The entity of the resulting response has the stream cache as content.
+ */
+class StreamCachingResponseConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+
+    private final Exchange exchange;
+    private final boolean ignoreResponseBody;
+    private final ByteBuffer buffer = ByteBuffer.allocate(IOHelper.DEFAULT_BUFFER_SIZE);
+    private HttpResponse response;
+    private CachedOutputStream cos;
+    private boolean built;
+
+    StreamCachingResponseConsumer(Exchange exchange, boolean ignoreResponseBody) {
+        this.exchange = exchange;
+        this.ignoreResponseBody = ignoreResponseBody;
+    }
+
+    @Override
+    protected void onResponseReceived(HttpResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    protected void onEntityEnclosed(HttpEntity entity, ContentType contentType) {
+        if (!ignoreResponseBody) {
+            // the temporary file (if any) is deleted when the exchange is done
+            cos = new CachedOutputStream(exchange);
+        }
+    }
+
+    @Override
+    protected void onContentReceived(ContentDecoder decoder, IOControl ioctrl) throws IOException {
+        int n;
+        while ((n = decoder.read(buffer)) > 0) {
+            if (cos != null) {
+                cos.write(buffer.array(), 0, n);
+            }
+            buffer.clear();
+        }
+    }
+
+    @Override
+    protected HttpResponse buildResult(HttpContext context) throws Exception {
+        HttpEntity entity = response.getEntity();
+        if (entity != null) {
+            BasicHttpEntity cached = new BasicHttpEntity();
+            cached.setContentType(entity.getContentType());
+            cached.setContentEncoding(entity.getContentEncoding());
+            cached.setChunked(entity.isChunked());
+            if (cos != null) {
+                cached.setContent((InputStream) cos.newStreamCache());
+                cached.setContentLength(entity.getContentLength());
+            } else {
+                // the response body is ignored
+                cached.setContent(new ByteArrayInputStream(new byte[0]));
+                cached.setContentLength(0);
+            }
+            response.setEntity(cached);
+        }
+        built = true;
+        return response;
+    }
+
+    @Override
+    protected void releaseResources() {
+        if (!built) {
+            // the response failed or was cancelled so the cached data can be released now
+            IOHelper.close(cos);
+        }
+        cos = null;
+        response = null;
+    }
+}
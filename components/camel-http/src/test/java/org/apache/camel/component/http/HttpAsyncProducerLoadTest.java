@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.camel.util.StopWatch;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpStatus;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.nio.bootstrap.HttpServer;
+import org.apache.http.impl.nio.bootstrap.ServerBootstrap;
+import org.apache.http.nio.protocol.BasicAsyncRequestConsumer;
+import org.apache.http.nio.protocol.HttpAsyncExchange;
+import org.apache.http.nio.protocol.HttpAsyncRequestConsumer;
+import org.apache.http.nio.protocol.HttpAsyncRequestHandler;
+import org.apache.http.protocol.HttpContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the throughput of the blocking producer and the non-blocking producer against a slow server, where the
+ * blocking producer is limited by the number of threads calling it, and the non-blocking producer only by the
+ * number of connections in its pool.
+ */
+public class HttpAsyncProducerLoadTest extends CamelTestSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducerLoadTest.class);
+    private static final int DELAY = 200;
+    private static final int REQUESTS = 500;
+    private static final int MAX_CONNECTIONS = 100;
+    private static final int SYNC_THREADS = 10;
+    private static final int SYNC_REQUESTS = 50;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+    private ScheduledExecutorService scheduler;
+    private HttpServer localServer;
+    private String baseUrl;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        // a non-blocking server so the server does not need a thread per slow request either
+        localServer = ServerBootstrap.bootstrap()
+            .registerHandler("/slow", new HttpAsyncRequestHandler<HttpRequest>() {
+                @Override
+                public HttpAsyncRequestConsumer<HttpRequest> processRequest(HttpRequest request, HttpContext context) {
+                    return new BasicAsyncRequestConsumer();
+                }
+
+                @Override
+                public void handle(HttpRequest request, HttpAsyncExchange httpExchange, HttpContext context) {
+                    maxInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+                    scheduler.schedule(() -> {
+                        inflight.decrementAndGet();
+                        httpExchange.getResponse().setStatusCode(HttpStatus.SC_OK);
+                        httpExchange.getResponse().setEntity(new StringEntity("Bye World", "UTF-8"));
+                        httpExchange.submitResponse();
+                    }, DELAY, TimeUnit.MILLISECONDS);
+                }
+            }).create();
+        localServer.start();
+        localServer.getEndpoint().waitFor();
+        InetSocketAddress address = (InetSocketAddress) localServer.getEndpoint().getAddress();
+        baseUrl = "http://localhost:" + address.getPort() + "/slow";
+
+        super.setUp();
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.shutdown(1, TimeUnit.SECONDS);
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testThroughput() throws Exception {
+        long sync = sendSync();
+        long async = sendAsync();
+
+        LOG.info("The non-blocking producer completed {} requests/s, and the blocking producer with {} threads {} requests/s",
+            async, SYNC_THREADS, sync);
+        assertTrue("The non-blocking producer should have a higher throughput", async > sync);
+    }
+
+    private long sendSync() throws Exception {
+        maxInflight.set(0);
+        Producer producer = context.getEndpoint(baseUrl).createProducer();
+        producer.start();
+        ExecutorService executor = Executors.newFixedThreadPool(SYNC_THREADS);
+        try {
+            StopWatch watch = new StopWatch();
+            List<Future<Exchange>> futures = new ArrayList<>();
+            for (int i = 0; i < SYNC_REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    Exchange exchange = createExchangeWithBody(null);
+                    producer.process(exchange);
+                    return exchange;
+                }));
+            }
+            for (Future<Exchange> future : futures) {
+                Exchange exchange = future.get(30, TimeUnit.SECONDS);
+                assertNull(exchange.getException());
+                assertEquals("Bye World", exchange.getMessage().getBody(String.class));
+            }
+            long taken = Math.max(1, watch.taken());
+            LOG.info("Sending {} requests with the blocking producer using {} threads took {} millis", SYNC_REQUESTS, SYNC_THREADS, taken);
+            assertTrue("Should not have more requests in flight than threads", maxInflight.get() <= SYNC_THREADS);
+            return SYNC_REQUESTS * 1000L / taken;
+        } finally {
+            executor.shutdownNow();
+            producer.stop();
+        }
+    }
+
+    private long sendAsync() throws Exception {
+        maxInflight.set(0);
+        AsyncProducer producer = context.getEndpoint(baseUrl + "?useAsyncClient=true&asyncIoThreadCount=2"
+            + "&maxTotalConnections=" + MAX_CONNECTIONS + "&connectionsPerRoute=" + MAX_CONNECTIONS).createAsyncProducer();
+        producer.start();
+        try {
+            CountDownLatch latch = new CountDownLatch(REQUESTS);
+            AtomicInteger failed = new AtomicInteger();
+            StopWatch watch = new StopWatch();
+            // all the requests are sent from this single thread
+            for (int i = 0; i < REQUESTS; i++) {
+                Exchange exchange = createExchangeWithBody(null);
+                producer.process(exchange, doneSync -> {
+                    if (exchange.getException() != null || !"Bye World".equals(exchange.getMessage().getBody(String.class))) {
+                        failed.incrementAndGet();
+                    }
+                    latch.countDown();
+                });
+            }
+            assertTrue("Should complete all requests", latch.await(30, TimeUnit.SECONDS));
+            long taken = Math.max(1, watch.taken());
+            LOG.info("Sending {} requests with the non-blocking producer from 1 thread took {} millis", REQUESTS, taken);
+            assertEquals(0, failed.get());
+            assertTrue("Should not have more requests in flight than connections", maxInflight.get() <= MAX_CONNECTIONS);
+            return REQUESTS * 1000L / taken;
+        } finally {
+            producer.stop();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.net.ConnectException;
+import java.net.ServerSocket;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.http.handler.BasicValidationHandler;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.http.common.HttpOperationFailedException;
+import org.apache.http.HttpStatus;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.apache.camel.component.http.HttpMethods.GET;
+import static org.apache.camel.component.http.HttpMethods.POST;
+
+public class HttpAsyncProducerTest extends BaseHttpTest {
+
+    private static final int LARGE_SIZE = 512 * 1024;
+
+    private HttpServer localServer;
+
+    private String baseUrl;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().
+                setHttpProcessor(getBasicHttpProcessor()).
+                setConnectionReuseStrategy(getConnectionReuseStrategy()).
+                setResponseFactory(getHttpResponseFactory()).
+                setExpectationVerifier(getHttpExpectationVerifier()).
+                setSslContext(getSSLContext()).
+                registerHandler("/get", new BasicValidationHandler(GET.name(), null, null, getExpectedContent())).
+                registerHandler("/post", new BasicValidationHandler(POST.name(), null, "Hello World", getExpectedContent())).
+                registerHandler("/large", (request, response, context) -> {
+                    byte[] data = new byte[LARGE_SIZE];
+                    for (int i = 0; i < data.length; i++) {
+                        data[i] = (byte) ('a' + i % 26);
+                    }
+                    response.setStatusCode(HttpStatus.SC_OK);
+                    response.setEntity(new ByteArrayEntity(data));
+                }).create();
+        localServer.start();
+
+        baseUrl = "http://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort();
+
+        super.setUp();
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolThreshold(64 * 1024);
+        return context;
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/get?useAsyncClient=true", exchange1 -> {
+        });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void testPost() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/post?useAsyncClient=true", exchange1 -> exchange1.getIn().setBody("Hello World"));
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void testRouteContinuesOnIoThread() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived(getExpectedContent());
+        mock.message(0).exchangeProperty("thread").startsWith("I/O dispatcher");
+
+        template.sendBody("direct:start", null);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testLargeResponseIsStreamCached() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:large");
+        mock.expectedMessageCount(1);
+        mock.message(0).exchangeProperty("streamCache").isEqualTo(true);
+
+        template.sendBody("direct:large", null);
+
+        assertMockEndpointsSatisfied();
+        // the body is spooled to disk so it must be read before the exchange is done
+        byte[] data = mock.getReceivedExchanges().get(0).getMessage().getBody(byte[].class);
+        assertEquals(LARGE_SIZE, data.length);
+        assertEquals('z', data[25]);
+    }
+
+    @Test
+    public void testIgnoreResponseBody() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/large?useAsyncClient=true&ignoreResponseBody=true", exchange1 -> {
+        });
+
+        assertEquals(HttpStatus.SC_OK, exchange.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE));
+        assertNull(exchange.getMessage().getBody());
+    }
+
+    @Test
+    public void testFailureResponse() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/XXX?useAsyncClient=true", exchange1 -> {
+        });
+
+        HttpOperationFailedException cause = assertIsInstanceOf(HttpOperationFailedException.class, exchange.getException());
+        assertEquals(HttpStatus.SC_NOT_IMPLEMENTED, cause.getStatusCode());
+    }
+
+    @Test
+    public void testConnectionRefused() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        Exchange exchange = template.request("http://localhost:" + port + "/get?useAsyncClient=true", exchange1 -> {
+        });
+
+        assertIsInstanceOf(ConnectException.class, exchange.getException());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .toD(baseUrl + "/get?useAsyncClient=true")
+                    .process(e -> e.setProperty("thread", Thread.currentThread().getName()))
+                    .convertBodyTo(String.class)
+                    .to("mock:result");
+
+                from("direct:large")
+                    .toD(baseUrl + "/large?useAsyncClient=true")
+                    .process(e -> e.setProperty("streamCache", e.getMessage().getBody() instanceof StreamCache))
+                    .convertBodyTo(byte[].class)
+                    .to("mock:large");
+            }
+        };
+    }
+}
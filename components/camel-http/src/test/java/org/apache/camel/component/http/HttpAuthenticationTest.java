@@ -91,6 +91,24 @@ public class HttpAuthenticationTest extends BaseHttpTest {
         assertExchange(exchange);
     }
 
+    @Test
+    public void basicAuthenticationWithAsyncClientShouldSuccess() throws Exception {
+        Exchange exchange = template.request("http://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort() + "/search?authUsername=" + user + "&authPassword="
+            + password + "&useAsyncClient=true", exchange1 -> {
+            });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void basicAuthenticationPreemptiveWithAsyncClientShouldSuccess() throws Exception {
+        Exchange exchange = template.request("http://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort() + "/search?authUsername=" + user + "&authPassword="
+            + password + "&authenticationPreemptive=true&useAsyncClient=true", exchange1 -> {
+            });
+
+        assertExchange(exchange);
+    }
+
     @Test
     public void basicAuthenticationShouldFailWithoutCreds() throws Exception {
         Exchange exchange = template.request("http://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort() + "/search?throwExceptionOnFailure=false", exchange1 -> {
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.jackson;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
@@ -28,10 +30,16 @@ import java.util.Set;
 import java.util.TimeZone;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.module.jaxb.JaxbAnnotationModule;
@@ -44,6 +52,7 @@ import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,6 +87,8 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
     private boolean contentTypeHeader = true;
     private TimeZone timezone;
     private boolean autoDiscoverObjectMapper;
+    private boolean lazyLoad;
+    private String arrayPointer;
 
     /**
      * Use the default Jackson {@link ObjectMapper} and {@link Object}
@@ -168,7 +179,11 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
 
     @Override
     public void marshal(Exchange exchange, Object graph, OutputStream stream) throws Exception {
-        this.objectMapper.writerWithView(jsonView).writeValue(stream, graph);
+        if (lazyLoad && graph instanceof Iterator) {
+            marshalIterator((Iterator<?>) graph, stream);
+        } else {
+            this.objectMapper.writerWithView(jsonView).writeValue(stream, graph);
+        }
 
         if (contentTypeHeader) {
             if (exchange.hasOut()) {
@@ -194,7 +209,9 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
         if (type != null) {
             clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
         }
-        if (collectionType != null) {
+        if (lazyLoad) {
+            return unmarshalIterator(stream, clazz);
+        } else if (collectionType != null) {
             CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
             return this.objectMapper.readValue(stream, collType);
         } else {
@@ -202,6 +219,44 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
         }
     }
 
+    /**
+     * Writes the elements of the iterator one by one as a JSON array, so the elements
+     * do not have to be in memory at the same time.
+     */
+    private void marshalIterator(Iterator<?> it, OutputStream stream) throws IOException {
+        try (SequenceWriter writer = this.objectMapper.writerWithView(jsonView).writeValuesAsArray(stream)) {
+            while (it.hasNext()) {
+                writer.write(it.next());
+            }
+        } finally {
+            IOHelper.closeIterator(it);
+        }
+    }
+
+    /**
+     * Creates an iterator which reads the elements of the JSON array one by one, instead of
+     * reading the whole array into memory. The array is the root of the document, or the array
+     * found by the JSON pointer configured with {@link #setArrayPointer(String)}. A document with
+     * a single object is read as an iterator with a single element.
+     */
+    private Object unmarshalIterator(InputStream stream, Class<?> clazz) throws IOException {
+        JsonParser parser = this.objectMapper.getFactory().createParser(stream);
+        try {
+            if (arrayPointer != null) {
+                parser = new FilteringParserDelegate(parser, new JsonPointerBasedFilter(arrayPointer), false, false);
+            }
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                // skip the start of the array so the iterator reads its elements
+                parser.clearCurrentToken();
+            }
+            MappingIterator<Object> it = this.objectMapper.readerFor(clazz).readValues(parser);
+            return new JacksonIterator(it, parser, stream);
+        } catch (IOException | RuntimeException e) {
+            IOHelper.close(parser, stream);
+            throw e;
+        }
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -416,6 +471,32 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
         this.autoDiscoverObjectMapper = autoDiscoverObjectMapper;
     }
 
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * If enabled then Jackson reads the elements of a JSON array one by one when unmarshalling,
+     * and returns an iterator of the elements instead of a list, which allows to split big
+     * JSON documents in streaming mode. When marshalling an iterator, the elements are then
+     * written one by one as a JSON array.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
+    public String getArrayPointer() {
+        return arrayPointer;
+    }
+
+    /**
+     * A JSON pointer (such as <tt>/orders</tt>) to the array to read when lazy loading.
+     * By default the root of the document is read.
+     */
+    public void setArrayPointer(String arrayPointer) {
+        this.arrayPointer = arrayPointer;
+    }
+
     public String getEnableFeatures() {
         return enableFeatures;
     }
@@ -627,4 +708,40 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
         // noop
     }
 
+    /**
+     * Iterator of the elements read by Jackson, which closes the parser when all elements have been read.
+     */
+    private static final class JacksonIterator implements Iterator<Object>, Closeable {
+        private final MappingIterator<Object> it;
+        private final JsonParser parser;
+        private final InputStream stream;
+
+        private JacksonIterator(MappingIterator<Object> it, JsonParser parser, InputStream stream) {
+            this.it = it;
+            this.parser = parser;
+            this.stream = stream;
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean answer = it.hasNext();
+            if (!answer) {
+                IOHelper.close(this);
+            }
+            return answer;
+        }
+
+        @Override
+        public Object next() {
+            return it.next();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!parser.isClosed()) {
+                parser.close();
+                IOHelper.close(stream);
+            }
+        }
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.model.dataformat.JsonDataFormat;
+import org.apache.camel.model.dataformat.JsonLibrary;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class JacksonLazyLoadTest extends CamelTestSupport {
+
+    @Test
+    public void testUnmarshalLazyLoad() throws Exception {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                sb.append(",");
+            }
+            sb.append("{\"name\":\"Camel").append(i).append("\"}");
+        }
+        sb.append("]");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1000);
+        mock.allMessages().body().isInstanceOf(TestPojo.class);
+        getMockEndpoint("mock:done").expectedMessageCount(1);
+
+        template.sendBody("direct:split", new ByteArrayInputStream(sb.toString().getBytes()));
+
+        assertMockEndpointsSatisfied();
+        assertEquals("Camel999", mock.getReceivedExchanges().get(999).getIn().getBody(TestPojo.class).getName());
+    }
+
+    @Test
+    public void testUnmarshalLazyLoadArrayPointer() throws Exception {
+        Object body = template.requestBody("direct:pointer",
+            "{\"total\":2,\"data\":{\"items\":[{\"name\":\"Camel\"},{\"name\":\"World\"}],\"other\":[{\"name\":\"Other\"}]}}");
+
+        Iterator<?> it = assertIsInstanceOf(Iterator.class, body);
+        List<Object> names = new ArrayList<>();
+        while (it.hasNext()) {
+            names.add(((TestPojo) it.next()).getName());
+        }
+        assertEquals("[Camel, World]", names.toString());
+    }
+
+    @Test
+    public void testUnmarshalLazyLoadSingleObject() throws Exception {
+        Object body = template.requestBody("direct:unmarshal", "{\"name\":\"Camel\"}");
+
+        Iterator<?> it = assertIsInstanceOf(Iterator.class, body);
+        assertTrue(it.hasNext());
+        assertEquals("Camel", ((TestPojo) it.next()).getName());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testUnmarshalLazyLoadEmptyArray() throws Exception {
+        Object body = template.requestBody("direct:unmarshal", "[]");
+
+        Iterator<?> it = assertIsInstanceOf(Iterator.class, body);
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testMarshalLazyLoadIterator() throws Exception {
+        List<TestPojo> list = new ArrayList<>();
+        for (String name : new String[] {"Camel", "World"}) {
+            TestPojo pojo = new TestPojo();
+            pojo.setName(name);
+            list.add(pojo);
+        }
+
+        String json = template.requestBody("direct:marshal", list.iterator(), String.class);
+        assertEquals("[{\"name\":\"Camel\"},{\"name\":\"World\"}]", json);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                JacksonDataFormat format = new JacksonDataFormat(TestPojo.class);
+                format.setLazyLoad(true);
+
+                JsonDataFormat pointer = new JsonDataFormat(JsonLibrary.Jackson);
+                pointer.setUnmarshalType(TestPojo.class);
+                pointer.setLazyLoad(true);
+                pointer.setArrayPointer("/data/items");
+
+                from("direct:split")
+                    .unmarshal(format)
+                    .split(body()).streaming()
+                        .to("mock:result")
+                    .end()
+                    .to("mock:done");
+
+                from("direct:unmarshal").unmarshal(format);
+
+                from("direct:pointer").unmarshal(pointer);
+
+                from("direct:marshal").marshal(format);
+            }
+        };
+    }
+}
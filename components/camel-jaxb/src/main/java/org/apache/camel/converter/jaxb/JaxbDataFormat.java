@@ -16,6 +16,8 @@
  */
 package org.apache.camel.converter.jaxb;
 
+import java.beans.Introspector;
+import java.io.Closeable;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -25,8 +27,10 @@ import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
@@ -40,7 +44,9 @@ import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.ValidationEvent;
 import javax.xml.bind.ValidationEventHandler;
+import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.Source;
@@ -54,6 +60,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
@@ -107,6 +114,10 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
     private Schema cachedSchema;
     private Map<String, Object> jaxbProviderProperties;
     private boolean contentTypeHeader = true;
+    private boolean lazyLoad;
+    private int poolSize = 16;
+    private BlockingQueue<Marshaller> marshallerPool;
+    private BlockingQueue<Unmarshaller> unmarshallerPool;
 
     public JaxbDataFormat() {
     }
@@ -127,12 +138,6 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
     @Override
     public void marshal(Exchange exchange, Object graph, OutputStream stream) throws IOException {
         try {
-            // must create a new instance of marshaller as its not thread safe
-            Marshaller marshaller = createMarshaller();
-
-            if (isPrettyPrint()) {
-                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            }
             // exchange take precedence over encoding option
             String charset = exchange.getProperty(Exchange.CHARSET_NAME, String.class);
             if (charset == null) {
@@ -142,36 +147,25 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
                     exchange.setProperty(Exchange.CHARSET_NAME, charset);
                 }
             }
-            if (charset != null) {
-                marshaller.setProperty(Marshaller.JAXB_ENCODING, charset);
-            }
-            if (isFragment()) {
-                marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
-            }
-            if (ObjectHelper.isNotEmpty(schemaLocation)) {
-                marshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION, schemaLocation);
-            }
-            if (ObjectHelper.isNotEmpty(noNamespaceSchemaLocation)) {
-                marshaller.setProperty(Marshaller.JAXB_NO_NAMESPACE_SCHEMA_LOCATION, noNamespaceSchemaLocation);
-            }
-            if (namespacePrefixMapper != null) {
-                marshaller.setProperty(namespacePrefixMapper.getRegistrationKey(), namespacePrefixMapper);
-            }
             // Inject any JAX-RI custom properties from the exchange or from the instance into the marshaller
             Map<String, Object> customProperties = exchange.getProperty(JaxbConstants.JAXB_PROVIDER_PROPERTIES, Map.class);
-            if (customProperties == null) {
-                customProperties = getJaxbProviderProperties();
-            }
-            if (customProperties != null) {
-                for (Entry<String, Object> property : customProperties.entrySet()) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Using JAXB Provider Property {}={}", property.getKey(), property.getValue());
-                    }
-                    marshaller.setProperty(property.getKey(), property.getValue());
-                }
+
+            // the pooled marshallers are configured with the options of this data format,
+            // so a new marshaller is needed when the exchange has its own charset or properties
+            // (must use an instance of marshaller per exchange as its not thread safe)
+            boolean pooled = marshallerPool != null && customProperties == null && ObjectHelper.equal(charset, encoding);
+            Marshaller marshaller = pooled ? marshallerPool.poll() : null;
+            if (marshaller == null) {
+                marshaller = createMarshaller();
+                configureMarshaller(marshaller, charset, customProperties != null ? customProperties : getJaxbProviderProperties());
             }
+
             doMarshal(exchange, graph, stream, marshaller, charset);
 
+            if (pooled) {
+                marshallerPool.offer(marshaller);
+            }
+
             if (contentTypeHeader) {
                 if (exchange.hasOut()) {
                     exchange.getOut().setHeader(Exchange.CONTENT_TYPE, "application/xml");
@@ -184,6 +178,35 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
         }
     }
 
+    private void configureMarshaller(Marshaller marshaller, String charset, Map<String, Object> customProperties) throws JAXBException {
+        if (isPrettyPrint()) {
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        }
+        if (charset != null) {
+            marshaller.setProperty(Marshaller.JAXB_ENCODING, charset);
+        }
+        if (isFragment()) {
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        }
+        if (ObjectHelper.isNotEmpty(schemaLocation)) {
+            marshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION, schemaLocation);
+        }
+        if (ObjectHelper.isNotEmpty(noNamespaceSchemaLocation)) {
+            marshaller.setProperty(Marshaller.JAXB_NO_NAMESPACE_SCHEMA_LOCATION, noNamespaceSchemaLocation);
+        }
+        if (namespacePrefixMapper != null) {
+            marshaller.setProperty(namespacePrefixMapper.getRegistrationKey(), namespacePrefixMapper);
+        }
+        if (customProperties != null) {
+            for (Entry<String, Object> property : customProperties.entrySet()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Using JAXB Provider Property {}={}", property.getKey(), property.getValue());
+                }
+                marshaller.setProperty(property.getKey(), property.getValue());
+            }
+        }
+    }
+
     void doMarshal(Exchange exchange, Object graph, OutputStream stream, Marshaller marshaller, String charset) throws Exception {
 
         Object element = graph;
@@ -285,6 +308,11 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
                 xmlReader = typeConverter.convertTo(XMLStreamReader.class, exchange, stream);
             }
             String partClassFromHeader = exchange.getIn().getHeader(JaxbConstants.JAXB_PART_CLASS, String.class);
+            // must use an instance of unmarshaller per exchange as its not thread safe
+            Unmarshaller unmarshaller = unmarshallerPool != null ? unmarshallerPool.poll() : null;
+            if (unmarshaller == null) {
+                unmarshaller = createUnmarshaller();
+            }
             if (partialClass != null || partClassFromHeader != null) {
                 // partial unmarshalling
                 if (partClassFromHeader != null) {
@@ -294,20 +322,59 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
                         throw new JAXBException(e);
                     }
                 }
-                answer = createUnmarshaller().unmarshal(xmlReader, partialClass);
+                if (lazyLoad) {
+                    // the unmarshaller is released when the iterator is closed
+                    String partNamespaceFromHeader = exchange.getIn().getHeader(JaxbConstants.JAXB_PART_NAMESPACE, String.class);
+                    QName name = partNamespaceFromHeader != null ? QName.valueOf(partNamespaceFromHeader) : getPartElementName(partialClass);
+                    PartialClassIterator it = new PartialClassIterator(xmlReader, stream, unmarshaller, partialClass, name);
+                    try {
+                        it.readAhead();
+                    } catch (Exception e) {
+                        IOHelper.close(it);
+                        throw e;
+                    }
+                    return it;
+                }
+                answer = unmarshaller.unmarshal(xmlReader, partialClass);
             } else {
-                answer = createUnmarshaller().unmarshal(xmlReader);
+                answer = unmarshaller.unmarshal(xmlReader);
             }
+            releaseUnmarshaller(unmarshaller);
 
             if (answer instanceof JAXBElement && isIgnoreJAXBElement()) {
                 answer = ((JAXBElement<?>)answer).getValue();
             }
             return answer;
-        } catch (JAXBException e) {
+        } catch (JAXBException | XMLStreamException e) {
             throw new IOException(e);
         }
     }
 
+    private void releaseUnmarshaller(Unmarshaller unmarshaller) {
+        if (unmarshallerPool != null) {
+            unmarshallerPool.offer(unmarshaller);
+        }
+    }
+
+    /**
+     * Gets the name of the elements to unmarshal as the partial class, which is
+     * the part namespace if configured, or otherwise the name of the {@link XmlRootElement} of the class.
+     */
+    private QName getPartElementName(Class<?> clazz) {
+        if (partNamespace != null) {
+            return partNamespace;
+        }
+        XmlRootElement root = clazz.getAnnotation(XmlRootElement.class);
+        if (root == null) {
+            throw new IllegalArgumentException("The partNamespace option must be configured to lazy load the partial class "
+                + clazz.getName() + " which is not annotated with @XmlRootElement");
+        }
+        String name = "##default".equals(root.name()) ? Introspector.decapitalize(clazz.getSimpleName()) : root.name();
+        // the default namespace comes from the package so it matches any namespace
+        String namespace = "##default".equals(root.namespace()) ? XMLConstants.NULL_NS_URI : root.namespace();
+        return new QName(namespace, name);
+    }
+
     private NonXmlFilterReader createNonXmlFilterReader(Exchange exchange, InputStream stream) throws UnsupportedEncodingException {
         return new NonXmlFilterReader(new InputStreamReader(stream, ExchangeHelper.getCharsetName(exchange)));
     }
@@ -503,6 +570,31 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
         this.contentTypeHeader = contentTypeHeader;
     }
 
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * If enabled then the elements of the partial class are unmarshalled one by one
+     * while the XML is read, and an iterator is returned, which allows to split big XML
+     * documents in streaming mode. This option requires the partial class to be set.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * The maximum number of marshallers and unmarshallers to keep in a pool to reuse
+     * them between the exchanges. Setting a value of 0 or less disables the pools.
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected void doStart() throws Exception {
@@ -527,12 +619,18 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
         if (schema != null) {
             cachedSchema = createSchema(getSources());
         }
+        if (poolSize > 0) {
+            marshallerPool = new LinkedBlockingQueue<>(poolSize);
+            unmarshallerPool = new LinkedBlockingQueue<>(poolSize);
+        }
 
-        LOG.debug("JaxbDataFormat [prettyPrint={}, objectFactory={}]", prettyPrint, objectFactory);
+        LOG.debug("JaxbDataFormat [prettyPrint={}, objectFactory={}, poolSize={}]", prettyPrint, objectFactory, poolSize);
     }
 
     @Override
     protected void doStop() throws Exception {
+        marshallerPool = null;
+        unmarshallerPool = null;
     }
 
     /**
@@ -624,4 +722,82 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, DataFo
         }
     }
 
+    /**
+     * Iterator which unmarshals the elements of the partial class one by one from the XML stream.
+     */
+    private final class PartialClassIterator implements Iterator<Object>, Closeable {
+        private final XMLStreamReader reader;
+        private final InputStream stream;
+        private final Unmarshaller unmarshaller;
+        private final Class<Object> clazz;
+        private final QName name;
+        private Object next;
+        private boolean closed;
+
+        private PartialClassIterator(XMLStreamReader reader, InputStream stream, Unmarshaller unmarshaller, Class<Object> clazz, QName name) {
+            this.reader = reader;
+            this.stream = stream;
+            this.unmarshaller = unmarshaller;
+            this.clazz = clazz;
+            this.name = name;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Object next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Object answer = next;
+            try {
+                readAhead();
+            } catch (Exception e) {
+                IOHelper.close(this);
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+            return answer;
+        }
+
+        private void readAhead() throws XMLStreamException, JAXBException {
+            next = null;
+            while (!closed && reader.hasNext()) {
+                if (reader.isStartElement() && matches(reader.getName())) {
+                    // the reader is moved after the end of the element
+                    next = unmarshaller.unmarshal(reader, clazz);
+                    if (next instanceof JAXBElement && isIgnoreJAXBElement()) {
+                        next = ((JAXBElement<?>) next).getValue();
+                    }
+                    return;
+                }
+                reader.next();
+            }
+            // no more elements
+            close();
+        }
+
+        private boolean matches(QName qname) {
+            // the namespace only has to match when its known
+            return name.getLocalPart().equals(qname.getLocalPart())
+                && (name.getNamespaceURI().isEmpty() || name.getNamespaceURI().equals(qname.getNamespaceURI()));
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // ignore
+                }
+                IOHelper.close(stream);
+                releaseUnmarshaller(unmarshaller);
+            }
+        }
+    }
+
 }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.jaxb;
+
+import java.io.ByteArrayInputStream;
+import java.util.Iterator;
+
+import javax.xml.namespace.QName;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.example.Address;
+import org.apache.camel.example.PurchaseOrder;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class JaxbDataFormatLazyLoadTest extends CamelTestSupport {
+
+    private static final String ADDRESS_NS = "http://www.camel.apache.org/jaxb/example/address/1";
+
+    @Test
+    public void testUnmarshalLazyLoad() throws Exception {
+        StringBuilder sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><orders>");
+        for (int i = 0; i < 1000; i++) {
+            sb.append("<purchaseOrder name=\"Camel").append(i).append("\" price=\"1.5\" amount=\"").append(i).append("\"/>");
+        }
+        sb.append("</orders>");
+
+        MockEndpoint mock = getMockEndpoint("mock:order");
+        mock.expectedMessageCount(1000);
+        mock.allMessages().body().isInstanceOf(PurchaseOrder.class);
+        getMockEndpoint("mock:done").expectedMessageCount(1);
+
+        template.sendBody("direct:orders", new ByteArrayInputStream(sb.toString().getBytes()));
+
+        assertMockEndpointsSatisfied();
+        PurchaseOrder last = mock.getReceivedExchanges().get(999).getIn().getBody(PurchaseOrder.class);
+        assertEquals("Camel999", last.getName());
+        assertEquals(999, last.getAmount(), 0d);
+    }
+
+    @Test
+    public void testUnmarshalLazyLoadPartNamespace() throws Exception {
+        String xml = "<batch xmlns:a=\"" + ADDRESS_NS + "\"><a:address><a:street>Main Street</a:street><a:city>Sulzbach</a:city></a:address>"
+            + "<other><a:street>Other Street</a:street></other>"
+            + "<a:address><a:street>Second Street</a:street></a:address></batch>";
+
+        Object body = template.requestBody("direct:addresses", xml);
+
+        Iterator<?> it = assertIsInstanceOf(Iterator.class, body);
+        assertTrue(it.hasNext());
+        Address address = assertIsInstanceOf(Address.class, it.next());
+        assertEquals("Main Street", address.getStreet());
+        assertEquals("Sulzbach", address.getCity());
+        assertTrue(it.hasNext());
+        assertEquals("Second Street", ((Address) it.next()).getStreet());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testUnmarshalLazyLoadNoElements() throws Exception {
+        Object body = template.requestBody("direct:addresses", "<batch/>");
+
+        Iterator<?> it = assertIsInstanceOf(Iterator.class, body);
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testPooledMarshallerWithExchangeCharset() throws Exception {
+        PurchaseOrder order = new PurchaseOrder();
+        order.setName("Camel");
+
+        String xml = template.requestBody("direct:marshal", order, String.class);
+        assertTrue(xml, xml.contains("encoding=\"UTF-8\""));
+
+        // the exchange charset requires its own marshaller
+        Exchange out = template.request("direct:marshal", exchange -> {
+            exchange.setProperty(Exchange.CHARSET_NAME, "ISO-8859-1");
+            exchange.getIn().setBody(order);
+        });
+        xml = out.getMessage().getBody(String.class);
+        assertTrue(xml, xml.contains("encoding=\"ISO-8859-1\""));
+
+        // and the pooled marshaller is not affected by the exchange charset
+        xml = template.requestBody("direct:marshal", order, String.class);
+        assertTrue(xml, xml.contains("encoding=\"UTF-8\""));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                JaxbDataFormat orders = new JaxbDataFormat(PurchaseOrder.class.getPackage().getName());
+                orders.setPartClass(PurchaseOrder.class.getName());
+                orders.setLazyLoad(true);
+
+                JaxbDataFormat addresses = new JaxbDataFormat(Address.class.getPackage().getName());
+                addresses.setPartClass(Address.class.getName());
+                addresses.setPartNamespace(new QName(ADDRESS_NS, "address"));
+                addresses.setLazyLoad(true);
+
+                JaxbDataFormat marshal = new JaxbDataFormat(PurchaseOrder.class.getPackage().getName());
+                marshal.setPoolSize(1);
+
+                from("direct:orders")
+                    .unmarshal(orders)
+                    .split(body()).streaming()
+                        .to("mock:order")
+                    .end()
+                    .to("mock:done");
+
+                from("direct:addresses").unmarshal(addresses);
+
+                from("direct:marshal").marshal(marshal);
+            }
+        };
+    }
+}
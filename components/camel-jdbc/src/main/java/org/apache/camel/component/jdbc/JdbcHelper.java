@@ -31,7 +31,12 @@ public final class JdbcHelper {
     public static Object newBeanInstance(CamelContext camelContext, String outputClass,
                                          BeanRowMapper beanRowMapper, Map<String, Object> row) throws SQLException {
         Class<?> clazz = camelContext.getClassResolver().resolveClass(outputClass);
-        Object answer = camelContext.getInjector().newInstance(clazz);
+        return newBeanInstance(camelContext, clazz, beanRowMapper, row);
+    }
+
+    public static Object newBeanInstance(CamelContext camelContext, Class<?> outputClass,
+                                         BeanRowMapper beanRowMapper, Map<String, Object> row) throws SQLException {
+        Object answer = camelContext.getInjector().newInstance(outputClass);
 
         Map<String, Object> properties = new LinkedHashMap<>();
 
@@ -44,13 +49,13 @@ public final class JdbcHelper {
         try {
             PropertyBindingSupport.bindProperties(camelContext, answer, properties);
         } catch (Exception e) {
-            throw new SQLException("Error setting properties on output class " + outputClass, e);
+            throw new SQLException("Error setting properties on output class " + outputClass.getName(), e);
         }
 
         // check we could map all properties to the bean
         if (!properties.isEmpty()) {
             throw new IllegalArgumentException(
-                    "Cannot map all properties to bean of type " + outputClass + ". There are " + properties.size() + " unmapped properties. " + properties);
+                    "Cannot map all properties to bean of type " + outputClass.getName() + ". There are " + properties.size() + " unmapped properties. " + properties);
         }
         return answer;
     }
@@ -41,6 +41,7 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
     private final Statement statement;
     private final ResultSet resultSet;
     private final Column[] columns;
+    private final int rowCapacity;
     private final boolean useGetBytes;
     private final AtomicBoolean closed = new AtomicBoolean();
 
@@ -66,6 +67,9 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
             }
         }
 
+        // size the row maps up front so they do not need to be rehashed while filling in the columns
+        rowCapacity = (int) (columns.length / 0.75f) + 1;
+
         loadNext();
     }
 
@@ -81,7 +85,7 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
         }
 
         try {
-            Map<String, Object> row = new LinkedHashMap<>();
+            Map<String, Object> row = new LinkedHashMap<>(rowCapacity);
             for (Column column : columns) {
                 if (useGetBytes && column instanceof BlobColumn) {
                     row.put(column.getName(), ((BlobColumn) column).getBytes(resultSet));
@@ -28,14 +28,15 @@ import static org.apache.camel.component.jdbc.JdbcHelper.newBeanInstance;
 public final class StreamListIterator implements Iterator {
 
     private final CamelContext camelContext;
-    private final String outputClass;
+    private final Class<?> outputClass;
     private final BeanRowMapper beanRowMapper;
     private final Iterator delegate;
 
     public StreamListIterator(CamelContext camelContext, String outputClass,
                               BeanRowMapper beanRowMapper, Iterator delegate) {
         this.camelContext = camelContext;
-        this.outputClass = outputClass;
+        // resolve the output class once instead of for every row
+        this.outputClass = outputClass != null ? camelContext.getClassResolver().resolveClass(outputClass) : null;
         this.beanRowMapper = beanRowMapper;
         this.delegate = delegate;
     }
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.jms.Connection;
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.jms.JmsConfiguration.CamelJmsTemplate;
+import org.apache.camel.support.ExchangeBatcher;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.core.MessageCreator;
+import org.springframework.jms.support.JmsUtils;
+
+/**
+ * Gathers the InOnly exchanges sent by a {@link JmsProducer} and sends their messages in batches.
+ * <p/>
+ * The exchanges are held until either <tt>producerBatchSize</tt> exchanges has been gathered, or
+ * <tt>producerBatchTimeout</tt> has elapsed since the first exchange was gathered. Then all the messages
+ * are sent using a single transacted {@link Session}, reusing the {@link MessageProducer} per destination,
+ * and the session is committed once. The callbacks of the exchanges are completed after the commit, so
+ * an exchange is only completed successfully when its message has been committed to the broker.
+ * If the send or commit fails, then the session is rolled back and all the exchanges in the batch fails.
+ * The batching is done using an {@link ExchangeBatcher}.
+ * <p/>
+ * The connection, session and message producers are created on the first batch and reused by the following
+ * batches, and are closed when this sender is stopped. If the connection or session fails, then they are
+ * closed and created again for the next batch.
+ */
+public class JmsBatchSender extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JmsBatchSender.class);
+
+    private final JmsProducer producer;
+    private final CamelJmsTemplate template;
+    private final int batchSize;
+    private final long batchTimeout;
+    private ExchangeBatcher<PendingMessage> batcher;
+
+    // a session must only be used by one thread at a time, so the batches are sent one at a time
+    private final Lock sendLock = new ReentrantLock();
+    private Connection connection;
+    private Session session;
+    private final Map<String, Destination> resolved = new HashMap<>();
+    private final Map<Destination, MessageProducer> producers = new HashMap<>();
+
+    public JmsBatchSender(JmsProducer producer, CamelJmsTemplate template, int batchSize, long batchTimeout) {
+        this.producer = producer;
+        this.template = template;
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+    }
+
+    /**
+     * Adds the message of the exchange to the current batch.
+     *
+     * @param exchange            the exchange
+     * @param callback            the callback to complete when the message has been sent (or failed)
+     * @param destinationName     the destination name
+     * @param destination         the destination (if no name provided)
+     * @param messageCreator      the creator to create the {@link Message} to send
+     * @param messageSentCallback optional callback to invoke when message has been sent
+     * @return <tt>true</tt> if the exchange was completed synchronously, <tt>false</tt> if the callback is completed later
+     */
+    public boolean send(Exchange exchange, AsyncCallback callback, String destinationName, Destination destination,
+                        MessageCreator messageCreator, MessageSentCallback messageSentCallback) {
+        if (destination == null && destinationName == null) {
+            throw new IllegalArgumentException("Neither destination nor destinationName is specified on this endpoint: " + producer.getEndpoint());
+        }
+        PendingMessage entry = new PendingMessage(exchange, destinationName, destination, messageCreator, messageSentCallback);
+
+        // the exchange is completed when the batch is sent
+        return batcher.add(exchange, entry, callback);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (batcher == null) {
+            String name = "JmsBatchSender[" + producer.getEndpoint().getEndpointConfiguredDestinationName() + "]";
+            batcher = new ExchangeBatcher<>(producer.getEndpoint().getCamelContext(), this, name,
+                    batchSize, batchTimeout, (exchanges, items) -> sendBatch(items));
+        }
+        ServiceHelper.startService(batcher);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // sends the remaining messages before stopping
+        ServiceHelper.stopService(batcher);
+
+        sendLock.lock();
+        try {
+            closeSession();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    /**
+     * Sends the batch in a single transacted session, and sets the failure (if any) on each exchange of the batch.
+     */
+    private void sendBatch(List<PendingMessage> batch) {
+        sendLock.lock();
+        try {
+            doSendBatch(batch);
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    /**
+     * Sends the batch, must be called while holding the send lock.
+     */
+    private void doSendBatch(List<PendingMessage> batch) {
+        List<PendingMessage> sent = new ArrayList<>(batch.size());
+        try {
+            Session session = getSession();
+            for (PendingMessage entry : batch) {
+                Destination destination;
+                Message message;
+                try {
+                    destination = entry.destination;
+                    if (destination == null) {
+                        destination = resolved.get(entry.destinationName);
+                        if (destination == null) {
+                            destination = template.getDestinationResolver().resolveDestinationName(session, entry.destinationName, template.isPubSubDomain());
+                            resolved.put(entry.destinationName, destination);
+                        }
+                    }
+                    message = entry.messageCreator.createMessage(session);
+                } catch (Exception e) {
+                    // only this exchange failed, so continue with the other messages
+                    entry.exchange.setException(e);
+                    continue;
+                }
+
+                MessageProducer messageProducer = producers.get(destination);
+                if (messageProducer == null) {
+                    messageProducer = session.createProducer(destination);
+                    producers.put(destination, messageProducer);
+                }
+                template.doSend(messageProducer, message);
+                if (entry.messageSentCallback != null) {
+                    entry.messageSentCallback.sent(session, message, destination);
+                }
+                sent.add(entry);
+            }
+
+            LOG.trace("Committing batch of {} messages", sent.size());
+            session.commit();
+
+            for (PendingMessage entry : sent) {
+                // after sending then set the OUT message id to the JMSMessageID so its identical
+                producer.setMessageId(entry.exchange);
+            }
+        } catch (Exception e) {
+            LOG.debug("Failed to send batch of {} messages due to {}. Rolling back.", batch.size(), e.getMessage());
+            try {
+                if (session != null) {
+                    session.rollback();
+                }
+            } catch (JMSException ex) {
+                LOG.debug("Error rolling back session. This exception is ignored.", ex);
+            }
+            if (e instanceof JMSException) {
+                // the connection or session may be broken, so create new ones for the next batch
+                closeSession();
+            }
+            for (PendingMessage entry : batch) {
+                if (entry.exchange.getException() == null) {
+                    entry.exchange.setException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the transacted session, creating the connection and session if needed,
+     * must be called while holding the send lock.
+     */
+    private Session getSession() throws JMSException {
+        if (session == null) {
+            try {
+                if (connection == null) {
+                    connection = template.getConnectionFactory().createConnection();
+                }
+                session = connection.createSession(true, Session.SESSION_TRANSACTED);
+            } catch (JMSException e) {
+                closeSession();
+                throw e;
+            }
+        }
+        return session;
+    }
+
+    /**
+     * Closes the message producers, session and connection, must be called while holding the send lock.
+     */
+    private void closeSession() {
+        for (MessageProducer messageProducer : producers.values()) {
+            JmsUtils.closeMessageProducer(messageProducer);
+        }
+        producers.clear();
+        resolved.clear();
+        JmsUtils.closeSession(session);
+        session = null;
+        JmsUtils.closeConnection(connection);
+        connection = null;
+    }
+
+    private static final class PendingMessage {
+        private final Exchange exchange;
+        private final String destinationName;
+        private final Destination destination;
+        private final MessageCreator messageCreator;
+        private final MessageSentCallback messageSentCallback;
+
+        private PendingMessage(Exchange exchange, String destinationName, Destination destination,
+                               MessageCreator messageCreator, MessageSentCallback messageSentCallback) {
+            this.exchange = exchange;
+            this.destinationName = destinationName;
+            this.destination = destination;
+            this.messageCreator = messageCreator;
+            this.messageSentCallback = messageSentCallback;
+        }
+    }
+}
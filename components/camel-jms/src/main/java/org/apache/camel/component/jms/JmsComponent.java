@@ -955,6 +955,34 @@ public class JmsComponent extends HeaderFilterStrategyComponent {
         getConfiguration().setIncludeSentJMSMessageID(includeSentJMSMessageID);
     }
 
+    /**
+     * Only applicable when sending to JMS destination using InOnly (eg fire and forget).
+     * When set to a value higher than 1, the producer gathers up to this number of exchanges and sends
+     * their messages in a single transacted JMS session, which is committed once for the whole batch.
+     * The exchanges are completed after the commit. The messages are sent in their own local transaction,
+     * and not as part of any transaction the exchange may be part of.
+     */
+    @Metadata(label = "producer,advanced",
+            description = "Only applicable when sending to JMS destination using InOnly (eg fire and forget)."
+                    + " When set to a value higher than 1, the producer gathers up to this number of exchanges and sends"
+                    + " their messages in a single transacted JMS session, which is committed once for the whole batch."
+                    + " The exchanges are completed after the commit. The messages are sent in their own local transaction,"
+                    + " and not as part of any transaction the exchange may be part of.")
+    public void setProducerBatchSize(int producerBatchSize) {
+        getConfiguration().setProducerBatchSize(producerBatchSize);
+    }
+
+    /**
+     * The maximum time in millis to wait for a batch to fill up (see producerBatchSize),
+     * before sending the messages that has been gathered so far.
+     */
+    @Metadata(label = "producer,advanced", defaultValue = "1000",
+            description = "The maximum time in millis to wait for a batch to fill up (see producerBatchSize),"
+                    + " before sending the messages that has been gathered so far.")
+    public void setProducerBatchTimeout(long producerBatchTimeout) {
+        getConfiguration().setProducerBatchTimeout(producerBatchTimeout);
+    }
+
     /**
      * Whether to include all JMSXxxx properties when mapping from JMS to Camel Message.
      * Setting this to true will include properties such as JMSXAppID, and JMSXUserID etc.
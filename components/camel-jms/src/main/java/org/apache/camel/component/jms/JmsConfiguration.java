@@ -424,6 +424,17 @@ public class JmsConfiguration implements Cloneable {
                     + " Enabling this option will enrich the Camel Exchange with the actual JMSMessageID"
                     + " that was used by the JMS client when the message was sent to the JMS destination.")
     private boolean includeSentJMSMessageID;
+    @UriParam(label = "producer,advanced",
+            description = "Only applicable when sending to JMS destination using InOnly (eg fire and forget)."
+                    + " When set to a value higher than 1, the producer gathers up to this number of exchanges and sends"
+                    + " their messages in a single transacted JMS session, which is committed once for the whole batch."
+                    + " The exchanges are completed after the commit. The messages are sent in their own local transaction,"
+                    + " and not as part of any transaction the exchange may be part of.")
+    private int producerBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "1000",
+            description = "The maximum time in millis to wait for a batch to fill up (see producerBatchSize),"
+                    + " before sending the messages that has been gathered so far.")
+    private long producerBatchTimeout = 1000;
     @UriParam(label = "consumer,advanced",
             description = "Specifies what default TaskExecutor type to use in the DefaultMessageListenerContainer,"
                     + " for both consumer endpoints and the ReplyTo consumer of producer endpoints."
@@ -2048,6 +2059,33 @@ public class JmsConfiguration implements Cloneable {
         this.includeSentJMSMessageID = includeSentJMSMessageID;
     }
 
+    public int getProducerBatchSize() {
+        return producerBatchSize;
+    }
+
+    /**
+     * Only applicable when sending to JMS destination using InOnly (eg fire and forget).
+     * When set to a value higher than 1, the producer gathers up to this number of exchanges and sends
+     * their messages in a single transacted JMS session, which is committed once for the whole batch.
+     * The exchanges are completed after the commit. The messages are sent in their own local transaction,
+     * and not as part of any transaction the exchange may be part of.
+     */
+    public void setProducerBatchSize(int producerBatchSize) {
+        this.producerBatchSize = producerBatchSize;
+    }
+
+    public long getProducerBatchTimeout() {
+        return producerBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis to wait for a batch to fill up (see producerBatchSize),
+     * before sending the messages that has been gathered so far.
+     */
+    public void setProducerBatchTimeout(long producerBatchTimeout) {
+        this.producerBatchTimeout = producerBatchTimeout;
+    }
+
     public DefaultTaskExecutorType getDefaultTaskExecutorType() {
         return defaultTaskExecutorType;
     }
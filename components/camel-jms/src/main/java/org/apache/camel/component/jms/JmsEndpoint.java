@@ -1163,6 +1163,26 @@ public class JmsEndpoint extends DefaultEndpoint implements AsyncEndpoint, Heade
         configuration.setIncludeSentJMSMessageID(includeSentJMSMessageID);
     }
 
+    @ManagedAttribute
+    public int getProducerBatchSize() {
+        return configuration.getProducerBatchSize();
+    }
+
+    @ManagedAttribute
+    public void setProducerBatchSize(int producerBatchSize) {
+        configuration.setProducerBatchSize(producerBatchSize);
+    }
+
+    @ManagedAttribute
+    public long getProducerBatchTimeout() {
+        return configuration.getProducerBatchTimeout();
+    }
+
+    @ManagedAttribute
+    public void setProducerBatchTimeout(long producerBatchTimeout) {
+        configuration.setProducerBatchTimeout(producerBatchTimeout);
+    }
+
     @ManagedAttribute
     public boolean isIncludeAllJMSXProperties() {
         return configuration.isIncludeAllJMSXProperties();
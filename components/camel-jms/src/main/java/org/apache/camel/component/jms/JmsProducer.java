@@ -63,6 +63,7 @@ public class JmsProducer extends DefaultAsyncProducer {
     private JmsOperations inOutTemplate;
     private UuidGenerator uuidGenerator;
     private ReplyManager replyManager;
+    private JmsBatchSender batchSender;
 
     public JmsProducer(JmsEndpoint endpoint) {
         super(endpoint);
@@ -389,6 +390,11 @@ public class JmsProducer extends DefaultAsyncProducer {
             }
         };
 
+        if (batchSender != null) {
+            // the message is sent (and the exchange completed) together with the other messages in the batch
+            return batchSender.send(exchange, callback, destinationName, destination, messageCreator, messageSentCallback);
+        }
+
         doSend(false, destinationName, destination, messageCreator, messageSentCallback);
 
         // after sending then set the OUT message id to the JMSMessageID so its identical
@@ -553,10 +559,26 @@ public class JmsProducer extends DefaultAsyncProducer {
         if (endpoint.isTestConnectionOnStartup()) {
             testConnectionOnStartup();
         }
+        JmsConfiguration configuration = endpoint.getConfiguration();
+        if (configuration.getProducerBatchSize() > 1) {
+            JmsOperations template = getInOnlyTemplate();
+            if (template instanceof CamelJmsTemplate) {
+                batchSender = new JmsBatchSender(this, (CamelJmsTemplate) template,
+                        configuration.getProducerBatchSize(), configuration.getProducerBatchTimeout());
+                ServiceHelper.startService(batchSender);
+            } else {
+                LOG.warn("The option producerBatchSize is ignored as the configured JmsOperations {} is not a {}, so messages are sent one at a time",
+                        template, CamelJmsTemplate.class.getName());
+            }
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        // must stop the batch sender first to send the pending messages
+        ServiceHelper.stopService(batchSender);
+        batchSender = null;
+
         super.doStop();
 
         // must stop/un-init reply manager if it was in use
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+import org.springframework.jms.core.JmsTemplate;
+
+import static org.apache.camel.component.jms.JmsComponent.jmsComponentAutoAcknowledge;
+
+public class JmsProducerBatchTest extends CamelTestSupport {
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @Test
+    public void testBatchSize() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+        mock.expectsNoDuplicates(body());
+
+        List<Future<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(template.asyncSend("direct:start", exchange -> exchange.getIn().setBody("Message " + exchange.getExchangeId())));
+        }
+
+        for (Future<Exchange> future : futures) {
+            Exchange exchange = future.get();
+            assertNull(exchange.getException());
+            assertNotNull("Should have sent JMSMessageID", exchange.getIn().getHeader("JMSMessageID"));
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("A", "B", "C");
+
+        // not enough exchanges to fill the batch so they are sent when the timeout is triggered
+        Future<Object> a = template.asyncSendBody("direct:start", "A");
+        Future<Object> b = template.asyncSendBody("direct:start", "B");
+        Future<Object> c = template.asyncSendBody("direct:start", "C");
+
+        Thread.sleep(100);
+        assertFalse("Should wait for the batch timeout", a.isDone());
+        assertEquals(0, mock.getReceivedCounter());
+
+        a.get();
+        b.get();
+        c.get();
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchesReuseConnection() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(30);
+
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            futures.add(template.asyncSendBody("direct:start", "Message " + i));
+        }
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+
+        assertMockEndpointsSatisfied();
+        // the 3 batches are sent using the same connection
+        assertEquals(1, connections.get());
+    }
+
+    @Test
+    public void testCustomJmsOperations() throws Exception {
+        JmsEndpoint endpoint = context.getEndpoint("activemq:queue:custom?producerBatchSize=10", JmsEndpoint.class);
+        endpoint.getConfiguration().setJmsOperations(new JmsTemplate(CamelJmsTestHelper.createConnectionFactory()));
+
+        // batching is not supported with a custom JmsOperations, and the producer should still start
+        JmsProducer producer = (JmsProducer) endpoint.createProducer();
+        ServiceHelper.startService(producer);
+        assertTrue(producer.isStarted());
+        ServiceHelper.stopService(producer);
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+
+        ConnectionFactory connectionFactory = CamelJmsTestHelper.createConnectionFactory();
+        camelContext.addComponent("activemq", jmsComponentAutoAcknowledge(connectionFactory));
+        camelContext.addComponent("batch", jmsComponentAutoAcknowledge(new CountingConnectionFactory(connectionFactory)));
+
+        return camelContext;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .to("batch:queue:batch?producerBatchSize=10&producerBatchTimeout=1000&includeSentJMSMessageID=true");
+
+                from("activemq:queue:batch").to("mock:result");
+            }
+        };
+    }
+
+    private final class CountingConnectionFactory implements ConnectionFactory {
+        private final ConnectionFactory delegate;
+
+        private CountingConnectionFactory(ConnectionFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Connection createConnection() throws JMSException {
+            connections.incrementAndGet();
+            return delegate.createConnection();
+        }
+
+        @Override
+        public Connection createConnection(String userName, String password) throws JMSException {
+            connections.incrementAndGet();
+            return delegate.createConnection(userName, password);
+        }
+
+        @Override
+        public JMSContext createContext() {
+            return delegate.createContext();
+        }
+
+        @Override
+        public JMSContext createContext(String userName, String password) {
+            return delegate.createContext(userName, password);
+        }
+
+        @Override
+        public JMSContext createContext(String userName, String password, int sessionMode) {
+            return delegate.createContext(userName, password, sessionMode);
+        }
+
+        @Override
+        public JMSContext createContext(int sessionMode) {
+            return delegate.createContext(sessionMode);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms.tuning;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import javax.jms.ConnectionFactory;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.jms.CamelJmsTestHelper;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import static org.apache.camel.component.jms.JmsComponent.jmsComponentAutoAcknowledge;
+
+@Ignore
+public class PerformanceProducerBatchTest extends CamelTestSupport {
+
+    private int size = 10000;
+
+    @Test
+    public void testPerformance() throws Exception {
+        doSendMessages("direct:single");
+        doSendMessages("direct:batch");
+    }
+
+    private void doSendMessages(String uri) throws Exception {
+        getMockEndpoint("mock:result").reset();
+        getMockEndpoint("mock:result").expectedMessageCount(size);
+
+        long start = System.currentTimeMillis();
+
+        List<Future<Object>> futures = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            futures.add(template.asyncSendBody(uri, "Message " + i));
+        }
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+        long sent = System.currentTimeMillis() - start;
+
+        assertMockEndpointsSatisfied();
+
+        long delta = System.currentTimeMillis() - start;
+        log.info("PerformanceProducerBatchTest: " + uri + " Sent: " + size + " Took: " + sent + " ms, received after: " + delta + " ms");
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+
+        ConnectionFactory connectionFactory = CamelJmsTestHelper.createPersistentConnectionFactory();
+        camelContext.addComponent("activemq", jmsComponentAutoAcknowledge(connectionFactory));
+
+        return camelContext;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:single").to("activemq:queue:perf");
+
+                from("direct:batch").to("activemq:queue:perf?producerBatchSize=100&producerBatchTimeout=100");
+
+                from("activemq:queue:perf?concurrentConsumers=5").to("mock:result");
+            }
+        };
+    }
+}
@@ -16,24 +16,33 @@
  */
 package org.apache.camel.jsonpath;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.spi.json.JsonProvider;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
+import org.apache.camel.StreamCache;
 import org.apache.camel.component.file.GenericFile;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,12 +56,17 @@ public class JsonPathEngine {
 
     private static final String JACKSON_JSON_ADAPTER = "org.apache.camel.jsonpath.jackson.JacksonJsonAdapter";
 
+    // the parsed documents are shared by the expressions evaluated on the same message body, and are only kept
+    // as long as the message body is in use (the documents do not refer to the message body)
+    private static final Map<Object, CachedDocument> DOCUMENTS = Collections.synchronizedMap(new WeakHashMap<>());
+
     private static final Pattern SIMPLE_PATTERN = Pattern.compile("\\$\\{[^\\}]+\\}", Pattern.MULTILINE);
     private final String expression;
     private final boolean writeAsString;
     private final String headerName;
     private final JsonPath path;
     private final Configuration configuration;
+    private final JsonPathStreamingReader streamingReader;
     private JsonPathAdapter adapter;
     private volatile boolean initJsonAdapter;
 
@@ -63,6 +77,11 @@ public class JsonPathEngine {
 
     public JsonPathEngine(String expression, boolean writeAsString, boolean suppressExceptions, boolean allowSimple,
                           String headerName, Option[] options) {
+        this(expression, writeAsString, suppressExceptions, allowSimple, false, headerName, options);
+    }
+
+    public JsonPathEngine(String expression, boolean writeAsString, boolean suppressExceptions, boolean allowSimple,
+                          boolean streaming, String headerName, Option[] options) {
         this.expression = expression;
         this.writeAsString = writeAsString;
         this.headerName = headerName;
@@ -90,6 +109,17 @@ public class JsonPathEngine {
             this.path = JsonPath.compile(expression);
             LOG.debug("Compiled static JsonPath: {}", expression);
         }
+
+        // streaming is only used for definite paths where the value is returned as-is
+        boolean plain = options == null || options.length == 0;
+        if (streaming && path != null && plain) {
+            this.streamingReader = JsonPathStreamingReader.compile(expression);
+            if (streamingReader == null) {
+                LOG.debug("JsonPath: {} is not a definite path and cannot be read in streaming mode", expression);
+            }
+        } else {
+            this.streamingReader = null;
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -113,8 +143,8 @@ public class JsonPathEngine {
 
             if (adapter == null) {
                 LOG.debug("Cannot writeAsString as adapter cannot be initialized");
-                // return as-is as there is no adapter
-                return answer;
+                // return as-is as there is no adapter, but as a copy as it may be part of a shared document
+                return copy(answer);
             }
 
             // write each row as a string but keep it as a list/iterable
@@ -131,7 +161,8 @@ public class JsonPathEngine {
                 }
                 return list;
             } else if (answer instanceof Map) {
-                Map map = (Map) answer;
+                // use a copy as the map may be part of the cached document
+                Map map = new LinkedHashMap((Map) answer);
                 for (Object key : map.keySet()) {
                     Object value = map.get(key);
                     if (adapter != null) {
@@ -156,23 +187,7 @@ public class JsonPathEngine {
     private Object doRead(JsonPath path, Exchange exchange) throws IOException, CamelExchangeException {
         Object json = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
 
-        if (json instanceof InputStream) {
-            return readWithInputStream(path, exchange);
-        } else if (json instanceof GenericFile) {
-            LOG.trace("JSonPath: {} is read as generic file: {}", path, json);
-            GenericFile<?> genericFile = (GenericFile<?>) json;
-            if (genericFile.getCharset() != null) {
-                // special treatment for generic file with charset
-                InputStream inputStream = new FileInputStream((File) genericFile.getFile());
-                return path.read(inputStream, genericFile.getCharset(), configuration);
-            }
-        }
-
-        if (json instanceof String) {
-            LOG.trace("JSonPath: {} is read as String: {}", path, json);
-            String str = (String) json;
-            return path.read(str, configuration);
-        } else if (json instanceof Map) {
+        if (json instanceof Map) {
             LOG.trace("JSonPath: {} is read as Map: {}", path, json);
             Map map = (Map) json;
             return path.read(map, configuration);
@@ -180,17 +195,33 @@ public class JsonPathEngine {
             LOG.trace("JSonPath: {} is read as List: {}", path, json);
             List list = (List) json;
             return path.read(list, configuration);
-        } else {
-            // can we find an adapter which can read the message body/header
-            Object answer = readWithAdapter(path, exchange);
-            if (answer == null) {
-                // fallback and attempt input stream for any other types
-                answer = readWithInputStream(path, exchange);
+        } else if (json instanceof String && ((String) json).isEmpty()) {
+            // let json path report the empty json
+            return path.read((String) json, configuration);
+        }
+
+        Object document = getCachedDocument(json);
+        if (document == null) {
+            if (streamingReader != null && path == this.path) {
+                String value = readStreaming(json, exchange);
+                if (value != null) {
+                    return configuration.jsonProvider().parse(value);
+                }
             }
-            if (answer != null) {
-                return answer;
+
+            document = parseDocument(path, json, exchange);
+            if (document != null && !(document instanceof AdaptedDocument)) {
+                DOCUMENTS.put(json, new CachedDocument(configuration.jsonProvider().getClass(), document));
             }
         }
+        if (document instanceof AdaptedDocument) {
+            return path.read(((AdaptedDocument) document).map, configuration);
+        }
+        if (document != null) {
+            Object answer = path.read(document, configuration);
+            // the document is shared, so return a copy unless the result is written as strings
+            return writeAsString ? answer : copy(answer);
+        }
 
         // is json path configured to suppress exceptions
         if (configuration.getOptions().contains(SUPPRESS_EXCEPTIONS)) {
@@ -209,29 +240,94 @@ public class JsonPathEngine {
         }
     }
 
-    private Object readWithInputStream(JsonPath path, Exchange exchange) throws IOException {
-        Object json = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
+    private Object getCachedDocument(Object json) {
+        CachedDocument cached = DOCUMENTS.get(json);
+        // the document is only valid for the same json provider
+        if (cached != null && cached.provider == configuration.jsonProvider().getClass()) {
+            LOG.trace("JSonPath: {} is read from cached document", expression);
+            return cached.document;
+        }
+        return null;
+    }
+
+    /**
+     * Copies the maps and arrays of the value, so the value can be changed without changing the shared document.
+     */
+    private Object copy(Object value) {
+        JsonProvider provider = configuration.jsonProvider();
+        if (provider.isMap(value)) {
+            Object answer = provider.createMap();
+            for (String key : provider.getPropertyKeys(value)) {
+                provider.setProperty(answer, key, copy(provider.getMapValue(value, key)));
+            }
+            return answer;
+        } else if (provider.isArray(value)) {
+            Object answer = provider.createArray();
+            int length = provider.length(value);
+            for (int i = 0; i < length; i++) {
+                provider.setArrayIndex(answer, i, copy(provider.getArrayIndex(value, i)));
+            }
+            return answer;
+        }
+        return value;
+    }
+
+    private Object parseDocument(JsonPath path, Object json, Exchange exchange) throws IOException {
+        if (json instanceof InputStream) {
+            return readWithInputStream(path, json, exchange);
+        } else if (json instanceof GenericFile) {
+            LOG.trace("JSonPath: {} is read as generic file: {}", path, json);
+            GenericFile<?> genericFile = (GenericFile<?>) json;
+            if (genericFile.getCharset() != null) {
+                // special treatment for generic file with charset
+                InputStream inputStream = new FileInputStream((File) genericFile.getFile());
+                try {
+                    return configuration.jsonProvider().parse(inputStream, genericFile.getCharset());
+                } finally {
+                    IOHelper.close(inputStream);
+                }
+            }
+        }
+
+        if (json instanceof String) {
+            LOG.trace("JSonPath: {} is read as String: {}", path, json);
+            return configuration.jsonProvider().parse((String) json);
+        } else {
+            // can we find an adapter which can read the message body/header
+            Object answer = readWithAdapter(path, json, exchange);
+            if (answer == null) {
+                // fallback and attempt input stream for any other types
+                answer = readWithInputStream(path, json, exchange);
+            }
+            return answer;
+        }
+    }
+
+    private Object readWithInputStream(JsonPath path, Object json, Exchange exchange) throws IOException {
         LOG.trace("JSonPath: {} is read as InputStream: {}", path, json);
 
         InputStream is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, json);
         if (is != null) {
-            String jsonEncoding = exchange.getIn().getHeader(JsonPathConstants.HEADER_JSON_ENCODING, String.class);
-            if (jsonEncoding != null) {
-                // json encoding specified in header
-                return path.read(is, jsonEncoding, configuration);
-            } else {
-                // No json encoding specified --> assume json encoding is unicode and determine the specific unicode encoding according to RFC-4627.
-                // This is a temporary solution, it can be removed as soon as jsonpath offers the encoding detection
-                JsonStream jsonStream = new JsonStream(is);
-                return path.read(jsonStream, jsonStream.getEncoding().name(), configuration);
+            try {
+                String jsonEncoding = exchange.getIn().getHeader(JsonPathConstants.HEADER_JSON_ENCODING, String.class);
+                if (jsonEncoding != null) {
+                    // json encoding specified in header
+                    return configuration.jsonProvider().parse(is, jsonEncoding);
+                } else {
+                    // No json encoding specified --> assume json encoding is unicode and determine the specific unicode encoding according to RFC-4627.
+                    // This is a temporary solution, it can be removed as soon as jsonpath offers the encoding detection
+                    JsonStream jsonStream = new JsonStream(is);
+                    return configuration.jsonProvider().parse(jsonStream, jsonStream.getEncoding().name());
+                }
+            } finally {
+                IOHelper.close(is);
             }
         }
 
         return null;
     }
 
-    private Object readWithAdapter(JsonPath path, Exchange exchange) {
-        Object json = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
+    private Object readWithAdapter(JsonPath path, Object json, Exchange exchange) {
         LOG.trace("JSonPath: {} is read with adapter: {}", path, json);
 
         doInitAdapter(exchange);
@@ -243,13 +339,65 @@ public class JsonPathEngine {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("JacksonJsonAdapter converted object from: {} to: java.util.Map", ObjectHelper.classCanonicalName(json));
                 }
-                return path.read(map, configuration);
+                // the pojo may be changed so the converted map is not cached
+                return new AdaptedDocument(map);
             }
         }
 
         return null;
     }
 
+    /**
+     * Reads the value of the definite path by scanning the json, which is only done for the message
+     * bodies/headers that can be read again, in case the value is not found and the document must be parsed.
+     *
+     * @return the value as json text, or <tt>null</tt> if not found or the json cannot be read in streaming mode
+     */
+    private String readStreaming(Object json, Exchange exchange) throws IOException {
+        if (json instanceof String) {
+            LOG.trace("JSonPath: {} is read in streaming mode as String", expression);
+            return streamingReader.read(new StringReader((String) json));
+        }
+
+        InputStream is = null;
+        String charset = exchange.getIn().getHeader(JsonPathConstants.HEADER_JSON_ENCODING, String.class);
+        if (json instanceof StreamCache && json instanceof InputStream) {
+            is = (InputStream) json;
+        } else if (json instanceof byte[]) {
+            is = new ByteArrayInputStream((byte[]) json);
+        } else if (json instanceof GenericFile && ((GenericFile<?>) json).getFile() instanceof File) {
+            GenericFile<?> genericFile = (GenericFile<?>) json;
+            is = new FileInputStream((File) genericFile.getFile());
+            if (genericFile.getCharset() != null) {
+                charset = genericFile.getCharset();
+            }
+        } else if (json instanceof File) {
+            is = new FileInputStream((File) json);
+        }
+        if (is == null) {
+            return null;
+        }
+
+        LOG.trace("JSonPath: {} is read in streaming mode as InputStream: {}", expression, json);
+        try {
+            Reader reader;
+            if (charset != null) {
+                reader = new InputStreamReader(is, charset);
+            } else {
+                JsonStream jsonStream = new JsonStream(is);
+                reader = new InputStreamReader(jsonStream, jsonStream.getEncoding());
+            }
+            return streamingReader.read(reader);
+        } finally {
+            if (json instanceof StreamCache) {
+                // so the stream can be read again
+                ((StreamCache) json).reset();
+            } else {
+                IOHelper.close(is);
+            }
+        }
+    }
+
     private void doInitAdapter(Exchange exchange) {
         if (!initJsonAdapter) {
             try {
@@ -271,4 +419,22 @@ public class JsonPathEngine {
             initJsonAdapter = true;
         }
     }
+
+    private static final class CachedDocument {
+        private final Class<?> provider;
+        private final Object document;
+
+        private CachedDocument(Class<?> provider, Object document) {
+            this.provider = provider;
+            this.document = document;
+        }
+    }
+
+    private static final class AdaptedDocument {
+        private final Map map;
+
+        private AdaptedDocument(Map map) {
+            this.map = map;
+        }
+    }
 }
@@ -43,6 +43,7 @@ public class JsonPathExpression extends ExpressionAdapter implements AfterProper
     private boolean allowSimple = true;
     private boolean allowEasyPredicate = true;
     private boolean writeAsString;
+    private boolean streaming;
     private String headerName;
     private Option[] options;
 
@@ -117,6 +118,18 @@ public class JsonPathExpression extends ExpressionAdapter implements AfterProper
         this.writeAsString = writeAsString;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether to read definite paths such as <tt>$.store.book[0].title</tt> by scanning the json
+     * and only parsing the value, instead of parsing the whole json document.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public String getHeaderName() {
         return headerName;
     }
@@ -180,7 +193,7 @@ public class JsonPathExpression extends ExpressionAdapter implements AfterProper
 
         LOG.debug("Initializing {} using: {}", predicate ? "predicate" : "expression", exp);
         try {
-            engine = new JsonPathEngine(exp, writeAsString, suppressExceptions, allowSimple, headerName, options);
+            engine = new JsonPathEngine(exp, writeAsString, suppressExceptions, allowSimple, streaming, headerName, options);
         } catch (Exception e) {
             throw new ExpressionIllegalSyntaxException(exp, e);
         }
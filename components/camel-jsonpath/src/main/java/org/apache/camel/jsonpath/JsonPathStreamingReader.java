@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the value of a definite JsonPath such as <tt>$.store.book[0].title</tt> by scanning the JSON tokens,
+ * without building the document. Only the value itself is captured as JSON text to be parsed by the configured
+ * json provider. The rest of the enclosing objects are still scanned, as when a property name is duplicated then
+ * the last value is used, the same as when the document is parsed by the json providers.
+ * <p/>
+ * Only paths with property names and array indexes are supported.
+ * <p>
+ * This class is thread safe, as the scanning state is kept per read.
+ */
+public final class JsonPathStreamingReader {
+
+    private static final Pattern SEGMENT = Pattern.compile(
+        "\\.([A-Za-z_][A-Za-z0-9_\\-]*)|\\['([^'\\\\]*)'\\]|\\[\"([^\"\\\\]*)\"\\]|\\[(\\d+)\\]");
+
+    // property names are String and array indexes are Integer
+    private final Object[] segments;
+
+    private JsonPathStreamingReader(Object[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Creates a reader for the given JsonPath expression.
+     *
+     * @return the reader, or <tt>null</tt> if the expression is not a definite path supported by streaming
+     */
+    public static JsonPathStreamingReader compile(String expression) {
+        if (expression == null || !expression.startsWith("$")) {
+            return null;
+        }
+        List<Object> answer = new ArrayList<>();
+        Matcher matcher = SEGMENT.matcher(expression);
+        int index = 1;
+        while (index < expression.length()) {
+            matcher.region(index, expression.length());
+            if (!matcher.lookingAt()) {
+                return null;
+            }
+            if (matcher.group(4) != null) {
+                try {
+                    answer.add(Integer.valueOf(matcher.group(4)));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            } else {
+                String name = matcher.group(1) != null ? matcher.group(1)
+                    : matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+                answer.add(name);
+            }
+            index = matcher.end();
+        }
+        return answer.isEmpty() ? null : new JsonPathStreamingReader(answer.toArray());
+    }
+
+    /**
+     * Reads the value of the path.
+     *
+     * @param reader the JSON to read, which is not closed
+     * @return the value as JSON text, or <tt>null</tt> if the path was not found or the JSON is not as expected
+     */
+    public String read(Reader reader) throws IOException {
+        Scanner scanner = new Scanner(reader);
+        try {
+            return scanner.navigate(segments, 0);
+        } catch (MalformedException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JsonPathStreamingReader" + Arrays.toString(segments);
+    }
+
+    /**
+     * Signals JSON which is not as expected, which is left to the json provider to report.
+     */
+    private static final class MalformedException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        MalformedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class Scanner {
+        private final Reader reader;
+        private final char[] buffer = new char[8192];
+        private int position;
+        private int limit;
+
+        Scanner(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Navigates the value at the current position, which is read fully.
+         */
+        String navigate(Object[] segments, int index) throws IOException, MalformedException {
+            int c = nextToken();
+            if (index == segments.length) {
+                StringBuilder sb = new StringBuilder();
+                value(sb, c);
+                return sb.toString();
+            }
+            Object segment = segments[index];
+            if (segment instanceof String) {
+                if (c != '{') {
+                    value(null, c);
+                    return null;
+                }
+                String answer = null;
+                c = nextToken();
+                if (c == '}') {
+                    return null;
+                }
+                while (true) {
+                    if (c != '"') {
+                        throw new MalformedException();
+                    }
+                    String key = key();
+                    if (nextToken() != ':') {
+                        throw new MalformedException();
+                    }
+                    if (segment.equals(key)) {
+                        // continue reading as the last value of a duplicated property name is used
+                        answer = navigate(segments, index + 1);
+                    } else {
+                        value(null, nextToken());
+                    }
+                    c = nextToken();
+                    if (c == '}') {
+                        return answer;
+                    } else if (c != ',') {
+                        throw new MalformedException();
+                    }
+                    c = nextToken();
+                }
+            } else {
+                if (c != '[') {
+                    value(null, c);
+                    return null;
+                }
+                String answer = null;
+                int target = (Integer) segment;
+                if (peekToken() == ']') {
+                    nextToken();
+                    return null;
+                }
+                for (int i = 0;; i++) {
+                    if (i == target) {
+                        answer = navigate(segments, index + 1);
+                    } else {
+                        value(null, nextToken());
+                    }
+                    c = nextToken();
+                    if (c == ']') {
+                        return answer;
+                    } else if (c != ',') {
+                        throw new MalformedException();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Reads the value starting with the given token, appending its JSON text to the builder unless it is <tt>null</tt>.
+         */
+        void value(StringBuilder sb, int c) throws IOException, MalformedException {
+            if (c == '{' || c == '[') {
+                int depth = 0;
+                while (true) {
+                    append(sb, c);
+                    if (c == '"') {
+                        string(sb);
+                    } else if (c == '{' || c == '[') {
+                        depth++;
+                    } else if (c == '}' || c == ']') {
+                        if (--depth == 0) {
+                            return;
+                        }
+                    }
+                    c = read();
+                    if (c == -1) {
+                        throw new MalformedException();
+                    }
+                }
+            } else if (c == '"') {
+                append(sb, c);
+                string(sb);
+            } else if (c == -1 || c == ',' || c == '}' || c == ']' || c == ':') {
+                throw new MalformedException();
+            } else {
+                // a literal such as a number, true, false or null
+                while (c != -1 && c != ',' && c != '}' && c != ']' && !Character.isWhitespace(c)) {
+                    append(sb, c);
+                    c = read();
+                }
+                if (c != -1) {
+                    position--;
+                }
+            }
+        }
+
+        /**
+         * Reads the rest of a string after the opening quote including the closing quote.
+         */
+        private void string(StringBuilder sb) throws IOException, MalformedException {
+            while (true) {
+                int c = read();
+                if (c == -1) {
+                    throw new MalformedException();
+                }
+                append(sb, c);
+                if (c == '\\') {
+                    c = read();
+                    if (c == -1) {
+                        throw new MalformedException();
+                    }
+                    append(sb, c);
+                } else if (c == '"') {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Reads an object key after the opening quote and decodes its escapes.
+         */
+        private String key() throws IOException, MalformedException {
+            StringBuilder sb = new StringBuilder();
+            while (true) {
+                int c = read();
+                if (c == -1) {
+                    throw new MalformedException();
+                } else if (c == '"') {
+                    return sb.toString();
+                } else if (c == '\\') {
+                    c = read();
+                    switch (c) {
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'u':
+                        int code = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(read(), 16);
+                            if (digit < 0) {
+                                throw new MalformedException();
+                            }
+                            code = code * 16 + digit;
+                        }
+                        sb.append((char) code);
+                        break;
+                    case -1: throw new MalformedException();
+                    default: sb.append((char) c);
+                    }
+                } else {
+                    sb.append((char) c);
+                }
+            }
+        }
+
+        private static void append(StringBuilder sb, int c) {
+            if (sb != null) {
+                sb.append((char) c);
+            }
+        }
+
+        private int nextToken() throws IOException {
+            int c = read();
+            while (c != -1 && Character.isWhitespace(c)) {
+                c = read();
+            }
+            return c;
+        }
+
+        private int peekToken() throws IOException {
+            int c = nextToken();
+            if (c != -1) {
+                position--;
+            }
+            return c;
+        }
+
+        private int read() throws IOException {
+            if (position == limit) {
+                int n = reader.read(buffer, 0, buffer.length);
+                if (n <= 0) {
+                    return -1;
+                }
+                position = 0;
+                limit = n;
+            }
+            return buffer[position++];
+        }
+    }
+}
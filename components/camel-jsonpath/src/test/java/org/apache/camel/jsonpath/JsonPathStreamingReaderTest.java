@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class JsonPathStreamingReaderTest {
+
+    private static final String JSON = "{\"store\": {\"name\": \"a \\\"quoted\\\" {store}\", \"book\": ["
+        + "{\"title\": \"Sayings\", \"tags\": [\"a\", [\"b\"], {\"c\": \"]\"}]},"
+        + "{\"title\": \"Sword\", \"price\": 12.99, \"isbn\": null, \"new\\nline\": true}"
+        + "], \"bicycle\": {\"color\": \"red\", \"price\": 19.95}}}";
+
+    @Test
+    public void testCompile() {
+        assertNotNull(JsonPathStreamingReader.compile("$.store.book[0].title"));
+        assertNotNull(JsonPathStreamingReader.compile("$['store'][\"book\"][1]"));
+        assertNull(JsonPathStreamingReader.compile("$"));
+        assertNull(JsonPathStreamingReader.compile("$.store.book[*].title"));
+        assertNull(JsonPathStreamingReader.compile("$..title"));
+        assertNull(JsonPathStreamingReader.compile("$.store.book[?(@.price < 10)]"));
+        assertNull(JsonPathStreamingReader.compile("$.store.book[0,1]"));
+        assertNull(JsonPathStreamingReader.compile("store.book"));
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        assertEquals("\"Sayings\"", read("$.store.book[0].title"));
+        assertEquals("\"Sword\"", read("$.store.book[1].title"));
+        assertEquals("12.99", read("$.store.book[1].price"));
+        assertEquals("null", read("$.store.book[1].isbn"));
+        assertEquals("true", read("$.store.book[1]['new\nline']"));
+        assertEquals("19.95", read("$['store']['bicycle']['price']"));
+        assertEquals("\"a \\\"quoted\\\" {store}\"", read("$.store.name"));
+        assertEquals("[\"a\", [\"b\"], {\"c\": \"]\"}]", read("$.store.book[0].tags"));
+        assertEquals("{\"c\": \"]\"}", read("$.store.book[0].tags[2]"));
+        assertEquals("{\"color\": \"red\", \"price\": 19.95}", read("$.store.bicycle"));
+    }
+
+    @Test
+    public void testNotFound() throws Exception {
+        assertNull(read("$.store.book[2].title"));
+        assertNull(read("$.store.book[0].price"));
+        assertNull(read("$.store.bicycle[0]"));
+        assertNull(read("$.store.book.title"));
+        assertNull(read("$.store.name.first"));
+        assertNull(JsonPathStreamingReader.compile("$.store.book[0]").read(new StringReader("{\"store\": {\"book\": [")));
+        assertNull(JsonPathStreamingReader.compile("$.store").read(new StringReader("[]")));
+    }
+
+    @Test
+    public void testDuplicateKeyUsesLastValue() throws Exception {
+        // the same as the json providers, which keeps the last value of a duplicated property name
+        String json = "{\"a\": 1, \"b\": {\"c\": 2}, \"list\": [{\"a\": 5, \"a\": 6}], \"a\": 3, \"b\": {\"d\": 4}}";
+        assertEquals("3", JsonPathStreamingReader.compile("$.a").read(new StringReader(json)));
+        assertEquals("4", JsonPathStreamingReader.compile("$.b.d").read(new StringReader(json)));
+        assertNull(JsonPathStreamingReader.compile("$.b.c").read(new StringReader(json)));
+        assertEquals("6", JsonPathStreamingReader.compile("$.list[0].a").read(new StringReader(json)));
+    }
+
+    private static String read(String path) throws Exception {
+        return JsonPathStreamingReader.compile(path).read(new StringReader(JSON));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.model.language.JsonPathExpression;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JsonPathStreamingTest extends CamelTestSupport {
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:title")
+                    .transform(streaming("$.store.book[1].title"))
+                    .to("mock:title");
+
+                from("direct:bicycle")
+                    .transform(streaming("$.store.bicycle"))
+                    .to("mock:bicycle");
+
+                JsonPathExpression missing = streaming("$.store.book[5].title");
+                missing.setSuppressExceptions("true");
+                from("direct:missing")
+                    .transform(missing)
+                    .to("mock:missing");
+
+                // the document is parsed once and shared by the predicates, which works with a plain input stream
+                from("direct:choice")
+                    .choice()
+                        .when().jsonpath("$.store.book[?(@.price < 5)]")
+                            .to("mock:cheap")
+                        .when().jsonpath("$.store.book[?(@.price < 10)]")
+                            .to("mock:average")
+                        .otherwise()
+                            .to("mock:expensive");
+
+                from("direct:copy")
+                    .setHeader("first").jsonpath("$.store.bicycle")
+                    .process(exchange -> exchange.getIn().getHeader("first", Map.class).put("color", "blue"))
+                    .setHeader("second").jsonpath("$.store.bicycle")
+                    .to("mock:copy");
+            }
+        };
+    }
+
+    private static JsonPathExpression streaming(String path) {
+        JsonPathExpression answer = new JsonPathExpression(path);
+        answer.setStreaming("true");
+        return answer;
+    }
+
+    @Test
+    public void testStreamingTitle() throws Exception {
+        getMockEndpoint("mock:title").expectedBodiesReceived("Sword of Honour", "Sword of Honour");
+
+        template.sendBody("direct:title", new File("src/test/resources/books.json"));
+        template.sendBody("direct:title", context.getTypeConverter().convertTo(String.class, new File("src/test/resources/books.json")));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStreamingObject() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:bicycle");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:bicycle", new File("src/test/resources/books.json"));
+
+        assertMockEndpointsSatisfied();
+        Map<?, ?> bicycle = mock.getReceivedExchanges().get(0).getIn().getBody(Map.class);
+        assertEquals("red", bicycle.get("color"));
+        assertEquals(19.95, bicycle.get("price"));
+    }
+
+    @Test
+    public void testStreamingMissing() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:missing");
+        mock.expectedMessageCount(1);
+        mock.message(0).body().isNull();
+
+        template.sendBody("direct:missing", new File("src/test/resources/books.json"));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testDocumentSharedByPredicates() throws Exception {
+        getMockEndpoint("mock:cheap").expectedMessageCount(0);
+        getMockEndpoint("mock:average").expectedMessageCount(1);
+        getMockEndpoint("mock:expensive").expectedMessageCount(0);
+
+        try (FileInputStream fis = new FileInputStream("src/test/resources/books.json")) {
+            template.sendBody("direct:choice", fis);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSharedDocumentResultIsCopy() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:copy");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:copy", context.getTypeConverter().convertTo(String.class, new File("src/test/resources/books.json")));
+
+        assertMockEndpointsSatisfied();
+        Exchange exchange = mock.getReceivedExchanges().get(0);
+        assertEquals("blue", exchange.getIn().getHeader("first", Map.class).get("color"));
+        // the change to the first result is not seen by the second expression reading the same document
+        assertEquals("red", exchange.getIn().getHeader("second", Map.class).get("color"));
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.support.BinaryExchangeCodec;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultExchangeHolder;
 import org.fusesource.hawtbuf.Buffer;
@@ -31,10 +32,24 @@ import org.fusesource.hawtbuf.codec.Codec;
 import org.fusesource.hawtbuf.codec.ObjectCodec;
 import org.fusesource.hawtbuf.codec.StringCodec;
 
+/**
+ * Encodes the keys and exchanges stored in LevelDB.
+ * <p/>
+ * The exchanges are encoded using {@link BinaryExchangeCodec}. Exchanges which was persisted using Java serialization
+ * by older versions can still be decoded.
+ */
 public final class LevelDBCamelCodec {
 
     private Codec<String> keyCodec = new StringCodec();
-    private Codec<DefaultExchangeHolder> exchangeCodec = new ObjectCodec<>();
+    private final BinaryExchangeCodec exchangeCodec = new BinaryExchangeCodec();
+    private Codec<DefaultExchangeHolder> serializedExchangeCodec = new ObjectCodec<>();
+
+    /**
+     * The codec used to encode the exchanges, which can be used to add codecs for custom types.
+     */
+    public BinaryExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
 
     public Buffer marshallKey(String key) throws IOException {
         DataByteArrayOutputStream baos = new DataByteArrayOutputStream();
@@ -71,7 +86,17 @@ public final class LevelDBCamelCodec {
 
     public Exchange unmarshallExchange(CamelContext camelContext, Buffer buffer) throws IOException {
         DataByteArrayInputStream bais = new DataByteArrayInputStream(buffer);
-        DefaultExchangeHolder pe = exchangeCodec.decode(bais);
+        DefaultExchangeHolder pe;
+        if (buffer.length() > 0 && buffer.get(0) == BinaryExchangeCodec.MAGIC) {
+            try {
+                pe = exchangeCodec.decode(camelContext, bais);
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Cannot decode exchange due " + e.getMessage(), e);
+            }
+        } else {
+            // the exchange was persisted using Java serialization
+            pe = serializedExchangeCodec.decode(bais);
+        }
         Exchange answer = new DefaultExchange(camelContext);
         DefaultExchangeHolder.unmarshal(answer, pe);
         // restore the from endpoint
@@ -20,8 +20,13 @@ import java.io.File;
 import java.util.Date;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeCodec;
 import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
 import org.apache.camel.test.junit4.CamelTestSupport;
+import org.fusesource.hawtbuf.Buffer;
+import org.fusesource.hawtbuf.DataByteArrayOutputStream;
+import org.fusesource.hawtbuf.codec.ObjectCodec;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -92,4 +97,24 @@ public class LevelDBExchangeSerializationTest extends CamelTestSupport {
         assertSame(context, actual.getContext());
     }
 
+
+    @Test
+    public void testJavaSerializedExchange() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("name", "Olivier");
+
+        // exchanges persisted by older versions using Java serialization
+        DataByteArrayOutputStream baos = new DataByteArrayOutputStream();
+        new ObjectCodec<DefaultExchangeHolder>().encode(DefaultExchangeHolder.marshal(exchange, false), baos);
+
+        LevelDBCamelCodec codec = new LevelDBCamelCodec();
+        Exchange actual = codec.unmarshallExchange(context, baos.toBuffer());
+        assertEquals("Hello World", actual.getIn().getBody());
+        assertEquals("Olivier", actual.getIn().getHeader("name"));
+
+        Buffer buffer = codec.marshallExchange(context, exchange, false);
+        assertTrue(BinaryExchangeCodec.isEncoded(buffer.toByteArray()));
+        assertEquals("Hello World", codec.unmarshallExchange(context, buffer).getIn().getBody());
+    }
 }
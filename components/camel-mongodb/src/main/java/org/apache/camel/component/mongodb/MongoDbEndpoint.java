@@ -92,6 +92,10 @@ public class MongoDbEndpoint extends DefaultEndpoint {
     private String readPreference = "PRIMARY";
     @UriParam(label = "advanced")
     private boolean writeResultAsHeader;
+    @UriParam(label = "producer,advanced")
+    private int insertBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "1000")
+    private long insertBatchTimeout = 1000L;
     @UriParam(label = "consumer")
     private String consumerType;
     @UriParam(label = "advanced", defaultValue = "1000")
@@ -611,6 +615,35 @@ public class MongoDbEndpoint extends DefaultEndpoint {
         this.writeResultAsHeader = writeResultAsHeader;
     }
 
+    public int getInsertBatchSize() {
+        return insertBatchSize;
+    }
+
+    /**
+     * The number of exchanges of the insert operation with a single document to gather and insert
+     * together using insertMany. Each exchange is completed when its document has been inserted, or
+     * failed with the write error of its document. The default value of 0 turns batching off.
+     *
+     * @param insertBatchSize the maximum number of documents to insert together
+     */
+    public void setInsertBatchSize(int insertBatchSize) {
+        this.insertBatchSize = insertBatchSize;
+    }
+
+    public long getInsertBatchTimeout() {
+        return insertBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis to wait for a batch of documents to be full before the gathered
+     * documents are inserted. Default value is 1000ms.
+     *
+     * @param insertBatchTimeout timeout specified in milliseconds
+     */
+    public void setInsertBatchTimeout(long insertBatchTimeout) {
+        this.insertBatchTimeout = insertBatchTimeout;
+    }
+
     public MongoDbOutputType getOutputType() {
         return outputType;
     }
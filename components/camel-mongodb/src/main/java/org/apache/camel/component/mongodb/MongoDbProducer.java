@@ -19,11 +19,15 @@ package org.apache.camel.component.mongodb;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.DistinctIterable;
@@ -32,16 +36,20 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Processor;
 import org.apache.camel.TypeConverter;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.DefaultAsyncProducer;
+import org.apache.camel.support.ExchangeBatcher;
 import org.apache.camel.support.MessageHelper;
+import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -73,12 +81,13 @@ import static org.apache.camel.component.mongodb.MongoDbConstants.WRITERESULT;
 /**
  * The MongoDb producer.
  */
-public class MongoDbProducer extends DefaultProducer {
+public class MongoDbProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(MongoDbProducer.class);
 
     private final Map<MongoDbOperation, Processor> operations = new HashMap<>();
     private MongoDbEndpoint endpoint;
+    private ExchangeBatcher<PendingInsert> insertBatcher;
 
     {
         bind(MongoDbOperation.aggregate, createDoAggregate());
@@ -103,7 +112,43 @@ public class MongoDbProducer extends DefaultProducer {
     }
 
     @Override
-    public void process(Exchange exchange) throws Exception {
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            MongoDbOperation operation = resolveOperation(exchange);
+            if (operation == MongoDbOperation.insert && insertBatcher != null) {
+                Document document = exchange.getContext().getTypeConverter().tryConvertTo(Document.class, exchange, exchange.getIn().getBody());
+                if (document != null) {
+                    // single documents are gathered and inserted together using insertMany
+                    return insertBatcher.add(exchange, new PendingInsert(calculateCollection(exchange), document), callback);
+                }
+            }
+            invokeOperation(operation, exchange);
+        } catch (Exception e) {
+            exchange.setException(MongoDbComponent.wrapInCamelMongoDbException(e));
+        }
+        callback.done(true);
+        return true;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (endpoint.getInsertBatchSize() > 0) {
+            insertBatcher = new ExchangeBatcher<>(endpoint.getCamelContext(), this, "MongoDbInsertBatcher",
+                endpoint.getInsertBatchSize(), endpoint.getInsertBatchTimeout(), this::insertBatch);
+            ServiceHelper.startService(insertBatcher);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // insert the gathered documents before stopping
+        ServiceHelper.stopService(insertBatcher);
+        insertBatcher = null;
+        super.doStop();
+    }
+
+    private MongoDbOperation resolveOperation(Exchange exchange) throws CamelMongoDbException {
         MongoDbOperation operation = endpoint.getOperation();
         Object header = exchange.getIn().getHeader(OPERATION_HEADER);
         if (header != null) {
@@ -119,13 +164,7 @@ public class MongoDbProducer extends DefaultProducer {
                 throw new CamelMongoDbException("Operation specified on header is not supported. Value: " + header, e);
             }
         }
-
-        try {
-            invokeOperation(operation, exchange);
-        } catch (Exception e) {
-            throw MongoDbComponent.wrapInCamelMongoDbException(e);
-        }
-
+        return operation;
     }
 
     /**
@@ -450,6 +489,59 @@ public class MongoDbProducer extends DefaultProducer {
         };
     }
 
+    /**
+     * Inserts the gathered documents using insertMany per collection. The documents are inserted unordered,
+     * so a document that fails only fails its own exchange.
+     */
+    private void insertBatch(List<Exchange> exchanges, List<PendingInsert> inserts) {
+        // group the documents per collection keeping their order
+        Map<MongoNamespace, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < inserts.size(); i++) {
+            groups.computeIfAbsent(inserts.get(i).collection.getNamespace(), n -> new ArrayList<>()).add(i);
+        }
+
+        for (List<Integer> group : groups.values()) {
+            MongoCollection<Document> dbCol = inserts.get(group.get(0)).collection;
+            List<Document> documents = group.stream().map(i -> inserts.get(i).document).collect(Collectors.toList());
+            try {
+                dbCol.insertMany(documents, new InsertManyOptions().ordered(false));
+            } catch (MongoBulkWriteException e) {
+                if (e.getWriteConcernError() != null) {
+                    group.forEach(i -> exchanges.get(i).setException(new CamelMongoDbException(e)));
+                    continue;
+                }
+                for (BulkWriteError error : e.getWriteErrors()) {
+                    exchanges.get(group.get(error.getIndex())).setException(new CamelMongoDbException(error.getMessage()));
+                }
+            } catch (Exception e) {
+                group.forEach(i -> exchanges.get(i).setException(MongoDbComponent.wrapInCamelMongoDbException(e)));
+                continue;
+            }
+
+            for (Integer i : group) {
+                Exchange exchange = exchanges.get(i);
+                if (exchange.getException() == null) {
+                    // the same result as a single insert
+                    Document document = inserts.get(i).document;
+                    exchange.getIn().setHeader(OID, document.get(MONGO_ID));
+                    copyHeaders(exchange);
+                    moveBodyToOutIfResultIsReturnedAsHeader(exchange, MongoDbOperation.insert);
+                    processAndTransferResult(document, exchange, MongoDbOperation.insert);
+                }
+            }
+        }
+    }
+
+    private static final class PendingInsert {
+        private final MongoCollection<Document> collection;
+        private final Document document;
+
+        private PendingInsert(MongoCollection<Document> collection, Document document) {
+            this.collection = collection;
+            this.document = document;
+        }
+    }
+
     private Function<Exchange, Object> createDoUpdate() {
         return exchange -> {
             try {
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mongodb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import static com.mongodb.client.model.Filters.eq;
+import static org.apache.camel.component.mongodb.MongoDbConstants.MONGO_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MongoDbInsertBatchTest extends AbstractMongoDbTest {
+
+    @Test
+    public void testInsertBatch() throws Exception {
+        assertEquals(0, testCollection.countDocuments());
+
+        List<Future<Exchange>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Document document = new Document(MONGO_ID, "batch" + i).append("scientist", "Einstein");
+            results.add(template.asyncSend("direct:insertBatch", exchange -> exchange.getIn().setBody(document)));
+        }
+
+        for (int i = 0; i < 10; i++) {
+            Exchange exchange = results.get(i).get(5, TimeUnit.SECONDS);
+            assertNull(exchange.getException());
+            assertTrue(exchange.getMessage().getBody() instanceof Document);
+            assertEquals("batch" + i, exchange.getMessage().getHeader(MongoDbConstants.OID));
+        }
+        assertEquals(10, testCollection.countDocuments());
+    }
+
+    @Test
+    public void testInsertBatchTimeout() throws Exception {
+        Object result = template.requestBody("direct:insertBatch", new Document("scientist", "Darwin").toJson());
+        assertTrue(result instanceof Document);
+        assertNotNull(((Document) result).get(MONGO_ID));
+        assertEquals(1, testCollection.countDocuments());
+    }
+
+    @Test
+    public void testInsertBatchDuplicateKey() throws Exception {
+        testCollection.insertOne(new Document(MONGO_ID, "existing"));
+
+        Future<Exchange> duplicate = template.asyncSend("direct:insertBatch", exchange -> exchange.getIn().setBody(new Document(MONGO_ID, "existing")));
+        Future<Exchange> ok = template.asyncSend("direct:insertBatch", exchange -> exchange.getIn().setBody(new Document(MONGO_ID, "new")));
+
+        assertTrue(duplicate.get(5, TimeUnit.SECONDS).getException() instanceof CamelMongoDbException);
+        assertNull(ok.get(5, TimeUnit.SECONDS).getException());
+        assertNotNull(testCollection.find(eq(MONGO_ID, "new")).first());
+    }
+
+    @Test
+    public void testInsertBatchDynamicCollection() throws Exception {
+        Future<Exchange> first = template.asyncSend("direct:insertBatchDynamic", exchange -> exchange.getIn().setBody(new Document(MONGO_ID, "first")));
+        Future<Exchange> second = template.asyncSend("direct:insertBatchDynamic", exchange -> {
+            exchange.getIn().setBody(new Document(MONGO_ID, "second"));
+            exchange.getIn().setHeader(MongoDbConstants.COLLECTION, dynamicCollectionName);
+        });
+
+        assertNull(first.get(5, TimeUnit.SECONDS).getException());
+        assertNull(second.get(5, TimeUnit.SECONDS).getException());
+        assertNotNull(testCollection.find(eq(MONGO_ID, "first")).first());
+        assertNotNull(dynamicCollection.find(eq(MONGO_ID, "second")).first());
+    }
+
+    @Test
+    public void testInsertBatchList() throws Exception {
+        // a list of documents is inserted directly
+        Object result = template.requestBody("direct:insertBatch", new Object[] {new Document(MONGO_ID, "a"), new Document(MONGO_ID, "b")});
+        assertTrue(result instanceof List);
+        assertEquals(2, testCollection.countDocuments());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:insertBatch")
+                    .to("mongodb:myDb?database={{mongodb.testDb}}&collection={{mongodb.testCollection}}&operation=insert&insertBatchSize=5&insertBatchTimeout=500");
+                from("direct:insertBatchDynamic")
+                    .to("mongodb:myDb?database={{mongodb.testDb}}&collection={{mongodb.testCollection}}&operation=insert&dynamicity=true&insertBatchSize=2");
+            }
+        };
+    }
+}
@@ -130,10 +130,29 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
             populateCamelHeaders(request.getHttpRequest(), answer.getHeaders(), exchange, configuration);
         }
 
-        answer.setBody(request.getInputStream());
+        InputStream is = request.getInputStream();
+        // release any content the route did not read, so the connection can continue with the next request
+        closeOnCompletion(exchange, is);
+        answer.setBody(is);
         return answer;
     }
 
+    /**
+     * Closes the inbound stream when the exchange is done, unless the stream is the resulting body of the exchange,
+     * such as when the request is sent back as the response, as the stream is then closed once it has been written
+     * or by the caller reading the stream.
+     */
+    private static void closeOnCompletion(Exchange exchange, InputStream is) {
+        exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+            @Override
+            public void onDone(Exchange exchange) {
+                if (exchange.isFailed() || exchange.getMessage().getBody() != is) {
+                    IOHelper.close(is);
+                }
+            }
+        });
+    }
+
     @Override
     public void populateCamelHeaders(HttpRequest request, Map<String, Object> headers, Exchange exchange, NettyHttpConfiguration configuration) throws Exception {
         LOG.trace("populateCamelHeaders: {}", request);
@@ -337,7 +356,9 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
             populateCamelHeaders(response.getHttpResponse(), answer.getHeaders(), exchange, configuration);
         }
 
-        answer.setBody(response.getInputStream());
+        InputStream is = response.getInputStream();
+        closeOnCompletion(exchange, is);
+        answer.setBody(is);
         return answer;
     }
 
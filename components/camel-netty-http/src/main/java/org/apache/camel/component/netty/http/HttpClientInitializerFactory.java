@@ -113,7 +113,7 @@ public class HttpClientInitializerFactory extends ClientInitializerFactory {
             pipeline.addLast("decoder-" + x, decoder);
         }
         if (configuration.isDisableStreamCache()) {
-            pipeline.addLast("inbound-streamer", new HttpInboundStreamHandler());
+            pipeline.addLast("inbound-streamer", new HttpInboundStreamHandler(configuration.getChunkedMaxContentLength(), configuration.getStreamReadTimeout()));
         }
         pipeline.addLast("aggregator", new HttpObjectAggregator(configuration.getChunkedMaxContentLength()));
         pipeline.addLast("outbound-streamer", new HttpOutboundStreamHandler());
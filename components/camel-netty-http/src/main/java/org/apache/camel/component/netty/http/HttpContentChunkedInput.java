@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty.http;
+
+import java.io.InputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.handler.stream.ChunkedStream;
+
+/**
+ * A {@link ChunkedInput} which writes the content of a {@link HttpContentInputStream} as it arrives, such as when a
+ * route sends a streamed request back as the response, or passes it on to another HTTP server.
+ * <p/>
+ * The chunks are handed over as-is without copying, and instead of waiting for more content on the Netty I/O thread,
+ * no chunk is returned and writing is resumed by the resume task when more content has arrived.
+ */
+public class HttpContentChunkedInput implements ChunkedInput<ByteBuf> {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final HttpContentInputStream in;
+    private volatile Runnable resumeTask;
+    private long progress;
+
+    public HttpContentChunkedInput(HttpContentInputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Creates the {@link ChunkedInput} for writing the given stream.
+     */
+    public static ChunkedInput<ByteBuf> of(InputStream in) {
+        if (in instanceof HttpContentInputStream) {
+            return new HttpContentChunkedInput((HttpContentInputStream) in);
+        }
+        return new ChunkedStream(in);
+    }
+
+    /**
+     * Sets the task which resumes writing when more content has arrived, which is typically
+     * {@link io.netty.handler.stream.ChunkedWriteHandler#resumeTransfer()}.
+     * Without a resume task reading the content blocks until more content has arrived.
+     */
+    public void setResumeTask(Runnable resumeTask) {
+        this.resumeTask = resumeTask;
+    }
+
+    @Override
+    public boolean isEndOfInput() throws Exception {
+        return in.isEndOfContent();
+    }
+
+    @Override
+    public void close() throws Exception {
+        in.close();
+    }
+
+    @Override
+    @Deprecated
+    public ByteBuf readChunk(ChannelHandlerContext ctx) throws Exception {
+        return readChunk(ctx.alloc());
+    }
+
+    @Override
+    public ByteBuf readChunk(ByteBufAllocator allocator) throws Exception {
+        Runnable task = resumeTask;
+        ByteBuf chunk;
+        if (task != null) {
+            chunk = in.readContent(task);
+        } else {
+            chunk = allocator.buffer(CHUNK_SIZE);
+            if (chunk.writeBytes(in, CHUNK_SIZE) < 0) {
+                chunk.release();
+                chunk = null;
+            }
+        }
+        if (chunk != null) {
+            progress += chunk.readableBytes();
+        }
+        return chunk;
+    }
+
+    @Override
+    public long length() {
+        return -1;
+    }
+
+    @Override
+    public long progress() {
+        return progress;
+    }
+}
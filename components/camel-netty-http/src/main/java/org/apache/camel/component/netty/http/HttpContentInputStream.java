@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+
+/**
+ * An {@link InputStream} over the content chunks of a streamed HTTP message, as they arrive from Netty.
+ * <p/>
+ * The chunks are kept as retained {@link ByteBuf}s and released as soon as they have been read, so the body is never
+ * buffered as a whole in memory. When the reader falls behind, reading from the {@link Channel} is suspended
+ * (by turning off auto read) until the reader has caught up, which propagates backpressure to the remote peer.
+ * <p/>
+ * The reading thread must not be the Netty I/O thread of the channel, as the I/O thread is the one filling the stream,
+ * so reading fails instead of waiting for more content on the I/O thread. Netty handlers writing the content can use
+ * {@link HttpContentChunkedInput} which does not wait for the content.
+ */
+public class HttpContentInputStream extends InputStream {
+
+    private static final int HIGH_WATERMARK = 256 * 1024;
+    private static final int LOW_WATERMARK = 64 * 1024;
+
+    private final Channel channel;
+    private final long readTimeout;
+    private final Deque<ByteBuf> buffers = new ArrayDeque<>();
+    private int pending;
+    private boolean suspended;
+    private boolean completed;
+    private boolean closed;
+    private IOException failure;
+    private Runnable readableListener;
+
+    public HttpContentInputStream(Channel channel) {
+        this(channel, 0);
+    }
+
+    /**
+     * @param channel     the channel the content is received from
+     * @param readTimeout the maximum time in millis to wait for more content when reading, or 0 to wait forever
+     */
+    public HttpContentInputStream(Channel channel, long readTimeout) {
+        this.channel = channel;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Adds a content chunk to the stream, the stream takes ownership of the (retained) buffer.
+     */
+    public synchronized void offer(ByteBuf buffer) {
+        if (closed || completed) {
+            buffer.release();
+            return;
+        }
+        buffers.add(buffer);
+        pending += buffer.readableBytes();
+        if (pending >= HIGH_WATERMARK && !suspended) {
+            suspended = true;
+            channel.config().setAutoRead(false);
+        }
+        notifyReadable();
+    }
+
+    /**
+     * Marks the end of the content, once the pending chunks has been read the stream returns end of stream.
+     */
+    public synchronized void complete() {
+        completed = true;
+        notifyReadable();
+    }
+
+    /**
+     * Marks the content as failed, such as when the connection was closed before all the content was received.
+     */
+    public synchronized void fail(IOException cause) {
+        if (!completed) {
+            failure = cause;
+            completed = true;
+            notifyReadable();
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int n = read(b, 0, 1);
+        return n == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuf head = awaitReadable();
+        if (head == null) {
+            return -1;
+        }
+        int n = Math.min(len, head.readableBytes());
+        head.readBytes(b, off, n);
+        pending -= n;
+        if (!head.isReadable()) {
+            buffers.poll().release();
+        }
+        resumeIfCaughtUp();
+        return n;
+    }
+
+    /**
+     * Takes the next content chunk without waiting for it, for writing the content from a Netty handler.
+     *
+     * @param whenReadable task to run (once) when more content is available, if there is no content available now
+     * @return the chunk which the caller must release, or <tt>null</tt> if no content is available now or at the end of content
+     */
+    synchronized ByteBuf readContent(Runnable whenReadable) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        ByteBuf head = buffers.poll();
+        if (head != null) {
+            pending -= head.readableBytes();
+            resumeIfCaughtUp();
+            return head;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        if (!completed) {
+            readableListener = whenReadable;
+        }
+        return null;
+    }
+
+    /**
+     * Whether all the content has been read, without waiting for more content.
+     */
+    synchronized boolean isEndOfContent() throws IOException {
+        if (!buffers.isEmpty()) {
+            return false;
+        }
+        if (failure != null && !closed) {
+            throw failure;
+        }
+        return completed || closed;
+    }
+
+    @Override
+    public synchronized int available() throws IOException {
+        return pending;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        ByteBuf buffer;
+        while ((buffer = buffers.poll()) != null) {
+            buffer.release();
+        }
+        pending = 0;
+        if (suspended) {
+            resume();
+        }
+        notifyReadable();
+    }
+
+    private ByteBuf awaitReadable() throws IOException {
+        long deadline = readTimeout > 0 ? System.currentTimeMillis() + readTimeout : 0;
+        while (true) {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            ByteBuf head = buffers.peek();
+            if (head != null) {
+                return head;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            if (completed) {
+                return null;
+            }
+            if (channel.eventLoop().inEventLoop()) {
+                // the content is received by this thread, so it would never arrive while waiting
+                throw new IOException("Cannot wait for HTTP content on the Netty I/O thread receiving the content."
+                    + " The content must be read by another thread.");
+            }
+            long timeout = 0;
+            if (deadline > 0) {
+                timeout = deadline - System.currentTimeMillis();
+                if (timeout <= 0) {
+                    throw new SocketTimeoutException("Timed out after " + readTimeout + " millis waiting for HTTP content");
+                }
+            }
+            try {
+                wait(timeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for HTTP content");
+            }
+        }
+    }
+
+    private void resumeIfCaughtUp() {
+        if (suspended && pending <= LOW_WATERMARK) {
+            resume();
+        }
+    }
+
+    private void notifyReadable() {
+        notifyAll();
+        Runnable listener = readableListener;
+        if (listener != null) {
+            readableListener = null;
+            channel.eventLoop().execute(listener);
+        }
+    }
+
+    private void resume() {
+        suspended = false;
+        // turning auto read back on will also trigger a read on the channel
+        channel.config().setAutoRead(true);
+    }
+}
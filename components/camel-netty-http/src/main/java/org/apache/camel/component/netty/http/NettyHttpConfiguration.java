@@ -61,6 +61,8 @@ public class NettyHttpConfiguration extends NettyConfiguration {
     private boolean bridgeEndpoint;
     @UriParam(label = "advanced")
     private boolean disableStreamCache;
+    @UriParam(label = "advanced", defaultValue = "60000")
+    private long streamReadTimeout = 60000;
     @UriParam(label = "consumer", defaultValue = "true")
     private boolean send503whenSuspended = true;
     @UriParam(label = "consumer,advanced", defaultValue = "" + 1024 * 1024)
@@ -281,6 +283,11 @@ public class NettyHttpConfiguration extends NettyConfiguration {
      * when the Netty HTTP server/HTTP client is done processing, which means that if the asynchronous routing engine is in
      * use then any asynchronous thread that may continue routing the {@link org.apache.camel.Exchange} may not
      * be able to read the Netty stream, because Netty has closed it.
+     * <p/>
+     * When enabled then chunked messages, and messages larger than the chunkedMaxContentLength, are not aggregated
+     * in memory but streamed to the route as they arrive, with reading from the connection suspended while the route
+     * is behind. The stream must be read from another thread than the Netty I/O thread, which is the case by default
+     * as the consumer is using an executor service for processing.
      */
     public void setDisableStreamCache(boolean disableStreamCache) {
         this.disableStreamCache = disableStreamCache;
@@ -298,12 +305,26 @@ public class NettyHttpConfiguration extends NettyConfiguration {
         this.send503whenSuspended = send503whenSuspended;
     }
 
+    public long getStreamReadTimeout() {
+        return streamReadTimeout;
+    }
+
+    /**
+     * The maximum time in millis to wait for more content when reading a streamed HTTP body, when disableStreamCache is enabled.
+     * If no more content has been received within this time, such as when the remote peer stalls, then reading the stream fails
+     * with a SocketTimeoutException. Use 0 to wait forever.
+     */
+    public void setStreamReadTimeout(long streamReadTimeout) {
+        this.streamReadTimeout = streamReadTimeout;
+    }
+
     public int getChunkedMaxContentLength() {
         return chunkedMaxContentLength;
     }
 
     /**
      * Value in bytes the max content length per chunked frame received on the Netty HTTP server.
+     * If disableStreamCache is enabled then larger messages are streamed instead of rejected.
      */
     public void setChunkedMaxContentLength(int chunkedMaxContentLength) {
         this.chunkedMaxContentLength = chunkedMaxContentLength;
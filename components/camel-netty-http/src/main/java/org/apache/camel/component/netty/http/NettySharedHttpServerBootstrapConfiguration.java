@@ -24,6 +24,7 @@ public class NettySharedHttpServerBootstrapConfiguration extends NettyServerBoot
     private boolean chunked = true;
     private boolean compression;
     private int maxHeaderSize = 8192;
+    private long streamReadTimeout = 60000;
 
     public boolean isChunked() {
         return chunked;
@@ -56,4 +57,12 @@ public class NettySharedHttpServerBootstrapConfiguration extends NettyServerBoot
     public void setMaxHeaderSize(int maxHeaderSize) {
         this.maxHeaderSize = maxHeaderSize;
     }
+
+    public long getStreamReadTimeout() {
+        return streamReadTimeout;
+    }
+
+    public void setStreamReadTimeout(long streamReadTimeout) {
+        this.streamReadTimeout = streamReadTimeout;
+    }
 }
@@ -19,20 +19,32 @@ package org.apache.camel.component.netty.http;
 
 import java.io.InputStream;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.HttpChunkedInput;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.stream.ChunkedInput;
-import io.netty.handler.stream.ChunkedStream;
 
 public class OutboundStreamHttpResponse extends DefaultHttpResponse implements ChunkedInput<HttpContent> {
+    private final ChunkedInput<ByteBuf> content;
     private HttpChunkedInput input;
 
     public OutboundStreamHttpResponse(InputStream in, DefaultHttpResponse response) {
         super(response.protocolVersion(), response.status());
-        this.input = new HttpChunkedInput(new ChunkedStream(in));
+        this.content = HttpContentChunkedInput.of(in);
+        this.input = new HttpChunkedInput(content);
+    }
+
+    /**
+     * Sets the task which resumes writing the body, when the body is a {@link HttpContentInputStream} which is written
+     * as the content arrives.
+     */
+    public void setResumeTask(Runnable resumeTask) {
+        if (content instanceof HttpContentChunkedInput) {
+            ((HttpContentChunkedInput) content).setResumeTask(resumeTask);
+        }
     }
 
     public DefaultHttpResponse getResponse() {
@@ -14,47 +14,74 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.camel.component.netty.http.handlers;
 
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
+import java.io.IOException;
 import java.util.List;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageDecoder;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.HttpContent;
-import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMessage;
 import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
+import org.apache.camel.component.netty.http.HttpContentInputStream;
 import org.apache.camel.component.netty.http.InboundStreamHttpRequest;
 import org.apache.camel.component.netty.http.InboundStreamHttpResponse;
 
-import static io.netty.handler.codec.http.HttpHeaderNames.TRANSFER_ENCODING;
-import static io.netty.handler.codec.http.HttpHeaderValues.CHUNKED;
-
+/**
+ * Decodes HTTP messages with a chunked body, or a body larger than the max content length,
+ * into {@link InboundStreamHttpRequest} or {@link InboundStreamHttpResponse} with the content exposed as a
+ * {@link HttpContentInputStream}, so the content bypasses the {@link io.netty.handler.codec.http.HttpObjectAggregator}
+ * and is never fully buffered in memory. All other messages are passed on to the aggregator as-is.
+ */
 public class HttpInboundStreamHandler extends MessageToMessageDecoder<HttpObject> {
-    private PipedInputStream is;
-    private PipedOutputStream os;
-    private boolean isChunked;
+    private final long maxContentLength;
+    private final long readTimeout;
+    private HttpContentInputStream is;
+    private boolean streaming;
+
+    /**
+     * Creates a handler which only streams chunked messages.
+     */
+    public HttpInboundStreamHandler() {
+        this(-1);
+    }
+
+    /**
+     * Creates a handler which streams chunked messages, and messages with a content length above the given max content length.
+     */
+    public HttpInboundStreamHandler(long maxContentLength) {
+        this(maxContentLength, 0);
+    }
+
+    /**
+     * Creates a handler which streams chunked messages, and messages with a content length above the given max content length,
+     * where reading the stream fails if no more content has been received within the given read timeout in millis.
+     */
+    public HttpInboundStreamHandler(long maxContentLength, long readTimeout) {
+        this.maxContentLength = maxContentLength;
+        this.readTimeout = readTimeout;
+    }
 
     @Override
-    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
-        super.handlerAdded(ctx);
-        os = new PipedOutputStream();
-        is = new PipedInputStream(os);
-        isChunked = false;
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        failStream();
+        super.channelInactive(ctx);
     }
 
     @Override
     public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        failStream();
         super.handlerRemoved(ctx);
-        os.close();
-        is.close();
     }
 
     @Override
@@ -64,34 +91,56 @@ public class HttpInboundStreamHandler extends MessageToMessageDecoder<HttpObject
         }
 
         if (msg instanceof HttpMessage) {
-            HttpHeaders headers = ((HttpMessage) msg).headers();
-            return isChunked = headers.contains(TRANSFER_ENCODING, CHUNKED, true);
+            return streaming = isStreamed((HttpMessage) msg);
         } else {
-            return (msg instanceof HttpContent) && isChunked;
+            return (msg instanceof HttpContent) && streaming;
         }
     }
 
     @Override
     protected void decode(ChannelHandlerContext ctx, HttpObject msg, List<Object> out) throws Exception {
         if (msg instanceof HttpRequest) {
-            InboundStreamHttpRequest request = new InboundStreamHttpRequest((HttpRequest)msg, is);
-            out.add(request);
+            HttpRequest request = (HttpRequest) msg;
+            if (HttpUtil.is100ContinueExpected(request)) {
+                // the aggregator would otherwise have taken care of this
+                ctx.writeAndFlush(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.CONTINUE));
+                request.headers().remove(HttpHeaderNames.EXPECT);
+            }
+            is = new HttpContentInputStream(ctx.channel(), readTimeout);
+            out.add(new InboundStreamHttpRequest(request, is));
         }
 
         if (msg instanceof HttpResponse) {
-            InboundStreamHttpResponse response = new InboundStreamHttpResponse((HttpResponse)msg, is);
-            out.add(response);
+            is = new HttpContentInputStream(ctx.channel(), readTimeout);
+            out.add(new InboundStreamHttpResponse((HttpResponse) msg, is));
         }
 
-        if (msg instanceof HttpContent) {
+        if (msg instanceof HttpContent && is != null) {
             ByteBuf body = ((HttpContent) msg).content();
-            if (body.readableBytes() > 0) {
-                body.readBytes(os, body.readableBytes());
+            if (body.isReadable()) {
+                // the decoder releases the message when we return, so retain the content which the stream releases when read
+                is.offer(body.retain());
             }
 
             if (msg instanceof LastHttpContent) {
-                os.close();
+                is.complete();
+                is = null;
+                streaming = false;
             }
         }
     }
+
+    private boolean isStreamed(HttpMessage msg) {
+        if (HttpUtil.isTransferEncodingChunked(msg)) {
+            return true;
+        }
+        return maxContentLength >= 0 && HttpUtil.getContentLength(msg, -1L) > maxContentLength;
+    }
+
+    private void failStream() {
+        if (is != null) {
+            is.fail(new IOException("Connection closed before the HTTP content was fully received"));
+            is = null;
+        }
+    }
 }
@@ -29,9 +29,11 @@ public class HttpOutboundStreamHandler extends ChunkedWriteHandler {
         boolean needNewPromise = false;
 
         if (msg instanceof OutboundStreamHttpRequest) {
+            ((OutboundStreamHttpRequest) msg).setResumeTask(this::resumeTransfer);
             super.write(ctx, ((OutboundStreamHttpRequest) msg).getRequest(), promise);
             needNewPromise = true;
         } else if (msg instanceof OutboundStreamHttpResponse) {
+            ((OutboundStreamHttpResponse) msg).setResumeTask(this::resumeTransfer);
             super.write(ctx, ((OutboundStreamHttpResponse)msg).getResponse(), promise);
             needNewPromise = true;
         }
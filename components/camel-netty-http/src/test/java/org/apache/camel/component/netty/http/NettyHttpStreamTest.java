@@ -17,8 +17,12 @@
 package org.apache.camel.component.netty.http;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.camel.Exchange;
@@ -30,6 +34,8 @@ import org.junit.Test;
 public class NettyHttpStreamTest extends BaseNettyTest {
     public static final long SIZE =  10 * 256;
 
+    private int stallPort;
+
     @Test
     public void testUploadStream() {
         //prepare new request
@@ -64,11 +70,63 @@ public class NettyHttpStreamTest extends BaseNettyTest {
         assertEquals("response size not matching.", SIZE, response.getIn().getBody(Long.class).longValue());
     }
 
+    @Test
+    public void testUploadLargerThanMaxContentLength() {
+        // a body with a content length above the default chunkedMaxContentLength of 1mb is streamed and not rejected
+        byte[] body = new byte[2 * 1024 * 1024 + 123];
+
+        Exchange response = template.request("netty-http:http://localhost:{{port}}/large", exchange -> exchange.getIn().setBody(body));
+
+        assertFalse("ups", response.isFailed());
+        assertEquals("request size not matching.", String.valueOf(body.length), response.getMessage().getBody(String.class));
+    }
+
+    @Test
+    public void testEchoStream() {
+        DefaultExchange request = new DefaultExchange(context);
+        request.getIn().setBody("dummy");
+
+        // the request stream is sent back as the response after the exchange is done
+        Exchange response = template.send("direct:echo-call", request);
+
+        assertFalse("ups", response.isFailed());
+        assertEquals("response size not matching.", SIZE, response.getMessage().getBody(Long.class).longValue());
+    }
+
+    @Test
+    public void testEchoLargerThanMaxContentLength() {
+        // the response is written while the request content is still arriving
+        byte[] body = new byte[2 * 1024 * 1024 + 123];
+
+        Exchange response = template.request("direct:echo-large-call", exchange -> exchange.getIn().setBody(body));
+
+        assertFalse("ups", response.isFailed());
+        assertEquals("response size not matching.", body.length, response.getMessage().getBody(Long.class).longValue());
+    }
+
+    @Test
+    public void testStreamReadTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedMessageCount(1);
+
+        try (Socket socket = new Socket("localhost", stallPort)) {
+            OutputStream os = socket.getOutputStream();
+            // send only part of the content, and then stall
+            os.write("POST /stall HTTP/1.1\r\nHost: localhost\r\nContent-Length: 2000000\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            os.write(new byte[1000]);
+            os.flush();
+
+            assertMockEndpointsSatisfied();
+        }
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() throws Exception {
         return new RouteBuilder() {
             @Override
             public void configure() throws Exception {
+                stallPort = getNextPort();
+
                 from("direct:upstream-call")
                     .bean(Helper.class, "prepareStream")
                     .to("netty-http:http://localhost:{{port}}/upstream?disableStreamCache=true")
@@ -85,6 +143,30 @@ public class NettyHttpStreamTest extends BaseNettyTest {
 
                 from("netty-http:http://0.0.0.0:{{port}}/downstream?disableStreamCache=true")
                     .bean(Helper.class, "prepareStream");
+
+                from("direct:echo-call")
+                    .bean(Helper.class, "prepareStream")
+                    .to("netty-http:http://localhost:{{port}}/echo?disableStreamCache=true")
+                    .bean(Helper.class, "asyncProcessStream");
+
+                from("direct:echo-large-call")
+                    .to("netty-http:http://localhost:{{port}}/echo?disableStreamCache=true")
+                    .bean(Helper.class, "asyncProcessStream");
+
+                from("netty-http:http://0.0.0.0:{{port}}/echo?disableStreamCache=true")
+                    .log("echo ${headers}");
+
+                // the stream options apply to the server bootstrap, so use a port of its own
+                from("netty-http:http://0.0.0.0:" + stallPort + "/stall?disableStreamCache=true&chunkedMaxContentLength=1000&streamReadTimeout=500")
+                    .onException(SocketTimeoutException.class)
+                        .handled(true)
+                        .to("mock:timeout")
+                    .end()
+                    .bean(Helper.class, "processStream");
+
+                from("netty-http:http://0.0.0.0:{{port}}/large?disableStreamCache=true")
+                    .bean(Helper.class, "processStream")
+                    .transform().simple("${body}");
             }
         };
     }
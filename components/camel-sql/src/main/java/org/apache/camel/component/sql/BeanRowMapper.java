@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link RowMapper} which maps each row to a new instance of a Java bean, matching the column names to the bean
+ * properties the same way as the Spring {@link org.springframework.jdbc.core.BeanPropertyRowMapper}.
+ * <p/>
+ * The bean properties are introspected only once per class (see {@link BeanMapping}), and the columns are bound to
+ * the property setters from the result set metadata of the first row only. Each row is then mapped by calling the
+ * bound setters directly, without looking up the columns or going through a Spring BeanWrapper.
+ * <p/>
+ * A new instance must be used per query result.
+ */
+class BeanRowMapper<T> implements RowMapper<T> {
+
+    private final BeanMapping<T> mapping;
+    private int[] columns;
+    private Method[] setters;
+    private Class<?>[] types;
+
+    BeanRowMapper(BeanMapping<T> mapping) {
+        this.mapping = mapping;
+    }
+
+    @Override
+    public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (columns == null) {
+            bind(rs.getMetaData());
+        }
+
+        T bean = BeanUtils.instantiateClass(mapping.constructor);
+        for (int i = 0; i < columns.length; i++) {
+            Object value = JdbcUtils.getResultSetValue(rs, columns[i], types[i]);
+            ReflectionUtils.invokeMethod(setters[i], bean, mapping.convert(value, types[i]));
+        }
+        return bean;
+    }
+
+    private void bind(ResultSetMetaData metaData) throws SQLException {
+        List<Integer> indexes = new ArrayList<>();
+        List<PropertyDescriptor> properties = new ArrayList<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            String column = JdbcUtils.lookupColumnName(metaData, i);
+            PropertyDescriptor pd = mapping.fields.get(BeanMapping.lowerCaseName(StringUtils.delete(column, " ")));
+            if (pd != null) {
+                indexes.add(i);
+                properties.add(pd);
+            }
+        }
+
+        int size = indexes.size();
+        int[] columns = new int[size];
+        Method[] setters = new Method[size];
+        Class<?>[] types = new Class<?>[size];
+        for (int i = 0; i < size; i++) {
+            columns[i] = indexes.get(i);
+            setters[i] = properties.get(i).getWriteMethod();
+            types[i] = properties.get(i).getPropertyType();
+            ReflectionUtils.makeAccessible(setters[i]);
+        }
+        this.setters = setters;
+        this.types = types;
+        this.columns = columns;
+    }
+
+    /**
+     * The writable properties of a Java bean class, keyed by their lower case and underscore names.
+     * <p/>
+     * The mapping is thread-safe and should be cached per class.
+     */
+    static final class BeanMapping<T> {
+
+        private static final ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
+
+        private final Constructor<T> constructor;
+        private final Map<String, PropertyDescriptor> fields = new HashMap<>();
+
+        BeanMapping(Class<T> mappedClass) {
+            try {
+                this.constructor = ReflectionUtils.accessibleConstructor(mappedClass);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("Class " + mappedClass.getName() + " must have a default constructor", e);
+            }
+            for (PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(mappedClass)) {
+                if (pd.getWriteMethod() != null) {
+                    fields.put(lowerCaseName(pd.getName()), pd);
+                    String underscoredName = underscoreName(pd.getName());
+                    if (!lowerCaseName(pd.getName()).equals(underscoredName)) {
+                        fields.put(underscoredName, pd);
+                    }
+                }
+            }
+        }
+
+        Object convert(Object value, Class<?> type) {
+            if (value == null) {
+                if (type.isPrimitive()) {
+                    throw new TypeMismatchException(value, type);
+                }
+                return null;
+            }
+            if (ClassUtils.isAssignableValue(type, value)) {
+                return value;
+            }
+            return CONVERSION_SERVICE.convert(value, type);
+        }
+
+        static String lowerCaseName(String name) {
+            return name.toLowerCase(Locale.US);
+        }
+
+        static String underscoreName(String name) {
+            if (!StringUtils.hasLength(name)) {
+                return "";
+            }
+            StringBuilder result = new StringBuilder();
+            result.append(lowerCaseName(name.substring(0, 1)));
+            for (int i = 1; i < name.length(); i++) {
+                String s = name.substring(i, i + 1);
+                String slc = lowerCaseName(s);
+                if (!s.equals(slc)) {
+                    result.append("_").append(slc);
+                } else {
+                    result.append(s);
+                }
+            }
+            return result.toString();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.io.Serializable;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * A {@link RowMapper} which maps each row to a column indexed {@link Map} view, as a lightweight alternative to the
+ * {@link LinkedCaseInsensitiveMap} created per row by the Spring {@link org.springframework.jdbc.core.ColumnMapRowMapper}.
+ * <p/>
+ * The column keys and their case insensitive lookup are computed from the result set metadata of the first row only,
+ * and shared by all the rows of the query result, so each row only holds an array with its column values.
+ * <p/>
+ * A new instance must be used per query result.
+ */
+class ColumnIndexedRowMapper implements RowMapper<Map<String, Object>> {
+
+    private ColumnIndex index;
+
+    @Override
+    public Map<String, Object> mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (index == null) {
+            index = new ColumnIndex(rs.getMetaData());
+        }
+
+        int[] columns = index.columns;
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = JdbcUtils.getResultSetValue(rs, columns[i]);
+        }
+        return new ColumnIndexedRow(index, values);
+    }
+
+    /**
+     * The column keys of a query result, and their case insensitive lookup.
+     */
+    static final class ColumnIndex {
+
+        private final String[] keys;
+        private final int[] columns;
+        private final Map<String, Integer> positions;
+
+        ColumnIndex(ResultSetMetaData metaData) throws SQLException {
+            int count = metaData.getColumnCount();
+            List<String> names = new ArrayList<>(count);
+            List<Integer> indexes = new ArrayList<>(count);
+            Map<String, Integer> lookup = new HashMap<>(count * 2);
+            for (int i = 1; i <= count; i++) {
+                String name = JdbcUtils.lookupColumnName(metaData, i);
+                Integer position = lookup.putIfAbsent(name.toLowerCase(Locale.getDefault()), names.size());
+                if (position == null) {
+                    names.add(name);
+                    indexes.add(i);
+                } else {
+                    // a duplicate column keeps the key of the first column and the value of the last column,
+                    // the same as when the columns are put into a case insensitive map one by one
+                    indexes.set(position, i);
+                }
+            }
+            this.keys = names.toArray(new String[0]);
+            this.columns = indexes.stream().mapToInt(Integer::intValue).toArray();
+            this.positions = lookup;
+        }
+
+        int positionOf(Object key) {
+            if (key instanceof String) {
+                Integer position = positions.get(((String) key).toLowerCase(Locale.getDefault()));
+                if (position != null) {
+                    return position;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * A row of a query result, which is a column indexed view on the values of the row.
+     * <p/>
+     * The values of existing columns can be updated in place. Adding or removing keys copies the row into a
+     * {@link LinkedCaseInsensitiveMap} which is used from then on.
+     */
+    static final class ColumnIndexedRow extends AbstractMap<String, Object> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient ColumnIndex index;
+        private final transient Object[] values;
+        private transient LinkedCaseInsensitiveMap<Object> map;
+
+        ColumnIndexedRow(ColumnIndex index, Object[] values) {
+            this.index = index;
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return map != null ? map.size() : values.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map != null ? map.containsKey(key) : index.positionOf(key) >= 0;
+        }
+
+        @Override
+        public Object get(Object key) {
+            if (map != null) {
+                return map.get(key);
+            }
+            int position = index.positionOf(key);
+            return position >= 0 ? values[position] : null;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            if (map == null) {
+                int position = index.positionOf(key);
+                if (position >= 0) {
+                    Object answer = values[position];
+                    values[position] = value;
+                    return answer;
+                }
+            }
+            return toMap().put(key, value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return toMap().remove(key);
+        }
+
+        @Override
+        public void clear() {
+            toMap().clear();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            if (map != null) {
+                return map.entrySet();
+            }
+            return new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    if (map != null) {
+                        return map.entrySet().iterator();
+                    }
+                    return new Iterator<Entry<String, Object>>() {
+                        private int position;
+
+                        @Override
+                        public boolean hasNext() {
+                            return position < values.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final int current = position++;
+                            return new SimpleEntry<String, Object>(index.keys[current], values[current]) {
+                                @Override
+                                public Object setValue(Object value) {
+                                    values[current] = value;
+                                    return super.setValue(value);
+                                }
+                            };
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return ColumnIndexedRow.this.size();
+                }
+            };
+        }
+
+        private LinkedCaseInsensitiveMap<Object> toMap() {
+            if (map == null) {
+                map = copy();
+            }
+            return map;
+        }
+
+        private LinkedCaseInsensitiveMap<Object> copy() {
+            LinkedCaseInsensitiveMap<Object> answer = new LinkedCaseInsensitiveMap<>(size());
+            answer.putAll(this);
+            return answer;
+        }
+
+        private Object writeReplace() {
+            // serialize as a plain map so the column index does not have to be serializable
+            return copy();
+        }
+    }
+}
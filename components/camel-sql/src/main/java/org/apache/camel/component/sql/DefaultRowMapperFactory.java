@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.component.sql.BeanRowMapper.BeanMapping;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Default {@link RowMapperFactory} which maps rows to a {@link Map} using the column names as keys,
+ * or to a Java bean matching the column names to the bean properties (the same way as the Spring
+ * {@link org.springframework.jdbc.core.BeanPropertyRowMapper}).
+ * <p/>
+ * The rows are mapped to column indexed map views, which share the column names and their case insensitive lookup
+ * computed once per query result, instead of creating a new hash map per row. The Java bean properties are
+ * introspected once per output class, and bound to the columns once per query result.
+ */
+public class DefaultRowMapperFactory implements RowMapperFactory {
+
+    private final Map<Class<?>, BeanMapping<?>> beanMappings = new ConcurrentHashMap<>();
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public RowMapper<?> newRowMapper(Class<?> outputClass) {
+        if (outputClass == null) {
+            return new ColumnIndexedRowMapper();
+        }
+        BeanMapping<?> mapping = beanMappings.computeIfAbsent(outputClass, BeanMapping::new);
+        return new BeanRowMapper(mapping);
+    }
+}
@@ -29,8 +29,6 @@ import javax.sql.DataSource;
 import org.apache.camel.Component;
 import org.apache.camel.spi.UriParam;
 import org.apache.camel.support.DefaultPollingEndpoint;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
-import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.RowMapperResultSetExtractor;
@@ -119,6 +117,12 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     @UriParam(label = "advanced", prefix = "template.", multiValue = true,
             description = "Configures the Spring JdbcTemplate with the key/values from the Map")
     private Map<String, Object> templateOptions;
+    @UriParam(label = "advanced", description = "Sets the number of rows the JDBC driver should fetch from the database at a time when more rows are needed."
+            + " Use this together with outputType=StreamList and the Splitter EIP in streaming mode, to process very large query results with constant memory."
+            + " By default the fetch size of the JDBC driver is used.")
+    private int fetchSize;
+    @UriParam(label = "advanced", description = "Factory for creating the RowMapper used to map the rows of the query result to Map or the outputClass")
+    private RowMapperFactory rowMapperFactory = new DefaultRowMapperFactory();
 
     public DefaultSqlEndpoint() {
     }
@@ -444,16 +448,49 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         this.templateOptions = templateOptions;
     }
 
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Sets the number of rows the JDBC driver should fetch from the database at a time when more rows are needed.
+     * Use this together with outputType=StreamList and the Splitter EIP in streaming mode, to process very large query results with constant memory.
+     * By default the fetch size of the JDBC driver is used.
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public RowMapperFactory getRowMapperFactory() {
+        return rowMapperFactory;
+    }
+
+    /**
+     * Factory for creating the RowMapper used to map the rows of the query result to Map or the outputClass
+     */
+    public void setRowMapperFactory(RowMapperFactory rowMapperFactory) {
+        this.rowMapperFactory = rowMapperFactory;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (fetchSize > 0 && jdbcTemplate != null) {
+            jdbcTemplate.setFetchSize(fetchSize);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public List<?> queryForList(ResultSet rs, boolean allowMapToClass) throws SQLException {
         if (allowMapToClass && outputClass != null) {
             Class<?> outputClazz = getCamelContext().getClassResolver().resolveClass(outputClass);
-            RowMapper rowMapper = new BeanPropertyRowMapper(outputClazz);
+            RowMapper rowMapper = rowMapperFactory.newRowMapper(outputClazz);
             RowMapperResultSetExtractor<?> mapper = new RowMapperResultSetExtractor(rowMapper);
             List<?> data = mapper.extractData(rs);
             return data;
         } else {
-            ColumnMapRowMapper rowMapper = new ColumnMapRowMapper();
+            RowMapper<Map<String, Object>> rowMapper = (RowMapper<Map<String, Object>>) rowMapperFactory.newRowMapper(null);
             RowMapperResultSetExtractor<Map<String, Object>> mapper = new RowMapperResultSetExtractor<>(rowMapper);
             List<Map<String, Object>> data = mapper.extractData(rs);
             return data;
@@ -464,7 +501,7 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     public Object queryForObject(ResultSet rs) throws SQLException {
         Object result = null;
         if (outputClass == null) {
-            RowMapper rowMapper = new ColumnMapRowMapper();
+            RowMapper rowMapper = rowMapperFactory.newRowMapper(null);
             RowMapperResultSetExtractor<Map<String, Object>> mapper = new RowMapperResultSetExtractor<Map<String, Object>>(rowMapper);
             List<Map<String, Object>> data = mapper.extractData(rs);
             if (data.size() > 1) {
@@ -480,7 +517,7 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
             }
         } else {
             Class<?> outputClzz = getCamelContext().getClassResolver().resolveClass(outputClass);
-            RowMapper rowMapper = new BeanPropertyRowMapper(outputClzz);
+            RowMapper rowMapper = rowMapperFactory.newRowMapper(outputClzz);
             RowMapperResultSetExtractor<?> mapper = new RowMapperResultSetExtractor(rowMapper);
             List<?> data = mapper.extractData(rs);
             if (data.size() > 1) {
@@ -497,11 +534,11 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     @SuppressWarnings("unchecked")
     public ResultSetIterator queryForStreamList(Connection connection, Statement statement, ResultSet rs) throws SQLException {
         if (outputClass == null) {
-            RowMapper rowMapper = new ColumnMapRowMapper();
+            RowMapper rowMapper = rowMapperFactory.newRowMapper(null);
             return new ResultSetIterator(connection, statement, rs, rowMapper);
         } else {
             Class<?> outputClzz = getCamelContext().getClassResolver().resolveClass(outputClass);
-            RowMapper rowMapper = new BeanPropertyRowMapper(outputClzz);
+            RowMapper rowMapper = rowMapperFactory.newRowMapper(outputClzz);
             return new ResultSetIterator(connection, statement, rs, rowMapper);
         }
     }
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Factory for creating the {@link RowMapper} used to map the rows of the query result.
+ */
+public interface RowMapperFactory {
+
+    /**
+     * Creates the row mapper to use for mapping the rows of a single query result.
+     * <p/>
+     * A new row mapper is requested for each query result, which allows the row mapper to
+     * compute the column mapping only once from the first row, and then reuse it for the remaining rows.
+     *
+     * @param outputClass the class to map each row to, or <tt>null</tt> to map each row to a {@link java.util.Map}
+     * @return the row mapper
+     */
+    RowMapper<?> newRowMapper(Class<?> outputClass);
+
+}
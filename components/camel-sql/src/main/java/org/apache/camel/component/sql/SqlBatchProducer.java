@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultAsyncProducer;
+import org.apache.camel.support.ExchangeBatcher;
+import org.apache.camel.support.service.ServiceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * A SQL producer which accumulates the parameters of many exchanges into a single JDBC batch.
+ * <p/>
+ * Each incoming exchange contributes one set of parameters. The exchanges are held until either
+ * <tt>accumulateBatchSize</tt> exchanges has been collected, or <tt>accumulateBatchTimeout</tt> has elapsed
+ * since the first exchange was collected. Then all the collected parameters are executed using
+ * {@link PreparedStatement#executeBatch()} and the update count of each row (or the failure) is
+ * set on the originating exchange before its callback is completed. The batching is done using an
+ * {@link ExchangeBatcher}.
+ * <p/>
+ * This allows high rate insert routes to not be bound by the database round trip latency of each exchange.
+ * Notice that the exchanges are executed outside any transaction they may be part of, and therefore
+ * this producer should not be used with transacted routes.
+ */
+public class SqlBatchProducer extends DefaultAsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SqlBatchProducer.class);
+
+    private final String query;
+    private String resolvedQuery;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean alwaysPopulateStatement;
+    private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
+    private final boolean useMessageBodyForSql;
+    private final int batchSize;
+    private final long batchTimeout;
+    private int parametersCount;
+    private ExchangeBatcher<PendingExchange> batcher;
+
+    public SqlBatchProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate, SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
+                            boolean alwaysPopulateStatement, boolean useMessageBodyForSql, int batchSize, long batchTimeout) {
+        super(endpoint);
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlPrepareStatementStrategy = sqlPrepareStatementStrategy;
+        this.query = query;
+        this.alwaysPopulateStatement = alwaysPopulateStatement;
+        this.useMessageBodyForSql = useMessageBodyForSql;
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+    }
+
+    @Override
+    public SqlEndpoint getEndpoint() {
+        return (SqlEndpoint) super.getEndpoint();
+    }
+
+    public void setParametersCount(int parametersCount) {
+        this.parametersCount = parametersCount;
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        PendingExchange entry;
+        try {
+            final String sql;
+            if (useMessageBodyForSql) {
+                sql = exchange.getIn().getBody(String.class);
+            } else {
+                String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
+                sql = queryHeader != null ? queryHeader : resolvedQuery;
+            }
+            String preparedQuery = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
+            entry = new PendingExchange(exchange, sql, preparedQuery);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        // the exchange is completed when the batch is executed
+        return batcher.add(exchange, entry, callback);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
+        resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
+
+        if (batcher == null) {
+            batcher = new ExchangeBatcher<>(getEndpoint().getCamelContext(), this, "SqlBatchProducer",
+                    batchSize, batchTimeout, (exchanges, items) -> executeBatch(items));
+        }
+        // the pending exchanges are executed when the batcher is stopped
+        ServiceHelper.startService(batcher);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(batcher);
+        super.doStop();
+    }
+
+    /**
+     * Executes the batch, and sets the update count (or the failure) on each exchange of the batch.
+     */
+    private void executeBatch(List<PendingExchange> batch) {
+        // group by the prepared query in case the query is dynamic
+        Map<String, List<PendingExchange>> groups = new LinkedHashMap<>();
+        for (PendingExchange entry : batch) {
+            groups.computeIfAbsent(entry.preparedQuery, k -> new ArrayList<>()).add(entry);
+        }
+
+        for (Map.Entry<String, List<PendingExchange>> group : groups.entrySet()) {
+            try {
+                executeGroup(group.getKey(), group.getValue());
+            } catch (Exception e) {
+                for (PendingExchange entry : group.getValue()) {
+                    if (!entry.done && entry.exchange.getException() == null) {
+                        entry.exchange.setException(e);
+                    }
+                }
+            }
+        }
+    }
+
+    private void executeGroup(String preparedQuery, List<PendingExchange> group) {
+        LOG.trace("jdbcTemplate.execute batch of {} rows: {}", group.size(), preparedQuery);
+
+        jdbcTemplate.execute(preparedQuery, (PreparedStatement ps) -> {
+            int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
+
+            List<PendingExchange> added = new ArrayList<>(group.size());
+            for (PendingExchange entry : group) {
+                Exchange exchange = entry.exchange;
+                try {
+                    // only populate if really needed
+                    if (alwaysPopulateStatement || expected > 0) {
+                        Object value;
+                        if (useMessageBodyForSql) {
+                            value = exchange.getIn().getHeader(SqlConstants.SQL_PARAMETERS);
+                        } else {
+                            value = exchange.getIn().getBody();
+                        }
+                        Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(entry.sql, preparedQuery, expected, exchange, value);
+                        sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
+                    }
+                    ps.addBatch();
+                    added.add(entry);
+                } catch (Exception e) {
+                    // only this exchange failed, so continue with the other rows
+                    exchange.setException(e);
+                    entry.done = true;
+                    ps.clearParameters();
+                }
+            }
+            if (added.isEmpty()) {
+                return null;
+            }
+
+            int[] updateCounts;
+            SQLException cause = null;
+            try {
+                updateCounts = ps.executeBatch();
+            } catch (BatchUpdateException e) {
+                // the update counts contains the rows that was executed before the failure
+                // (or all the rows with the failed rows marked, depending on the JDBC driver)
+                updateCounts = e.getUpdateCounts();
+                cause = e;
+            }
+
+            for (int i = 0; i < added.size(); i++) {
+                PendingExchange entry = added.get(i);
+                if (updateCounts != null && i < updateCounts.length && updateCounts[i] != Statement.EXECUTE_FAILED) {
+                    entry.exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, updateCounts[i]);
+                } else {
+                    entry.exchange.setException(cause);
+                }
+                entry.done = true;
+            }
+            return null;
+        });
+    }
+
+    private static final class PendingExchange {
+        private final Exchange exchange;
+        private final String sql;
+        private final String preparedQuery;
+        private boolean done;
+
+        private PendingExchange(Exchange exchange, String sql, String preparedQuery) {
+            this.exchange = exchange;
+            this.sql = sql;
+            this.preparedQuery = preparedQuery;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.UriEndpoint;
+import org.apache.camel.spi.UriParam;
 import org.apache.camel.spi.UriPath;
 import org.apache.camel.util.UnsafeUriCharactersEncoder;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -35,6 +36,14 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     @UriPath(description = "Sets the SQL query to perform. You can externalize the query by using file: or classpath: as prefix and specify the location of the file.")
     @Metadata(required = true)
     private String query;
+    @UriParam(label = "producer,advanced", description = "If set greater than one, then the producer collects the parameters of many exchanges,"
+            + " each exchange providing one row, and executes them together as a single JDBC batch when this number of exchanges has been collected"
+            + " (or when accumulateBatchTimeout is triggered). The update count of each row is set on its exchange."
+            + " This is intended for high rate insert or update routes, and should not be used with transacted routes.")
+    private int accumulateBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "1000", description = "The maximum time in millis to wait for more exchanges to fill up the batch"
+            + " when using accumulateBatchSize, before executing the collected exchanges.")
+    private long accumulateBatchTimeout = 1000;
 
     public SqlEndpoint() {
     }
@@ -66,6 +75,15 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     @Override
     public Producer createProducer() throws Exception {
         SqlPrepareStatementStrategy prepareStrategy = getPrepareStatementStrategy() != null ? getPrepareStatementStrategy() : new DefaultSqlPrepareStatementStrategy(getSeparator());
+        if (getAccumulateBatchSize() > 1) {
+            if (isBatch() || getOutputType() == SqlOutputType.StreamList) {
+                throw new IllegalArgumentException("The accumulateBatchSize option cannot be used together with batch=true or outputType=StreamList");
+            }
+            SqlBatchProducer answer = new SqlBatchProducer(this, query, getJdbcTemplate(), prepareStrategy,
+                    isAlwaysPopulateStatement(), isUseMessageBodyForSql(), getAccumulateBatchSize(), getAccumulateBatchTimeout());
+            answer.setParametersCount(getParametersCount());
+            return answer;
+        }
         SqlProducer result = new SqlProducer(this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
                 isAlwaysPopulateStatement(), isUseMessageBodyForSql());
         result.setParametersCount(getParametersCount());
@@ -78,6 +96,32 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         return "sql:" + UnsafeUriCharactersEncoder.encode(query);
     }
 
+    public int getAccumulateBatchSize() {
+        return accumulateBatchSize;
+    }
+
+    /**
+     * If set greater than one, then the producer collects the parameters of many exchanges,
+     * each exchange providing one row, and executes them together as a single JDBC batch when this number of exchanges has been collected
+     * (or when accumulateBatchTimeout is triggered). The update count of each row is set on its exchange.
+     * This is intended for high rate insert or update routes, and should not be used with transacted routes.
+     */
+    public void setAccumulateBatchSize(int accumulateBatchSize) {
+        this.accumulateBatchSize = accumulateBatchSize;
+    }
+
+    public long getAccumulateBatchTimeout() {
+        return accumulateBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis to wait for more exchanges to fill up the batch when using accumulateBatchSize,
+     * before executing the collected exchanges.
+     */
+    public void setAccumulateBatchTimeout(long accumulateBatchTimeout) {
+        this.accumulateBatchTimeout = accumulateBatchTimeout;
+    }
+
     public String getQuery() {
         return query;
     }
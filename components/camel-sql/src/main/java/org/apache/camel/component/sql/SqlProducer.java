@@ -252,6 +252,9 @@ public class SqlProducer extends DefaultProducer {
         try {
             con = jdbcTemplate.getDataSource().getConnection();
             ps = statementCreator.createPreparedStatement(con);
+            if (getEndpoint().getFetchSize() > 0) {
+                ps.setFetchSize(getEndpoint().getFetchSize());
+            }
 
             int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
 
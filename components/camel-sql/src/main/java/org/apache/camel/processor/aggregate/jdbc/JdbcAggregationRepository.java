@@ -21,18 +21,24 @@ import java.io.IOException;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
+import org.apache.camel.AggregationStrategy;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.AppendableAggregationRepository;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.DefaultLRUCacheFactory;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -62,12 +68,17 @@ import org.springframework.util.FileCopyUtils;
  * data types. If a data type is not such a type its dropped and a WARN is
  * logged. And it only persists the Message body and the Message headers.
  * The Exchange properties are not persisted.
+ * <p/>
+ * In append-only mode each exchange added to a correlation group is inserted as a delta into a separate table,
+ * instead of updating the aggregated exchange, and the aggregated exchange is rebuilt from the deltas when needed.
  */
-public class JdbcAggregationRepository extends ServiceSupport implements RecoverableAggregationRepository, OptimisticLockingAggregationRepository {
+public class JdbcAggregationRepository extends ServiceSupport implements RecoverableAggregationRepository,
+        OptimisticLockingAggregationRepository, AppendableAggregationRepository {
 
     protected static final String EXCHANGE = "exchange";
     protected static final String ID = "id";
     protected static final String BODY = "body";
+    protected static final String SEQ = "seq";
 
     private static final Logger LOG = LoggerFactory.getLogger(JdbcAggregationRepository.class);
     private static final Constants PROPAGATION_CONSTANTS = new Constants(TransactionDefinition.class);
@@ -90,6 +101,13 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
     private List<String> headersToStoreAsText;
     private boolean storeBodyAsText;
     private boolean allowSerializedHeaders;
+    private boolean appendOnly;
+    private int compactionThreshold;
+    private int aggregatedCacheSize = 1000;
+    private AggregationStrategy aggregationStrategy;
+    // the aggregated exchanges of the recently used groups in progress when in append-only mode,
+    // the other groups are rebuilt from the deltas when needed
+    private volatile Map<String, Exchange> aggregated = createAggregatedCache(aggregatedCacheSize);
 
     /**
      * Creates an aggregation repository
@@ -166,6 +184,12 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
                         insert(camelContext, correlationId, exchange, getRepositoryName());
                     }
 
+                    if (appendOnly) {
+                        // the exchange replaces the deltas of the group
+                        aggregated.remove(key);
+                        jdbcTemplate.update("DELETE FROM " + getRepositoryNameDeltas() + " WHERE " + ID + " = ?", key);
+                    }
+
                 } catch (Exception e) {
                     throw new RuntimeException("Error adding to repository " + repositoryName + " with key " + key, e);
                 }
@@ -274,10 +298,95 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
         return updateCount == null ? 0 : updateCount;
     }
 
+    @Override
+    public void append(final CamelContext camelContext, final String correlationId, final Exchange delta, final Exchange exchange) {
+        final String key = correlationId;
+        final int size = exchange.getProperty(Exchange.AGGREGATED_SIZE, 1, Integer.class);
+        try {
+            transactionTemplate.execute(new TransactionCallbackWithoutResult() {
+                protected void doInTransactionWithoutResult(TransactionStatus status) {
+                    try {
+                        LOG.debug("Appending delta {} with key: [{}]", size, key);
+
+                        if (size == 1) {
+                            // a new group so store the aggregated exchange for the keys, and remove any previous deltas
+                            jdbcTemplate.update("DELETE FROM " + getRepositoryNameDeltas() + " WHERE " + ID + " = ?", key);
+                            boolean present = jdbcTemplate.queryForObject(
+                                    "SELECT COUNT(*) FROM " + getRepositoryName() + " WHERE " + ID + " = ?", Integer.class, key) != 0;
+                            if (present) {
+                                update(camelContext, key, exchange, getRepositoryName());
+                            } else {
+                                insert(camelContext, key, exchange, getRepositoryName());
+                            }
+                        }
+
+                        insertDelta(camelContext, key, size, delta);
+
+                        if (compactionThreshold > 0 && size % compactionThreshold == 0) {
+                            compact(camelContext, key, size, exchange);
+                        }
+                    } catch (Exception e) {
+                        throw new RuntimeException("Error appending to repository " + repositoryName + " with key " + key, e);
+                    }
+                }
+            });
+            aggregated.put(key, exchange);
+        } catch (RuntimeException e) {
+            // rebuild the aggregated exchange from the stored deltas on next get
+            aggregated.remove(key);
+            throw e;
+        }
+    }
+
+    /**
+     * Inserts the delta with the given sequence number into the deltas table
+     *
+     * @param camelContext   the current CamelContext
+     * @param key            the correlation key
+     * @param seq            the sequence number of the delta in the group, starting from 1
+     * @param delta          the incoming exchange to append
+     */
+    protected void insertDelta(final CamelContext camelContext, final String key, final int seq, final Exchange delta) throws Exception {
+        final byte[] data = codec.marshallExchange(camelContext, delta, allowSerializedHeaders);
+        String sql = "INSERT INTO " + getRepositoryNameDeltas() + " (" + ID + ", " + SEQ + ", " + EXCHANGE + ") VALUES (?, ?, ?)";
+        jdbcTemplate.execute(sql, new AbstractLobCreatingPreparedStatementCallback(getLobHandler()) {
+            @Override
+            protected void setValues(PreparedStatement ps, LobCreator lobCreator) throws SQLException {
+                ps.setString(1, key);
+                ps.setInt(2, seq);
+                lobCreator.setBlobAsBytes(ps, 3, data);
+            }
+        });
+    }
+
+    /**
+     * Compacts the deltas of the group into the aggregated exchange stored in the repository table
+     *
+     * @param camelContext   the current CamelContext
+     * @param key            the correlation key
+     * @param size           the sequence number of the last delta in the aggregated exchange
+     * @param exchange       the aggregated exchange
+     */
+    protected void compact(final CamelContext camelContext, final String key, final int size, final Exchange exchange) throws Exception {
+        LOG.debug("Compacting {} deltas with key: [{}]", size, key);
+        update(camelContext, key, exchange, getRepositoryName());
+        jdbcTemplate.update("DELETE FROM " + getRepositoryNameDeltas() + " WHERE " + ID + " = ? AND " + SEQ + " <= ?", key, size);
+    }
+
     @Override
     public Exchange get(final CamelContext camelContext, final String correlationId) {
         final String key = correlationId;
-        Exchange result = get(key, getRepositoryName(), camelContext);
+        Exchange result;
+        if (appendOnly) {
+            // the aggregation strategy changes the aggregated exchange in place, so its taken out of the cache
+            // until its appended again, as otherwise a failed aggregation would leave a half changed exchange cached
+            result = aggregated.remove(key);
+            if (result == null) {
+                result = rebuild(camelContext, key);
+            }
+        } else {
+            result = get(key, getRepositoryName(), camelContext);
+        }
 
         LOG.debug("Getting key  [{}] -> {}", key, result);
 
@@ -310,6 +419,50 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
         });
     }
 
+    /**
+     * Rebuilds the aggregated exchange of the group from the last compacted exchange and the deltas appended since.
+     */
+    private Exchange rebuild(final CamelContext camelContext, final String key) {
+        return transactionTemplateReadOnly.execute(new TransactionCallback<Exchange>() {
+            public Exchange doInTransaction(TransactionStatus status) {
+                Exchange answer = get(key, getRepositoryName(), camelContext);
+                if (answer == null) {
+                    return null;
+                }
+
+                String sql = "SELECT " + SEQ + ", " + EXCHANGE + " FROM " + getRepositoryNameDeltas() + " WHERE " + ID + " = ? ORDER BY " + SEQ;
+                List<Object[]> deltas = jdbcTemplate.query(sql, new Object[] {key}, new RowMapper<Object[]>() {
+                    public Object[] mapRow(ResultSet rs, int rowNum) throws SQLException {
+                        return new Object[] {rs.getInt(SEQ), getLobHandler().getBlobAsBytes(rs, EXCHANGE)};
+                    }
+                });
+                if (deltas.isEmpty()) {
+                    return answer;
+                }
+                if (aggregationStrategy == null) {
+                    throw new IllegalStateException("AggregationStrategy must be configured to rebuild the aggregated exchange with key " + key);
+                }
+
+                // replay all the deltas if the group has not been compacted yet, as the stored aggregated exchange
+                // does not include the exchange properties the aggregation strategy may use
+                if ((Integer) deltas.get(0)[0] == 1) {
+                    answer = null;
+                }
+                try {
+                    for (Object[] delta : deltas) {
+                        Exchange newExchange = codec.unmarshallExchange(camelContext, (byte[]) delta[1]);
+                        answer = aggregationStrategy.aggregate(answer, newExchange);
+                        answer.setProperty(Exchange.AGGREGATED_SIZE, delta[0]);
+                    }
+                } catch (IOException | ClassNotFoundException e) {
+                    throw new RuntimeException("Error rebuilding key " + key + " from repository " + repositoryName, e);
+                }
+                LOG.debug("Rebuilt key [{}] from {} deltas", key, deltas.size());
+                return answer;
+            }
+        });
+    }
+
     @Override
     public void remove(final CamelContext camelContext, final String correlationId, final Exchange exchange) {
         transactionTemplate.execute(new TransactionCallbackWithoutResult() {
@@ -320,6 +473,9 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
                     LOG.debug("Removing key [{}]", key);
 
                     jdbcTemplate.update("DELETE FROM " + getRepositoryName() + " WHERE " + ID + " = ?", key);
+                    if (appendOnly) {
+                        jdbcTemplate.update("DELETE FROM " + getRepositoryNameDeltas() + " WHERE " + ID + " = ?", key);
+                    }
 
                     insert(camelContext, confirmKey, exchange, getRepositoryNameCompleted());
 
@@ -328,6 +484,7 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
                 }
             }
         });
+        aggregated.remove(correlationId);
     }
 
     @Override
@@ -456,6 +613,71 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
         this.returnOldExchange = returnOldExchange;
     }
 
+    @Override
+    public boolean isAppendOnly() {
+        return appendOnly;
+    }
+
+    /**
+     * Whether to insert each exchange added to a correlation group as a delta into the deltas table, instead of
+     * updating the aggregated exchange in the repository table, which rewrites the whole aggregated exchange on
+     * each add. The aggregated exchange of the recently used groups in progress are kept in memory (see
+     * {@link #setAggregatedCacheSize(int)}), and the other groups are rebuilt from the deltas using the aggregation
+     * strategy of the aggregator, such as after a restart.
+     * <p/>
+     * The deltas table has the same name as the repository table suffixed with <tt>_deltas</tt>.
+     * This option is by default false.
+     */
+    public void setAppendOnly(boolean appendOnly) {
+        this.appendOnly = appendOnly;
+    }
+
+    public int getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * In append-only mode the number of deltas after which they are compacted into the aggregated exchange stored in
+     * the repository table, to bound the time it takes to rebuild the aggregated exchange. Only the message body and
+     * headers of the aggregated exchange are stored, so compaction should only be used when the aggregation strategy
+     * does not keep its state in exchange properties. This option is by default 0, which means no compaction.
+     */
+    public void setCompactionThreshold(int compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public int getAggregatedCacheSize() {
+        return aggregatedCacheSize;
+    }
+
+    /**
+     * In append-only mode the maximum number of aggregated exchanges of the groups in progress to keep in memory.
+     * When more groups are in progress, then the least recently used aggregated exchanges are evicted, and rebuilt
+     * from the deltas when the group is used again. This option is by default 1000.
+     */
+    public void setAggregatedCacheSize(int aggregatedCacheSize) {
+        this.aggregatedCacheSize = aggregatedCacheSize;
+        this.aggregated = createAggregatedCache(aggregatedCacheSize);
+    }
+
+    private static Map<String, Exchange> createAggregatedCache(int maximumCacheSize) {
+        Map<String, Exchange> answer = LRUCacheFactory.newLRUCache(maximumCacheSize);
+        if (LRUCacheFactory.getInstance() instanceof DefaultLRUCacheFactory) {
+            // the default cache is not thread safe
+            answer = Collections.synchronizedMap(answer);
+        }
+        return answer;
+    }
+
+    public AggregationStrategy getAggregationStrategy() {
+        return aggregationStrategy;
+    }
+
+    @Override
+    public void setAggregationStrategy(AggregationStrategy aggregationStrategy) {
+        this.aggregationStrategy = aggregationStrategy;
+    }
+
     public void setJdbcCamelCodec(JdbcCamelCodec codec) {
         this.codec = codec;
     }
@@ -550,6 +772,10 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
         return getRepositoryName() + "_completed";
     }
 
+    public String getRepositoryNameDeltas() {
+        return getRepositoryName() + "_deltas";
+    }
+
     @Override
     protected void doStart() throws Exception {
         ObjectHelper.notNull(repositoryName, "RepositoryName");
@@ -581,7 +807,7 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        aggregated.clear();
     }
 
 }
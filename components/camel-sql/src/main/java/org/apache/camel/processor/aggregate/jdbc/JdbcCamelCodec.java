@@ -18,25 +18,39 @@ package org.apache.camel.processor.aggregate.jdbc;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.OutputStream;
+import java.io.PushbackInputStream;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.support.BinaryExchangeCodec;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultExchangeHolder;
 import org.apache.camel.util.IOHelper;
 
 /**
  * Adapted from HawtDBCamelCodec
+ * <p/>
+ * The exchanges are encoded using {@link BinaryExchangeCodec}. Exchanges which was persisted using Java serialization
+ * by older versions can still be decoded.
  */
 public class JdbcCamelCodec {
 
+    private final BinaryExchangeCodec exchangeCodec = new BinaryExchangeCodec();
+
+    /**
+     * The codec used to encode the exchanges, which can be used to add codecs for custom types.
+     */
+    public BinaryExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
     public byte[] marshallExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders) throws IOException {
         ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
         marshallExchange(camelContext, exchange, allowSerializedHeaders, bytesOut);
@@ -82,17 +96,26 @@ public class JdbcCamelCodec {
         return answer;
     }
 
-    private void encode(Object object, OutputStream bytesOut) throws IOException {
-        try (ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut)) {
-            objectOut.writeObject(object);
-        }
+    private void encode(DefaultExchangeHolder holder, OutputStream bytesOut) throws IOException {
+        exchangeCodec.encode(holder, bytesOut);
     }
 
     private DefaultExchangeHolder decode(CamelContext camelContext, InputStream bytesIn) throws IOException, ClassNotFoundException {
+        PushbackInputStream in = new PushbackInputStream(bytesIn);
+        int first = in.read();
+        if (first == -1) {
+            throw new EOFException("No data to decode");
+        }
+        in.unread(first);
+        if ((byte) first == BinaryExchangeCodec.MAGIC) {
+            return exchangeCodec.decode(camelContext, in);
+        }
+
+        // the exchange was persisted using Java serialization
         ObjectInputStream objectIn = null;
         Object obj = null;
         try {
-            objectIn = new ClassLoadingAwareObjectInputStream(camelContext, bytesIn);
+            objectIn = new ClassLoadingAwareObjectInputStream(camelContext, in);
             obj = objectIn.readObject();
         } finally {
             IOHelper.close(objectIn);
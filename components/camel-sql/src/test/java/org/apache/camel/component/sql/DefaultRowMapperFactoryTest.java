@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DefaultRowMapperFactoryTest {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+    private final DefaultRowMapperFactory factory = new DefaultRowMapperFactory();
+
+    @Before
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.DERBY).addScript("sql/createAndPopulateDatabase.sql").build();
+        jdbcTemplate = new JdbcTemplate(db);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        db.shutdown();
+    }
+
+    @Test
+    public void testMapRows() throws Exception {
+        List<Map<String, Object>> rows = queryForMaps("select * from projects order by id");
+
+        assertEquals(3, rows.size());
+        Map<String, Object> row = rows.get(2);
+        assertEquals(3, row.size());
+        assertEquals(3, row.get("ID"));
+        assertEquals("Linux", row.get("project"));
+        assertEquals("XXX", row.get("License"));
+        assertTrue(row.containsKey("license"));
+        assertFalse(row.containsKey("foo"));
+        assertNull(row.get("foo"));
+        assertEquals("{ID=3, PROJECT=Linux, LICENSE=XXX}", row.toString());
+        assertEquals(jdbcTemplate.queryForList("select * from projects order by id"), rows);
+    }
+
+    @Test
+    public void testUpdateRow() throws Exception {
+        Map<String, Object> row = queryForMaps("select * from projects order by id").get(0);
+
+        assertEquals("Camel", row.put("project", "Apache Camel"));
+        assertEquals("Apache Camel", row.get("PROJECT"));
+
+        row.put("version", "3.1");
+        assertEquals(4, row.size());
+        assertEquals("3.1", row.get("VERSION"));
+        assertEquals("Apache Camel", row.get("project"));
+
+        assertEquals("ASF", row.remove("license"));
+        assertEquals("{ID=1, PROJECT=Apache Camel, version=3.1}", row.toString());
+    }
+
+    @Test
+    public void testDuplicateColumns() throws Exception {
+        Map<String, Object> row = queryForMaps("select id, project, license as id from projects where id = 1").get(0);
+
+        // the same as a case insensitive map where the last column wins
+        assertEquals(2, row.size());
+        assertEquals("ASF", row.get("id"));
+        assertEquals("{ID=ASF, PROJECT=Camel}", row.toString());
+    }
+
+    @Test
+    public void testSerializeRow() throws Exception {
+        Map<String, Object> row = queryForMaps("select * from projects order by id").get(1);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(row);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            Map<?, ?> copy = (Map<?, ?>) ois.readObject();
+            assertEquals(row, copy);
+            assertEquals("AMQ", copy.get("project"));
+        }
+    }
+
+    @Test
+    public void testMapBeans() throws Exception {
+        List<ProjectModel> models = jdbcTemplate.query("select * from projects order by id", beanRowMapper(ProjectModel.class));
+
+        assertEquals(3, models.size());
+        assertEquals(2, models.get(1).getId());
+        assertEquals("AMQ", models.get(1).getProject());
+        assertEquals("ASF", models.get(1).getLicense());
+    }
+
+    @Test
+    public void testMapBeansWithUnderscoreNamesAndConversion() throws Exception {
+        List<ProjectLicense> licenses = jdbcTemplate.query("select id as project_id, license as license_name, project as other from projects order by id",
+                beanRowMapper(ProjectLicense.class));
+
+        assertEquals(3, licenses.size());
+        assertEquals(Long.valueOf(3), licenses.get(2).getProjectId());
+        assertEquals("XXX", licenses.get(2).getLicenseName());
+    }
+
+    @Test(expected = Exception.class)
+    public void testMapNullToPrimitive() throws Exception {
+        jdbcTemplate.query("select cast(null as integer) as id from projects", beanRowMapper(ProjectModel.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> queryForMaps(String sql) {
+        return jdbcTemplate.query(sql, (RowMapper<Map<String, Object>>) factory.newRowMapper(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> RowMapper<T> beanRowMapper(Class<T> type) {
+        return (RowMapper<T>) factory.newRowMapper(type);
+    }
+
+    public static class ProjectLicense {
+
+        private Long projectId;
+        private String licenseName;
+
+        public Long getProjectId() {
+            return projectId;
+        }
+
+        public void setProjectId(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        public String getLicenseName() {
+            return licenseName;
+        }
+
+        public void setLicenseName(String licenseName) {
+            this.licenseName = licenseName;
+        }
+    }
+}
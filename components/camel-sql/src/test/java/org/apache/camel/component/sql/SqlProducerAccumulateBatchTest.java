@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+public class SqlProducerAccumulateBatchTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.DERBY).addScript("sql/createAndPopulateDatabase.sql").build();
+        jdbcTemplate = new JdbcTemplate(db);
+
+        super.setUp();
+    }
+
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        db.shutdown();
+    }
+
+    @Test
+    public void testAccumulateBatchSize() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        mock.allMessages().header(SqlConstants.SQL_UPDATE_COUNT).isEqualTo(1);
+
+        List<Future<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final int id = 10 + i;
+            futures.add(template.asyncSend("direct:insert", e -> e.getIn().setBody(new Object[]{id, "Project" + id, "ASF"})));
+        }
+
+        assertMockEndpointsSatisfied();
+        for (Future<Exchange> future : futures) {
+            assertNull(future.get().getException());
+        }
+        assertEquals(13, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class).intValue());
+    }
+
+    @Test
+    public void testAccumulateBatchTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+
+        // only 2 exchanges so the batch is executed when the timeout triggers
+        template.asyncSendBody("direct:insert", new Object[]{20, "Foo", "ASF"});
+        template.asyncSendBody("direct:insert", new Object[]{21, "Bar", "ASF"});
+
+        assertMockEndpointsSatisfied();
+        assertEquals(5, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class).intValue());
+    }
+
+    @Test
+    public void testAccumulateBatchFailure() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(0);
+
+        // duplicate primary key
+        Future<Exchange> future = template.asyncSend("direct:insert", e -> e.getIn().setBody(new Object[]{1, "Camel", "ASF"}));
+
+        Exchange out = future.get();
+        assertNotNull(out.getException());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("direct:insert")
+                    .to("sql:insert into projects (id, project, license) values (#, #, #)?accumulateBatchSize=5&accumulateBatchTimeout=500")
+                    .to("mock:result");
+            }
+        };
+    }
+}
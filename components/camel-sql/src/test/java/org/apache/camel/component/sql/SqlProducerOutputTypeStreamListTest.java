@@ -100,6 +100,21 @@ public class SqlProducerOutputTypeStreamListTest extends CamelTestSupport {
         assertThat(resultBodyAt(mock, 2), instanceOf(ProjectModel.class));
     }
 
+    @Test
+    public void testSplitWithFetchSize() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+
+        template.sendBody("direct:withSplitFetchSize", "testmsg");
+
+        mock.assertIsSatisfied();
+        Map<?, ?> row = (Map<?, ?>) resultBodyAt(mock, 2);
+        assertEquals(3, row.get("ID"));
+        assertEquals("Linux", row.get("PROJECT"));
+        // the column names should be case insensitive
+        assertEquals("XXX", row.get("license"));
+    }
+
     private Object resultBodyAt(MockEndpoint result, int index) {
         return result.assertExchangeReceived(index).getIn().getBody();
     }
@@ -123,6 +138,14 @@ public class SqlProducerOutputTypeStreamListTest extends CamelTestSupport {
                             .to("mock:result")
                         .end();
 
+                from("direct:withSplitFetchSize")
+                        .to("sql:select * from projects order by id?outputType=StreamList&fetchSize=2")
+                        .to("log:stream")
+                        .split(body()).streaming()
+                            .to("log:row")
+                            .to("mock:result")
+                        .end();
+
                 from("direct:withSplitModel")
                         .to("sql:select * from projects order by id?outputType=StreamList&outputClass=org.apache.camel.component.sql.ProjectModel")
                         .to("log:stream")
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.util.StopWatch;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the bytes written to the database when aggregating a large group, by rewriting the aggregated
+ * exchange on each add, and by appending the incoming exchanges as deltas.
+ */
+public class JdbcAggregateAppendOnlyLoadTest extends AbstractJdbcAggregationTestSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcAggregateAppendOnlyLoadTest.class);
+    private static final int SIZE = 500;
+    private static final String PART = "0123456789012345678901234567890123456789012345678901234567890123456789012345678901234567890123456789";
+
+    private JdbcAggregationRepository repo2;
+    private CountingCodec codec1 = new CountingCodec();
+    private CountingCodec codec2 = new CountingCodec();
+
+    @Override
+    void configureJdbcAggregationRepository() {
+        repo.setAppendOnly(true);
+        repo.setJdbcCamelCodec(codec1);
+    }
+
+    @Override
+    public void postProcessTest() throws Exception {
+        repo2 = applicationContext.getBean("repo2", JdbcAggregationRepository.class);
+        repo2.setJdbcCamelCodec(codec2);
+        super.postProcessTest();
+    }
+
+    @Test
+    public void testWriteAmplification() throws Exception {
+        long rewrite = aggregate("direct:rewrite", codec2);
+        long append = aggregate("direct:append", codec1);
+
+        assertTrue("Appending deltas should write far less than rewriting: " + append + " >= " + rewrite, append * 10 < rewrite);
+    }
+
+    private long aggregate(String uri, CountingCodec codec) throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.reset();
+        mock.expectedMessageCount(1);
+
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < SIZE; i++) {
+            template.sendBodyAndHeader(uri, PART, "id", "A");
+        }
+        assertMockEndpointsSatisfied();
+
+        long written = codec.getBytesWritten();
+        LOG.info("Aggregating {} messages using {} wrote {} bytes in {} millis", SIZE, uri, written, watch.taken());
+        return written;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:rewrite")
+                        .aggregate(header("id"), new MyAggregationStrategy())
+                        .aggregationRepository(repo2)
+                        .completionSize(SIZE)
+                        .to("mock:result");
+
+                from("direct:append")
+                        .aggregate(header("id"), new MyAggregationStrategy())
+                        .aggregationRepository(repo)
+                        .completionSize(SIZE)
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private static class CountingCodec extends JdbcCamelCodec {
+
+        private final AtomicLong bytesWritten = new AtomicLong();
+
+        @Override
+        public byte[] marshallExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders) throws IOException {
+            byte[] data = super.marshallExchange(camelContext, exchange, allowSerializedHeaders);
+            bytesWritten.addAndGet(data.length);
+            return data;
+        }
+
+        long getBytesWritten() {
+            return bytesWritten.get();
+        }
+    }
+}
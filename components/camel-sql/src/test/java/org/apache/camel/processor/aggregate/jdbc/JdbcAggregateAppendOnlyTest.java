@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import javax.sql.DataSource;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class JdbcAggregateAppendOnlyTest extends AbstractJdbcAggregationTestSupport {
+
+    @Override
+    void configureJdbcAggregationRepository() {
+        repo.setAppendOnly(true);
+    }
+
+    @Test
+    public void testAppendOnly() throws Exception {
+        getMockEndpoint("mock:aggregated").expectedBodiesReceived("ABCDE");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 123);
+        template.sendBodyAndHeader("direct:start", "B", "id", 123);
+        template.sendBodyAndHeader("direct:start", "C", "id", 123);
+
+        // only the deltas are appended, and the aggregated exchange is kept in memory
+        assertEquals(3, countDeltas());
+        assertEquals("ABC", repo.get(context, "123").getIn().getBody());
+
+        template.sendBodyAndHeader("direct:start", "D", "id", 123);
+        template.sendBodyAndHeader("direct:start", "E", "id", 123);
+
+        assertMockEndpointsSatisfied();
+
+        // the group is removed when completed
+        assertEquals(0, countDeltas());
+        assertNull(repo.get(context, "123"));
+    }
+
+    @Test
+    public void testRebuildFromDeltas() throws Exception {
+        getMockEndpoint("mock:aggregated").expectedBodiesReceived("ABCDE");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 123);
+        template.sendBodyAndHeader("direct:start", "B", "id", 123);
+        template.sendBodyAndHeader("direct:start", "C", "id", 123);
+
+        // simulate a restart which looses the aggregated exchange kept in memory
+        repo.stop();
+        repo.start();
+        assertEquals("ABC", repo.get(context, "123").getIn().getBody());
+
+        template.sendBodyAndHeader("direct:start", "D", "id", 123);
+        template.sendBodyAndHeader("direct:start", "E", "id", 123);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRebuildEvictedGroups() throws Exception {
+        // only keep one aggregated exchange in memory, so the other group is rebuilt from its deltas
+        repo.stop();
+        repo.setAggregatedCacheSize(1);
+        repo.start();
+
+        getMockEndpoint("mock:aggregated").expectedBodiesReceivedInAnyOrder("ABCDE", "FGHIJ");
+
+        String first = "ABCDE";
+        String second = "FGHIJ";
+        for (int i = 0; i < 5; i++) {
+            template.sendBodyAndHeader("direct:start", first.substring(i, i + 1), "id", 123);
+            template.sendBodyAndHeader("direct:start", second.substring(i, i + 1), "id", 456);
+        }
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, countDeltas());
+    }
+
+    @Test
+    public void testFailedAggregationNotCached() throws Exception {
+        getMockEndpoint("mock:aggregated").expectedBodiesReceived("ABCDE");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 123);
+        template.sendBodyAndHeader("direct:start", "B", "id", 123);
+        try {
+            // the aggregation strategy changes the aggregated exchange before it fails
+            template.sendBodyAndHeader("direct:start", "X", "id", 123);
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            assertEquals("Forced", e.getCause().getCause().getMessage());
+        }
+        assertEquals(2, countDeltas());
+
+        template.sendBodyAndHeader("direct:start", "C", "id", 123);
+        template.sendBodyAndHeader("direct:start", "D", "id", 123);
+        template.sendBodyAndHeader("direct:start", "E", "id", 123);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        repo.setCompactionThreshold(2);
+        getMockEndpoint("mock:aggregated").expectedBodiesReceived("ABCDE");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 123);
+        template.sendBodyAndHeader("direct:start", "B", "id", 123);
+        template.sendBodyAndHeader("direct:start", "C", "id", 123);
+
+        // the first two deltas are compacted into the stored aggregated exchange
+        assertEquals(1, countDeltas());
+
+        repo.stop();
+        repo.start();
+        assertEquals("ABC", repo.get(context, "123").getIn().getBody());
+
+        template.sendBodyAndHeader("direct:start", "D", "id", 123);
+        template.sendBodyAndHeader("direct:start", "E", "id", 123);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private static class FailingAggregationStrategy implements AggregationStrategy {
+
+        private final AggregationStrategy delegate = new MyAggregationStrategy();
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            Exchange answer = delegate.aggregate(oldExchange, newExchange);
+            if ("X".equals(newExchange.getIn().getBody())) {
+                throw new IllegalArgumentException("Forced");
+            }
+            return answer;
+        }
+    }
+
+    private int countDeltas() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(applicationContext.getBean("dataSource1", DataSource.class));
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + repo.getRepositoryNameDeltas(), Integer.class);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .aggregate(header("id"), new FailingAggregationStrategy())
+                        .completionSize(5).aggregationRepository(repo)
+                        .to("mock:aggregated");
+            }
+        };
+    }
+}
@@ -16,10 +16,14 @@
  */
 package org.apache.camel.processor.aggregate.jdbc;
 
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
 import java.util.Date;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeCodec;
 import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
 import org.junit.Test;
 
 public class JdbcExchangeSerializationTest extends AbstractJdbcAggregationTestSupport {
@@ -63,4 +67,26 @@ public class JdbcExchangeSerializationTest extends AbstractJdbcAggregationTestSu
         assertNull(date);
         assertSame(context, actual.getContext());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testJavaSerializedExchange() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("name", "Olivier");
+
+        // exchanges persisted by older versions using Java serialization
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(DefaultExchangeHolder.marshal(exchange, false));
+        }
+
+        JdbcCamelCodec codec = new JdbcCamelCodec();
+        Exchange actual = codec.unmarshallExchange(context, bytes.toByteArray());
+        assertEquals("Hello World", actual.getIn().getBody());
+        assertEquals("Olivier", actual.getIn().getHeader("name"));
+
+        byte[] data = codec.marshallExchange(context, exchange, false);
+        assertTrue(BinaryExchangeCodec.isEncoded(data));
+        assertEquals("Hello World", codec.unmarshallExchange(context, data).getIn().getBody());
+    }
+}
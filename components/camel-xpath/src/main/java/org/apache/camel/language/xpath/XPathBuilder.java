@@ -18,6 +18,7 @@ package org.apache.camel.language.xpath;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -26,6 +27,8 @@ import java.util.Properties;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.xml.namespace.QName;
 import javax.xml.parsers.ParserConfigurationException;
@@ -56,6 +59,7 @@ import org.apache.camel.Predicate;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.RuntimeExpressionException;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.language.xtokenizer.XMLTokenExpressionIterator;
 import org.apache.camel.spi.ExpressionResultTypeAware;
 import org.apache.camel.spi.Language;
 import org.apache.camel.spi.NamespaceAware;
@@ -101,6 +105,13 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
     private static final String SAXON_OBJECT_MODEL_URI = "http://saxon.sf.net/jaxp/xpath/om";
     private static final String SAXON_FACTORY_CLASS_NAME = "net.sf.saxon.xpath.XPathFactoryImpl";
     private static final String OBTAIN_ALL_NS_XPATH = "//*/namespace::*";
+    // the forward only subset of xpath which can be evaluated in streaming mode, such as /a/b//ns:c[@type='foo']
+    private static final String NAME = "[A-Za-z_][\\w.\\-]*";
+    private static final String STREAMING_PREDICATE = "\\[\\s*@(?:(" + NAME + "):)?" + NAME + "\\s*(?:=\\s*(?:'[^']*'|\"[^\"]*\")\\s*)?\\]";
+    private static final String STREAMING_STEP = "(//?)(\\*|(?:(" + NAME + "):)?(?:" + NAME + "|\\*))((?:" + STREAMING_PREDICATE + ")*)";
+    private static final Pattern STREAMING_STEP_PATTERN = Pattern.compile(STREAMING_STEP);
+    private static final Pattern STREAMING_PATH_PATTERN = Pattern.compile("(?:" + STREAMING_STEP + ")+");
+    private static final Pattern STREAMING_PREDICATE_PATTERN = Pattern.compile(STREAMING_PREDICATE);
 
     private static volatile XPathFactory defaultXPathFactory;
 
@@ -112,6 +123,7 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
     private final MessageVariableResolver variableResolver = new MessageVariableResolver(exchange);
     private final Map<String, String> namespaces = new ConcurrentHashMap<>();
     private boolean threadSafety;
+    private volatile boolean streaming;
     private volatile XPathFactory xpathFactory;
     private volatile Class<?> documentType = Document.class;
     // For some reason the default expression of "a/b" on a document such as
@@ -510,6 +522,29 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
         return this;
     }
 
+    /**
+     * Whether to evaluate the xpath expression in streaming mode when the
+     * result type is NODESET, such as when splitting big XML documents with
+     * the Camel Splitter EIP in streaming mode.
+     * <p/>
+     * In streaming mode the input is parsed with StAX and the matched nodes
+     * are returned one by one as XML fragments (with the namespaces of their
+     * ancestors) by an iterator, instead of loading the whole document into
+     * memory as DOM. Only a forward-only subset of XPath is supported, which is
+     * absolute location paths with child and descendant steps such as
+     * <tt>/orders//ns:order</tt>, where the steps can have attribute predicates
+     * such as <tt>[@type]</tt> or <tt>[@type='foo']</tt>. Any other expression
+     * is evaluated as usual using DOM.
+     * <p/>
+     * Streaming is disabled by default
+     *
+     * @return the current builder.
+     */
+    public XPathBuilder streaming() {
+        setStreaming(true);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -567,6 +602,14 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
         this.threadSafety = threadSafety;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     /**
      * Gets the namespace context, can be <tt>null</tt> if no custom context has
      * been assigned.
@@ -877,6 +920,12 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
     }
 
     public Object evaluate(Exchange exchange) {
+        if (streaming) {
+            Expression expression = createStreamingExpression(exchange);
+            if (expression != null) {
+                return expression.evaluate(exchange, Object.class);
+            }
+        }
         Object answer = evaluateAs(exchange, resultQName);
         if (resultType != null) {
             return ExchangeHelper.convertToType(exchange, resultType, answer);
@@ -887,6 +936,68 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
     // Implementation methods
     // -------------------------------------------------------------------------
 
+    /**
+     * Creates the StAX based expression to evaluate the xpath in streaming mode.
+     *
+     * @return the expression, or <tt>null</tt> if the xpath expression, the
+     *         result type or the input is not supported in streaming mode, and
+     *         the xpath should be evaluated using DOM
+     */
+    protected Expression createStreamingExpression(Exchange exchange) {
+        if (resultType != null || !XPathConstants.NODESET.equals(resultQName)) {
+            return null;
+        }
+        Object input = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
+        if (input == null || input instanceof Node || input instanceof DOMSource) {
+            // the input is already in memory
+            return null;
+        }
+
+        // unprefixed names are not in any namespace in xpath
+        Map<String, String> nsmap = new HashMap<>(namespaces);
+        nsmap.remove("");
+        String path = createStreamingPath(getText(), nsmap);
+        if (path == null) {
+            LOG.debug("XPath: {} is not supported in streaming mode, will use DOM instead", getText());
+            return null;
+        }
+
+        XMLTokenExpressionIterator answer = new XMLTokenExpressionIterator(headerName, path, 'i', 1);
+        answer.setNamespaces(nsmap);
+        return answer;
+    }
+
+    /**
+     * Translates the xpath expression to the path of the xml tokenizer, or
+     * returns <tt>null</tt> if the expression is not in the supported subset.
+     */
+    private static String createStreamingPath(String text, Map<String, String> nsmap) {
+        String path = text.trim();
+        if (!STREAMING_PATH_PATTERN.matcher(path).matches()) {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        Matcher step = STREAMING_STEP_PATTERN.matcher(path);
+        while (step.find()) {
+            String prefix = step.group(3);
+            if (prefix != null && !nsmap.containsKey(prefix)) {
+                return null;
+            }
+            Matcher predicate = STREAMING_PREDICATE_PATTERN.matcher(step.group(4));
+            while (predicate.find()) {
+                prefix = predicate.group(1);
+                if (prefix != null && !nsmap.containsKey(prefix)) {
+                    return null;
+                }
+            }
+            // a wildcard matches elements in any namespace
+            String name = "*".equals(step.group(2)) ? "*:*" : step.group(2);
+            sb.append(step.group(1)).append(name).append(step.group(4));
+        }
+        return sb.toString();
+    }
+
     /**
      * Evaluates the expression as the given result type
      */
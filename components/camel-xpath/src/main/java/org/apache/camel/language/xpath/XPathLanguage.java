@@ -34,6 +34,7 @@ public class XPathLanguage extends LanguageSupport {
     private Boolean useSaxon;
     private String objectModelUri;
     private Boolean threadSafety;
+    private Boolean streaming;
     private Boolean logNamespaces;
     private String headerName;
 
@@ -95,6 +96,14 @@ public class XPathLanguage extends LanguageSupport {
         this.threadSafety = threadSafety;
     }
 
+    public Boolean getStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(Boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public Boolean getLogNamespaces() {
         return logNamespaces;
     }
@@ -119,6 +128,9 @@ public class XPathLanguage extends LanguageSupport {
         if (threadSafety != null) {
             builder.setThreadSafety(threadSafety);
         }
+        if (streaming != null) {
+            builder.setStreaming(streaming);
+        }
         if (resultType != null) {
             builder.setResultQName(resultType);
         }
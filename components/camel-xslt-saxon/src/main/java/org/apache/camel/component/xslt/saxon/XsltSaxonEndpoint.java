@@ -170,6 +170,7 @@ public class XsltSaxonEndpoint extends XsltEndpoint {
         }
         xslt.setFailOnNullBody(isFailOnNullBody());
         xslt.transformerCacheSize(getTransformerCacheSize());
+        xslt.transformerCachePerThread(isTransformerCachePerThread());
         xslt.setUriResolver(getUriResolver());
         xslt.setEntityResolver(getEntityResolver());
         xslt.setAllowStAX(allowStAX);
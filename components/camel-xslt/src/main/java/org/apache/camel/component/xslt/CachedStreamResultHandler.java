@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.xml.transform.Result;
+import javax.xml.transform.stream.StreamResult;
+
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.converter.stream.CachedOutputStream;
+
+/**
+ * Processes the XSLT result by streaming it to an {@link OutputStream}.
+ * <p/>
+ * When using a {@link CachedOutputStream} the body is set as a {@link org.apache.camel.StreamCache}
+ * which is kept in memory or spooled to disk when the stream caching threshold is exceeded,
+ * otherwise the output is written directly to the given stream which is set as the body.
+ */
+public class CachedStreamResultHandler implements ResultHandler {
+
+    private final OutputStream stream;
+    private final StreamResult result;
+
+    public CachedStreamResultHandler(OutputStream stream) {
+        this.stream = stream;
+        this.result = new StreamResult(stream);
+    }
+
+    @Override
+    public Result getResult() {
+        return result;
+    }
+
+    @Override
+    public void setBody(Message in) {
+        try {
+            if (stream instanceof CachedOutputStream) {
+                in.setBody(((CachedOutputStream) stream).newStreamCache());
+            } else {
+                stream.flush();
+                in.setBody(stream);
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+}
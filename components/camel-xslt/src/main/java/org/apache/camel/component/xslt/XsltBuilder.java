@@ -67,6 +67,7 @@ public class XsltBuilder implements Processor {
     private XMLConverterHelper converter = new XMLConverterHelper();
     private Templates template;
     private volatile BlockingQueue<Transformer> transformers;
+    private volatile ThreadLocal<TransformerHolder> threadTransformers;
     private volatile SourceHandlerFactory sourceHandlerFactory;
     private ResultHandlerFactory resultHandlerFactory = new StringResultHandlerFactory();
     private boolean failOnNullBody = true;
@@ -197,6 +198,15 @@ public class XsltBuilder implements Processor {
         return this;
     }
 
+    /**
+     * Sets the output as being a stream which is written to a {@link org.apache.camel.converter.stream.CachedOutputStream},
+     * that is kept in memory and spooled to disk when the stream caching threshold is exceeded.
+     */
+    public XsltBuilder outputStream() {
+        setResultHandlerFactory(new CachedStreamResultHandlerFactory());
+        return this;
+    }
+
     /**
      * Sets the output as being a DOM
      */
@@ -253,6 +263,19 @@ public class XsltBuilder implements Processor {
         return this;
     }
 
+    /**
+     * Used for caching one {@link Transformer} per thread, which avoids the contention on a shared
+     * cache when many threads are transforming concurrently.
+     * <p/>
+     * This takes precedence over {@link #transformerCacheSize(int)}.
+     *
+     * @param perThread  whether to cache a transformer per thread
+     */
+    public XsltBuilder transformerCachePerThread(boolean perThread) {
+        threadTransformers = perThread ? new ThreadLocal<>() : null;
+        return this;
+    }
+
     /**
      * Uses a custom {@link javax.xml.transform.ErrorListener}.
      */
@@ -410,15 +433,30 @@ public class XsltBuilder implements Processor {
     }
 
     private void releaseTransformer(Transformer transformer) {
-        if (transformers != null) {
+        ThreadLocal<TransformerHolder> local = threadTransformers;
+        if (local != null) {
+            transformer.reset();
+            // keyed by the template it was created from, so a new template is not using a stale transformer
+            local.set(new TransformerHolder(getTemplate(), transformer));
+        } else if (transformers != null) {
             transformer.reset();
             transformers.offer(transformer);
         }
     }
 
     private Transformer getTransformer() throws Exception {
-        Transformer t = null; 
-        if (transformers != null) {
+        Transformer t = null;
+        ThreadLocal<TransformerHolder> local = threadTransformers;
+        if (local != null) {
+            TransformerHolder holder = local.get();
+            if (holder != null) {
+                // remove it while in use in case the same thread is transforming again before it is released
+                local.remove();
+                if (holder.templates == getTemplate()) {
+                    t = holder.transformer;
+                }
+            }
+        } else if (transformers != null) {
             t = transformers.poll();
         }
         if (t == null) {
@@ -475,6 +513,16 @@ public class XsltBuilder implements Processor {
         }
     }
 
+    private static final class TransformerHolder {
+        private final Templates templates;
+        private final Transformer transformer;
+
+        private TransformerHolder(Templates templates, Transformer transformer) {
+            this.templates = templates;
+            this.transformer = transformer;
+        }
+    }
+
     private static final class XsltBuilderOnCompletion extends SynchronizationAdapter {
         private final String fileName;
 
@@ -76,6 +76,8 @@ public class XsltEndpoint extends ProcessorEndpoint {
     @UriParam(defaultValue = "0")
     private int transformerCacheSize;
     @UriParam(label = "advanced")
+    private boolean transformerCachePerThread;
+    @UriParam(label = "advanced")
     private ErrorListener errorListener;
     @UriParam(label = "advanced")
     private URIResolver uriResolver;
@@ -204,9 +206,10 @@ public class XsltEndpoint extends ProcessorEndpoint {
 
     /**
      * Option to specify which output type to use.
-     * Possible values are: string, bytes, DOM, file. The first three options are all in memory based, where as file is streamed directly to a java.io.File.
+     * Possible values are: string, bytes, DOM, file, stream. The first three options are all in memory based, where as file is streamed directly to a java.io.File.
      * For file you must specify the filename in the IN header with the key Exchange.XSLT_FILE_NAME which is also CamelXsltFileName.
      * Also any paths leading to the filename must be created beforehand, otherwise an exception is thrown at runtime.
+     * For stream the output is written to a stream cache which is spooled to disk when the stream caching threshold is exceeded.
      */
     public void setOutput(XsltOutput output) {
         this.output = output;
@@ -223,6 +226,18 @@ public class XsltEndpoint extends ProcessorEndpoint {
         this.transformerCacheSize = transformerCacheSize;
     }
 
+    public boolean isTransformerCachePerThread() {
+        return transformerCachePerThread;
+    }
+
+    /**
+     * Whether to cache one javax.xml.transform.Transformer per thread instead of using a shared cache sized by transformerCacheSize.
+     * This avoids contention on the cache when many threads are transforming concurrently.
+     */
+    public void setTransformerCachePerThread(boolean transformerCachePerThread) {
+        this.transformerCachePerThread = transformerCachePerThread;
+    }
+
     public ErrorListener getErrorListener() {
         return errorListener;
     }
@@ -376,6 +391,7 @@ public class XsltEndpoint extends ProcessorEndpoint {
         }
         xslt.setFailOnNullBody(failOnNullBody);
         xslt.transformerCacheSize(transformerCacheSize);
+        xslt.transformerCachePerThread(transformerCachePerThread);
         xslt.setUriResolver(uriResolver);
         xslt.setEntityResolver(entityResolver);
         xslt.setDeleteOutputFile(deleteOutputFile);
@@ -407,6 +423,8 @@ public class XsltEndpoint extends ProcessorEndpoint {
             xslt.outputDOM();
         } else if ("file".equalsIgnoreCase(output)) {
             xslt.outputFile();
+        } else if ("stream".equalsIgnoreCase(output)) {
+            xslt.outputStream();
         } else {
             throw new IllegalArgumentException("Unknown output type: " + output);
         }
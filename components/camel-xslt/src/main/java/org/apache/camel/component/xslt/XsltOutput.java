@@ -18,7 +18,7 @@ package org.apache.camel.component.xslt;
 
 public enum XsltOutput {
 
-    string, bytes, DOM, file
+    string, bytes, DOM, file, stream
 
 }
 
@@ -16,11 +16,19 @@
  */
 package org.apache.camel.dataformat.deflater;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
@@ -28,23 +36,114 @@ import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.builder.OutputStreamBuilder;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
 
 /**
  * GZip {@link org.apache.camel.spi.DataFormat} for reading/writing data using gzip.
+ * <p/>
+ * In parallel mode the data is split into blocks which are compressed concurrently, and written as the members
+ * of a multi-member gzip stream, which can be read by any gzip reader such as gunzip. The deflaters and inflaters
+ * are pooled in parallel mode.
  */
 @Dataformat("gzipdeflater")
-public class GzipDeflaterDataFormat extends ServiceSupport implements DataFormat, DataFormatName {
+public class GzipDeflaterDataFormat extends ServiceSupport implements DataFormat, DataFormatName, CamelContextAware {
+
+    public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+
+    private CamelContext camelContext;
+    private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+    private boolean parallel;
+    private int blockSize = DEFAULT_BLOCK_SIZE;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private volatile ExecutorService executorService;
+    private boolean shutdownExecutorService;
+    private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+    private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
 
     @Override
     public String getDataFormatName() {
         return "gzipdeflater";
     }
 
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * The compression level from 0 (no compression) to 9 (best compression), by default -1 which is the default
+     * level of the deflater.
+     */
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Whether to compress blocks of the data in parallel when marshalling, which is faster for large payloads,
+     * at the cost of a slightly larger output, as the blocks are compressed independently.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * The size in bytes of the blocks which are compressed in parallel, by default 128kb.
+     */
+    public void setBlockSize(int blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads used to compress blocks in parallel, by default the number of processors.
+     * Each message being marshalled has at most twice this number of blocks in memory.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * A custom thread pool to use for compressing blocks in parallel. By default a thread pool is created
+     * when the first message is compressed in parallel.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     @Override
     public void marshal(final Exchange exchange, final Object graph, final OutputStream stream) throws Exception {
         InputStream is = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, graph);
 
-        GZIPOutputStream zipOutput = new GZIPOutputStream(stream);
+        OutputStream zipOutput;
+        if (parallel) {
+            zipOutput = new ParallelGzipOutputStream(stream, getOrCreateExecutorService(), this, blockSize, parallelism * 2);
+        } else {
+            zipOutput = new GzipLevelOutputStream(stream, compressionLevel);
+        }
         try {
             IOHelper.copy(is, zipOutput);
         } finally {
@@ -52,14 +151,17 @@ public class GzipDeflaterDataFormat extends ServiceSupport implements DataFormat
             IOHelper.close(is, zipOutput);
         }
     }
-
     @Override
     public Object unmarshal(final Exchange exchange, final InputStream inputStream) throws Exception {
-        GZIPInputStream unzipInput = null;
+        InputStream unzipInput = null;
 
         OutputStreamBuilder osb = OutputStreamBuilder.withExchange(exchange);
         try {
-            unzipInput = new GZIPInputStream(inputStream);
+            if (parallel) {
+                unzipInput = new MultiMemberGzipInputStream(inputStream, this);
+            } else {
+                unzipInput = new GZIPInputStream(inputStream);
+            }
             IOHelper.copy(unzipInput, osb);
             return osb.build();
         } finally {
@@ -68,13 +170,91 @@ public class GzipDeflaterDataFormat extends ServiceSupport implements DataFormat
         }
     }
 
+    /**
+     * Gets the thread pool for compressing blocks in parallel, which is created on first use, so parallel mode
+     * can also be enabled after this data format has been started.
+     */
+    private ExecutorService getOrCreateExecutorService() {
+        ExecutorService answer = executorService;
+        if (answer == null) {
+            synchronized (this) {
+                answer = executorService;
+                if (answer == null) {
+                    ObjectHelper.notNull(camelContext, "CamelContext");
+                    answer = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "GzipDeflater", parallelism);
+                    shutdownExecutorService = true;
+                    executorService = answer;
+                }
+            }
+        }
+        return answer;
+    }
+
+    Deflater acquireDeflater() {
+        Deflater deflater = deflaters.poll();
+        if (deflater == null) {
+            // no wrap as the gzip header and trailer is written by the stream
+            deflater = new Deflater(compressionLevel, true);
+        }
+        return deflater;
+    }
+
+    void releaseDeflater(Deflater deflater) {
+        deflater.reset();
+        if (!isRunAllowed() || deflaters.size() >= parallelism) {
+            deflater.end();
+        } else {
+            deflaters.offer(deflater);
+        }
+    }
+
+    Inflater acquireInflater() {
+        Inflater inflater = inflaters.poll();
+        if (inflater == null) {
+            inflater = new Inflater(true);
+        }
+        return inflater;
+    }
+
+    void releaseInflater(Inflater inflater) {
+        inflater.reset();
+        if (!isRunAllowed() || inflaters.size() >= parallelism) {
+            inflater.end();
+        } else {
+            inflaters.offer(inflater);
+        }
+    }
+
     @Override
     protected void doStart() throws Exception {
         // noop
     }
 
     @Override
-    protected void doStop() throws Exception {
-        // noop
+    protected synchronized void doStop() throws Exception {
+        if (shutdownExecutorService && executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+        Deflater deflater;
+        while ((deflater = deflaters.poll()) != null) {
+            deflater.end();
+        }
+        Inflater inflater;
+        while ((inflater = inflaters.poll()) != null) {
+            inflater.end();
+        }
+    }
+
+    /**
+     * A {@link GZIPOutputStream} using the configured compression level.
+     */
+    private static final class GzipLevelOutputStream extends GZIPOutputStream {
+
+        GzipLevelOutputStream(OutputStream out, int compressionLevel) throws IOException {
+            super(out);
+            def.setLevel(compressionLevel);
+        }
     }
 }
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.deflater;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * An {@link InputStream} which reads all the members of a multi-member gzip stream, as written in parallel mode.
+ * <p/>
+ * Unlike {@link java.util.zip.GZIPInputStream} it does not depend on {@link InputStream#available()} to detect
+ * whether another member follows, and it uses an {@link Inflater} from the pool of the data format.
+ */
+class MultiMemberGzipInputStream extends InputStream {
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private final PushbackInputStream in;
+    private final GzipDeflaterDataFormat dataFormat;
+    private final byte[] buffer = new byte[8192];
+    private final CRC32 crc = new CRC32();
+    private Inflater inflater;
+    private boolean inMember;
+    private boolean first = true;
+    private boolean eof;
+
+    MultiMemberGzipInputStream(InputStream in, GzipDeflaterDataFormat dataFormat) {
+        this.in = new PushbackInputStream(in, buffer.length);
+        this.dataFormat = dataFormat;
+        this.inflater = dataFormat.acquireInflater();
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (inflater == null) {
+            throw new IOException("Stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        while (!eof) {
+            if (!inMember) {
+                if (!readHeader()) {
+                    eof = true;
+                    break;
+                }
+                inMember = true;
+            }
+
+            int n;
+            try {
+                n = inflater.inflate(b, off, len);
+            } catch (DataFormatException e) {
+                throw new ZipException(e.getMessage() != null ? e.getMessage() : "Invalid ZLIB data format");
+            }
+            if (n > 0) {
+                crc.update(b, off, n);
+            }
+            if (inflater.finished()) {
+                // return the bytes which belongs to the trailer and the next member
+                int remaining = inflater.getRemaining();
+                if (remaining > 0) {
+                    in.unread(buffer, buffer.length - remaining, remaining);
+                }
+                readTrailer();
+                inMember = false;
+            } else if (inflater.needsDictionary()) {
+                throw new ZipException("Unexpected preset dictionary in gzip member");
+            } else if (n == 0 && inflater.needsInput()) {
+                fill();
+            }
+            if (n > 0) {
+                return n;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (inflater != null) {
+            dataFormat.releaseInflater(inflater);
+            inflater = null;
+            in.close();
+        }
+    }
+
+    private void fill() throws IOException {
+        // always fill the end of the buffer, so the remaining bytes of the inflater are at the end
+        int n = in.read(buffer, 0, buffer.length);
+        if (n == -1) {
+            throw new EOFException("Unexpected end of ZLIB input stream");
+        }
+        if (n < buffer.length) {
+            System.arraycopy(buffer, 0, buffer, buffer.length - n, n);
+        }
+        inflater.setInput(buffer, buffer.length - n, n);
+    }
+
+    private boolean readHeader() throws IOException {
+        int magic1 = in.read();
+        if (magic1 == -1 && !first) {
+            return false;
+        }
+        int magic2 = in.read();
+        if (magic1 != 0x1f || magic2 != 0x8b) {
+            if (first) {
+                throw magic1 == -1 ? new EOFException() : new ZipException("Not in GZIP format");
+            }
+            // ignore trailing data which is not another member, as GZIPInputStream does
+            return false;
+        }
+        if (readByte() != 8) {
+            throw new ZipException("Unsupported compression method");
+        }
+        int flags = readByte();
+        // skip modification time, extra flags and operating system
+        skipBytes(6);
+        if ((flags & FEXTRA) == FEXTRA) {
+            skipBytes(readByte() | (readByte() << 8));
+        }
+        if ((flags & FNAME) == FNAME) {
+            while (readByte() != 0) {
+                // skip the file name
+            }
+        }
+        if ((flags & FCOMMENT) == FCOMMENT) {
+            while (readByte() != 0) {
+                // skip the comment
+            }
+        }
+        if ((flags & FHCRC) == FHCRC) {
+            skipBytes(2);
+        }
+        first = false;
+        inflater.reset();
+        crc.reset();
+        return true;
+    }
+
+    private void readTrailer() throws IOException {
+        long expectedCrc = readInt();
+        long expectedSize = readInt();
+        if (expectedCrc != crc.getValue() || expectedSize != (inflater.getBytesWritten() & 0xffffffffL)) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+    }
+
+    private long readInt() throws IOException {
+        return (readByte() | (readByte() << 8) | (readByte() << 16) | ((long) readByte() << 24)) & 0xffffffffL;
+    }
+
+    private int readByte() throws IOException {
+        int b = in.read();
+        if (b == -1) {
+            throw new EOFException();
+        }
+        return b;
+    }
+
+    private void skipBytes(int n) throws IOException {
+        for (int i = 0; i < n; i++) {
+            readByte();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.deflater;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * An {@link OutputStream} which compresses fixed-size blocks of data in parallel, and writes them in order as
+ * the members of a multi-member gzip stream, which can be read by any gzip reader.
+ * <p/>
+ * At most <tt>maxInFlight</tt> blocks are compressed at the same time, so the memory used is bounded by the
+ * block size, regardless of the size of the data.
+ */
+class ParallelGzipOutputStream extends OutputStream {
+
+    private static final byte[] HEADER = {
+        0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+    };
+
+    private final OutputStream out;
+    private final ExecutorService executorService;
+    private final GzipDeflaterDataFormat dataFormat;
+    private final int blockSize;
+    private final int maxInFlight;
+    private final Deque<Future<byte[]>> inFlight = new ArrayDeque<>();
+    private byte[] block;
+    private int count;
+    private boolean written;
+    private boolean closed;
+
+    ParallelGzipOutputStream(OutputStream out, ExecutorService executorService, GzipDeflaterDataFormat dataFormat,
+                             int blockSize, int maxInFlight) {
+        this.out = out;
+        this.executorService = executorService;
+        this.dataFormat = dataFormat;
+        this.blockSize = blockSize;
+        this.maxInFlight = maxInFlight;
+        this.block = new byte[blockSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        block[count++] = (byte) b;
+        if (count == blockSize) {
+            submit();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            int n = Math.min(len, blockSize - count);
+            System.arraycopy(b, off, block, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count == blockSize) {
+                submit();
+            }
+        }
+    }
+
+    /**
+     * Writes the blocks which has been compressed, but not the block which is still being filled,
+     * as that would split the data into smaller members.
+     */
+    @Override
+    public void flush() throws IOException {
+        while (!inFlight.isEmpty() && inFlight.peekFirst().isDone()) {
+            writeMember(inFlight.pollFirst());
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            // an empty stream must still be a valid gzip stream with one member
+            if (count > 0 || !written) {
+                submit();
+            }
+            while (!inFlight.isEmpty()) {
+                writeMember(inFlight.pollFirst());
+            }
+        } finally {
+            for (Future<byte[]> future : inFlight) {
+                future.cancel(false);
+            }
+            out.close();
+        }
+    }
+
+    private void submit() throws IOException {
+        final byte[] data = block;
+        final int length = count;
+        inFlight.addLast(executorService.submit(() -> compress(data, length)));
+        written = true;
+        block = new byte[blockSize];
+        count = 0;
+
+        // wait for the oldest block to bound the memory used
+        while (inFlight.size() > maxInFlight) {
+            writeMember(inFlight.pollFirst());
+        }
+    }
+
+    private void writeMember(Future<byte[]> future) throws IOException {
+        try {
+            out.write(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Error compressing", e.getCause());
+        }
+    }
+
+    private byte[] compress(byte[] data, int length) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(length / 2 + 32);
+        bos.write(HEADER, 0, HEADER.length);
+
+        Deflater deflater = dataFormat.acquireDeflater();
+        try {
+            deflater.setInput(data, 0, length);
+            deflater.finish();
+            byte[] buffer = new byte[Math.max(length / 4, 512)];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                bos.write(buffer, 0, n);
+            }
+        } finally {
+            dataFormat.releaseDeflater(deflater);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, length);
+        writeInt(bos, (int) crc.getValue());
+        writeInt(bos, length);
+        return bos.toByteArray();
+    }
+
+    private static void writeInt(ByteArrayOutputStream bos, int value) {
+        // gzip uses little endian
+        bos.write(value & 0xff);
+        bos.write((value >> 8) & 0xff);
+        bos.write((value >> 16) & 0xff);
+        bos.write((value >> 24) & 0xff);
+    }
+}
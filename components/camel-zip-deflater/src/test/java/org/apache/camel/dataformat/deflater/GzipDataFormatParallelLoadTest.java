@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.deflater;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.converter.IOConverter;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.camel.util.StopWatch;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the throughput of marshalling a large payload with the gzip data format, and with the gzip data format
+ * in parallel mode.
+ */
+public class GzipDataFormatParallelLoadTest extends CamelTestSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GzipDataFormatParallelLoadTest.class);
+    private static final int SIZE = 16 * 1024 * 1024;
+    private static final int ROUNDS = 3;
+
+    private static byte[] createPayload() {
+        // csv like data which compresses about as well as a typical export
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(SIZE + 100);
+        while (sb.length() < SIZE) {
+            sb.append(random.nextInt(100000)).append(",customer-").append(random.nextInt(1000))
+                .append(",").append(random.nextInt(10000) / 100d).append(",EUR,2019-12-").append(random.nextInt(31) + 1).append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testThroughput() throws Exception {
+        byte[] payload = createPayload();
+
+        byte[] single = marshal("direct:single", payload);
+        byte[] parallel = marshal("direct:parallel", payload);
+
+        assertArrayEquals(payload, IOConverter.toBytes(new GZIPInputStream(new ByteArrayInputStream(parallel))));
+        LOG.info("Compressed {} bytes to {} bytes, and to {} bytes in parallel", payload.length, single.length, parallel.length);
+    }
+
+    private byte[] marshal(String uri, byte[] payload) throws Exception {
+        byte[] answer = null;
+        // warm up
+        template.requestBody(uri, payload, byte[].class);
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < ROUNDS; i++) {
+            answer = template.requestBody(uri, payload, byte[].class);
+        }
+        long taken = Math.max(1, watch.taken());
+        LOG.info("Marshalling {} MB using {} took {} millis ({} MB/s)", ROUNDS * payload.length / (1024 * 1024), uri, taken,
+            ROUNDS * payload.length / 1024 * 1000 / 1024 / taken);
+        return answer;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        GzipDeflaterDataFormat gzip = new GzipDeflaterDataFormat();
+        GzipDeflaterDataFormat parallel = new GzipDeflaterDataFormat();
+        parallel.setParallel(true);
+
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:single").marshal(gzip);
+                from("direct:parallel").marshal(parallel);
+            }
+        };
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.deflater;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.converter.IOConverter;
+import org.apache.camel.model.dataformat.GzipDataFormat;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+/**
+ * Unit test of the gzip data format in parallel mode.
+ */
+public class GzipDataFormatParallelTest extends CamelTestSupport {
+
+    private final GzipDeflaterDataFormat gzip = new GzipDeflaterDataFormat();
+
+    private static byte[] createText(int lines) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            sb.append("Line ").append(i).append(": To be, or not to be: that is the question\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testMarshalReadableByGzipInputStream() throws Exception {
+        byte[] text = createText(10000);
+        byte[] output = template.requestBody("direct:marshal", text, byte[].class);
+
+        // the blocks are written as separate members
+        assertTrue("Should have several members", countMembers(output) > 1);
+
+        GZIPInputStream stream = new GZIPInputStream(new ByteArrayInputStream(output));
+        assertArrayEquals(text, IOConverter.toBytes(stream));
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        byte[] text = createText(10000);
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedBodiesReceived(text);
+
+        template.sendBody("direct:roundtrip", text);
+
+        result.assertIsSatisfied();
+    }
+
+    @Test
+    public void testRoundTripEmpty() throws Exception {
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedBodiesReceived(new byte[0]);
+
+        template.sendBody("direct:roundtrip", new byte[0]);
+
+        result.assertIsSatisfied();
+    }
+
+    @Test
+    public void testUnmarshalWithoutAvailable() throws Exception {
+        byte[] text = createText(10000);
+        byte[] output = template.requestBody("direct:marshal", text, byte[].class);
+
+        // a stream which does not know how much is available, such as a socket
+        InputStream stream = new FilterInputStream(new ByteArrayInputStream(output)) {
+            @Override
+            public int available() throws IOException {
+                return 0;
+            }
+        };
+        byte[] unmarshalled = template.requestBody("direct:unmarshal", stream, byte[].class);
+        assertArrayEquals(text, unmarshalled);
+    }
+
+    @Test
+    public void testParallelEnabledAfterStart() throws Exception {
+        GzipDeflaterDataFormat late = new GzipDeflaterDataFormat();
+        late.setCamelContext(context);
+        late.setBlockSize(16 * 1024);
+        late.start();
+        try {
+            late.setParallel(true);
+            byte[] text = createText(10000);
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            late.marshal(new DefaultExchange(context), text, output);
+            assertTrue("Should have several members", countMembers(output.toByteArray()) > 1);
+        } finally {
+            late.stop();
+        }
+    }
+
+    @Test
+    public void testModelOptions() throws Exception {
+        byte[] text = createText(10000);
+        byte[] output = template.requestBody("direct:model", text, byte[].class);
+
+        // the model configures the data format in parallel mode
+        assertTrue("Should have several members", countMembers(output) > 1);
+        GZIPInputStream stream = new GZIPInputStream(new ByteArrayInputStream(output));
+        assertArrayEquals(text, IOConverter.toBytes(stream));
+    }
+
+    private static int countMembers(byte[] data) throws IOException {
+        int count = 0;
+        for (int i = 0; i < data.length - 3; i++) {
+            if (data[i] == 0x1f && data[i + 1] == (byte) 0x8b && data[i + 2] == 8 && data[i + 3] == 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        gzip.setParallel(true);
+        gzip.setBlockSize(16 * 1024);
+        gzip.setParallelism(4);
+
+        GzipDataFormat model = new GzipDataFormat();
+        model.setParallel(true);
+        model.setBlockSize(16 * 1024);
+        model.setParallelism(2);
+        model.setCompressionLevel(1);
+
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:model").marshal(model);
+                from("direct:marshal").marshal(gzip);
+                from("direct:unmarshal").unmarshal(gzip);
+                from("direct:roundtrip").marshal(gzip).unmarshal(gzip).to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.zipfile;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.DefaultMessage;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The Iterator which goes through the entries of a zip file on disk, which inflates the entries ahead of the
+ * consumer on a thread pool.
+ * <p/>
+ * The entries are read from the central directory of the zip file, and are returned in the same order. The
+ * inflated entries are kept in memory until they are returned, which is bounded by both a number of entries and a
+ * number of bytes. Entries larger than the number of bytes are not inflated ahead, but streamed from the zip file
+ * on the consuming thread.
+ */
+public class ParallelZipIterator implements Iterator<Message>, Closeable {
+    static final Logger LOGGER = LoggerFactory.getLogger(ParallelZipIterator.class);
+
+    private final Exchange exchange;
+    private final ExecutorService executorService;
+    private final int maxInFlight;
+    private final long maxInFlightBytes;
+    private final Deque<PendingEntry> pending = new ArrayDeque<>();
+    private boolean allowEmptyDirectory;
+    private volatile ZipFile zipFile;
+    private Enumeration<? extends ZipEntry> entries;
+    private ZipEntry nextEntry;
+    private long inFlightBytes;
+
+    /**
+     * @param exchange         the exchange being split
+     * @param zipFile          the zip file, which is closed with this iterator
+     * @param executorService  the thread pool to inflate the entries on, which is not shutdown by this iterator
+     * @param maxInFlight      the maximum number of entries to inflate ahead of the consumer
+     * @param maxInFlightBytes the maximum number of inflated bytes to keep ahead of the consumer
+     */
+    public ParallelZipIterator(Exchange exchange, ZipFile zipFile, ExecutorService executorService, int maxInFlight, long maxInFlightBytes) {
+        this.exchange = exchange;
+        this.zipFile = zipFile;
+        this.entries = zipFile.entries();
+        this.executorService = executorService;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.maxInFlightBytes = maxInFlightBytes;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (zipFile == null) {
+            return false;
+        }
+        fill();
+        if (pending.isEmpty()) {
+            LOGGER.trace("close zipFile");
+            closeQuietly();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Message next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        PendingEntry current = pending.poll();
+        LOGGER.debug("read zipEntry {}", current.entry.getName());
+
+        Object body;
+        try {
+            if (current.future != null) {
+                body = current.future.get();
+                inFlightBytes -= current.entry.getSize();
+            } else {
+                body = zipFile.getInputStream(current.entry);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closeQuietly();
+            throw new RuntimeCamelException(e);
+        } catch (ExecutionException e) {
+            closeQuietly();
+            throw new RuntimeCamelException(e.getCause());
+        } catch (IOException e) {
+            closeQuietly();
+            throw new RuntimeCamelException(e);
+        }
+        // keep the pool busy while the consumer processes this entry
+        fill();
+
+        Message answer = new DefaultMessage(exchange.getContext());
+        answer.getHeaders().putAll(exchange.getIn().getHeaders());
+        answer.setHeader("zipFileName", current.entry.getName());
+        answer.setHeader(Exchange.FILE_NAME, current.entry.getName());
+        answer.setBody(body);
+        return answer;
+    }
+
+    private void fill() {
+        while (zipFile != null && pending.size() < maxInFlight) {
+            if (nextEntry == null) {
+                nextEntry = getNextEntry();
+                if (nextEntry == null) {
+                    return;
+                }
+            }
+            final ZipEntry entry = nextEntry;
+            long size = entry.getSize();
+            if (size < 0 || size > maxInFlightBytes || size > Integer.MAX_VALUE) {
+                // too large to keep in memory so its streamed when its turn comes
+                pending.add(new PendingEntry(entry, null));
+            } else if (!pending.isEmpty() && inFlightBytes + size > maxInFlightBytes) {
+                // wait for the consumer to catch up
+                return;
+            } else {
+                final ZipFile file = zipFile;
+                pending.add(new PendingEntry(entry, executorService.submit(() -> inflate(file, entry))));
+                inFlightBytes += size;
+            }
+            nextEntry = null;
+        }
+    }
+
+    private ZipEntry getNextEntry() {
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if (!entry.isDirectory() || allowEmptyDirectory) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static byte[] inflate(ZipFile zipFile, ZipEntry entry) throws IOException {
+        byte[] data = new byte[(int) entry.getSize()];
+        InputStream is = zipFile.getInputStream(entry);
+        try {
+            int offset = 0;
+            while (offset < data.length) {
+                int n = is.read(data, offset, data.length - offset);
+                if (n < 0) {
+                    throw new EOFException("Unexpected end of zip entry " + entry.getName());
+                }
+                offset += n;
+            }
+        } finally {
+            IOHelper.close(is);
+        }
+        return data;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        if (zipFile == null) {
+            return;
+        }
+        for (PendingEntry entry : pending) {
+            if (entry.future != null) {
+                entry.future.cancel(false);
+            }
+        }
+        pending.clear();
+        inFlightBytes = 0;
+        IOHelper.close(zipFile);
+        zipFile = null;
+    }
+
+    public boolean isSupportIteratorForEmptyDirectory() {
+        return allowEmptyDirectory;
+    }
+
+    public void setAllowEmptyDirectory(boolean allowEmptyDirectory) {
+        this.allowEmptyDirectory = allowEmptyDirectory;
+    }
+
+    private static final class PendingEntry {
+        private final ZipEntry entry;
+        private final Future<byte[]> future;
+
+        PendingEntry(ZipEntry entry, Future<byte[]> future) {
+            this.entry = entry;
+            this.future = future;
+        }
+    }
+}
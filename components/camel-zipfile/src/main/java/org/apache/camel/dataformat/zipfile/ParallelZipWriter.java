@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.zipfile;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.apache.camel.util.IOHelper;
+
+/**
+ * Writes a zip file where the entries are deflated concurrently on a thread pool, and then written in order.
+ * <p/>
+ * As the deflated entries are kept in memory until they are written, at most the given number of entries are
+ * deflated ahead of the output. The sizes and checksum of each entry are known when it is written, so no data
+ * descriptors are used. ZIP64 is not supported, so the zip file is limited to 65535 entries and 4gb.
+ */
+class ParallelZipWriter implements Closeable {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int VERSION = 20;
+    // the entry names are encoded with utf-8
+    private static final int FLAG_UTF8 = 0x0800;
+    private static final long MAX_SIZE = 0xFFFFFFFFL;
+    private static final int MAX_ENTRIES = 0xFFFF;
+
+    private final OutputStream out;
+    private final ExecutorService executorService;
+    private final int maxInFlight;
+    private final int compressionLevel;
+    private final Deque<PendingEntry> pending = new ArrayDeque<>();
+    private final List<DeflatedEntry> written = new ArrayList<>();
+    private final int dosTime = toDosTime(System.currentTimeMillis());
+    private long offset;
+    private boolean finished;
+
+    ParallelZipWriter(OutputStream out, ExecutorService executorService, int maxInFlight, int compressionLevel) {
+        this.out = new BufferedOutputStream(out, IOHelper.DEFAULT_BUFFER_SIZE);
+        this.executorService = executorService;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Adds an entry, which content is read and deflated on the thread pool. The content is closed when it has been
+     * read.
+     */
+    void putEntry(final String name, final InputStream content) throws IOException {
+        try {
+            awaitCapacity();
+            pending.add(new PendingEntry(executorService.submit(() -> deflate(name, content)), content));
+        } catch (IOException | RuntimeException e) {
+            IOHelper.close(content);
+            throw e;
+        }
+    }
+
+    /**
+     * Adds a directory entry, the name must end with a slash.
+     */
+    void putDirectory(String name) throws IOException {
+        awaitCapacity();
+        pending.add(new PendingEntry(CompletableFuture.completedFuture(new DeflatedEntry(name, ZipEntry.STORED, 0, 0, new byte[0], 0)), null));
+    }
+
+    /**
+     * Writes the remaining entries and the central directory, without closing the output.
+     */
+    void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        while (!pending.isEmpty()) {
+            writeNext();
+        }
+        if (written.size() > MAX_ENTRIES) {
+            throw new IOException("Too many entries for a zip file without ZIP64: " + written.size());
+        }
+        long centralOffset = offset;
+        for (DeflatedEntry entry : written) {
+            writeCentralHeader(entry);
+        }
+        long centralSize = offset - centralOffset;
+        checkSize(offset, "zip file");
+
+        writeInt(END_SIGNATURE);
+        writeShort(0);
+        writeShort(0);
+        writeShort(written.size());
+        writeShort(written.size());
+        writeInt(centralSize);
+        writeInt(centralOffset);
+        writeShort(0);
+        out.flush();
+        finished = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // cancel the entries not written, in case of failure
+        for (PendingEntry entry : pending) {
+            if (entry.future.cancel(false)) {
+                // the content is not read so it must be closed here
+                IOHelper.close(entry.content);
+            }
+        }
+        pending.clear();
+    }
+
+    private void awaitCapacity() throws IOException {
+        while (pending.size() >= maxInFlight) {
+            writeNext();
+        }
+    }
+
+    private void writeNext() throws IOException {
+        DeflatedEntry entry;
+        try {
+            entry = pending.poll().future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while deflating zip entry", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Error deflating zip entry", e.getCause());
+        }
+        checkSize(entry.size, entry.name);
+        checkSize(offset, "zip file");
+
+        entry.offset = offset;
+        writeInt(LOCAL_HEADER_SIGNATURE);
+        writeEntryFields(entry);
+        writeShort(0);
+        out.write(entry.encodedName);
+        out.write(entry.data, 0, entry.compressedSize);
+        offset += entry.encodedName.length + entry.compressedSize;
+        // only the fields of the central directory are kept
+        entry.data = null;
+        written.add(entry);
+    }
+
+    private void writeCentralHeader(DeflatedEntry entry) throws IOException {
+        writeInt(CENTRAL_HEADER_SIGNATURE);
+        writeShort(VERSION);
+        writeEntryFields(entry);
+        // extra field, comment, disk number, internal and external attributes
+        writeShort(0);
+        writeShort(0);
+        writeShort(0);
+        writeShort(0);
+        writeInt(0);
+        writeInt(entry.offset);
+        out.write(entry.encodedName);
+        offset += entry.encodedName.length;
+    }
+
+    private void writeEntryFields(DeflatedEntry entry) throws IOException {
+        writeShort(VERSION);
+        writeShort(FLAG_UTF8);
+        writeShort(entry.method);
+        writeInt(dosTime);
+        writeInt(entry.crc);
+        writeInt(entry.compressedSize);
+        writeInt(entry.size);
+        writeShort(entry.encodedName.length);
+    }
+
+    private DeflatedEntry deflate(String name, InputStream content) throws IOException {
+        Deflater deflater = new Deflater(compressionLevel, true);
+        CRC32 crc = new CRC32();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        long size = 0;
+        try {
+            DeflaterOutputStream dos = new DeflaterOutputStream(bos, deflater, IOHelper.DEFAULT_BUFFER_SIZE);
+            byte[] buffer = new byte[IOHelper.DEFAULT_BUFFER_SIZE];
+            int n;
+            while ((n = content.read(buffer)) != -1) {
+                crc.update(buffer, 0, n);
+                dos.write(buffer, 0, n);
+                size += n;
+            }
+            dos.finish();
+        } finally {
+            deflater.end();
+            IOHelper.close(content);
+        }
+        byte[] data = bos.toByteArray();
+        return new DeflatedEntry(name, ZipEntry.DEFLATED, crc.getValue(), size, data, data.length);
+    }
+
+    private static void checkSize(long size, String name) throws IOException {
+        if (size >= MAX_SIZE) {
+            throw new IOException("The size of " + name + " is too large for a zip file without ZIP64");
+        }
+    }
+
+    private void writeShort(int value) throws IOException {
+        out.write(value & 0xFF);
+        out.write((value >>> 8) & 0xFF);
+        offset += 2;
+    }
+
+    private void writeInt(long value) throws IOException {
+        writeShort((int) (value & 0xFFFF));
+        writeShort((int) ((value >>> 16) & 0xFFFF));
+    }
+
+    private static int toDosTime(long time) {
+        LocalDateTime date = LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+        if (date.getYear() < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+        return (date.getYear() - 1980) << 25 | date.getMonthValue() << 21 | date.getDayOfMonth() << 16
+            | date.getHour() << 11 | date.getMinute() << 5 | date.getSecond() >> 1;
+    }
+
+    private static final class DeflatedEntry {
+        private final String name;
+        private final byte[] encodedName;
+        private final int method;
+        private final long crc;
+        private final long size;
+        private final int compressedSize;
+        private byte[] data;
+        private long offset;
+
+        DeflatedEntry(String name, int method, long crc, long size, byte[] data, int compressedSize) {
+            this.name = name;
+            this.encodedName = name.getBytes(StandardCharsets.UTF_8);
+            this.method = method;
+            this.crc = crc;
+            this.size = size;
+            this.data = data;
+            this.compressedSize = compressedSize;
+        }
+    }
+
+    private static final class PendingEntry {
+        private final Future<DeflatedEntry> future;
+        private final InputStream content;
+
+        PendingEntry(Future<DeflatedEntry> future, InputStream content) {
+            this.future = future;
+            this.content = content;
+        }
+    }
+}
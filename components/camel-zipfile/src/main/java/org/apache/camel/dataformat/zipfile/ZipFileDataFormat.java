@@ -16,23 +16,36 @@
  */
 package org.apache.camel.dataformat.zipfile;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.WrappedFile;
+import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.builder.OutputStreamBuilder;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StringHelper;
 
 import static org.apache.camel.Exchange.FILE_NAME;
@@ -40,20 +53,46 @@ import static org.apache.camel.Exchange.FILE_NAME;
 /**
  * Zip file data format.
  * See {@link org.apache.camel.model.dataformat.ZipDataFormat} for "deflate" compression.
+ * <p/>
+ * In parallel mode a message body which is a collection of files or messages is marshalled to a zip file with an
+ * entry for each, where the entries are deflated concurrently on a thread pool. When using an iterator, a message
+ * body which is a file is unmarshalled with its entries inflated concurrently ahead of the splitter, see
+ * {@link ParallelZipIterator}. The thread pool is created when first needed and shared by all the messages.
  */
 @Dataformat("zipfile")
-public class ZipFileDataFormat extends ServiceSupport implements DataFormat, DataFormatName {
+public class ZipFileDataFormat extends ServiceSupport implements DataFormat, DataFormatName, CamelContextAware {
+    private CamelContext camelContext;
     private boolean usingIterator;
     private boolean allowEmptyDirectory;
     private boolean preservePathElements;
+    private boolean parallel;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long maxInFlightBytes = ZipSplitter.DEFAULT_MAX_IN_FLIGHT_BYTES;
+    private volatile ExecutorService executorService;
+    private boolean shutdownExecutorService;
 
     @Override
     public String getDataFormatName() {
         return "zipfile";
     }
 
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
     @Override
     public void marshal(final Exchange exchange, final Object graph, final OutputStream stream) throws Exception {
+        if (parallel && (graph instanceof Iterable || graph instanceof Iterator)) {
+            marshalEntries(exchange, graph, stream);
+            return;
+        }
+
         String filename;
         String filepath = exchange.getIn().getHeader(FILE_NAME, String.class);
         if (filepath == null) {
@@ -83,9 +122,95 @@ public class ZipFileDataFormat extends ServiceSupport implements DataFormat, Dat
         exchange.getMessage().setHeader(FILE_NAME, newFilename);
     }
 
+    private void marshalEntries(final Exchange exchange, final Object graph, final OutputStream stream) throws Exception {
+        Iterator<?> it = graph instanceof Iterable ? ((Iterable<?>) graph).iterator() : (Iterator<?>) graph;
+        Set<String> directories = new HashSet<>();
+
+        ParallelZipWriter writer = new ParallelZipWriter(stream, getOrCreateExecutorService(), parallelism * 2, Deflater.DEFAULT_COMPRESSION);
+        try {
+            while (it.hasNext()) {
+                Object element = it.next();
+                if (element instanceof Exchange) {
+                    element = ((Exchange) element).getMessage();
+                }
+
+                String filepath;
+                InputStream is;
+                if (element instanceof Message) {
+                    Message message = (Message) element;
+                    filepath = message.getHeader(FILE_NAME, String.class);
+                    if (filepath == null) {
+                        filepath = StringHelper.sanitize(message.getMessageId());
+                    }
+                    is = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, message.getBody());
+                } else if (element instanceof GenericFile) {
+                    GenericFile<?> file = (GenericFile<?>) element;
+                    filepath = file.getRelativeFilePath();
+                    is = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, file);
+                } else if (element instanceof WrappedFile && ((WrappedFile<?>) element).getFile() instanceof File
+                    || element instanceof File) {
+                    File file = element instanceof File ? (File) element : (File) ((WrappedFile<?>) element).getFile();
+                    filepath = file.getPath();
+                    is = new FileInputStream(file);
+                } else {
+                    throw new IllegalArgumentException("Cannot marshal " + ObjectHelper.className(element)
+                        + " as a zip entry, the elements must be files, messages or exchanges");
+                }
+
+                if (preservePathElements) {
+                    writer.putEntry(putDirectories(writer, directories, filepath), is);
+                } else {
+                    writer.putEntry(Paths.get(filepath).getFileName().toString(), is);
+                }
+            }
+            writer.finish();
+        } finally {
+            IOHelper.close(writer);
+        }
+
+        String filename = exchange.getIn().getHeader(FILE_NAME, String.class);
+        if (filename == null) {
+            filename = StringHelper.sanitize(exchange.getIn().getMessageId());
+        } else {
+            filename = Paths.get(filename).getFileName().toString();
+        }
+        exchange.getMessage().setHeader(FILE_NAME, filename + ".zip");
+    }
+
+    /**
+     * Puts the directory entries of the given path which are not put already, and returns the name of the entry
+     */
+    private String putDirectories(ParallelZipWriter writer, Set<String> directories, String filepath) throws IOException {
+        Iterator<Path> elements = Paths.get(filepath).normalize().iterator();
+        StringBuilder sb = new StringBuilder();
+
+        while (elements.hasNext()) {
+            String element = elements.next().toString();
+            if (!elements.hasNext()) {
+                // the last element is the entry itself
+                sb.append(element);
+                break;
+            }
+            sb.append(element).append('/');
+            if (directories.add(sb.toString())) {
+                writer.putDirectory(sb.toString());
+            }
+        }
+        return sb.toString();
+    }
+
     @Override
     public Object unmarshal(final Exchange exchange, final InputStream inputStream) throws Exception {
         if (usingIterator) {
+            File file = parallel ? getFile(exchange.getIn().getBody()) : null;
+            if (file != null) {
+                // the entries are read from the file itself
+                IOHelper.close(inputStream);
+                ParallelZipIterator zipIterator = new ParallelZipIterator(exchange, new ZipFile(file), getOrCreateExecutorService(),
+                    parallelism * 2, maxInFlightBytes);
+                zipIterator.setAllowEmptyDirectory(allowEmptyDirectory);
+                return zipIterator;
+            }
             ZipIterator zipIterator = new ZipIterator(exchange, inputStream);
             zipIterator.setAllowEmptyDirectory(allowEmptyDirectory);
             return zipIterator;
@@ -112,6 +237,29 @@ public class ZipFileDataFormat extends ServiceSupport implements DataFormat, Dat
         }
     }
 
+    private static File getFile(Object body) {
+        if (body instanceof WrappedFile) {
+            body = ((WrappedFile<?>) body).getFile();
+        }
+        return body instanceof File ? (File) body : null;
+    }
+
+    private ExecutorService getOrCreateExecutorService() {
+        ExecutorService answer = executorService;
+        if (answer == null) {
+            synchronized (this) {
+                answer = executorService;
+                if (answer == null) {
+                    ObjectHelper.notNull(camelContext, "CamelContext");
+                    answer = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "ZipFileDataFormat", parallelism);
+                    shutdownExecutorService = true;
+                    executorService = answer;
+                }
+            }
+        }
+        return answer;
+    }
+
     private void createZipEntries(ZipOutputStream zos, String filepath) throws IOException {
         Iterator<Path> elements = Paths.get(filepath).iterator();
         StringBuilder sb = new StringBuilder();
@@ -157,13 +305,65 @@ public class ZipFileDataFormat extends ServiceSupport implements DataFormat, Dat
         this.preservePathElements = preservePathElements;
     }
 
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Whether to deflate the entries in parallel when marshalling a message body which is a collection of files,
+     * messages or exchanges, to a zip file with an entry for each. And when using an iterator, whether to inflate
+     * the entries in parallel ahead of the splitter when the message body is a file.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads used to deflate or inflate entries in parallel, by default the number of processors.
+     * At most twice this number of entries are kept in memory per message.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public long getMaxInFlightBytes() {
+        return maxInFlightBytes;
+    }
+
+    /**
+     * The maximum number of inflated bytes kept in memory ahead of the splitter when using an iterator in parallel,
+     * by default 64mb. Entries larger than this are not inflated ahead, but streamed when they are split.
+     */
+    public void setMaxInFlightBytes(long maxInFlightBytes) {
+        this.maxInFlightBytes = maxInFlightBytes;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * A custom thread pool to use for deflating or inflating entries in parallel.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     @Override
     protected void doStart() throws Exception {
         // noop
     }
 
     @Override
-    protected void doStop() throws Exception {
-        // noop
+    protected synchronized void doStop() throws Exception {
+        if (shutdownExecutorService && executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
     }
 }
@@ -16,29 +16,152 @@
  */
 package org.apache.camel.dataformat.zipfile;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.ZipFile;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Message;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.WrappedFile;
+import org.apache.camel.support.service.ServiceSupport;
 
 /**
  * ZipSplitter the expression builder which can be used after the splitter
  * Based on the thread <a href=
  * "http://camel.465427.n5.nabble.com/zip-file-best-practices-td5713437.html"
  * >zip file best practices</a>
+ * <p/>
+ * In parallel mode, when the message body is a file, the entries are read from the central directory of the zip
+ * file and inflated ahead of the splitter on a thread pool, see {@link ParallelZipIterator}. The thread pool is
+ * created when the first zip file is split, and shared by all the zip files split by this splitter.
  */
-public class ZipSplitter implements Expression {
+public class ZipSplitter extends ServiceSupport implements Expression {
+
+    public static final long DEFAULT_MAX_IN_FLIGHT_BYTES = 64 * 1024 * 1024;
+
+    private boolean parallel;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long maxInFlightBytes = DEFAULT_MAX_IN_FLIGHT_BYTES;
+    private volatile ExecutorService executorService;
+    private CamelContext camelContext;
+    private boolean shutdownExecutorService;
 
     public ZipSplitter() {
     }
 
     public Object evaluate(Exchange exchange) {
         Message inputMessage = exchange.getIn();
+        if (parallel) {
+            File file = getFile(inputMessage.getBody());
+            if (file != null) {
+                return createParallelIterator(exchange, file);
+            }
+        }
         InputStream inputStream = inputMessage.getBody(InputStream.class);
         return new ZipIterator(exchange, inputStream);
     }
 
+    private ParallelZipIterator createParallelIterator(Exchange exchange, File file) {
+        ZipFile zipFile;
+        try {
+            zipFile = new ZipFile(file);
+        } catch (IOException e) {
+            throw new RuntimeCamelException(e);
+        }
+        return new ParallelZipIterator(exchange, zipFile, getOrCreateExecutorService(exchange.getContext()), parallelism * 2, maxInFlightBytes);
+    }
+
+    private ExecutorService getOrCreateExecutorService(CamelContext context) {
+        ExecutorService answer = executorService;
+        if (answer == null) {
+            synchronized (this) {
+                answer = executorService;
+                if (answer == null) {
+                    answer = context.getExecutorServiceManager().newFixedThreadPool(this, "ZipSplitter", parallelism);
+                    camelContext = context;
+                    shutdownExecutorService = true;
+                    executorService = answer;
+                }
+            }
+        }
+        return answer;
+    }
+
+    private static File getFile(Object body) {
+        if (body instanceof WrappedFile) {
+            body = ((WrappedFile<?>) body).getFile();
+        }
+        return body instanceof File ? (File) body : null;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Whether to inflate the entries in parallel ahead of the splitter, when the message body is a file.
+     * Other message bodies are split sequentially as a stream.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads used to inflate entries in parallel, by default the number of processors.
+     * At most twice this number of entries are inflated ahead of the splitter.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public long getMaxInFlightBytes() {
+        return maxInFlightBytes;
+    }
+
+    /**
+     * The maximum number of inflated bytes kept in memory ahead of the splitter, by default 64mb.
+     * Entries larger than this are not inflated ahead, but streamed when they are split.
+     */
+    public void setMaxInFlightBytes(long maxInFlightBytes) {
+        this.maxInFlightBytes = maxInFlightBytes;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * A custom thread pool to use for inflating entries in parallel. By default a thread pool is
+     * created from the {@link org.apache.camel.spi.ExecutorServiceManager} when the first zip file is split,
+     * and is shutdown when this splitter or the CamelContext is stopped.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        // noop
+    }
+
+    @Override
+    protected synchronized void doStop() throws Exception {
+        if (shutdownExecutorService && executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+    }
+
     @Override
     public <T> T evaluate(Exchange exchange, Class<T> type) {
         Object result = evaluate(exchange);
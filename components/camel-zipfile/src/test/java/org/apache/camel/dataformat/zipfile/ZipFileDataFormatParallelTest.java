@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.zipfile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.DefaultMessage;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.camel.util.IOHelper;
+import org.junit.Test;
+
+public class ZipFileDataFormatParallelTest extends CamelTestSupport {
+
+    @Test
+    public void testMarshalMessages() throws Exception {
+        List<Message> messages = new ArrayList<>();
+        Map<String, String> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int j = 0; j < i * 10; j++) {
+                sb.append("message ").append(i).append(' ');
+            }
+            Message message = new DefaultMessage(context);
+            message.setHeader(Exchange.FILE_NAME, "path/message" + i + ".txt");
+            message.setBody(sb.toString());
+            messages.add(message);
+            expected.put("message" + i + ".txt", sb.toString());
+        }
+
+        Exchange out = template.request("direct:marshal", e -> {
+            e.getIn().setHeader(Exchange.FILE_NAME, "messages");
+            e.getIn().setBody(messages);
+        });
+
+        assertEquals("messages.zip", out.getMessage().getHeader(Exchange.FILE_NAME));
+        assertEquals(expected, unzip(out.getMessage().getBody(byte[].class)));
+    }
+
+    @Test
+    public void testMarshalFiles() throws Exception {
+        deleteDirectory("target/zipfile-parallel");
+        File dir = new File("target/zipfile-parallel/input/sub");
+        dir.mkdirs();
+        File hello = writeFile(new File(dir, "hello.txt"), "Hello World");
+        File bye = writeFile(new File(dir, "bye.txt"), "Bye World");
+        File empty = writeFile(new File(dir, "empty.txt"), "");
+
+        Exchange out = template.request("direct:marshalPaths", e -> e.getIn().setBody(Arrays.asList(hello, bye, empty)));
+
+        File zip = new File("target/zipfile-parallel/files.zip");
+        try (OutputStream os = new FileOutputStream(zip)) {
+            os.write(out.getMessage().getBody(byte[].class));
+        }
+
+        // the central directory is read by java.util.zip.ZipFile
+        ZipFile zipFile = new ZipFile(zip);
+        try {
+            List<String> names = new ArrayList<>();
+            for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                names.add(entry.getName());
+            }
+            assertEquals(Arrays.asList("target/", "target/zipfile-parallel/", "target/zipfile-parallel/input/",
+                "target/zipfile-parallel/input/sub/", "target/zipfile-parallel/input/sub/hello.txt",
+                "target/zipfile-parallel/input/sub/bye.txt", "target/zipfile-parallel/input/sub/empty.txt"), names);
+            assertTrue(zipFile.getEntry("target/").isDirectory());
+            assertEquals("Hello World", context.getTypeConverter().convertTo(String.class,
+                zipFile.getInputStream(zipFile.getEntry("target/zipfile-parallel/input/sub/hello.txt"))));
+            assertEquals(0, zipFile.getEntry("target/zipfile-parallel/input/sub/empty.txt").getSize());
+        } finally {
+            zipFile.close();
+        }
+
+        // and the zip file can be split in parallel as well
+        getMockEndpoint("mock:entry").expectedBodiesReceived("Hello World", "Bye World", "");
+        template.sendBody("direct:split", zip);
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testMarshalSingleBody() throws Exception {
+        Exchange out = template.request("direct:marshal", e -> {
+            e.getIn().setHeader(Exchange.FILE_NAME, "report.txt");
+            e.getIn().setBody("Hello World");
+        });
+
+        assertEquals("report.txt.zip", out.getMessage().getHeader(Exchange.FILE_NAME));
+        assertEquals("Hello World", unzip(out.getMessage().getBody(byte[].class)).get("report.txt"));
+    }
+
+    @Test
+    public void testUnmarshalFileWithIterator() throws Exception {
+        deleteDirectory("target/zipfile-parallel");
+        File zip = new File("target/zipfile-parallel/data.zip");
+        zip.getParentFile().mkdirs();
+        List<String> expected = new ArrayList<>();
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zip))) {
+            for (int i = 0; i < 20; i++) {
+                zos.putNextEntry(new ZipEntry("entry" + i + ".txt"));
+                zos.write(("Hello " + i).getBytes(StandardCharsets.UTF_8));
+                expected.add("Hello " + i);
+            }
+        }
+
+        // the model configures the data format to inflate the entries in parallel
+        getMockEndpoint("mock:entry").expectedBodiesReceived(expected);
+        template.sendBody("direct:unmarshal", zip);
+        assertMockEndpointsSatisfied();
+
+        // the zip file is closed when the split is done
+        assertTrue(zip.delete());
+    }
+
+    private static File writeFile(File file, String content) throws Exception {
+        try (OutputStream os = new FileOutputStream(file)) {
+            os.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return file;
+    }
+
+    private Map<String, String> unzip(byte[] data) throws Exception {
+        Map<String, String> answer = new LinkedHashMap<>();
+        // the zip input stream verifies the size and crc of the entries
+        ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(data));
+        try {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                IOHelper.copy(zis, bos);
+                answer.put(entry.getName(), new String(bos.toByteArray(), StandardCharsets.UTF_8));
+            }
+        } finally {
+            zis.close();
+        }
+        return answer;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                ZipFileDataFormat zip = new ZipFileDataFormat();
+                zip.setParallel(true);
+                zip.setParallelism(4);
+
+                ZipFileDataFormat zipPaths = new ZipFileDataFormat();
+                zipPaths.setParallel(true);
+                zipPaths.setPreservePathElements(true);
+
+                ZipSplitter splitter = new ZipSplitter();
+                splitter.setParallel(true);
+
+                from("direct:marshal").marshal(zip);
+                from("direct:marshalPaths").marshal(zipPaths);
+                from("direct:split").split(splitter).streaming().convertBodyTo(String.class).to("mock:entry");
+
+                org.apache.camel.model.dataformat.ZipFileDataFormat model = new org.apache.camel.model.dataformat.ZipFileDataFormat();
+                model.setUsingIterator(true);
+                model.setParallel(true);
+                model.setParallelism(2);
+                model.setMaxInFlightBytes(64L);
+
+                from("direct:unmarshal").unmarshal(model)
+                    .split(body()).streaming()
+                        .process(e -> assertTrue(e.getIn().getBody() instanceof byte[]))
+                        .convertBodyTo(String.class).to("mock:entry");
+            }
+        };
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.zipfile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.camel.util.IOHelper;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ZipSplitterParallelTest extends CamelTestSupport {
+
+    private static final int ENTRIES = 50;
+
+    private final File zipFile = new File("target/zipsplitter-parallel/data.zip");
+    private final List<String> expectedBodies = new ArrayList<>();
+    private final List<String> expectedNames = new ArrayList<>();
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/zipsplitter-parallel");
+        zipFile.getParentFile().mkdirs();
+
+        ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zipFile));
+        try {
+            zos.putNextEntry(new ZipEntry("dir/"));
+            for (int i = 0; i < ENTRIES; i++) {
+                StringBuilder sb = new StringBuilder();
+                // every tenth entry is larger than the in-flight bytes and is streamed
+                int repeat = i % 10 == 0 ? 1000 : 10;
+                for (int j = 0; j < repeat; j++) {
+                    sb.append("entry ").append(i).append(' ');
+                }
+                String name = "dir/entry" + i + ".txt";
+                zos.putNextEntry(new ZipEntry(name));
+                zos.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+                expectedBodies.add(sb.toString());
+                expectedNames.add(name);
+            }
+        } finally {
+            IOHelper.close(zos);
+        }
+        super.setUp();
+    }
+
+    @Test
+    public void testSplitFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:entry");
+        mock.expectedBodiesReceived(expectedBodies);
+        mock.expectedHeaderValuesReceivedInAnyOrder("zipFileName", expectedNames);
+        mock.allMessages().header("foo").isEqualTo("bar");
+
+        template.sendBodyAndHeader("direct:start", zipFile, "foo", "bar");
+
+        assertMockEndpointsSatisfied();
+        // the zip file is closed when the split is done
+        assertTrue(zipFile.delete());
+    }
+
+    @Test
+    public void testSplitFileFromFileComponent() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:entry");
+        mock.expectedBodiesReceived(expectedBodies);
+
+        context.getRouteController().startRoute("file");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitStreamSequentially() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:entry");
+        mock.expectedBodiesReceived(expectedBodies);
+
+        byte[] data = context.getTypeConverter().convertTo(byte[].class, zipFile);
+        template.sendBody("direct:start", new ByteArrayInputStream(data));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitAllowEmptyDirectory() throws Exception {
+        ZipSplitter splitter = new ZipSplitter();
+        splitter.setParallel(true);
+        Exchange exchange = createExchangeWithBody(zipFile);
+
+        ParallelZipIterator it = (ParallelZipIterator) splitter.evaluate(exchange);
+        it.setAllowEmptyDirectory(true);
+        try {
+            assertEquals("dir/", it.next().getHeader(Exchange.FILE_NAME));
+            assertEquals("dir/entry0.txt", it.next().getHeader(Exchange.FILE_NAME));
+        } finally {
+            it.close();
+        }
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testThreadPoolSharedBetweenFiles() throws Exception {
+        ZipSplitter splitter = new ZipSplitter();
+        splitter.setParallel(true);
+        splitter.setParallelism(2);
+
+        ExecutorService executorService = null;
+        for (int i = 0; i < 3; i++) {
+            ParallelZipIterator it = (ParallelZipIterator) splitter.evaluate(createExchangeWithBody(zipFile));
+            int count = 0;
+            while (it.hasNext()) {
+                assertEquals(expectedBodies.get(count++), context.getTypeConverter().convertTo(String.class, it.next().getBody()));
+            }
+            assertEquals(ENTRIES, count);
+
+            // the zip file is closed but the thread pool is kept for the next zip file
+            if (executorService == null) {
+                executorService = splitter.getExecutorService();
+            }
+            assertSame(executorService, splitter.getExecutorService());
+            assertFalse(executorService.isShutdown());
+        }
+
+        splitter.stop();
+        assertTrue(executorService.isShutdown());
+        assertNull(splitter.getExecutorService());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                ZipSplitter splitter = new ZipSplitter();
+                splitter.setParallel(true);
+                splitter.setParallelism(4);
+                splitter.setMaxInFlightBytes(1024);
+
+                from("direct:start")
+                    .split(splitter).streaming()
+                        .convertBodyTo(String.class)
+                        .to("mock:entry");
+
+                from("file:target/zipsplitter-parallel?noop=true").routeId("file").noAutoStartup()
+                    .split(splitter).streaming()
+                        .convertBodyTo(String.class)
+                        .to("mock:entry");
+            }
+        };
+    }
+}
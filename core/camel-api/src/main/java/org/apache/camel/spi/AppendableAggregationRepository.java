@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+
+/**
+ * A specialized {@link org.apache.camel.spi.AggregationRepository} which can store each exchange added to
+ * a correlation group as a separate delta record, instead of rewriting the whole aggregated exchange on each add.
+ * <p/>
+ * Persistent repositories otherwise write the aggregated exchange in full whenever a new exchange is aggregated,
+ * so a group of N exchanges costs O(N<sup>2</sup>) bytes written. In append-only mode only the incoming exchange is written,
+ * and the repository rebuilds the aggregated exchange from its deltas using the {@link AggregationStrategy}
+ * when it is not kept in memory, such as during recovery after a restart.
+ */
+public interface AppendableAggregationRepository extends AggregationRepository {
+
+    /**
+     * Whether the repository is in append-only mode, in which case the aggregator will use
+     * {@link #append(CamelContext, String, Exchange, Exchange)} instead of {@link #add(CamelContext, String, Exchange)}
+     * while the correlation group is not completed.
+     */
+    boolean isAppendOnly();
+
+    /**
+     * Sets the aggregation strategy used to rebuild the aggregated exchange from its deltas.
+     * <p/>
+     * The aggregator sets its own aggregation strategy when it is started.
+     */
+    void setAggregationStrategy(AggregationStrategy aggregationStrategy);
+
+    /**
+     * Appends the incoming exchange to the correlation group.
+     *
+     * @param camelContext   the current CamelContext
+     * @param key            the correlation key
+     * @param delta          a copy of the incoming exchange, as it was before it was aggregated
+     * @param aggregated     the aggregated exchange, which includes the incoming exchange
+     */
+    void append(CamelContext camelContext, String key, Exchange delta, Exchange aggregated);
+
+}
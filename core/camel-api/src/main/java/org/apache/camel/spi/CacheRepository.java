@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.Service;
+
+/**
+ * Access to a repository of cached values to implement the Cache EIP.
+ * <p/>
+ * The repository decides how long a value is kept, such as by evicting the least recently used values
+ * when the repository is full, or by expiring values after a time to live.
+ */
+public interface CacheRepository extends Service {
+
+    /**
+     * Gets the cached value.
+     *
+     * @param key the key of the value
+     * @return the cached value, or <tt>null</tt> if there is no value or the value has expired
+     */
+    Object get(String key);
+
+    /**
+     * Adds the value to the repository, replacing any existing value for the key.
+     *
+     * @param key   the key of the value
+     * @param value the value to cache
+     */
+    void put(String key, Object value);
+
+    /**
+     * Removes the value from the repository.
+     *
+     * @param key the key of the value
+     * @return <tt>true</tt> if the value was removed
+     */
+    boolean remove(String key);
+
+    /**
+     * Clear the repository.
+     */
+    void clear();
+
+}
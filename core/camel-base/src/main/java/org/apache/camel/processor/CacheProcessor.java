@@ -0,0 +1,359 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Message;
+import org.apache.camel.Navigate;
+import org.apache.camel.Processor;
+import org.apache.camel.StreamCache;
+import org.apache.camel.spi.CacheRepository;
+import org.apache.camel.spi.IdAware;
+import org.apache.camel.spi.RouteIdAware;
+import org.apache.camel.support.AsyncProcessorConverterHelper;
+import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.DefaultMessage;
+import org.apache.camel.support.service.ServiceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of the Cache EIP which caches the result of processing the exchange by its key.
+ * <p/>
+ * The result cached is the message body and the headers added or changed by the processor. When the
+ * {@link CacheRepository} has a value for the key, then the result is set on the exchange without calling
+ * the processor. Concurrent exchanges with the same key, which is not cached, are coalesced so only
+ * one of them calls the processor, and the others wait for its result. If the processor fails, then
+ * the result is not cached, and one of the waiting exchanges calls the processor instead.
+ * <p/>
+ * Exchanges without a key are not cached.
+ * <p/>
+ * The body is copied when it is cached and when the cached result is set on an exchange, if the body is a byte array
+ * or a {@link Map}, {@link List} or {@link Set} (which are copied shallow). Other bodies are shared by all the exchanges
+ * using the cached result, and must therefore not be changed, such as by converting the body to a <tt>String</tt>.
+ *
+ * @see org.apache.camel.spi.CacheRepository
+ */
+public class CacheProcessor extends AsyncProcessorSupport implements CamelContextAware, Navigate<Processor>, IdAware, RouteIdAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheProcessor.class);
+
+    private CamelContext camelContext;
+    private String id;
+    private String routeId;
+    private final Expression keyExpression;
+    private final CacheRepository cacheRepository;
+    private final AsyncProcessor processor;
+    private final ConcurrentMap<String, InFlightCall> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public CacheProcessor(Expression keyExpression, CacheRepository cacheRepository, Processor processor) {
+        this.keyExpression = keyExpression;
+        this.cacheRepository = cacheRepository;
+        this.processor = AsyncProcessorConverterHelper.convert(processor);
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getRouteId() {
+        return routeId;
+    }
+
+    public void setRouteId(String routeId) {
+        this.routeId = routeId;
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final String key;
+        try {
+            key = keyExpression.evaluate(exchange, String.class);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        if (key == null) {
+            // no key so the result cannot be cached
+            return processor.process(exchange, callback);
+        }
+        return process(exchange, key, callback);
+    }
+
+    private boolean process(Exchange exchange, String key, AsyncCallback callback) {
+        final InFlightCall call;
+        try {
+            while (true) {
+                Object cached = cacheRepository.get(key);
+                if (cached instanceof Message) {
+                    hitCount.incrementAndGet();
+                    LOG.trace("Cache hit for key: {} on exchange: {}", key, exchange);
+                    setResult(exchange, (Message) cached);
+                    callback.done(true);
+                    return true;
+                }
+
+                InFlightCall candidate = new InFlightCall();
+                InFlightCall existing = inFlight.putIfAbsent(key, candidate);
+                if (existing == null) {
+                    // a previous call may have cached the result just before it completed
+                    cached = cacheRepository.get(key);
+                    if (cached instanceof Message) {
+                        hitCount.incrementAndGet();
+                        setResult(exchange, (Message) cached);
+                        complete(key, candidate, (Message) cached);
+                        callback.done(true);
+                        return true;
+                    }
+                    call = candidate;
+                    break;
+                }
+                if (existing.addWaiter(exchange, callback)) {
+                    // the exchange is completed with the result of the in-flight call
+                    LOG.trace("Waiting for in-flight call for key: {} on exchange: {}", key, exchange);
+                    return false;
+                }
+                // the in-flight call has just completed so look up again
+            }
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        missCount.incrementAndGet();
+        LOG.trace("Cache miss for key: {} on exchange: {}", key, exchange);
+        final Map<String, Object> headers = new HashMap<>(exchange.getMessage().getHeaders());
+        return processor.process(exchange, doneSync -> {
+            Message result = null;
+            if (exchange.getException() == null && !exchange.isRollbackOnly()) {
+                try {
+                    result = createResult(exchange, headers);
+                    if (result != null) {
+                        cacheRepository.put(key, result);
+                    }
+                } catch (Exception e) {
+                    LOG.warn("Error caching the result for key: " + key + ". This exception is ignored.", e);
+                    result = null;
+                }
+            }
+            complete(key, call, result);
+            callback.done(doneSync);
+        });
+    }
+
+    /**
+     * Completes the in-flight call and the exchanges waiting for it.
+     */
+    private void complete(String key, InFlightCall call, Message result) {
+        inFlight.remove(key, call);
+        for (Waiter waiter : call.complete()) {
+            if (result != null) {
+                hitCount.incrementAndGet();
+                setResult(waiter.exchange, result);
+                waiter.callback.done(false);
+            } else {
+                // the call failed so let the waiting exchange call the processor
+                process(waiter.exchange, key, doneSync -> waiter.callback.done(false));
+            }
+        }
+    }
+
+    /**
+     * Creates the result to cache from the body and the headers added or changed by the processor.
+     *
+     * @return the result, or <tt>null</tt> if the body is a stream which cannot be cached
+     */
+    private Message createResult(Exchange exchange, Map<String, Object> headers) throws Exception {
+        Message message = exchange.getMessage();
+        Object body = message.getBody();
+        if (body instanceof StreamCache) {
+            StreamCache streamCache = (StreamCache) body;
+            body = exchange.getContext().getTypeConverter().mandatoryConvertTo(byte[].class, exchange, streamCache);
+            streamCache.reset();
+        } else if (body instanceof InputStream) {
+            LOG.debug("Cannot cache the result of exchange: {} as the body is a stream. Enable stream caching to cache the result.", exchange);
+            return null;
+        }
+
+        Message result = new DefaultMessage(exchange.getContext());
+        // the exchange may continue to change the body after it has been cached
+        result.setBody(copyBody(body));
+        for (Map.Entry<String, Object> header : message.getHeaders().entrySet()) {
+            if (!headers.containsKey(header.getKey()) || !Objects.equals(headers.get(header.getKey()), header.getValue())) {
+                result.setHeader(header.getKey(), header.getValue());
+            }
+        }
+        return result;
+    }
+
+    private static void setResult(Exchange exchange, Message result) {
+        Message message = exchange.getMessage();
+        message.setBody(copyBody(result.getBody()));
+        message.getHeaders().putAll(result.getHeaders());
+    }
+
+    /**
+     * Copies the body if its type is known to be mutable, so the exchanges do not share the same instance.
+     */
+    private static Object copyBody(Object body) {
+        if (body instanceof byte[]) {
+            return ((byte[]) body).clone();
+        } else if (body instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) body);
+        } else if (body instanceof List) {
+            return new ArrayList<>((List<?>) body);
+        } else if (body instanceof Set) {
+            return new LinkedHashSet<>((Set<?>) body);
+        }
+        return body;
+    }
+
+    @Override
+    public List<Processor> next() {
+        if (!hasNext()) {
+            return null;
+        }
+        List<Processor> answer = new ArrayList<>(1);
+        answer.add(processor);
+        return answer;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return processor != null;
+    }
+
+    // Properties
+    // -------------------------------------------------------------------------
+    public Expression getKeyExpression() {
+        return keyExpression;
+    }
+
+    public CacheRepository getCacheRepository() {
+        return cacheRepository;
+    }
+
+    public Processor getProcessor() {
+        return processor;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    @Override
+    protected void doStart() throws Exception {
+        // must add before start so it will have CamelContext injected first
+        if (!camelContext.hasService(cacheRepository)) {
+            camelContext.addService(cacheRepository);
+        }
+        ServiceHelper.startService(processor, cacheRepository);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(processor, cacheRepository);
+    }
+
+    private static final class InFlightCall {
+        private List<Waiter> waiters = new ArrayList<>();
+
+        /**
+         * Adds the exchange to wait for the call.
+         *
+         * @return <tt>false</tt> if the call has already completed
+         */
+        synchronized boolean addWaiter(Exchange exchange, AsyncCallback callback) {
+            if (waiters == null) {
+                return false;
+            }
+            waiters.add(new Waiter(exchange, callback));
+            return true;
+        }
+
+        synchronized List<Waiter> complete() {
+            List<Waiter> answer = waiters;
+            waiters = null;
+            return answer;
+        }
+    }
+
+    private static final class Waiter {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+
+        private Waiter(Exchange exchange, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+    }
+}
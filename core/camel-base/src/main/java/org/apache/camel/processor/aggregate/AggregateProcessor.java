@@ -53,6 +53,7 @@ import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.TimeoutMap;
 import org.apache.camel.Traceable;
 import org.apache.camel.spi.AggregationRepository;
+import org.apache.camel.spi.AppendableAggregationRepository;
 import org.apache.camel.spi.ExceptionHandler;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
@@ -128,6 +129,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     private TimeoutMap<String, String> timeoutMap;
     private ExceptionHandler exceptionHandler;
     private AggregationRepository aggregationRepository;
+    private boolean appendOnly;
     private Map<String, String> closedCorrelationKeys;
     private final Set<String> batchConsumerCorrelationKeys = new ConcurrentSkipListSet<>();
     private final Set<String> inProgressCompleteExchanges = Collections.newSetFromMap(new ConcurrentHashMap<>());
@@ -539,6 +541,9 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             trackTimeout(key, newExchange);
         }
 
+        // keep a copy of the incoming exchange before its aggregated, as its appended to the repository as a delta
+        Exchange delta = appendOnly ? newExchange.copy() : null;
+
         // aggregate the exchanges
         boolean aggregateFailed = false;
         try {
@@ -595,7 +600,11 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
 
         if (!aggregateFailed && complete == null) {
             // only need to update aggregation repository if we are not complete
-            doAggregationRepositoryAdd(newExchange.getContext(), key, originalExchange, answer);
+            if (delta != null) {
+                ((AppendableAggregationRepository) aggregationRepository).append(newExchange.getContext(), key, delta, answer);
+            } else {
+                doAggregationRepositoryAdd(newExchange.getContext(), key, originalExchange, answer);
+            }
         } else {
             // if we are complete then add the answer to the list
             doAggregationComplete(complete, list, key, originalExchange, answer, aggregateFailed);
@@ -1468,6 +1477,16 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             LOG.info("Optimistic locking is enabled");
         }
 
+        // optimistic locking needs the aggregated exchange to compare with, so it cannot append deltas
+        if (!optimisticLocking && aggregationRepository instanceof AppendableAggregationRepository) {
+            AppendableAggregationRepository appendable = (AppendableAggregationRepository) aggregationRepository;
+            appendable.setAggregationStrategy(aggregationStrategy);
+            appendOnly = appendable.isAppendOnly();
+            if (appendOnly) {
+                LOG.info("Appending aggregated exchanges as deltas to AggregationRepository: {}", aggregationRepository);
+            }
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
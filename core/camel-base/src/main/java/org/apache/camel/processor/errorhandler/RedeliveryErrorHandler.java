@@ -18,7 +18,9 @@ package org.apache.camel.processor.errorhandler;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -71,7 +73,9 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
     private static final Logger LOG = LoggerFactory.getLogger(RedeliveryErrorHandler.class);
 
     protected final AtomicInteger redeliverySleepCounter = new AtomicInteger();
+    protected final Map<RedeliveryState, RedeliveryTimer.Timeout> parkedRedeliveries = new ConcurrentHashMap<>();
     protected ScheduledExecutorService executorService;
+    protected RedeliveryTimer redeliveryTimer;
     protected final CamelContext camelContext;
     protected final ReactiveExecutor reactiveExecutor;
     protected final AsyncProcessorAwaitManager awaitManager;
@@ -222,6 +226,12 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
         // prepare for shutdown, eg do not allow redelivery if configured
         LOG.trace("Prepare shutdown on error handler: {}", this);
         preparingShutdown = true;
+        // release the parked redeliveries which are not allowed while stopping
+        parkedRedeliveries.forEach((state, timeout) -> {
+            if (!state.currentRedeliveryPolicy.isAllowRedeliveryWhileStopping()) {
+                timeout.expireNow();
+            }
+        });
     }
 
     /**
@@ -431,6 +441,11 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
                         }
                         executorService.schedule(() -> reactiveExecutor.schedule(this::redeliver), redeliveryDelay, TimeUnit.MILLISECONDS);
 
+                    } else if (redeliveryTimer != null && !exchange.isTransacted()) {
+
+                        // park the exchange in the redelivery timer so no thread is blocked while waiting
+                        park();
+
                     } else {
                         // async delayed redelivery was disabled or we are transacted so we must be synchronous
                         // as the transaction manager requires to execute in the same thread context
@@ -441,11 +456,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
                             redeliverySleepCounter.decrementAndGet();
                             if (!complete) {
                                 // the task was rejected
-                                exchange.setException(new RejectedExecutionException("Redelivery not allowed while stopping"));
-                                // mark the exchange as redelivery exhausted so the failure processor / dead letter channel can process the exchange
-                                exchange.adapt(ExtendedExchange.class).setRedeliveryExhausted(true);
-                                // jump to start of loop which then detects that we are failed and exhausted
-                                reactiveExecutor.schedule(this);
+                                reject(new RejectedExecutionException("Redelivery not allowed while stopping"));
                             } else {
                                 reactiveExecutor.schedule(this::redeliver);
                             }
@@ -478,6 +489,64 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
             }
         }
 
+        /**
+         * Parks the exchange in the {@link RedeliveryTimer} until the redelivery delay has elapsed, and then
+         * redelivers the exchange using the executor service.
+         */
+        protected void park() {
+            UnitOfWork uow = exchange.getUnitOfWork();
+            RouteContext rc = uow != null ? uow.getRouteContext() : null;
+            String routeId = rc != null ? rc.getRouteId() : exchange.getFromRouteId();
+
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Parking redelivery for {} millis for exchangeId: {}", redeliveryDelay, exchange.getExchangeId());
+            }
+            RedeliveryTimer.Timeout timeout = redeliveryTimer.park(routeId, redeliveryDelay, this::resume);
+            if (timeout == null) {
+                // the retry budget is exceeded so fail fast
+                LOG.debug("Rejected redelivery as the retry budget is exceeded for exchangeId: {}", exchange.getExchangeId());
+                reject(new RejectedExecutionException("Redelivery rejected as the retry budget is exceeded"));
+                return;
+            }
+            parkedRedeliveries.put(this, timeout);
+            if (timeout.isDone()) {
+                // the delay elapsed already
+                parkedRedeliveries.remove(this);
+            }
+        }
+
+        /**
+         * Resumes a parked exchange, which is called from the timer thread.
+         */
+        protected void resume() {
+            parkedRedeliveries.remove(this);
+            try {
+                executorService.execute(() -> {
+                    // are we preparing for shutdown then only do redelivery if allowed
+                    if (preparingShutdown && !currentRedeliveryPolicy.isAllowRedeliveryWhileStopping()) {
+                        LOG.debug("Rejected redelivery while stopping");
+                        reject(new RejectedExecutionException("Redelivery not allowed while stopping"));
+                    } else {
+                        reactiveExecutor.schedule(this::redeliver);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // the executor service is shutdown
+                reject(e);
+            }
+        }
+
+        /**
+         * Rejects the redelivery, and lets the failure processor / dead letter channel process the exchange.
+         */
+        protected void reject(RejectedExecutionException cause) {
+            exchange.setException(cause);
+            // mark the exchange as redelivery exhausted so the failure processor / dead letter channel can process the exchange
+            exchange.adapt(ExtendedExchange.class).setRedeliveryExhausted(true);
+            // jump to start of loop which then detects that we are failed and exhausted
+            reactiveExecutor.schedule(this);
+        }
+
         protected boolean isRunAllowed() {
             // if camel context is forcing a shutdown then do not allow running
             boolean forceShutdown = shutdownStrategy.forceShutdown(RedeliveryErrorHandler.this);
@@ -1265,7 +1334,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
      * Gets the number of exchanges that are pending for redelivery
      */
     public int getPendingRedeliveryCount() {
-        int answer = redeliverySleepCounter.get();
+        int answer = redeliverySleepCounter.get() + parkedRedeliveries.size();
         if (executorService instanceof ThreadPoolExecutor) {
             answer += ((ThreadPoolExecutor) executorService).getQueue().size();
         }
@@ -1292,6 +1361,11 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Using ExecutorService: {} for redeliveries on error handler: {}", executorService, this);
             }
+            // use the shared timer for delayed redeliveries unless disabled
+            Boolean timer = CamelContextHelper.parseBoolean(camelContext, camelContext.getGlobalOption(RedeliveryTimer.ENABLED));
+            if (redeliveryTimer == null && !supportTransacted() && (timer == null || timer)) {
+                redeliveryTimer = RedeliveryTimer.getOrCreate(camelContext);
+            }
         }
 
         // reset flag when starting
@@ -748,6 +748,8 @@ public class RedeliveryPolicy implements Cloneable, Serializable {
      * <p/>
      * When enabled it allows Camel to schedule a future task for delayed
      * redelivery which prevents current thread from blocking while waiting.
+     * When disabled the exchange is parked in the {@link RedeliveryTimer} instead,
+     * unless the timer has been disabled.
      * <p/>
      * Exchange which is transacted will however always use synchronous delayed redelivery
      * because the transaction must execute in the same thread context.
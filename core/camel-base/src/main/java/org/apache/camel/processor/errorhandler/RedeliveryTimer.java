@@ -0,0 +1,364 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.errorhandler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Route;
+import org.apache.camel.StaticService;
+import org.apache.camel.support.CamelContextHelper;
+import org.apache.camel.support.LifecycleStrategySupport;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timer wheel which parks exchanges that are waiting for a delayed redelivery, so no threads
+ * are blocked while waiting.
+ * <p/>
+ * The timer is shared by all the error handlers of the {@link CamelContext}, and a single thread is
+ * advancing the wheel. When a redelivery is due, its task is run on the timer thread, and the task
+ * should therefore only hand over the exchange to be redelivered by another thread.
+ * <p/>
+ * The number of parked redeliveries, and the rate of new redeliveries, are bounded by a global retry budget,
+ * so a downstream outage cannot pile up an unbounded number of exchanges. A redelivery which exceeds the
+ * budget is rejected, and the error handler fails the exchange fast.
+ * <p/>
+ * The timer can be configured using the global options:
+ * <ul>
+ *     <li>{@link #ENABLED} - whether the error handlers should park delayed redeliveries in the timer (default true),
+ *     where <tt>false</tt> lets the error handlers block the thread while waiting, which preserves the order
+ *     of the exchanges for consumers that process one exchange at a time</li>
+ *     <li>{@link #TICK_DURATION} - the duration of a tick of the wheel in millis (default 10)</li>
+ *     <li>{@link #MAX_PARKED} - the maximum number of parked redeliveries (default 10000)</li>
+ *     <li>{@link #MAX_RATE} - the maximum number of redeliveries parked per second (default 0 = unbounded)</li>
+ * </ul>
+ */
+public final class RedeliveryTimer extends ServiceSupport implements CamelContextAware, StaticService {
+
+    public static final String ENABLED = "CamelRedeliveryTimerEnabled";
+    public static final String TICK_DURATION = "CamelRedeliveryTimerTickDuration";
+    public static final String MAX_PARKED = "CamelRedeliveryTimerMaxParked";
+    public static final String MAX_RATE = "CamelRedeliveryTimerMaxRate";
+
+    private static final Logger LOG = LoggerFactory.getLogger(RedeliveryTimer.class);
+    private static final int WHEEL_SIZE = 512;
+    private static final Object LOCK = new Object();
+
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Map<String, AtomicInteger> parkedPerRoute = new ConcurrentHashMap<>();
+    private final AtomicInteger parked = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private final Object rateLock = new Object();
+    private CamelContext camelContext;
+    private long tickDuration = 10;
+    private int maxParked = 10000;
+    private int maxRate;
+    private long rateWindow;
+    private int rateCount;
+    private List<Timeout>[] wheel;
+    private long startTime;
+    private long tick;
+    private Thread worker;
+    private volatile boolean running;
+
+    /**
+     * Gets the timer of the given {@link CamelContext}, which is created and added as a service if not
+     * already present.
+     */
+    public static RedeliveryTimer getOrCreate(CamelContext camelContext) throws Exception {
+        synchronized (LOCK) {
+            RedeliveryTimer answer = camelContext.hasService(RedeliveryTimer.class);
+            if (answer == null) {
+                answer = new RedeliveryTimer();
+                answer.setCamelContext(camelContext);
+                camelContext.addService(answer, true, true);
+                // forget the parked count of the routes which are removed
+                final RedeliveryTimer timer = answer;
+                camelContext.addLifecycleStrategy(new LifecycleStrategySupport() {
+                    @Override
+                    public void onRoutesRemove(Collection<Route> routes) {
+                        routes.forEach(route -> timer.parkedPerRoute.remove(route.getId()));
+                    }
+                });
+            }
+            return answer;
+        }
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public long getTickDuration() {
+        return tickDuration;
+    }
+
+    public void setTickDuration(long tickDuration) {
+        this.tickDuration = tickDuration;
+    }
+
+    public int getMaxParked() {
+        return maxParked;
+    }
+
+    public void setMaxParked(int maxParked) {
+        this.maxParked = maxParked;
+    }
+
+    public int getMaxRate() {
+        return maxRate;
+    }
+
+    public void setMaxRate(int maxRate) {
+        this.maxRate = maxRate;
+    }
+
+    /**
+     * Number of redeliveries currently parked in the timer
+     */
+    public int getParkedCount() {
+        return parked.get();
+    }
+
+    /**
+     * Number of redeliveries currently parked in the timer for the given route
+     */
+    public int getParkedCount(String routeId) {
+        AtomicInteger counter = routeId != null ? parkedPerRoute.get(routeId) : null;
+        return counter != null ? counter.get() : 0;
+    }
+
+    /**
+     * Number of redeliveries which has been rejected as the retry budget was exceeded
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Parks a redelivery until the delay has elapsed, and then runs the task on the timer thread.
+     *
+     * @param routeId the id of the route the exchange is being redelivered in, may be <tt>null</tt>
+     * @param delay   the delay in millis
+     * @param task    the task to run when the delay has elapsed, which should hand over the work to another thread
+     * @return the parked redelivery, or <tt>null</tt> if the redelivery was rejected as the retry budget was exceeded
+     */
+    public Timeout park(String routeId, long delay, Runnable task) {
+        ObjectHelper.notNull(task, "task");
+        if (!running) {
+            throw new IllegalStateException("RedeliveryTimer is not started");
+        }
+        if (!tryAcquire()) {
+            rejected.incrementAndGet();
+            return null;
+        }
+        if (routeId != null) {
+            parkedPerRoute.computeIfAbsent(routeId, k -> new AtomicInteger()).incrementAndGet();
+        }
+        Timeout timeout = new Timeout(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay), routeId, task);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    private boolean tryAcquire() {
+        if (maxRate > 0) {
+            synchronized (rateLock) {
+                long window = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+                if (window != rateWindow) {
+                    rateWindow = window;
+                    rateCount = 0;
+                }
+                if (rateCount >= maxRate) {
+                    return false;
+                }
+                rateCount++;
+            }
+        }
+        int current;
+        do {
+            current = parked.get();
+            if (maxParked > 0 && current >= maxParked) {
+                return false;
+            }
+        } while (!parked.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "camelContext", this);
+
+        Long duration = CamelContextHelper.parseLong(camelContext, camelContext.getGlobalOption(TICK_DURATION));
+        if (duration != null) {
+            tickDuration = duration;
+        }
+        Integer max = CamelContextHelper.parseInteger(camelContext, camelContext.getGlobalOption(MAX_PARKED));
+        if (max != null) {
+            maxParked = max;
+        }
+        Integer rate = CamelContextHelper.parseInteger(camelContext, camelContext.getGlobalOption(MAX_RATE));
+        if (rate != null) {
+            maxRate = rate;
+        }
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("TickDuration must be positive, was: " + tickDuration);
+        }
+
+        wheel = new List[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new LinkedList<>();
+        }
+        startTime = System.nanoTime();
+        tick = 0;
+        running = true;
+        worker = camelContext.getExecutorServiceManager().newThread("RedeliveryTimer", this::advance);
+        worker.start();
+        LOG.debug("Started RedeliveryTimer with tickDuration: {} millis, maxParked: {}, maxRate: {}", tickDuration, maxParked, maxRate);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+            worker = null;
+        }
+        // release the redeliveries which are still parked, so the exchanges are not lost
+        List<Timeout> remaining = new ArrayList<>();
+        if (wheel != null) {
+            for (List<Timeout> bucket : wheel) {
+                remaining.addAll(bucket);
+            }
+            wheel = null;
+        }
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            remaining.add(timeout);
+        }
+        if (!remaining.isEmpty()) {
+            LOG.debug("Releasing {} parked redeliveries on stop", remaining.size());
+        }
+        remaining.forEach(Timeout::expireNow);
+        parkedPerRoute.clear();
+    }
+
+    private void advance() {
+        long tickNanos = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+        int mask = WHEEL_SIZE - 1;
+        while (running) {
+            long deadline = startTime + (tick + 1) * tickNanos;
+            long sleep = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (sleep > 0) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException e) {
+                    // stopping
+                    return;
+                }
+            }
+
+            // move the newly parked redeliveries into their buckets
+            Timeout timeout;
+            while ((timeout = pending.poll()) != null) {
+                long ticks = Math.max((timeout.deadline - startTime) / tickNanos, tick);
+                timeout.rounds = (ticks - tick) / WHEEL_SIZE;
+                wheel[(int) (ticks & mask)].add(timeout);
+            }
+
+            // and run the ones that are due in the current bucket
+            Iterator<Timeout> it = wheel[(int) (tick & mask)].iterator();
+            while (it.hasNext()) {
+                timeout = it.next();
+                if (timeout.isDone()) {
+                    it.remove();
+                } else if (timeout.rounds <= 0) {
+                    it.remove();
+                    timeout.expireNow();
+                } else {
+                    timeout.rounds--;
+                }
+            }
+            tick++;
+        }
+    }
+
+    /**
+     * A redelivery which is parked in the timer.
+     */
+    public final class Timeout {
+
+        private final long deadline;
+        private final String routeId;
+        private final Runnable task;
+        private final AtomicBoolean done = new AtomicBoolean();
+        // only accessed by the timer thread
+        private long rounds;
+
+        private Timeout(long deadline, String routeId, Runnable task) {
+            this.deadline = deadline;
+            this.routeId = routeId;
+            this.task = task;
+        }
+
+        public boolean isDone() {
+            return done.get();
+        }
+
+        /**
+         * Runs the task now, unless it has already been run.
+         */
+        public void expireNow() {
+            if (done.compareAndSet(false, true)) {
+                parked.decrementAndGet();
+                // the counter is gone if the route has been removed
+                AtomicInteger routeCounter = routeId != null ? parkedPerRoute.get(routeId) : null;
+                if (routeCounter != null) {
+                    routeCounter.decrementAndGet();
+                }
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    LOG.warn("Error running redelivery task. This exception is ignored.", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+
+/**
+ * A base class for {@link LoadBalancer} implementations which choose the processor
+ * from the {@link LatencyStatistics} tracked for each processor.
+ */
+public abstract class LatencyAwareLoadBalancer extends QueueLoadBalancer {
+
+    private final ConcurrentMap<AsyncProcessor, LatencyStatistics> statistics = new ConcurrentHashMap<>();
+    private double smoothingFactor = LatencyStatistics.DEFAULT_SMOOTHING_FACTOR;
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        AsyncProcessor[] list = doGetProcessors();
+        if (list.length > 0) {
+            AsyncProcessor processor = chooseProcessor(list, exchange);
+            if (processor == null) {
+                Exception e = new IllegalStateException("No processors could be chosen to process " + exchange);
+                exchange.setException(e);
+            } else {
+                final LatencyStatistics stats = getStatistics(processor);
+                final long start = stats.onStart();
+                processor.process(exchange, doneSync -> {
+                    stats.onComplete(start);
+                    callback.done(doneSync);
+                });
+                return false;
+            }
+        }
+        // no processors but indicate we are done
+        callback.done(false);
+        return false;
+    }
+
+    @Override
+    public void removeProcessor(AsyncProcessor processor) {
+        super.removeProcessor(processor);
+        statistics.remove(processor);
+    }
+
+    /**
+     * Gets the statistics of the given processor
+     */
+    public LatencyStatistics getStatistics(AsyncProcessor processor) {
+        return statistics.computeIfAbsent(processor, p -> new LatencyStatistics(smoothingFactor));
+    }
+
+    public double getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    /**
+     * Sets the weight (between 0 and 1) of the latest latency in the moving average of the latency
+     * of each processor, where a higher value reacts faster on changes in latency.
+     * <p/>
+     * The default value is 0.3.
+     */
+    public void setSmoothingFactor(double smoothingFactor) {
+        this.smoothingFactor = smoothingFactor;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        statistics.values().forEach(LatencyStatistics::reset);
+    }
+}
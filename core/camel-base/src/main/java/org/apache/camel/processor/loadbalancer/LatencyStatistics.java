@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics about the number of in-flight calls and the exponentially weighted moving average
+ * of the latency of a load balancing target, for load balancers that react on how fast
+ * each target is.
+ * <p/>
+ * The counters are lock-free so they can be updated from many threads without contention.
+ */
+public class LatencyStatistics {
+
+    /**
+     * The default weight of the latest latency in the moving average.
+     */
+    public static final double DEFAULT_SMOOTHING_FACTOR = 0.3;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    // the average latency in nanos stored as the bits of a double
+    private final AtomicLong averageLatency = new AtomicLong(Double.doubleToRawLongBits(0d));
+    private final double smoothingFactor;
+
+    public LatencyStatistics() {
+        this(DEFAULT_SMOOTHING_FACTOR);
+    }
+
+    /**
+     * @param smoothingFactor the weight (between 0 and 1) of the latest latency in the moving average,
+     *                        where a higher value reacts faster on changes in latency
+     */
+    public LatencyStatistics(double smoothingFactor) {
+        if (smoothingFactor <= 0 || smoothingFactor > 1) {
+            throw new IllegalArgumentException("Smoothing factor must be between 0 and 1, was: " + smoothingFactor);
+        }
+        this.smoothingFactor = smoothingFactor;
+    }
+
+    /**
+     * Marks the start of a call to the target.
+     *
+     * @return the start time in nanos to pass to {@link #onComplete(long)}
+     */
+    public long onStart() {
+        inflight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Marks the completion of a call to the target, and updates the average latency.
+     *
+     * @param start the start time returned from {@link #onStart()}
+     */
+    public void onComplete(long start) {
+        long latency = System.nanoTime() - start;
+        inflight.decrementAndGet();
+
+        long prev;
+        long next;
+        do {
+            prev = averageLatency.get();
+            double average = Double.longBitsToDouble(prev);
+            // the first latency is taken as is so the average does not start at zero
+            double value = average == 0d ? latency : average + smoothingFactor * (latency - average);
+            next = Double.doubleToRawLongBits(value);
+        } while (!averageLatency.compareAndSet(prev, next));
+    }
+
+    /**
+     * The number of in-flight calls to the target
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * The exponentially weighted moving average of the latency in nanos, or 0 if no calls has completed
+     */
+    public double getAverageLatency() {
+        return Double.longBitsToDouble(averageLatency.get());
+    }
+
+    /**
+     * The expected cost of a new call to the target, which is the average latency weighted by
+     * the number of in-flight calls. Targets which has not completed any calls yet has no cost,
+     * so they are tried first.
+     */
+    public double getCost() {
+        return getAverageLatency() * (getInflight() + 1);
+    }
+
+    public double getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    public void reset() {
+        averageLatency.set(Double.doubleToRawLongBits(0d));
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyStatistics[inflight=" + getInflight() + ", averageLatency=" + getAverageLatency() + "]";
+    }
+}
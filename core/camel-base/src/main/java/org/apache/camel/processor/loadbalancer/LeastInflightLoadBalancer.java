@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+
+/**
+ * Implements the least in-flight load balancer policy, which selects the processor with the
+ * fewest in-flight exchanges, so a slow processor receives less exchanges as they pile up.
+ * <p/>
+ * When several processors have the same number of in-flight exchanges, then the processor with
+ * the lowest average latency is selected.
+ */
+public class LeastInflightLoadBalancer extends LatencyAwareLoadBalancer {
+
+    @Override
+    protected AsyncProcessor chooseProcessor(AsyncProcessor[] processors, Exchange exchange) {
+        int size = processors.length;
+        if (size == 0) {
+            return null;
+        } else if (size == 1) {
+            // there is only 1
+            return processors[0];
+        }
+
+        // start at a random processor so ties are spread out
+        int offset = ThreadLocalRandom.current().nextInt(size);
+        AsyncProcessor answer = null;
+        int bestInflight = Integer.MAX_VALUE;
+        double bestLatency = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            AsyncProcessor processor = processors[(offset + i) % size];
+            LatencyStatistics stats = getStatistics(processor);
+            int inflight = stats.getInflight();
+            double latency = stats.getAverageLatency();
+            if (inflight < bestInflight || (inflight == bestInflight && latency < bestLatency)) {
+                answer = processor;
+                bestInflight = inflight;
+                bestLatency = latency;
+            }
+        }
+        return answer;
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+
+/**
+ * Implements the power of two choices load balancer policy, which picks two random processors
+ * and selects the one with the lowest cost, being the average latency weighted by the number
+ * of in-flight exchanges (see {@link LatencyStatistics#getCost()}).
+ * <p/>
+ * Comparing only two random processors avoids scanning all the processors, and avoids that
+ * all exchanges pile up on the same processor, while a slow processor still receives
+ * less exchanges.
+ */
+public class PowerOfTwoChoicesLoadBalancer extends LatencyAwareLoadBalancer {
+
+    @Override
+    protected AsyncProcessor chooseProcessor(AsyncProcessor[] processors, Exchange exchange) {
+        int size = processors.length;
+        if (size == 0) {
+            return null;
+        } else if (size == 1) {
+            // there is only 1
+            return processors[0];
+        }
+
+        // pick two different random processors
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        AsyncProcessor a = processors[first];
+        AsyncProcessor b = processors[second];
+        return getStatistics(a).getCost() <= getStatistics(b).getCost() ? a : b;
+    }
+
+}
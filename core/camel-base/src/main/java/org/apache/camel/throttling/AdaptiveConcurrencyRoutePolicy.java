@@ -0,0 +1,478 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.throttling;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Consumer;
+import org.apache.camel.Exchange;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.Route;
+import org.apache.camel.spi.CamelLogger;
+import org.apache.camel.support.RoutePolicySupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A throttle based {@link org.apache.camel.spi.RoutePolicy} which adapts the number of concurrent
+ * inflight exchanges to the latency of the routes, in the style of TCP congestion control.
+ * <p/>
+ * The latency of each exchange is measured, and compared to the baseline latency, which is the lowest
+ * latency seen recently. When the latency rises above the baseline then the limit of concurrent inflight
+ * exchanges is lowered, and when the latency is close to the baseline the limit is raised again.
+ * This implementation supports two algorithms to adjust the limit:
+ * <ul>
+ *     <li>{@link LimitAlgorithm#Aimd} - additive increase and multiplicative decrease, which raises the limit by one,
+ *     and lowers the limit by the backoff ratio when the latency exceeds the tolerance, or the exchange failed.</li>
+ *     <li>{@link LimitAlgorithm#Gradient} - adjusts the limit gradually by the ratio between the baseline latency
+ *     and the latency (is default).</li>
+ * </ul>
+ * When the number of inflight exchanges reach the limit, then the consumers of the routes are suspended until
+ * the number of inflight exchanges is below the limit ({@link OverloadAction#Suspend} is default),
+ * or new exchanges are rejected with a {@link RejectedExecutionException} ({@link OverloadAction#Reject}).
+ * <p/>
+ * The limit is shared by all the routes using this policy.
+ */
+public class AdaptiveConcurrencyRoutePolicy extends RoutePolicySupport implements CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveConcurrencyRoutePolicy.class);
+
+    // the start time is kept per policy, as an exchange can be routed through nested routes using
+    // this policy, and the routes of other policies
+    private static final String START_TIME = "CamelAdaptiveConcurrencyStartTime-";
+    // the weight of the latest latency in the baseline latency, which lets the baseline follow
+    // a latency which has changed permanently
+    private static final double BASELINE_SMOOTHING_FACTOR = 0.001;
+    // the weight of the latest latency in the average latency
+    private static final double LATENCY_SMOOTHING_FACTOR = 0.2;
+
+    public enum LimitAlgorithm {
+        Aimd, Gradient
+    }
+
+    public enum OverloadAction {
+        Suspend, Reject
+    }
+
+    private final Set<Route> routes = new LinkedHashSet<>();
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicLong rejectedCounter = new AtomicLong();
+    private final Lock lock = new ReentrantLock();
+    private final String startTimeKey = START_TIME + ObjectHelper.getIdentityHashCode(this);
+    private CamelContext camelContext;
+    private LimitAlgorithm algorithm = LimitAlgorithm.Gradient;
+    private OverloadAction overloadAction = OverloadAction.Suspend;
+    private int initialLimit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 1000;
+    private double latencyTolerance = 2.0;
+    private double backoffRatio = 0.9;
+    private double smoothingFactor = 0.2;
+    private LoggingLevel loggingLevel = LoggingLevel.INFO;
+    private CamelLogger logger;
+
+    // guarded by lock
+    private volatile double limit = initialLimit;
+    private volatile double baselineLatency;
+    private volatile double averageLatency;
+
+    public AdaptiveConcurrencyRoutePolicy() {
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveConcurrencyRoutePolicy[" + getLimit() + " using algorithm " + algorithm + "]";
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public void onInit(Route route) {
+        // we need to remember the routes we apply for
+        routes.add(route);
+    }
+
+    @Override
+    public void onRemove(Route route) {
+        routes.remove(route);
+    }
+
+    @Override
+    public void onExchangeBegin(Route route, Exchange exchange) {
+        StartTime start = exchange.getProperty(startTimeKey, StartTime.class);
+        if (start != null) {
+            // the exchange is routed through a nested route using this policy, so it is already counted
+            // and must not be rejected by its own inflight slot
+            start.nested.incrementAndGet();
+            return;
+        }
+        if (overloadAction == OverloadAction.Reject && inflight.get() >= getLimit()) {
+            rejectedCounter.incrementAndGet();
+            exchange.setException(new RejectedExecutionException("Rejected exchange as the limit of " + getLimit()
+                + " inflight exchanges is reached on route: " + route.getId()));
+            exchange.setRouteStop(true);
+            return;
+        }
+        inflight.incrementAndGet();
+        exchange.setProperty(startTimeKey, new StartTime(System.nanoTime()));
+    }
+
+    @Override
+    public void onExchangeDone(Route route, Exchange exchange) {
+        StartTime start = exchange.getProperty(startTimeKey, StartTime.class);
+        if (start == null) {
+            // the exchange was rejected
+            return;
+        }
+        if (start.nested.getAndUpdate(n -> n > 0 ? n - 1 : n) > 0) {
+            // a nested route is done, and the exchange is counted until the outermost route is done
+            return;
+        }
+        exchange.removeProperty(startTimeKey);
+        long latency = System.nanoTime() - start.time;
+        int current = inflight.decrementAndGet();
+
+        lock.lock();
+        try {
+            update(latency, current, exchange.getException() != null);
+        } finally {
+            lock.unlock();
+        }
+
+        if (overloadAction == OverloadAction.Suspend) {
+            throttle(current);
+        }
+    }
+
+    /**
+     * Updates the limit from the latency of an exchange.
+     *
+     * @param latency  the latency in nanos
+     * @param current  the number of inflight exchanges
+     * @param failed   whether the exchange failed
+     */
+    protected void update(long latency, int current, boolean failed) {
+        if (baselineLatency == 0) {
+            baselineLatency = latency;
+            averageLatency = latency;
+        } else {
+            // the baseline drops to a lower latency at once, but rises slowly
+            baselineLatency = latency < baselineLatency ? latency : baselineLatency + BASELINE_SMOOTHING_FACTOR * (latency - baselineLatency);
+            averageLatency = averageLatency + LATENCY_SMOOTHING_FACTOR * (latency - averageLatency);
+        }
+
+        // only raise the limit when it is in use, as the latency tells nothing about a higher limit otherwise
+        boolean inUse = current + 1 >= limit / 2;
+        double newLimit = limit;
+        if (algorithm == LimitAlgorithm.Aimd) {
+            if (failed || latency > baselineLatency * latencyTolerance) {
+                newLimit = limit * backoffRatio;
+            } else if (inUse) {
+                newLimit = limit + 1;
+            }
+        } else {
+            double gradient = Math.max(0.5, Math.min(1.0, latencyTolerance * baselineLatency / averageLatency));
+            double queueSize = Math.sqrt(limit);
+            double target = limit * gradient + queueSize;
+            if (target < limit || inUse) {
+                newLimit = limit * (1 - smoothingFactor) + target * smoothingFactor;
+            }
+        }
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Latency {} with baseline {} and average {} adjusted limit from {} to {}",
+                latency, baselineLatency, averageLatency, limit, newLimit);
+        }
+        limit = newLimit;
+    }
+
+    /**
+     * Suspends or resumes the consumers of the routes depending on the number of inflight exchanges.
+     *
+     * @param current the number of inflight exchanges
+     */
+    protected void throttle(int current) {
+        int max = getLimit();
+        boolean stop = current >= max;
+        lock.lock();
+        try {
+            for (Route route : routes) {
+                Consumer consumer = route.getConsumer();
+                if (stop) {
+                    if (suspendOrStopConsumer(consumer)) {
+                        getLogger().log("Throttling consumer: " + current + " >= " + max + " inflight exchanges by suspending consumer: " + consumer);
+                    }
+                } else {
+                    if (resumeOrStartConsumer(consumer)) {
+                        getLogger().log("Throttling consumer: " + current + " < " + max + " inflight exchanges by resuming consumer: " + consumer);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            handleException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The current limit of concurrent inflight exchanges
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * The current number of inflight exchanges
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * The number of exchanges rejected as the limit was reached
+     */
+    public long getRejectedCounter() {
+        return rejectedCounter.get();
+    }
+
+    /**
+     * The baseline latency in millis
+     */
+    public double getBaselineLatency() {
+        return baselineLatency / 1000000d;
+    }
+
+    /**
+     * The average latency in millis
+     */
+    public double getAverageLatency() {
+        return averageLatency / 1000000d;
+    }
+
+    public LimitAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Sets the algorithm to adjust the limit.
+     * <p/>
+     * Is default {@link LimitAlgorithm#Gradient}.
+     *
+     * @param algorithm the algorithm
+     */
+    public void setAlgorithm(LimitAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public OverloadAction getOverloadAction() {
+        return overloadAction;
+    }
+
+    /**
+     * Sets what to do when the limit of inflight exchanges is reached, either suspend the consumers
+     * or reject new exchanges.
+     * <p/>
+     * Is default {@link OverloadAction#Suspend}.
+     *
+     * @param overloadAction the action
+     */
+    public void setOverloadAction(OverloadAction overloadAction) {
+        this.overloadAction = overloadAction;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * Sets the limit of concurrent inflight exchanges to start with.
+     * <p/>
+     * Is default 20.
+     *
+     * @param initialLimit the initial limit
+     */
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * Sets the lowest limit of concurrent inflight exchanges.
+     * <p/>
+     * Is default 1.
+     *
+     * @param minLimit the lowest limit
+     */
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Sets the highest limit of concurrent inflight exchanges.
+     * <p/>
+     * Is default 1000.
+     *
+     * @param maxLimit the highest limit
+     */
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    /**
+     * Sets how many times the latency may exceed the baseline latency before the limit is lowered.
+     * <p/>
+     * Is default 2.0.
+     *
+     * @param latencyTolerance the tolerance, must be at least 1
+     */
+    public void setLatencyTolerance(double latencyTolerance) {
+        if (latencyTolerance < 1) {
+            throw new IllegalArgumentException("Latency tolerance must be at least 1, was: " + latencyTolerance);
+        }
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * Sets the ratio the limit is multiplied by when it is lowered by the {@link LimitAlgorithm#Aimd} algorithm.
+     * <p/>
+     * Is default 0.9.
+     *
+     * @param backoffRatio the ratio between 0 and 1
+     */
+    public void setBackoffRatio(double backoffRatio) {
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1, was: " + backoffRatio);
+        }
+        this.backoffRatio = backoffRatio;
+    }
+
+    public double getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    /**
+     * Sets how fast the limit moves towards the new limit calculated by the {@link LimitAlgorithm#Gradient} algorithm.
+     * <p/>
+     * Is default 0.2.
+     *
+     * @param smoothingFactor the factor between 0 and 1
+     */
+    public void setSmoothingFactor(double smoothingFactor) {
+        if (smoothingFactor <= 0 || smoothingFactor > 1) {
+            throw new IllegalArgumentException("Smoothing factor must be between 0 and 1, was: " + smoothingFactor);
+        }
+        this.smoothingFactor = smoothingFactor;
+    }
+
+    public LoggingLevel getLoggingLevel() {
+        return loggingLevel;
+    }
+
+    public CamelLogger getLogger() {
+        if (logger == null) {
+            logger = createLogger();
+        }
+        return logger;
+    }
+
+    /**
+     * Sets the logger to use for logging throttling activity.
+     *
+     * @param logger the logger
+     */
+    public void setLogger(CamelLogger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Sets the logging level to report the throttling activity.
+     * <p/>
+     * Is default <tt>INFO</tt> level.
+     *
+     * @param loggingLevel the logging level
+     */
+    public void setLoggingLevel(LoggingLevel loggingLevel) {
+        this.loggingLevel = loggingLevel;
+    }
+
+    protected CamelLogger createLogger() {
+        return new CamelLogger(LOG, getLoggingLevel());
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "CamelContext", this);
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Min limit must be between 1 and max limit " + maxLimit + ", was: " + minLimit);
+        }
+        lock.lock();
+        try {
+            limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+            baselineLatency = 0;
+            averageLatency = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The start time of an exchange, and the number of nested routes using this policy it is routed through.
+     */
+    private static final class StartTime {
+        private final long time;
+        private final AtomicInteger nested = new AtomicInteger();
+
+        private StartTime(long time) {
+            this.time = time;
+        }
+    }
+}
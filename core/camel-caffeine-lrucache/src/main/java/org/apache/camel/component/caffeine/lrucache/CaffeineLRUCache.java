@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
@@ -130,6 +131,24 @@ public class CaffeineLRUCache<K, V> implements LRUCache<K, V>, RemovalListener<K
      */
     public CaffeineLRUCache(int initialCapacity, int maximumCacheSize, Consumer<V> evict,
                             boolean soft, boolean weak, boolean syncListener) {
+        this(initialCapacity, maximumCacheSize, evict, soft, weak, syncListener, 0);
+    }
+
+    /**
+     * Constructs an empty <tt>LRUCache</tt> instance with the
+     * specified initial capacity, maximumCacheSize,load factor and ordering mode.
+     *
+     * @param initialCapacity  the initial capacity.
+     * @param maximumCacheSize the max capacity.
+     * @param evict            callback for evicted elements
+     * @param soft             whether to use soft values a soft cache  (default is false)
+     * @param weak             whether to use weak keys/values as a weak cache  (default is false)
+     * @param syncListener     whether to use synchronous call for the eviction listener (default is false)
+     * @param expireAfterWrite time in millis after an entry is added (or replaced) when it expires, or 0 to not expire
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public CaffeineLRUCache(int initialCapacity, int maximumCacheSize, Consumer<V> evict,
+                            boolean soft, boolean weak, boolean syncListener, long expireAfterWrite) {
         Caffeine<K, V> caffeine = Caffeine.newBuilder()
                 .initialCapacity(initialCapacity)
                 .maximumSize(maximumCacheSize)
@@ -142,6 +161,9 @@ public class CaffeineLRUCache<K, V> implements LRUCache<K, V>, RemovalListener<K
             caffeine.weakKeys();
             caffeine.weakValues();
         }
+        if (expireAfterWrite > 0) {
+            caffeine.expireAfterWrite(expireAfterWrite, TimeUnit.MILLISECONDS);
+        }
         if (syncListener) {
             caffeine.executor(Runnable::run);
         } else {
@@ -123,6 +123,22 @@ public final class CaffeineLRUCacheFactory extends LRUCacheFactory {
         return new CaffeineLRUCache<>(initialCapacity, maximumCacheSize, stopOnEviction);
     }
 
+    /**
+     * Constructs an empty <tt>LRUCache</tt> instance with the
+     * specified maximumCacheSize, where the entries expire when the time
+     * has elapsed since they were added (or replaced), and will stop on eviction.
+     *
+     * @param maximumCacheSize the max capacity.
+     * @param expireAfterWrite time in millis after an entry is added (or replaced) when it expires.
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    @Override
+    public <K, V> Map<K, V> createExpiringLRUCache(int maximumCacheSize, long expireAfterWrite) {
+        LOG.trace("Creating LRUCache with maximumCacheSize: {}, expireAfterWrite: {}", maximumCacheSize, expireAfterWrite);
+        return new CaffeineLRUCache<>(16, maximumCacheSize, maximumCacheSize > 0 ? CaffeineLRUCache::doStop : CaffeineLRUCache::doNothing,
+                false, false, false, expireAfterWrite);
+    }
+
     /**
      * Constructs an empty <tt>LRUSoftCache</tt> instance with the
      * specified maximumCacheSize, and will stop on eviction.
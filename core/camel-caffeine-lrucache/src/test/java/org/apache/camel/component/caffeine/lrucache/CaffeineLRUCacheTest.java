@@ -49,6 +49,18 @@ public class CaffeineLRUCacheTest {
         assertSame(service2, cache.get("B"));
     }
 
+    @Test
+    public void testLRUCacheExpireAfterWrite() throws Exception {
+        LRUCache<String, Service> expiring = new CaffeineLRUCache<>(10, 10, CaffeineLRUCache::doStop, false, false, true, 100);
+
+        MyService service1 = new MyService();
+        expiring.put("A", service1);
+        assertSame(service1, expiring.get("A"));
+
+        Thread.sleep(300);
+        assertNull(expiring.get("A"));
+    }
+
     @Test
     public void testLRUCacheEviction() throws Exception {
         MyService service1 = new MyService();
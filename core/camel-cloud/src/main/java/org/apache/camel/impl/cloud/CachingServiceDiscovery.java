@@ -25,10 +25,23 @@ import org.apache.camel.cloud.ServiceDefinition;
 import org.apache.camel.cloud.ServiceDiscovery;
 import org.apache.camel.util.ObjectHelper;
 
+/**
+ * A {@link ServiceDiscovery} which caches the services discovered by the delegate.
+ * <p/>
+ * By default the services are retained until they have not been accessed for the timeout,
+ * and are then discovered again by the calling thread.
+ * <p/>
+ * When a refresh interval is set, the services are instead refreshed ahead: services older than the
+ * refresh interval are discovered again in the background while the last known services are served,
+ * and concurrent refreshes of the same service are coalesced. If the refresh fails, the last known
+ * services are kept until the timeout has elapsed since they were discovered, so the timeout is
+ * also the window in which stale services are served while the discovery is failing.
+ */
 public final class CachingServiceDiscovery implements ServiceDiscovery {
     private final ServiceDiscovery delegate;
     private LoadingCache<String, List<ServiceDefinition>> cache;
     private long timeout;
+    private long refreshInterval;
 
     public CachingServiceDiscovery(ServiceDiscovery delegate) {
         this(delegate, 60 * 1000);
@@ -49,9 +62,7 @@ public final class CachingServiceDiscovery implements ServiceDiscovery {
 
     public void setTimeout(long timeout) {
         this.timeout = timeout;
-        this.cache = Caffeine.newBuilder()
-            .expireAfterAccess(timeout, TimeUnit.MILLISECONDS)
-            .build(delegate::getServices);
+        this.cache = createCache();
     }
 
     public void setTimeout(long timeout, TimeUnit unit) {
@@ -72,6 +83,33 @@ public final class CachingServiceDiscovery implements ServiceDiscovery {
         return this;
     }
 
+    /**
+     * Sets the interval after which the services are refreshed in the background, while
+     * the last known services are served. Refresh ahead is disabled when zero or negative.
+     */
+    public void setRefreshInterval(long refreshInterval) {
+        this.refreshInterval = refreshInterval;
+        this.cache = createCache();
+    }
+
+    public void setRefreshInterval(long refreshInterval, TimeUnit unit) {
+        setRefreshInterval(unit.toMillis(refreshInterval));
+    }
+
+    public long getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public CachingServiceDiscovery refreshInterval(long refreshInterval) {
+        setRefreshInterval(refreshInterval);
+        return this;
+    }
+
+    public CachingServiceDiscovery refreshInterval(long refreshInterval, TimeUnit unit) {
+        setRefreshInterval(refreshInterval, unit);
+        return this;
+    }
+
     @Override
     public List<ServiceDefinition> getServices(String name) {
         return cache.get(name);
@@ -81,6 +119,18 @@ public final class CachingServiceDiscovery implements ServiceDiscovery {
     // Helpers
     // **********************
 
+    private LoadingCache<String, List<ServiceDefinition>> createCache() {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (refreshInterval > 0) {
+            // the services must be written (successfully discovered) within the timeout to be served
+            builder.refreshAfterWrite(refreshInterval, TimeUnit.MILLISECONDS)
+                .expireAfterWrite(Math.max(timeout, refreshInterval), TimeUnit.MILLISECONDS);
+        } else {
+            builder.expireAfterAccess(timeout, TimeUnit.MILLISECONDS);
+        }
+        return builder.build(delegate::getServices);
+    }
+
     public static CachingServiceDiscovery wrap(ServiceDiscovery delegate) {
         return new CachingServiceDiscovery(delegate);
     }
@@ -27,6 +27,7 @@ import org.apache.camel.util.ObjectHelper;
 @CloudServiceFactory("caching-service-discovery")
 public class CachingServiceDiscoveryFactory implements ServiceDiscoveryFactory {
     private Integer timeout;
+    private Integer refreshInterval;
     private TimeUnit units;
     private ServiceDiscovery serviceDiscovery;
 
@@ -45,6 +46,14 @@ public class CachingServiceDiscoveryFactory implements ServiceDiscoveryFactory {
         this.timeout = timeout;
     }
 
+    public Integer getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Integer refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
     public TimeUnit getUnits() {
         return units;
     }
@@ -71,9 +80,14 @@ public class CachingServiceDiscoveryFactory implements ServiceDiscoveryFactory {
         ObjectHelper.notNull(timeout, "CachingServiceDiscovery timeout");
         ObjectHelper.notNull(units, "CachingServiceDiscovery time units");
 
-        return new CachingServiceDiscovery(
+        CachingServiceDiscovery answer = new CachingServiceDiscovery(
             serviceDiscovery,
             units.toMillis(timeout)
         );
+        if (refreshInterval != null) {
+            answer.setRefreshInterval(refreshInterval, units);
+        }
+
+        return answer;
     }
 }
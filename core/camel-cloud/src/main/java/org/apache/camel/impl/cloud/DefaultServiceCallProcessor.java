@@ -29,8 +29,10 @@ import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.cloud.ServiceCallConstants;
+import org.apache.camel.cloud.ServiceChooserAware;
 import org.apache.camel.cloud.ServiceDefinition;
 import org.apache.camel.cloud.ServiceLoadBalancer;
+import org.apache.camel.processor.loadbalancer.LatencyStatistics;
 import org.apache.camel.spi.Language;
 import org.apache.camel.support.AsyncProcessorConverterHelper;
 import org.apache.camel.support.AsyncProcessorSupport;
@@ -53,6 +55,7 @@ public class DefaultServiceCallProcessor extends AsyncProcessorSupport {
     private final ServiceLoadBalancer loadBalancer;
     private final Expression expression;
     private AsyncProcessor processor;
+    private LatencyAwareServiceChooser latencyAwareServiceChooser;
 
     public DefaultServiceCallProcessor(
         CamelContext camelContext, String name, String scheme, String uri, ExchangePattern exchangePattern,
@@ -137,6 +140,12 @@ public class DefaultServiceCallProcessor extends AsyncProcessorSupport {
         Processor send = camelContext.adapt(ExtendedCamelContext.class).getProcessorFactory().createProcessor(camelContext, "SendDynamicProcessor", args);
         processor = AsyncProcessorConverterHelper.convert(send);
 
+        // the service chooser may choose from the latency of the calls to the services
+        if (loadBalancer instanceof ServiceChooserAware
+            && ((ServiceChooserAware) loadBalancer).getServiceChooser() instanceof LatencyAwareServiceChooser) {
+            latencyAwareServiceChooser = (LatencyAwareServiceChooser) ((ServiceChooserAware) loadBalancer).getServiceChooser();
+        }
+
         // Start services if needed
         ServiceHelper.startService(processor);
         ServiceHelper.startService(loadBalancer);
@@ -202,6 +211,16 @@ public class DefaultServiceCallProcessor extends AsyncProcessorSupport {
             v == null ? meta.get(ServiceDefinition.SERVICE_META_PORT) : v
         );
 
+        if (latencyAwareServiceChooser != null) {
+            // track the calls so the service chooser knows how fast each service is
+            final LatencyStatistics stats = latencyAwareServiceChooser.getStatistics(service);
+            final long start = stats.onStart();
+            return processor.process(exchange, doneSync -> {
+                stats.onComplete(start);
+                callback.done(doneSync);
+            });
+        }
+
         // use the dynamic send processor to call the service
         return processor.process(exchange, callback);
     }
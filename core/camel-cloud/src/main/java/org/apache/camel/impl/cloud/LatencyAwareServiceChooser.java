@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.cloud;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.apache.camel.cloud.ServiceChooser;
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.processor.loadbalancer.LatencyStatistics;
+import org.apache.camel.support.DefaultLRUCacheFactory;
+import org.apache.camel.support.LRUCacheFactory;
+
+/**
+ * A base class for {@link ServiceChooser} implementations which choose the service from the
+ * {@link LatencyStatistics} tracked for each service.
+ * <p/>
+ * The statistics are updated by the {@link DefaultServiceCallProcessor} for each call to the
+ * chosen service. The statistics of the least recently used services are evicted when more services than
+ * the statistics cache size are seen, such as when services come and go.
+ */
+public abstract class LatencyAwareServiceChooser implements ServiceChooser {
+
+    private int statisticsCacheSize = 1000;
+    private volatile Map<String, LatencyStatistics> statistics = createStatisticsCache(statisticsCacheSize);
+    private double smoothingFactor = LatencyStatistics.DEFAULT_SMOOTHING_FACTOR;
+
+    /**
+     * Gets the statistics of the given service, which is identified by its host and port
+     */
+    public LatencyStatistics getStatistics(ServiceDefinition service) {
+        String key = service.getHost() + ":" + service.getPort();
+        return statistics.computeIfAbsent(key, k -> new LatencyStatistics(smoothingFactor));
+    }
+
+    public double getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    /**
+     * Sets the weight (between 0 and 1) of the latest latency in the moving average of the latency
+     * of each service, where a higher value reacts faster on changes in latency.
+     * <p/>
+     * The default value is 0.3.
+     */
+    public void setSmoothingFactor(double smoothingFactor) {
+        this.smoothingFactor = smoothingFactor;
+    }
+
+    public int getStatisticsCacheSize() {
+        return statisticsCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of services to keep statistics for, where the statistics of the least
+     * recently used services are evicted.
+     * <p/>
+     * The default value is 1000.
+     */
+    public void setStatisticsCacheSize(int statisticsCacheSize) {
+        this.statisticsCacheSize = statisticsCacheSize;
+        this.statistics = createStatisticsCache(statisticsCacheSize);
+    }
+
+    int getStatisticsCount() {
+        return statistics.size();
+    }
+
+    private static Map<String, LatencyStatistics> createStatisticsCache(int maximumCacheSize) {
+        Map<String, LatencyStatistics> answer = LRUCacheFactory.newLRUCache(maximumCacheSize);
+        if (LRUCacheFactory.getInstance() instanceof DefaultLRUCacheFactory) {
+            // the default cache is not thread safe
+            answer = Collections.synchronizedMap(answer);
+        }
+        return answer;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.cloud;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * Picks two random services and chooses the one with the lowest average latency weighted
+ * by its number of in-flight calls.
+ */
+public class PowerOfTwoChoicesServiceChooser extends LatencyAwareServiceChooser {
+
+    @Override
+    public ServiceDefinition choose(List<ServiceDefinition> definitions) {
+        // Fail if the service definition list is null or empty
+        if (ObjectHelper.isEmpty(definitions)) {
+            throw new IllegalArgumentException("The ServiceDefinition list should not be empty");
+        }
+
+        int size = definitions.size();
+        if (size == 1) {
+            return definitions.get(0);
+        }
+
+        // pick two different random services
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        ServiceDefinition a = definitions.get(first);
+        ServiceDefinition b = definitions.get(second);
+        return getStatistics(a).getCost() <= getStatistics(b).getCost() ? a : b;
+    }
+
+    @Override
+    public String toString() {
+        return "PowerOfTwoChoicesServiceChooser";
+    }
+}
@@ -274,6 +274,10 @@ public class ServiceCallProcessorFactory extends TypedProcessorFactory<ServiceCa
                     answer = new RoundRobinServiceChooser();
                 } else if (ObjectHelper.equal("random", ref, true)) {
                     answer = new RandomServiceChooser();
+                } else if (ObjectHelper.equal("least-inflight", ref, true)) {
+                    answer = new LeastInflightServiceChooser();
+                } else if (ObjectHelper.equal("power-of-two-choices", ref, true)) {
+                    answer = new PowerOfTwoChoicesServiceChooser();
                 }
             }
         }
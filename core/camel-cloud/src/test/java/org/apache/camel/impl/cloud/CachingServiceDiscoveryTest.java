@@ -17,14 +17,22 @@
 package org.apache.camel.impl.cloud;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.ContextTestSupport;
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.cloud.ServiceDiscovery;
 import org.apache.camel.model.cloud.CachingServiceCallServiceDiscoveryConfiguration;
 import org.apache.camel.model.cloud.StaticServiceCallServiceDiscoveryConfiguration;
 import org.junit.Assert;
 import org.junit.Test;
 
+import static org.awaitility.Awaitility.await;
+
 public class CachingServiceDiscoveryTest extends ContextTestSupport {
 
     @Test
@@ -43,6 +51,72 @@ public class CachingServiceDiscoveryTest extends ContextTestSupport {
         Assert.assertEquals(2, caching.getServices("noname").size());
     }
 
+    @Test
+    public void testRefreshAhead() throws Exception {
+        StaticServiceDiscovery discovery = new StaticServiceDiscovery();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        ServiceDiscovery slow = name -> {
+            if (calls.incrementAndGet() > 1) {
+                try {
+                    latch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return discovery.getServices(name);
+        };
+        CachingServiceDiscovery caching = CachingServiceDiscovery.wrap(slow, 10, TimeUnit.SECONDS).refreshInterval(50, TimeUnit.MILLISECONDS);
+
+        discovery.addServer(new DefaultServiceDefinition("noname", "localhost", 1111));
+        Assert.assertEquals(1, caching.getServices("noname").size());
+        discovery.addServer(new DefaultServiceDefinition("noname", "localhost", 1112));
+
+        // Let the refresh interval elapse
+        Thread.sleep(100);
+
+        // the last known services are served while a single refresh is running in the background
+        Assert.assertEquals(1, caching.getServices("noname").size());
+        await().atMost(5, TimeUnit.SECONDS).until(() -> calls.get() == 2);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(1, caching.getServices("noname").size());
+        }
+        Assert.assertEquals(2, calls.get());
+
+        latch.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> caching.getServices("noname").size() == 2);
+    }
+
+    @Test
+    public void testStaleIfError() throws Exception {
+        List<ServiceDefinition> services = Collections.singletonList(new DefaultServiceDefinition("noname", "localhost", 1111));
+        AtomicInteger calls = new AtomicInteger();
+        ServiceDiscovery failing = name -> {
+            if (calls.incrementAndGet() > 1) {
+                throw new IllegalStateException("Discovery failed");
+            }
+            return services;
+        };
+        CachingServiceDiscovery caching = CachingServiceDiscovery.wrap(failing, 500, TimeUnit.MILLISECONDS).refreshInterval(50, TimeUnit.MILLISECONDS);
+
+        Assert.assertEquals(1, caching.getServices("noname").size());
+
+        // Let the refresh fail
+        Thread.sleep(100);
+        Assert.assertEquals(1, caching.getServices("noname").size());
+        await().atMost(5, TimeUnit.SECONDS).until(() -> calls.get() >= 2);
+        Assert.assertEquals(1, caching.getServices("noname").size());
+
+        // Let the timeout expire
+        Thread.sleep(500);
+        try {
+            caching.getServices("noname");
+            Assert.fail("Should have thrown an exception");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("Discovery failed", e.getMessage());
+        }
+    }
+
     @Test
     public void testCachingServiceDiscoveryConfiguration() throws Exception {
         StaticServiceCallServiceDiscoveryConfiguration staticConf = new StaticServiceCallServiceDiscoveryConfiguration();
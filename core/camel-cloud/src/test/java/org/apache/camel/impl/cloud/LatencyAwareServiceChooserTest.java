@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.cloud;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.processor.loadbalancer.LatencyStatistics;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyAwareServiceChooserTest {
+
+    private final ServiceDefinition s1 = new DefaultServiceDefinition("no-name", "127.0.0.1", 1001);
+    private final ServiceDefinition s2 = new DefaultServiceDefinition("no-name", "127.0.0.1", 1002);
+    private final ServiceDefinition s3 = new DefaultServiceDefinition("no-name", "127.0.0.1", 1003);
+    private final List<ServiceDefinition> services = Arrays.asList(s1, s2, s3);
+
+    @Test
+    public void testLeastInflight() throws Exception {
+        LeastInflightServiceChooser chooser = new LeastInflightServiceChooser();
+
+        // s1 and s2 are busy
+        chooser.getStatistics(s1).onStart();
+        chooser.getStatistics(s2).onStart();
+        chooser.getStatistics(s2).onStart();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(1003, chooser.choose(services).getPort());
+        }
+
+        chooser.getStatistics(s3).onStart();
+        chooser.getStatistics(s3).onStart();
+        assertEquals(1001, chooser.choose(services).getPort());
+    }
+
+    @Test
+    public void testLeastInflightLowestLatency() throws Exception {
+        LeastInflightServiceChooser chooser = new LeastInflightServiceChooser();
+
+        complete(chooser.getStatistics(s1), 50);
+        complete(chooser.getStatistics(s2), 1);
+        complete(chooser.getStatistics(s3), 50);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(1002, chooser.choose(services).getPort());
+        }
+    }
+
+    @Test
+    public void testPowerOfTwoChoices() throws Exception {
+        PowerOfTwoChoicesServiceChooser chooser = new PowerOfTwoChoicesServiceChooser();
+
+        // s1 is slow so it is only chosen when compared to itself which never happens
+        complete(chooser.getStatistics(s1), 50);
+        complete(chooser.getStatistics(s2), 1);
+        complete(chooser.getStatistics(s3), 1);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(chooser.choose(services).getPort() != 1001);
+        }
+    }
+
+    @Test
+    public void testStatisticsByHostAndPort() throws Exception {
+        LeastInflightServiceChooser chooser = new LeastInflightServiceChooser();
+        LatencyStatistics stats = chooser.getStatistics(new DefaultServiceDefinition("other-name", "127.0.0.1", 1001));
+
+        // services are identified by host and port
+        assertTrue(stats == chooser.getStatistics(s1));
+        assertEquals(0, stats.getInflight());
+        complete(stats, 5);
+        assertEquals(0, stats.getInflight());
+        assertTrue(stats.getAverageLatency() > 0);
+    }
+
+    @Test
+    public void testStatisticsBounded() throws Exception {
+        LeastInflightServiceChooser chooser = new LeastInflightServiceChooser();
+        chooser.setStatisticsCacheSize(10);
+
+        // services come and go, so the statistics of the least recently used services are evicted
+        for (int i = 0; i < 100; i++) {
+            chooser.getStatistics(new DefaultServiceDefinition("no-name", "127.0.0.2", 2000 + i));
+        }
+        // the cache may evict asynchronously
+        for (int i = 0; i < 50 && chooser.getStatisticsCount() > 10; i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(chooser.getStatisticsCount() <= 10);
+    }
+
+    private static void complete(LatencyStatistics stats, long millis) throws Exception {
+        long start = stats.onStart();
+        Thread.sleep(millis);
+        stats.onComplete(start);
+    }
+}
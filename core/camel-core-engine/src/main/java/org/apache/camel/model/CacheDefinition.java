@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
+
+import org.apache.camel.Expression;
+import org.apache.camel.model.language.ExpressionDefinition;
+import org.apache.camel.spi.CacheRepository;
+import org.apache.camel.spi.Metadata;
+
+/**
+ * Caches the result of the outputs by a key, so exchanges with the same key reuse the result
+ */
+@Metadata(label = "eip,routing")
+@XmlRootElement(name = "cache")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class CacheDefinition extends OutputExpressionNode {
+
+    @XmlAttribute
+    private String cacheRepositoryRef;
+    @XmlAttribute
+    @Metadata(defaultValue = "1000")
+    private Integer maximumSize;
+    @XmlAttribute
+    private Long timeToLive;
+    @XmlTransient
+    private CacheRepository cacheRepository;
+
+    public CacheDefinition() {
+    }
+
+    public CacheDefinition(Expression keyExpression) {
+        super(keyExpression);
+    }
+
+    @Override
+    public String toString() {
+        return "Cache[" + getExpression() + " -> " + getOutputs() + "]";
+    }
+
+    @Override
+    public String getShortName() {
+        return "cache";
+    }
+
+    @Override
+    public String getLabel() {
+        return "cache[" + getExpression() + "]";
+    }
+
+    // Fluent API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Sets the reference name of the cache repository
+     *
+     * @param cacheRepositoryRef the reference name of the cache repository
+     * @return builder
+     */
+    public CacheDefinition cacheRepositoryRef(String cacheRepositoryRef) {
+        setCacheRepositoryRef(cacheRepositoryRef);
+        return this;
+    }
+
+    /**
+     * Sets the cache repository to store the results
+     *
+     * @param cacheRepository the cache repository
+     * @return builder
+     */
+    public CacheDefinition cacheRepository(CacheRepository cacheRepository) {
+        setCacheRepository(cacheRepository);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of results kept in the default memory based cache repository.
+     * When the repository is full then the least recently used results are evicted.
+     * <p/>
+     * The default value is 1000.
+     *
+     * @param maximumSize the maximum number of results
+     * @return builder
+     */
+    public CacheDefinition maximumSize(int maximumSize) {
+        setMaximumSize(maximumSize);
+        return this;
+    }
+
+    /**
+     * Sets the time in millis the results are kept in the default memory based cache repository.
+     * <p/>
+     * By default the results are kept until they are evicted.
+     *
+     * @param timeToLive the time in millis
+     * @return builder
+     */
+    public CacheDefinition timeToLive(long timeToLive) {
+        setTimeToLive(timeToLive);
+        return this;
+    }
+
+    /**
+     * Expression used to calculate the key of the result to cache. Exchanges with the same key
+     * share the same cached result. Exchanges without a key are not cached.
+     */
+    @Override
+    public void setExpression(ExpressionDefinition expression) {
+        // override to include javadoc what the expression is used for
+        super.setExpression(expression);
+    }
+
+    public String getCacheRepositoryRef() {
+        return cacheRepositoryRef;
+    }
+
+    public void setCacheRepositoryRef(String cacheRepositoryRef) {
+        this.cacheRepositoryRef = cacheRepositoryRef;
+    }
+
+    public CacheRepository getCacheRepository() {
+        return cacheRepository;
+    }
+
+    public void setCacheRepository(CacheRepository cacheRepository) {
+        this.cacheRepository = cacheRepository;
+    }
+
+    public Integer getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(Integer maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+}
@@ -31,6 +31,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import org.apache.camel.Expression;
 import org.apache.camel.model.loadbalancer.CustomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.FailoverLoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.LeastInflightLoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.PowerOfTwoChoicesLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RoundRobinLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.StickyLoadBalancerDefinition;
@@ -52,7 +54,9 @@ public class LoadBalanceDefinition extends OutputDefinition<LoadBalanceDefinitio
                   @XmlElement(required = false, name = "roundRobin", type = RoundRobinLoadBalancerDefinition.class),
                   @XmlElement(required = false, name = "sticky", type = StickyLoadBalancerDefinition.class),
                   @XmlElement(required = false, name = "topic", type = TopicLoadBalancerDefinition.class),
-                  @XmlElement(required = false, name = "weighted", type = WeightedLoadBalancerDefinition.class)})
+                  @XmlElement(required = false, name = "weighted", type = WeightedLoadBalancerDefinition.class),
+                  @XmlElement(required = false, name = "leastInflight", type = LeastInflightLoadBalancerDefinition.class),
+                  @XmlElement(required = false, name = "powerOfTwoChoices", type = PowerOfTwoChoicesLoadBalancerDefinition.class)})
     private LoadBalancerDefinition loadBalancerType;
 
     public LoadBalanceDefinition() {
@@ -221,6 +225,28 @@ public class LoadBalanceDefinition extends OutputDefinition<LoadBalanceDefinitio
         return this;
     }
 
+    /**
+     * Uses least in-flight load balancer, which selects the processor with the
+     * fewest in-flight exchanges
+     *
+     * @return the builder
+     */
+    public LoadBalanceDefinition leastInflight() {
+        setLoadBalancerType(new LeastInflightLoadBalancerDefinition());
+        return this;
+    }
+
+    /**
+     * Uses power of two choices load balancer, which selects the best of two
+     * random processors by their average latency and in-flight exchanges
+     *
+     * @return the builder
+     */
+    public LoadBalanceDefinition powerOfTwoChoices() {
+        setLoadBalancerType(new PowerOfTwoChoicesLoadBalancerDefinition());
+        return this;
+    }
+
     /**
      * Uses the custom load balancer
      *
@@ -60,6 +60,7 @@ import org.apache.camel.model.rest.RestDefinition;
 import org.apache.camel.processor.loadbalancer.LoadBalancer;
 import org.apache.camel.spi.AsEndpointUri;
 import org.apache.camel.spi.AsPredicate;
+import org.apache.camel.spi.CacheRepository;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.IdempotentRepository;
 import org.apache.camel.spi.InterceptStrategy;
@@ -1207,6 +1208,51 @@ public abstract class ProcessorDefinition<Type extends ProcessorDefinition<Type>
         return (CircuitBreakerDefinition)def;
     }
 
+    /**
+     * Cache EIP: Creates a {@link org.apache.camel.processor.CacheProcessor
+     * CacheProcessor} using a fluent builder, which caches the result of its
+     * outputs by the key.
+     */
+    public ExpressionClause<CacheDefinition> cache() {
+        CacheDefinition answer = new CacheDefinition();
+        addOutput(answer);
+        return createAndSetExpression(answer);
+    }
+
+    /**
+     * Cache EIP: Creates a {@link org.apache.camel.processor.CacheProcessor
+     * CacheProcessor} which caches the result of its outputs by the key, so
+     * exchanges with the same key reuse the result instead of calling the
+     * outputs. Concurrent exchanges with the same key wait for the result of
+     * a single call.
+     *
+     * @param keyExpression expression to calculate the key of the result
+     * @return the builder
+     */
+    public CacheDefinition cache(Expression keyExpression) {
+        CacheDefinition answer = new CacheDefinition(keyExpression);
+        addOutput(answer);
+        return answer;
+    }
+
+    /**
+     * Cache EIP: Creates a {@link org.apache.camel.processor.CacheProcessor
+     * CacheProcessor} which caches the result of its outputs by the key, so
+     * exchanges with the same key reuse the result instead of calling the
+     * outputs. Concurrent exchanges with the same key wait for the result of
+     * a single call.
+     *
+     * @param keyExpression expression to calculate the key of the result
+     * @param cacheRepository the repository to store the results
+     * @return the builder
+     */
+    public CacheDefinition cache(Expression keyExpression, CacheRepository cacheRepository) {
+        CacheDefinition answer = new CacheDefinition(keyExpression);
+        answer.setCacheRepository(cacheRepository);
+        addOutput(answer);
+        return answer;
+    }
+
     /**
      * <a href="http://camel.apache.org/idempotent-consumer.html">Idempotent
      * consumer EIP:</a> Creates an
@@ -39,6 +39,9 @@ public class CachingServiceCallServiceDiscoveryConfiguration extends ServiceCall
     @Metadata(defaultValue = "60", javaType = "java.lang.Integer")
     private String timeout = Integer.toString(60);
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer")
+    private String refreshInterval;
+    @XmlAttribute
     @XmlJavaTypeAdapter(TimeUnitAdapter.class)
     @Metadata(defaultValue = "SECONDS")
     private TimeUnit units = TimeUnit.SECONDS;
@@ -73,12 +76,26 @@ public class CachingServiceCallServiceDiscoveryConfiguration extends ServiceCall
         this.timeout = timeout;
     }
 
+    public String getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    /**
+     * Set the interval after which the services are refreshed in the background while the
+     * last known services are used. If the refresh fails the last known services are used
+     * until the timeout has elapsed since they were discovered. Refresh ahead is disabled
+     * by default.
+     */
+    public void setRefreshInterval(String refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
     public TimeUnit getUnits() {
         return units;
     }
 
     /**
-     * Set the time unit for the timeout.
+     * Set the time unit for the timeout and refresh interval.
      */
     public void setUnits(TimeUnit units) {
         this.units = units;
@@ -108,7 +125,16 @@ public class CachingServiceCallServiceDiscoveryConfiguration extends ServiceCall
     }
 
     /**
-     * Set the time unit for the timeout.
+     * Set the interval after which the services are refreshed in the background while the
+     * last known services are used.
+     */
+    public CachingServiceCallServiceDiscoveryConfiguration refreshInterval(int refreshInterval) {
+        setRefreshInterval(Integer.toString(refreshInterval));
+        return this;
+    }
+
+    /**
+     * Set the time unit for the timeout and refresh interval.
      */
     public CachingServiceCallServiceDiscoveryConfiguration units(TimeUnit units) {
         setUnits(units);
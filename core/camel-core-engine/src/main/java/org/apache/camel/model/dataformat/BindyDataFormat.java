@@ -45,6 +45,9 @@ public class BindyDataFormat extends DataFormatDefinition {
     @XmlAttribute
     @Metadata(defaultValue = "false")
     private Boolean allowEmptyStream;
+    @XmlAttribute
+    @Metadata(defaultValue = "false")
+    private Boolean lazyLoad;
     @XmlTransient
     private Class<?> clazz;
 
@@ -130,4 +133,17 @@ public class BindyDataFormat extends DataFormatDefinition {
         this.allowEmptyStream = allowEmptyStream;
     }
 
+    public Boolean getLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads the
+     * records on the fly or if all the records must be read at once. Only
+     * supported by Csv and Fixed.
+     */
+    public void setLazyLoad(Boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
 }
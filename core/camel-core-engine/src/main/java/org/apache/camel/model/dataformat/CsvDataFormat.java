@@ -91,6 +91,14 @@ public class CsvDataFormat extends DataFormatDefinition {
     @XmlAttribute
     private Boolean lazyLoad;
     @XmlAttribute
+    private Boolean parallelProcessing;
+    @XmlAttribute
+    @Metadata(defaultValue = "1048576")
+    private Integer parallelChunkSize;
+    @XmlAttribute
+    @Metadata(defaultValue = "true")
+    private Boolean parallelOrdered;
+    @XmlAttribute
     private Boolean useMaps;
     @XmlAttribute
     private Boolean useOrderedMaps;
@@ -369,6 +377,42 @@ public class CsvDataFormat extends DataFormatDefinition {
         this.lazyLoad = lazyLoad;
     }
 
+    public Boolean getParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * Whether the unmarshalling should split the input into chunks on line
+     * breaks and parse the chunks in parallel. The records must not contain
+     * line breaks.
+     */
+    public void setParallelProcessing(Boolean parallelProcessing) {
+        this.parallelProcessing = parallelProcessing;
+    }
+
+    public Integer getParallelChunkSize() {
+        return parallelChunkSize;
+    }
+
+    /**
+     * The size in bytes of the chunks that are parsed in parallel.
+     */
+    public void setParallelChunkSize(Integer parallelChunkSize) {
+        this.parallelChunkSize = parallelChunkSize;
+    }
+
+    public Boolean getParallelOrdered() {
+        return parallelOrdered;
+    }
+
+    /**
+     * Whether the records parsed in parallel are returned in the order of the
+     * input, or in the order the chunks are parsed.
+     */
+    public void setParallelOrdered(Boolean parallelOrdered) {
+        this.parallelOrdered = parallelOrdered;
+    }
+
     public Boolean getUseMaps() {
         return useMaps;
     }
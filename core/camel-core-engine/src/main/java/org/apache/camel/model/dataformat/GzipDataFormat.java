@@ -16,6 +16,9 @@
  */
 package org.apache.camel.model.dataformat;
 
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import org.apache.camel.model.DataFormatDefinition;
@@ -27,10 +30,67 @@ import org.apache.camel.spi.Metadata;
  */
 @Metadata(firstVersion = "2.0.0", label = "dataformat,transformation", title = "GZip Deflater")
 @XmlRootElement(name = "gzipdeflater")
+@XmlAccessorType(XmlAccessType.FIELD)
 public class GzipDataFormat extends DataFormatDefinition {
+    @XmlAttribute
+    @Metadata(defaultValue = "-1")
+    private Integer compressionLevel;
+    @XmlAttribute
+    @Metadata(defaultValue = "false")
+    private Boolean parallel;
+    @XmlAttribute
+    @Metadata(defaultValue = "131072")
+    private Integer blockSize;
+    @XmlAttribute
+    private Integer parallelism;
 
     public GzipDataFormat() {
         super("gzipdeflater");
     }
 
+    public Integer getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * To specify a specific compression between 0-9. -1 is default compression,
+     * 0 is no compression, and 9 is best compression.
+     */
+    public void setCompressionLevel(Integer compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public Boolean getParallel() {
+        return parallel;
+    }
+
+    /**
+     * Whether to compress blocks of the data in parallel when marshalling, which is faster for large payloads.
+     * The blocks are written as the members of a multi-member gzip stream, which can be read by any gzip reader.
+     */
+    public void setParallel(Boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public Integer getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * The size in bytes of the blocks which are compressed in parallel, by default 128kb.
+     */
+    public void setBlockSize(Integer blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads used to compress blocks in parallel, by default the number of processors.
+     */
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
 }
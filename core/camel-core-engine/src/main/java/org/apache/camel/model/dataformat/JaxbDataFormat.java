@@ -59,6 +59,9 @@ public class JaxbDataFormat extends DataFormatDefinition {
     @XmlAttribute
     private String partNamespace;
     @XmlAttribute
+    @Metadata(defaultValue = "false")
+    private Boolean lazyLoad;
+    @XmlAttribute
     private String namespacePrefixRef;
     @XmlAttribute
     @Metadata(label = "advanced")
@@ -236,6 +239,21 @@ public class JaxbDataFormat extends DataFormatDefinition {
         this.partNamespace = partNamespace;
     }
 
+    public Boolean getLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * If enabled then the elements of the partial class are unmarshalled one
+     * by one while the XML is read, and an iterator is returned instead, which
+     * allows to split big XML documents in streaming mode. The elements are
+     * matched by the partNamespace, or the XmlRootElement of the partial class.
+     * This option requires the partClass option to be set.
+     */
+    public void setLazyLoad(Boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     public String getNamespacePrefixRef() {
         return namespacePrefixRef;
     }
@@ -79,6 +79,11 @@ public class JsonDataFormat extends DataFormatDefinition {
     @XmlAttribute
     @Metadata(defaultValue = "false")
     private Boolean autoDiscoverObjectMapper;
+    @XmlAttribute
+    @Metadata(defaultValue = "false")
+    private Boolean lazyLoad;
+    @XmlAttribute
+    private String arrayPointer;
 
     public JsonDataFormat() {
         super("json");
@@ -381,6 +386,34 @@ public class JsonDataFormat extends DataFormatDefinition {
         this.autoDiscoverObjectMapper = autoDiscoverObjectMapper;
     }
 
+    public Boolean getLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * If enabled then Jackson reads the elements of a JSON array one by one
+     * when unmarshalling, and returns an iterator instead of a list, which
+     * allows to split big JSON documents in streaming mode. When marshalling
+     * an iterator, the elements are written one by one as a JSON array. This
+     * option will have no effect on the others Json DataFormat, like gson,
+     * fastjson and xstream.
+     */
+    public void setLazyLoad(Boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
+    public String getArrayPointer() {
+        return arrayPointer;
+    }
+
+    /**
+     * A JSON pointer (such as /orders) to the array to read when lazy loading.
+     * By default the root of the document is read.
+     */
+    public void setArrayPointer(String arrayPointer) {
+        this.arrayPointer = arrayPointer;
+    }
+
     @Override
     public String getDataFormatName() {
         // json data format is special as the name can be from different bundles
@@ -38,6 +38,14 @@ public class ZipFileDataFormat extends DataFormatDefinition {
     private Boolean allowEmptyDirectory;
     @XmlAttribute
     private Boolean preservePathElements;
+    @XmlAttribute
+    @Metadata(defaultValue = "false")
+    private Boolean parallel;
+    @XmlAttribute
+    private Integer parallelism;
+    @XmlAttribute
+    @Metadata(defaultValue = "67108864")
+    private Long maxInFlightBytes;
 
     public ZipFileDataFormat() {
         super("zipfile");
@@ -80,4 +88,43 @@ public class ZipFileDataFormat extends DataFormatDefinition {
         this.preservePathElements = preservePathElements;
     }
 
+    public Boolean getParallel() {
+        return parallel;
+    }
+
+    /**
+     * Whether to deflate the entries in parallel when marshalling a message body
+     * which is a collection of files, messages or exchanges, to a zip file with
+     * an entry for each. And when using an iterator, whether to inflate the
+     * entries in parallel ahead of the splitter when the message body is a file.
+     */
+    public void setParallel(Boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads used to deflate or inflate entries in parallel, by
+     * default the number of processors.
+     */
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public Long getMaxInFlightBytes() {
+        return maxInFlightBytes;
+    }
+
+    /**
+     * The maximum number of inflated bytes kept in memory ahead of the splitter
+     * when using an iterator in parallel, by default 64mb. Entries larger than
+     * this are streamed when they are split.
+     */
+    public void setMaxInFlightBytes(Long maxInFlightBytes) {
+        this.maxInFlightBytes = maxInFlightBytes;
+    }
+
 }
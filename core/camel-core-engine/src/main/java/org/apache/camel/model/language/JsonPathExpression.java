@@ -53,6 +53,9 @@ public class JsonPathExpression extends ExpressionDefinition {
     @Metadata(defaultValue = "false", javaType = "java.lang.Boolean")
     private String writeAsString;
     @XmlAttribute
+    @Metadata(defaultValue = "false", javaType = "java.lang.Boolean")
+    private String streaming;
+    @XmlAttribute
     private String headerName;
 
     public JsonPathExpression() {
@@ -129,6 +132,18 @@ public class JsonPathExpression extends ExpressionDefinition {
         this.writeAsString = writeAsString;
     }
 
+    public String getStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether to read definite paths such as $.store.book[0].title by scanning the JSON
+     * and only parsing the value, instead of parsing the whole JSON document.
+     */
+    public void setStreaming(String streaming) {
+        this.streaming = streaming;
+    }
+
     public String getHeaderName() {
         return headerName;
     }
@@ -174,6 +189,9 @@ public class JsonPathExpression extends ExpressionDefinition {
         if (writeAsString != null) {
             setProperty(camelContext, expression, "writeAsString", writeAsString);
         }
+        if (streaming != null) {
+            setProperty(camelContext, expression, "streaming", streaming);
+        }
         if (headerName != null) {
             setProperty(camelContext, expression, "headerName", headerName);
         }
@@ -197,6 +215,9 @@ public class JsonPathExpression extends ExpressionDefinition {
         if (writeAsString != null) {
             setProperty(camelContext, predicate, "writeAsString", writeAsString);
         }
+        if (streaming != null) {
+            setProperty(camelContext, predicate, "streaming", streaming);
+        }
         if (headerName != null) {
             setProperty(camelContext, predicate, "headerName", headerName);
         }
@@ -66,6 +66,9 @@ public class XPathExpression extends NamespaceAwareExpression {
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String threadSafety;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String streaming;
 
     public XPathExpression() {
     }
@@ -210,6 +213,23 @@ public class XPathExpression extends NamespaceAwareExpression {
         this.threadSafety = threadSafety;
     }
 
+    public String getStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether to evaluate the xpath expression in streaming mode when the
+     * result type is NodeSet, such as when splitting big XML documents. The
+     * input is then parsed with StAX and the matched nodes are returned one by
+     * one as XML fragments, instead of loading the whole document as DOM. Only
+     * absolute location paths with child and descendant steps, and attribute
+     * predicates such as /orders//order[@type='foo'] are supported, any other
+     * expression is evaluated using DOM.
+     */
+    public void setStreaming(String streaming) {
+        this.streaming = streaming;
+    }
+
     @Override
     public Expression createExpression(CamelContext camelContext) {
         if (documentType == null && documentTypeName != null) {
@@ -266,6 +286,9 @@ public class XPathExpression extends NamespaceAwareExpression {
         if (threadSafety != null) {
             setProperty(camelContext, expression, "threadSafety", threadSafety);
         }
+        if (streaming != null) {
+            setProperty(camelContext, expression, "streaming", streaming);
+        }
         if (isLogNamespaces) {
             setProperty(camelContext, expression, "logNamespaces", true);
         }
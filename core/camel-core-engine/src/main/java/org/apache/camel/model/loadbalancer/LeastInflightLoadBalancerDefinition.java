@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model.loadbalancer;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.apache.camel.model.LoadBalancerDefinition;
+import org.apache.camel.spi.Metadata;
+
+/**
+ * Least in-flight load balancer The least in-flight load balancer selects the
+ * processor with the fewest in-flight exchanges, and the lowest average
+ * latency when several processors have the same number of in-flight exchanges.
+ */
+@Metadata(label = "eip,routing,loadbalance")
+@XmlRootElement(name = "leastInflight")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class LeastInflightLoadBalancerDefinition extends LoadBalancerDefinition {
+    @XmlAttribute
+    @Metadata(defaultValue = "0.3")
+    private String smoothingFactor;
+
+    public LeastInflightLoadBalancerDefinition() {
+    }
+
+    public String getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    /**
+     * The weight (between 0 and 1) of the latest latency in the moving average
+     * of the latency of each processor, where a higher value reacts faster on
+     * changes in latency.
+     * <p/>
+     * The default value is 0.3.
+     */
+    public void setSmoothingFactor(String smoothingFactor) {
+        this.smoothingFactor = smoothingFactor;
+    }
+
+    @Override
+    public String toString() {
+        return "LeastInflightLoadBalancer";
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.reifier;
+
+import org.apache.camel.Expression;
+import org.apache.camel.Processor;
+import org.apache.camel.model.CacheDefinition;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.CacheProcessor;
+import org.apache.camel.spi.CacheRepository;
+import org.apache.camel.spi.RouteContext;
+import org.apache.camel.support.processor.cache.MemoryCacheRepository;
+
+public class CacheReifier extends ExpressionReifier<CacheDefinition> {
+
+    public CacheReifier(ProcessorDefinition<?> definition) {
+        super(CacheDefinition.class.cast(definition));
+    }
+
+    @Override
+    public Processor createProcessor(RouteContext routeContext) throws Exception {
+        Processor childProcessor = this.createChildProcessor(routeContext, true);
+
+        CacheRepository cacheRepository = resolveCacheRepository(routeContext);
+        Expression expression = definition.getExpression().createExpression(routeContext);
+
+        return new CacheProcessor(expression, cacheRepository, childProcessor);
+    }
+
+    /**
+     * Strategy method to resolve the {@link org.apache.camel.spi.CacheRepository} to use,
+     * which is a memory based repository by default
+     *
+     * @param routeContext route context
+     * @return the repository
+     */
+    protected CacheRepository resolveCacheRepository(RouteContext routeContext) {
+        if (definition.getCacheRepositoryRef() != null) {
+            definition.setCacheRepository(routeContext.mandatoryLookup(definition.getCacheRepositoryRef(), CacheRepository.class));
+        }
+        if (definition.getCacheRepository() != null) {
+            return definition.getCacheRepository();
+        }
+        int maximumSize = definition.getMaximumSize() != null ? definition.getMaximumSize() : 1000;
+        long timeToLive = definition.getTimeToLive() != null ? definition.getTimeToLive() : 0;
+        return new MemoryCacheRepository(maximumSize, timeToLive);
+    }
+}
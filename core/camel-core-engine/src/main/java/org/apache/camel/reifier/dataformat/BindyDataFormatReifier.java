@@ -63,6 +63,9 @@ public class BindyDataFormatReifier extends DataFormatReifier<BindyDataFormat> {
         if (definition.getAllowEmptyStream() != null) {
             setProperty(camelContext, dataFormat, "allowEmptyStream", definition.getAllowEmptyStream());
         }
+        if (definition.getLazyLoad() != null) {
+            setProperty(camelContext, dataFormat, "lazyLoad", definition.getLazyLoad());
+        }
     }
 
 }
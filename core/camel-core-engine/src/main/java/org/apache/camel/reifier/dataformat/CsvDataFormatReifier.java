@@ -106,6 +106,15 @@ public class CsvDataFormatReifier extends DataFormatReifier<CsvDataFormat> {
         if (definition.getLazyLoad() != null) {
             setProperty(camelContext, dataFormat, "lazyLoad", definition.getLazyLoad());
         }
+        if (definition.getParallelProcessing() != null) {
+            setProperty(camelContext, dataFormat, "parallelProcessing", definition.getParallelProcessing());
+        }
+        if (definition.getParallelChunkSize() != null) {
+            setProperty(camelContext, dataFormat, "parallelChunkSize", definition.getParallelChunkSize());
+        }
+        if (definition.getParallelOrdered() != null) {
+            setProperty(camelContext, dataFormat, "parallelOrdered", definition.getParallelOrdered());
+        }
         if (definition.getUseMaps() != null) {
             setProperty(camelContext, dataFormat, "useMaps", definition.getUseMaps());
         }
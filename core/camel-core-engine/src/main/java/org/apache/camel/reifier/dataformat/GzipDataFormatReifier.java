@@ -16,8 +16,10 @@
  */
 package org.apache.camel.reifier.dataformat;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.model.DataFormatDefinition;
 import org.apache.camel.model.dataformat.GzipDataFormat;
+import org.apache.camel.spi.DataFormat;
 
 public class GzipDataFormatReifier extends DataFormatReifier<GzipDataFormat> {
 
@@ -25,4 +27,21 @@ public class GzipDataFormatReifier extends DataFormatReifier<GzipDataFormat> {
         super((GzipDataFormat)definition);
     }
 
+    @Override
+    protected void configureDataFormat(DataFormat dataFormat, CamelContext camelContext) {
+        if (definition.getCompressionLevel() != null) {
+            setProperty(camelContext, dataFormat, "compressionLevel", definition.getCompressionLevel());
+        }
+        if (definition.getParallel() != null) {
+            setProperty(camelContext, dataFormat, "parallel", definition.getParallel());
+        }
+        if (definition.getBlockSize() != null) {
+            setProperty(camelContext, dataFormat, "blockSize", definition.getBlockSize());
+        }
+        if (definition.getParallelism() != null) {
+            setProperty(camelContext, dataFormat, "parallelism", definition.getParallelism());
+        }
+        super.configureDataFormat(dataFormat, camelContext);
+    }
+
 }
@@ -71,6 +71,12 @@ public class JaxbDataFormatReifier extends DataFormatReifier<JaxbDataFormat> {
         } else { // the default value is false
             setProperty(camelContext, dataFormat, "fragment", Boolean.FALSE);
         }
+        answer = ObjectHelper.toBoolean(definition.getLazyLoad());
+        if (answer != null && answer) {
+            setProperty(camelContext, dataFormat, "lazyLoad", Boolean.TRUE);
+        } else { // the default value is false
+            setProperty(camelContext, dataFormat, "lazyLoad", Boolean.FALSE);
+        }
 
         setProperty(camelContext, dataFormat, "contextPath", definition.getContextPath());
         if (definition.getPartClass() != null) {
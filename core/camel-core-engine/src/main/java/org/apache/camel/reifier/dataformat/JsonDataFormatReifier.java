@@ -113,6 +113,12 @@ public class JsonDataFormatReifier extends DataFormatReifier<JsonDataFormat> {
         if (definition.getAllowUnmarshallType() != null) {
             setProperty(camelContext, dataFormat, "allowUnmarshallType", definition.getAllowUnmarshallType());
         }
+        if (definition.getLazyLoad() != null) {
+            setProperty(camelContext, dataFormat, "lazyLoad", definition.getLazyLoad());
+        }
+        if (definition.getArrayPointer() != null) {
+            setProperty(camelContext, dataFormat, "arrayPointer", definition.getArrayPointer());
+        }
         // if we have the unmarshal type, but no permission set, then use it to
         // be allowed
         if (definition.getPermissions() == null && definition.getUnmarshalType() != null) {
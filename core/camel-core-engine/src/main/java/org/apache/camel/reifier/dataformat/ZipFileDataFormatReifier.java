@@ -38,6 +38,15 @@ public class ZipFileDataFormatReifier extends DataFormatReifier<ZipFileDataForma
         if (definition.getPreservePathElements() != null) {
             setProperty(camelContext, dataFormat, "preservePathElements", definition.getPreservePathElements());
         }
+        if (definition.getParallel() != null) {
+            setProperty(camelContext, dataFormat, "parallel", definition.getParallel());
+        }
+        if (definition.getParallelism() != null) {
+            setProperty(camelContext, dataFormat, "parallelism", definition.getParallelism());
+        }
+        if (definition.getMaxInFlightBytes() != null) {
+            setProperty(camelContext, dataFormat, "maxInFlightBytes", definition.getMaxInFlightBytes());
+        }
     }
 
 }
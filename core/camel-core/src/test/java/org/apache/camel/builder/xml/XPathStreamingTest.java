@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder.xml;
+
+import java.io.ByteArrayInputStream;
+
+import org.w3c.dom.Element;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.language.xpath.XPathBuilder;
+import org.apache.camel.model.language.XPathExpression;
+import org.junit.Test;
+
+/**
+ * XPath in streaming mode with the splitter
+ */
+public class XPathStreamingTest extends ContextTestSupport {
+
+    private static final int SIZE = 1000;
+
+    @Test
+    public void testStreamingSplit() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:book");
+        mock.expectedMessageCount(SIZE / 2);
+        mock.allMessages().body().isInstanceOf(String.class);
+        mock.message(0).body().isEqualTo("<o:order type=\"book\" id=\"0\" xmlns:o=\"urn:orders\"><title>Camel 0</title></o:order>");
+        mock.message(1).body().isEqualTo("<o:order type=\"book\" id=\"2\" xmlns:o=\"urn:orders\"><title>Camel 2</title></o:order>");
+
+        template.sendBody("direct:books", new ByteArrayInputStream(createOrders().getBytes()));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStreamingSplitDescendant() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:title");
+        mock.expectedMessageCount(SIZE / 2);
+        mock.message(0).body().isEqualTo("<title xmlns:o=\"urn:orders\">Camel 0</title>");
+
+        template.sendBody("direct:titles", createOrders());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStreamingFallbackToDom() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:first");
+        mock.expectedMessageCount(1);
+        mock.message(0).body().isInstanceOf(Element.class);
+
+        template.sendBody("direct:first", createOrders());
+
+        assertMockEndpointsSatisfied();
+        assertEquals("0", mock.getReceivedExchanges().get(0).getIn().getBody(Element.class).getAttribute("id"));
+    }
+
+    private static String createOrders() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+        sb.append("<o:orders xmlns:o=\"urn:orders\">");
+        for (int i = 0; i < SIZE; i++) {
+            if (i % 2 == 0) {
+                sb.append("<o:order type=\"book\" id=\"").append(i).append("\"><title>Camel ").append(i).append("</title></o:order>");
+            } else {
+                sb.append("<o:order type=\"cd\" id=\"").append(i).append("\"/>");
+            }
+        }
+        sb.append("</o:orders>");
+        return sb.toString();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                XPathBuilder books = XPathBuilder.xpath("/o:orders/o:order[@type='book']").namespace("o", "urn:orders").streaming();
+                from("direct:books").split(books).streaming().to("mock:book");
+
+                XPathExpression titles = new XPathExpression("//title");
+                titles.setStreaming("true");
+                from("direct:titles").split(titles).streaming().to("mock:title");
+
+                // positional predicates are not supported in streaming mode so DOM is used
+                XPathBuilder first = XPathBuilder.xpath("/o:orders/o:order[1]").namespace("o", "urn:orders").streaming();
+                from("direct:first").split(first).streaming().to("mock:first");
+            }
+        };
+    }
+}
@@ -21,9 +21,11 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.transform.Source;
 import javax.xml.transform.Templates;
+import javax.xml.transform.Transformer;
 import javax.xml.transform.sax.SAXSource;
 
 import org.w3c.dom.Document;
@@ -34,6 +36,7 @@ import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExpectedBodyTypeException;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.StreamCache;
 import org.apache.camel.component.xslt.StreamResultHandlerFactory;
 import org.apache.camel.component.xslt.XsltBuilder;
 import org.apache.camel.converter.jaxp.XmlConverter;
@@ -218,6 +221,64 @@ public class XsltBuilderTest extends ContextTestSupport {
         assertEquals("<goodbye>world!</goodbye>", exchange.getOut().getBody(String.class));
     }
 
+    @Test
+    public void testXsltOutputStream() throws Exception {
+        URL styleSheet = getClass().getResource("example.xsl");
+
+        XsltBuilder builder = XsltBuilder.xslt(styleSheet).outputStream();
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("<hello>world!</hello>");
+
+        builder.process(exchange);
+        assertIsInstanceOf(StreamCache.class, exchange.getOut().getBody());
+
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>", exchange.getOut().getBody(String.class));
+    }
+
+    @Test
+    public void testXsltTransformerCachePerThread() throws Exception {
+        URL styleSheet = getClass().getResource("example.xsl");
+        AtomicInteger created = new AtomicInteger();
+
+        XsltBuilder builder = new XsltBuilder() {
+            @Override
+            protected Transformer createTransformer() throws Exception {
+                created.incrementAndGet();
+                return super.createTransformer();
+            }
+        };
+        builder.setTransformerURL(styleSheet);
+        builder.transformerCachePerThread(true);
+
+        for (int i = 0; i < 3; i++) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody("<hello>world!</hello>");
+            builder.process(exchange);
+            assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>", exchange.getOut().getBody());
+        }
+        assertEquals(1, created.get());
+
+        // another thread has its own transformer
+        Thread thread = new Thread(() -> {
+            try {
+                builder.process(new DefaultExchange(context));
+            } catch (Exception e) {
+                // ignore as the body is null
+            }
+        });
+        thread.start();
+        thread.join();
+        assertEquals(2, created.get());
+
+        // and a new template must not use the cached transformer
+        builder.setTransformerURL(styleSheet);
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("<hello>world!</hello>");
+        builder.process(exchange);
+        assertEquals(3, created.get());
+    }
+
     @Test
     public void testXsltOutputFile() throws Exception {
         URL styleSheet = getClass().getResource("example.xsl");
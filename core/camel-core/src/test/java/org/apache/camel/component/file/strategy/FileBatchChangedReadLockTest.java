@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.strategy;
+
+import java.io.File;
+import java.io.FileOutputStream;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FileBatchChangedReadLockTest extends ContextTestSupport {
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/batchchanged/");
+        createDirectory("target/data/batchchanged/in");
+        super.setUp();
+    }
+
+    @Test
+    public void testBatchChangedReadLock() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+        mock.expectedFileExists("target/data/batchchanged/out/slowfile0.dat");
+        mock.expectedFileExists("target/data/batchchanged/out/slowfile1.dat");
+        mock.expectedFileExists("target/data/batchchanged/out/slowfile2.dat");
+        mock.allMessages().header(Exchange.FILE_LENGTH).isEqualTo(expectedFileLength());
+
+        writeSlowFiles(3);
+
+        assertMockEndpointsSatisfied();
+
+        for (int i = 0; i < 3; i++) {
+            String content = context.getTypeConverter().convertTo(String.class, new File("target/data/batchchanged/out/slowfile" + i + ".dat"));
+            String[] lines = content.split(LS);
+            assertEquals("There should be 20 lines in the file", 20, lines.length);
+        }
+    }
+
+    private void writeSlowFiles(int count) throws Exception {
+        FileOutputStream[] streams = new FileOutputStream[count];
+        for (int i = 0; i < count; i++) {
+            streams[i] = new FileOutputStream("target/data/batchchanged/in/slowfile" + i + ".dat");
+        }
+        // write the files interleaved so they are all in progress at the same time
+        for (int line = 0; line < 20; line++) {
+            for (FileOutputStream fos : streams) {
+                fos.write(("Line " + line + LS).getBytes());
+                fos.flush();
+            }
+            Thread.sleep(50);
+        }
+        for (FileOutputStream fos : streams) {
+            fos.close();
+        }
+    }
+
+    long expectedFileLength() {
+        long length = 0;
+        for (int i = 0; i < 20; i++) {
+            length += ("Line " + i + LS).getBytes().length;
+        }
+        return length;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file:target/data/batchchanged/in?initialDelay=0&delay=10&readLock=batch-changed&readLockCheckInterval=300").to("file:target/data/batchchanged/out", "mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.converter.stream.FileInputStreamCache;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class XsltOutputStreamTest extends ContextTestSupport {
+
+    @Test
+    public void testXsltOutput() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>");
+        mock.message(0).body().isInstanceOf(StreamCache.class);
+
+        template.sendBody("direct:start", "<hello>world!</hello>");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testXsltOutputSpooledToDisk() throws Exception {
+        StringBuilder sb = new StringBuilder("<hello>");
+        for (int i = 0; i < 1000; i++) {
+            sb.append("world!");
+        }
+        sb.append("</hello>");
+
+        getMockEndpoint("mock:spooled").message(0).body().isInstanceOf(FileInputStreamCache.class);
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.message(0).body().endsWith("world!</goodbye>");
+
+        template.sendBody("direct:big", sb.toString());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory("target/data/xslt/cachedir");
+        context.getStreamCachingStrategy().setSpoolThreshold(1024);
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("xslt:org/apache/camel/component/xslt/example.xsl?output=stream").to("mock:result");
+
+                // the spooled file is deleted when the exchange is done so read it within the route
+                from("direct:big").to("xslt:org/apache/camel/component/xslt/example.xsl?output=stream").to("mock:spooled")
+                    .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
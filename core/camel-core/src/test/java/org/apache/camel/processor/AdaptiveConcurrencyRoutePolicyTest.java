@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.throttling.AdaptiveConcurrencyRoutePolicy;
+import org.apache.camel.throttling.AdaptiveConcurrencyRoutePolicy.LimitAlgorithm;
+import org.apache.camel.throttling.AdaptiveConcurrencyRoutePolicy.OverloadAction;
+import org.junit.Test;
+
+import static org.awaitility.Awaitility.await;
+
+public class AdaptiveConcurrencyRoutePolicyTest extends ContextTestSupport {
+
+    private final String url = "seda:foo?concurrentConsumers=20";
+    private final SlowProcessor slow = new SlowProcessor();
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testGradientLowersLimit() throws Exception {
+        doTestLowersLimit(LimitAlgorithm.Gradient);
+    }
+
+    @Test
+    public void testAimdLowersLimit() throws Exception {
+        doTestLowersLimit(LimitAlgorithm.Aimd);
+    }
+
+    private void doTestLowersLimit(LimitAlgorithm algorithm) throws Exception {
+        final AdaptiveConcurrencyRoutePolicy policy = new AdaptiveConcurrencyRoutePolicy();
+        policy.setAlgorithm(algorithm);
+        policy.setInitialLimit(20);
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(url).routePolicy(policy).process(slow).to("mock:result");
+            }
+        });
+        context.start();
+
+        // learn the latency without load
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        for (int i = 0; i < 10; i++) {
+            template.sendBody(url, "Message " + i);
+            Thread.sleep(10);
+        }
+        assertMockEndpointsSatisfied();
+
+        // the latency now rises with the number of concurrent exchanges
+        slow.overloaded = true;
+        mock.reset();
+        mock.expectedMessageCount(200);
+        mock.setResultWaitTime(30000);
+        for (int i = 0; i < 200; i++) {
+            template.sendBody(url, "Message " + i);
+        }
+        assertMockEndpointsSatisfied();
+
+        assertTrue("Limit should be lowered, was: " + policy.getLimit(), policy.getLimit() < 20);
+        // the exchanges are done after they reached the mock
+        await().atMost(5, TimeUnit.SECONDS).until(() -> policy.getInflight() == 0);
+    }
+
+    @Test
+    public void testRejectWhenLimitReached() throws Exception {
+        final AdaptiveConcurrencyRoutePolicy policy = new AdaptiveConcurrencyRoutePolicy();
+        policy.setOverloadAction(OverloadAction.Reject);
+        policy.setInitialLimit(2);
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routePolicy(policy)
+                    .process(e -> latch.await(10, TimeUnit.SECONDS))
+                    .to("mock:result");
+            }
+        });
+        context.start();
+
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+
+        Future<Object> f1 = template.asyncRequestBody("direct:start", "A");
+        Future<Object> f2 = template.asyncRequestBody("direct:start", "B");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> policy.getInflight() == 2);
+
+        try {
+            template.requestBody("direct:start", "C");
+            fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(RejectedExecutionException.class, e.getCause());
+        }
+        assertEquals(1, policy.getRejectedCounter());
+
+        latch.countDown();
+        f1.get(5, TimeUnit.SECONDS);
+        f2.get(5, TimeUnit.SECONDS);
+
+        assertMockEndpointsSatisfied();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> policy.getInflight() == 0);
+    }
+
+    @Test
+    public void testNestedRoutes() throws Exception {
+        final AdaptiveConcurrencyRoutePolicy policy = new AdaptiveConcurrencyRoutePolicy();
+        policy.setInitialLimit(2);
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("outer").routePolicy(policy)
+                    .to("direct:inner")
+                    .to("mock:result");
+
+                from("direct:inner").routeId("inner").routePolicy(policy)
+                    .to("mock:inner");
+            }
+        });
+        context.start();
+
+        getMockEndpoint("mock:inner").expectedMessageCount(10);
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+        // the exchange is counted once, and released when the outer route is done
+        await().atMost(5, TimeUnit.SECONDS).until(() -> policy.getInflight() == 0);
+    }
+
+    @Test
+    public void testNestedRoutesNotRejected() throws Exception {
+        final AdaptiveConcurrencyRoutePolicy policy = new AdaptiveConcurrencyRoutePolicy();
+        policy.setOverloadAction(OverloadAction.Reject);
+        policy.setInitialLimit(1);
+        policy.setMinLimit(1);
+        policy.setMaxLimit(1);
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("outer").routePolicy(policy)
+                    .to("direct:inner")
+                    .to("mock:result");
+
+                from("direct:inner").routeId("inner").routePolicy(policy)
+                    .to("mock:inner");
+            }
+        });
+        context.start();
+
+        getMockEndpoint("mock:inner").expectedMessageCount(3);
+        getMockEndpoint("mock:result").expectedMessageCount(3);
+
+        // the exchange uses the only inflight slot, which must not reject it in the inner route
+        for (int i = 0; i < 3; i++) {
+            template.sendBody("direct:start", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, policy.getRejectedCounter());
+        assertEquals(0, policy.getInflight());
+    }
+
+    /**
+     * Simulates a resource where the latency rises with the number of concurrent exchanges when overloaded
+     */
+    private static final class SlowProcessor implements Processor {
+        private final AtomicInteger active = new AtomicInteger();
+        private volatile boolean overloaded;
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            int n = active.incrementAndGet();
+            try {
+                Thread.sleep(overloaded ? 5L * n : 5L);
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.cache.MemoryCacheRepository;
+import org.junit.Test;
+
+public class CacheTest extends ContextTestSupport {
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    @Test
+    public void testCacheHit() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Bye 1", "Bye 2", "Bye 1");
+        mock.allMessages().header("cached").isEqualTo("true");
+        mock.message(2).header("id").isNull();
+
+        template.sendBodyAndHeader("direct:start", "1", "id", "1");
+        template.sendBodyAndHeader("direct:start", "2", "id", "2");
+        // the result of the first message is reused, but not its input headers
+        template.sendBodyAndHeader("direct:start", "3", "key", "1");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void testNoKeyNotCached() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Bye 1", "Bye 1");
+
+        template.sendBody("direct:nokey", "1");
+        template.sendBody("direct:nokey", "1");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void testTimeToLive() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Bye 1", "Bye 1", "Bye 1");
+
+        template.sendBodyAndHeader("direct:ttl", "1", "key", "1");
+        template.sendBodyAndHeader("direct:ttl", "1", "key", "1");
+        assertEquals(1, counter.get());
+
+        Thread.sleep(300);
+        template.sendBodyAndHeader("direct:ttl", "1", "key", "1");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void testFailureNotCached() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Bye 1", "Bye 1");
+
+        try {
+            template.sendBodyAndHeader("direct:start", "Kaboom", "key", "1");
+            fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+        }
+        template.sendBodyAndHeader("direct:start", "1", "key", "1");
+        template.sendBodyAndHeader("direct:start", "1", "key", "1");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void testConcurrentSingleFlight() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+        getMockEndpoint("mock:result").allMessages().body().isEqualTo("Bye 1");
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(executor.submit(() -> template.requestBodyAndHeader("direct:slow", "1", "key", "1")));
+            }
+            // let the exchanges wait for the in-flight call before it completes
+            Thread.sleep(200);
+            latch.countDown();
+
+            for (Future<Object> future : futures) {
+                assertEquals("Bye 1", future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertMockEndpointsSatisfied();
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void testCachedBodyIsCopied() throws Exception {
+        byte[] first = template.requestBodyAndHeader("direct:copy", "1", "key", "1", byte[].class);
+        byte[] second = template.requestBodyAndHeader("direct:copy", "1", "key", "1", byte[].class);
+
+        // the route changes the body after the cache block, which must not change the cached body
+        assertEquals("Xye", new String(first));
+        assertEquals("Xye", new String(second));
+        assertNotSame(first, second);
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void testMemoryCacheRepositoryNotStarted() throws Exception {
+        MemoryCacheRepository repository = new MemoryCacheRepository();
+        repository.put("foo", "bar");
+        assertNull(repository.get("foo"));
+        assertFalse(repository.remove("foo"));
+
+        repository.start();
+        repository.put("foo", "bar");
+        assertEquals("bar", repository.get("foo"));
+        repository.stop();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .cache(simple("${header.key}${header.id}"))
+                        .process(e -> {
+                            counter.incrementAndGet();
+                            if ("Kaboom".equals(e.getMessage().getBody())) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        })
+                        .transform(body().prepend("Bye "))
+                        .setHeader("cached", constant("true"))
+                    .end()
+                    .to("mock:result");
+
+                from("direct:nokey")
+                    .cache(header("key"))
+                        .process(e -> counter.incrementAndGet())
+                        .transform(body().prepend("Bye "))
+                    .end()
+                    .to("mock:result");
+
+                from("direct:ttl")
+                    .cache(header("key")).timeToLive(100)
+                        .process(e -> counter.incrementAndGet())
+                        .transform(body().prepend("Bye "))
+                    .end()
+                    .to("mock:result");
+
+                from("direct:copy")
+                    .cache(header("key"))
+                        .process(e -> {
+                            counter.incrementAndGet();
+                            e.getMessage().setBody("Bye".getBytes());
+                        })
+                    .end()
+                    .process(e -> e.getMessage().getBody(byte[].class)[0] = 'X');
+
+                from("direct:slow")
+                    .cache(header("key"))
+                        .process(e -> {
+                            counter.incrementAndGet();
+                            latch.await(10, TimeUnit.SECONDS);
+                        })
+                        .transform(body().prepend("Bye "))
+                    .end()
+                    .to("mock:result");
+            }
+        };
+    }
+}
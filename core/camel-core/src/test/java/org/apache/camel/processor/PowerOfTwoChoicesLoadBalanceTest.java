@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PowerOfTwoChoicesLoadBalanceTest extends ContextTestSupport {
+    protected MockEndpoint x;
+    protected MockEndpoint y;
+    protected MockEndpoint z;
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+
+        x = getMockEndpoint("mock://x");
+        y = getMockEndpoint("mock://y");
+        z = getMockEndpoint("mock://z");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct://start").loadBalance().powerOfTwoChoices().to("mock://x", "mock://y", "mock://z");
+            }
+        };
+    }
+
+    @Test
+    public void testSlowProcessorReceivesLess() throws Exception {
+        // x is slow so it should only be chosen until its latency is known
+        x.whenAnyExchangeReceived(exchange -> Thread.sleep(100));
+
+        for (int i = 0; i < 50; i++) {
+            template.sendBody("direct:start", "Hello World");
+        }
+
+        assertEquals(50, x.getReceivedCounter() + y.getReceivedCounter() + z.getReceivedCounter());
+        assertTrue("Slow processor should receive less, was: " + x.getReceivedCounter(), x.getReceivedCounter() <= 3);
+    }
+
+}
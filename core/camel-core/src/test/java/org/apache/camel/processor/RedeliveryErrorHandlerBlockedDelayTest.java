@@ -16,11 +16,13 @@
  */
 package org.apache.camel.processor;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.errorhandler.RedeliveryTimer;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +33,14 @@ public class RedeliveryErrorHandlerBlockedDelayTest extends ContextTestSupport {
 
     private static volatile int attempt;
 
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        // block the thread while waiting for redelivery instead of parking in the redelivery timer
+        context.getGlobalOptions().put(RedeliveryTimer.ENABLED, "false");
+        return context;
+    }
+
     @Test
     public void testRedelivery() throws Exception {
         MockEndpoint before = getMockEndpoint("mock:result");
@@ -52,7 +62,7 @@ public class RedeliveryErrorHandlerBlockedDelayTest extends ContextTestSupport {
         return new RouteBuilder() {
             @Override
             public void configure() throws Exception {
-                // will by default block
+                // will block as the redelivery timer is disabled
                 errorHandler(defaultErrorHandler().maximumRedeliveries(5).redeliveryDelay(10));
 
                 from("seda:start").to("log:before").to("mock:before").process(new Processor() {
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.errorhandler.RedeliveryTimer;
+import org.junit.Test;
+
+import static org.awaitility.Awaitility.await;
+
+public class RedeliveryTimerTest extends ContextTestSupport {
+
+    private static volatile int attempt;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(RedeliveryTimer.MAX_PARKED, "1");
+        return context;
+    }
+
+    @Test
+    public void testRedeliveryDoesNotBlock() throws Exception {
+        attempt = 0;
+        // the consumer thread is not blocked while World is waiting for redelivery, so Camel arrives first
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedBodiesReceived("Hello Camel", "Hello World");
+
+        template.sendBody("seda:start", "World");
+        template.sendBody("seda:start", "Camel");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, context.hasService(RedeliveryTimer.class).getParkedCount());
+    }
+
+    @Test
+    public void testRetryBudgetExceeded() throws Exception {
+        MockEndpoint dead = getMockEndpoint("mock:dead");
+        dead.expectedBodiesReceived("Camel", "World");
+        dead.message(0).exchangeProperty(Exchange.EXCEPTION_CAUGHT).isInstanceOf(RejectedExecutionException.class);
+        dead.message(1).exchangeProperty(Exchange.EXCEPTION_CAUGHT).isInstanceOf(IllegalArgumentException.class);
+
+        // the first exchange is parked waiting for redelivery
+        template.asyncSendBody("direct:kaboom", "World");
+        RedeliveryTimer timer = context.hasService(RedeliveryTimer.class);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> timer.getParkedCount() == 1);
+        assertEquals(1, timer.getParkedCount("kaboom"));
+        assertEquals(0, timer.getParkedCount("start"));
+
+        // and there is no room for the second exchange, so it fails fast
+        template.sendBody("direct:kaboom", "Camel");
+        assertEquals(1, timer.getRejectedCount());
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, timer.getParkedCount("kaboom"));
+    }
+
+    @Test
+    public void testRemoveRoute() throws Exception {
+        RedeliveryTimer timer = RedeliveryTimer.getOrCreate(context);
+        RedeliveryTimer.Timeout timeout = timer.park("kaboom", 60000, () -> { });
+        assertEquals(1, timer.getParkedCount("kaboom"));
+
+        // the parked count of the route is forgotten when the route is removed
+        context.getRouteController().stopRoute("kaboom");
+        assertTrue(context.removeRoute("kaboom"));
+        assertEquals(0, timer.getParkedCount("kaboom"));
+
+        timeout.expireNow();
+        assertEquals(0, timer.getParkedCount());
+        assertEquals(0, timer.getParkedCount("kaboom"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start").routeId("start")
+                    .errorHandler(defaultErrorHandler().maximumRedeliveries(5).redeliveryDelay(100))
+                    .process(exchange -> {
+                        String body = exchange.getIn().getBody(String.class);
+                        if (body.contains("World") && ++attempt <= 2) {
+                            throw new IllegalArgumentException("Damn");
+                        }
+                        exchange.getIn().setBody("Hello " + body);
+                    })
+                    .to("mock:result");
+
+                from("direct:kaboom").routeId("kaboom")
+                    .errorHandler(deadLetterChannel("mock:dead").maximumRedeliveries(1).redeliveryDelay(500))
+                    .process(exchange -> {
+                        throw new IllegalArgumentException("Kaboom");
+                    });
+            }
+        };
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.InputStreamCache;
+import org.junit.Test;
+
+public class BinaryExchangeCodecTest extends ContextTestSupport {
+
+    private final BinaryExchangeCodec codec = new BinaryExchangeCodec();
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Date now = new Date();
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", Arrays.asList("x", "y"));
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new ArrayList<>(Arrays.asList("Hello", 123, 456L, null)));
+        exchange.getIn().setHeader("string", "Camel \u00e6\u00f8\u00e5");
+        exchange.getIn().setHeader("int", -42);
+        exchange.getIn().setHeader("long", Long.MAX_VALUE);
+        exchange.getIn().setHeader("short", (short) 7);
+        exchange.getIn().setHeader("byte", (byte) 8);
+        exchange.getIn().setHeader("double", 1.5d);
+        exchange.getIn().setHeader("float", 2.5f);
+        exchange.getIn().setHeader("char", 'c');
+        exchange.getIn().setHeader("boolean", true);
+        exchange.getIn().setHeader("bigInteger", new BigInteger("123456789012345678901234567890"));
+        exchange.getIn().setHeader("bigDecimal", new BigDecimal("-12345.6789"));
+        exchange.getIn().setHeader("date", now);
+        exchange.setProperty("map", map);
+        exchange.setException(new IllegalArgumentException("Forced"));
+
+        Exchange answer = roundTrip(exchange);
+
+        assertEquals(exchange.getExchangeId(), answer.getExchangeId());
+        assertEquals(Arrays.asList("Hello", 123, 456L, null), answer.getIn().getBody());
+        assertEquals("Camel \u00e6\u00f8\u00e5", answer.getIn().getHeader("string"));
+        assertEquals(-42, answer.getIn().getHeader("int"));
+        assertEquals(Long.MAX_VALUE, answer.getIn().getHeader("long"));
+        assertEquals((short) 7, answer.getIn().getHeader("short"));
+        assertEquals((byte) 8, answer.getIn().getHeader("byte"));
+        assertEquals(1.5d, answer.getIn().getHeader("double"));
+        assertEquals(2.5f, answer.getIn().getHeader("float"));
+        assertEquals('c', answer.getIn().getHeader("char"));
+        assertEquals(true, answer.getIn().getHeader("boolean"));
+        assertEquals(new BigInteger("123456789012345678901234567890"), answer.getIn().getHeader("bigInteger"));
+        assertEquals(new BigDecimal("-12345.6789"), answer.getIn().getHeader("bigDecimal"));
+        assertEquals(now, answer.getIn().getHeader("date"));
+        assertEquals(map, answer.getProperty("map"));
+        assertIsInstanceOf(IllegalArgumentException.class, answer.getException());
+        assertEquals("Forced", answer.getException().getMessage());
+    }
+
+    @Test
+    public void testBytesAndStreamCache() throws Exception {
+        DefaultExchangeHolder holder = new DefaultExchangeHolder();
+        holder.setInBody(new byte[] {1, 2, 3});
+        holder.setOutBody(new InputStreamCache("Bye World".getBytes()));
+
+        DefaultExchangeHolder answer = codec.decode(context, codec.encode(holder));
+
+        assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) answer.getInBody());
+        StreamCache cache = assertIsInstanceOf(StreamCache.class, answer.getOutBody());
+        assertEquals("Bye World", context.getTypeConverter().convertTo(String.class, cache));
+        // the stream cache can still be read after it has been encoded
+        assertEquals("Bye World", context.getTypeConverter().convertTo(String.class, holder.getOutBody()));
+    }
+
+    @Test
+    public void testTypeCodec() throws Exception {
+        codec.addTypeCodec(1, MyFoo.class, new BinaryExchangeCodec.TypeCodec<MyFoo>() {
+            @Override
+            public void encode(MyFoo value, DataOutput out) throws IOException {
+                out.writeUTF(value.name);
+            }
+
+            @Override
+            public MyFoo decode(DataInput in) throws IOException {
+                return new MyFoo(in.readUTF());
+            }
+        });
+
+        DefaultExchangeHolder holder = new DefaultExchangeHolder();
+        holder.setInBody(new MyFoo("Tiger"));
+
+        DefaultExchangeHolder answer = codec.decode(context, codec.encode(holder));
+        assertEquals("Tiger", assertIsInstanceOf(MyFoo.class, answer.getInBody()).name);
+
+        try {
+            codec.addTypeCodec(1, String.class, null);
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        // a codec without the type cannot decode it
+        try {
+            new BinaryExchangeCodec().decode(context, codec.encode(holder));
+            fail("Should have thrown an exception");
+        } catch (StreamCorruptedException e) {
+            assertEquals("No TypeCodec has been added with id: 1", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSmallerThanJavaSerialization() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", 123);
+        exchange.getIn().setHeader("bar", "Camel");
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange);
+
+        byte[] data = codec.encode(holder);
+        assertTrue(BinaryExchangeCodec.isEncoded(data));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(holder);
+        }
+        assertFalse(BinaryExchangeCodec.isEncoded(bytes.toByteArray()));
+        assertTrue("Encoded size " + data.length + " should be less than serialized size " + bytes.size(), data.length * 4 < bytes.size());
+    }
+
+    @Test
+    public void testNotEncoded() throws Exception {
+        try {
+            codec.decode(context, new byte[] {0, 1, 2});
+            fail("Should have thrown an exception");
+        } catch (StreamCorruptedException e) {
+            // expected
+        }
+        try {
+            codec.decode(context, new byte[] {BinaryExchangeCodec.MAGIC, 99});
+            fail("Should have thrown an exception");
+        } catch (StreamCorruptedException e) {
+            assertTrue(e.getMessage().startsWith("Unsupported version: 99"));
+        }
+    }
+
+    private Exchange roundTrip(Exchange exchange) throws Exception {
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, true, true);
+        byte[] data = codec.encode(holder);
+        Exchange answer = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(answer, codec.decode(context, data));
+        return answer;
+    }
+
+    private static final class MyFoo {
+        private final String name;
+
+        private MyFoo(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.Test;
+
+public class ExchangeBatcherTest extends ContextTestSupport {
+
+    private final List<Integer> sizes = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testFullBatchIsProcessedByCallerThread() throws Exception {
+        ExchangeBatcher<String> batcher = new ExchangeBatcher<>(context, this, "Batcher", 3, 60000, this::upperCase);
+        batcher.start();
+
+        List<Exchange> exchanges = new ArrayList<>();
+        List<Boolean> completed = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Exchange exchange = new DefaultExchange(context);
+            exchanges.add(exchange);
+            boolean sync = batcher.add(exchange, "item" + i, completed::add);
+            assertEquals(i == 2, sync);
+        }
+
+        // only the exchange of the caller thread is completed synchronously
+        assertEquals("[false, false, true]", completed.toString());
+        assertEquals("[3]", sizes.toString());
+        for (int i = 0; i < 3; i++) {
+            assertEquals("ITEM" + i, exchanges.get(i).getMessage().getBody());
+        }
+        assertEquals(0, batcher.getPendingSize());
+
+        batcher.stop();
+    }
+
+    @Test
+    public void testBatchTimeout() throws Exception {
+        ExchangeBatcher<String> batcher = new ExchangeBatcher<>(context, this, "Batcher", 100, 100, this::upperCase);
+        batcher.start();
+
+        CountDownLatch latch = new CountDownLatch(2);
+        Exchange first = new DefaultExchange(context);
+        Exchange second = new DefaultExchange(context);
+        assertFalse(batcher.add(first, "a", doneSync -> latch.countDown()));
+        assertFalse(batcher.add(second, "b", doneSync -> latch.countDown()));
+        assertEquals(2, batcher.getPendingSize());
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("[2]", sizes.toString());
+        assertEquals("A", first.getMessage().getBody());
+        assertEquals("B", second.getMessage().getBody());
+
+        batcher.stop();
+    }
+
+    @Test
+    public void testBatchTimeoutProcessedConcurrently() throws Exception {
+        CountDownLatch secondProcessed = new CountDownLatch(1);
+        ExchangeBatcher<String> batcher = new ExchangeBatcher<>(context, this, "Batcher", 100, 50, (exchanges, items) -> {
+            if ("a".equals(items.get(0))) {
+                // blocks until the next batch that timed out has been processed by another thread
+                assertTrue(secondProcessed.await(5, TimeUnit.SECONDS));
+            } else {
+                secondProcessed.countDown();
+            }
+            upperCase(exchanges, items);
+        });
+        batcher.start();
+
+        CountDownLatch latch = new CountDownLatch(2);
+        Exchange first = new DefaultExchange(context);
+        Exchange second = new DefaultExchange(context);
+        assertFalse(batcher.add(first, "a", doneSync -> latch.countDown()));
+        Thread.sleep(200);
+        assertFalse(batcher.add(second, "b", doneSync -> latch.countDown()));
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertNull(first.getException());
+        assertEquals("A", first.getMessage().getBody());
+        assertEquals("B", second.getMessage().getBody());
+
+        batcher.stop();
+    }
+
+    @Test
+    public void testCustomExecutorService() throws Exception {
+        ExecutorService executorService = context.getExecutorServiceManager().newSingleThreadExecutor(this, "CustomBatcher");
+        List<String> threads = new CopyOnWriteArrayList<>();
+        ExchangeBatcher<String> batcher = new ExchangeBatcher<>(context, this, "Batcher", 100, 50, (exchanges, items) -> {
+            threads.add(Thread.currentThread().getName());
+            upperCase(exchanges, items);
+        });
+        batcher.setExecutorService(executorService);
+        batcher.start();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Exchange exchange = new DefaultExchange(context);
+        assertFalse(batcher.add(exchange, "a", doneSync -> latch.countDown()));
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("A", exchange.getMessage().getBody());
+        assertTrue(threads.get(0), threads.get(0).contains("CustomBatcher"));
+
+        batcher.stop();
+        // the custom thread pool is not shutdown by the batcher
+        assertFalse(executorService.isShutdown());
+        context.getExecutorServiceManager().shutdownNow(executorService);
+    }
+
+    @Test
+    public void testItemFailure() throws Exception {
+        ExchangeBatcher<String> batcher = new ExchangeBatcher<>(context, this, "Batcher", 2, 60000, (exchanges, items) -> {
+            for (int i = 0; i < exchanges.size(); i++) {
+                if ("kaboom".equals(items.get(i))) {
+                    exchanges.get(i).setException(new IllegalArgumentException("Forced"));
+                } else {
+                    exchanges.get(i).getMessage().setBody("OK");
+                }
+            }
+        });
+        batcher.start();
+
+        Exchange ok = new DefaultExchange(context);
+        Exchange failed = new DefaultExchange(context);
+        batcher.add(ok, "a", doneSync -> { });
+        batcher.add(failed, "kaboom", doneSync -> { });
+
+        assertNull(ok.getException());
+        assertEquals("OK", ok.getMessage().getBody());
+        assertIsInstanceOf(IllegalArgumentException.class, failed.getException());
+
+        batcher.stop();
+    }
+
+    @Test
+    public void testBatchFailure() throws Exception {
+        ExchangeBatcher<String> batcher = new ExchangeBatcher<>(context, this, "Batcher", 2, 60000, (exchanges, items) -> {
+            exchanges.get(0).setException(new IllegalArgumentException("Forced"));
+            throw new IllegalStateException("Bulk failed");
+        });
+        batcher.start();
+
+        Exchange first = new DefaultExchange(context);
+        Exchange second = new DefaultExchange(context);
+        batcher.add(first, "a", doneSync -> { });
+        batcher.add(second, "b", doneSync -> { });
+
+        // the exception of the item is kept, the other exchanges fail with the batch exception
+        assertIsInstanceOf(IllegalArgumentException.class, first.getException());
+        assertIsInstanceOf(IllegalStateException.class, second.getException());
+
+        batcher.stop();
+    }
+
+    @Test
+    public void testStopProcessesPending() throws Exception {
+        ExchangeBatcher<String> batcher = new ExchangeBatcher<>(context, this, "Batcher", 100, 60000, this::upperCase);
+        batcher.start();
+
+        List<Boolean> completed = new ArrayList<>();
+        Exchange exchange = new DefaultExchange(context);
+        assertFalse(batcher.add(exchange, "a", completed::add));
+        assertTrue(completed.isEmpty());
+
+        batcher.stop();
+
+        assertEquals("[false]", completed.toString());
+        assertEquals("A", exchange.getMessage().getBody());
+
+        // and no longer accepts exchanges
+        Exchange rejected = new DefaultExchange(context);
+        assertTrue(batcher.add(rejected, "b", completed::add));
+        assertIsInstanceOf(RejectedExecutionException.class, rejected.getException());
+    }
+
+    private void upperCase(List<Exchange> exchanges, List<String> items) {
+        sizes.add(exchanges.size());
+        for (int i = 0; i < exchanges.size(); i++) {
+            exchanges.get(i).getMessage().setBody(items.get(i).toUpperCase());
+        }
+    }
+}
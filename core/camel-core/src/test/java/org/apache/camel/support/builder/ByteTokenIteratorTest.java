@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.builder;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.util.Scanner;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ByteTokenIteratorTest extends Assert {
+
+    @Test
+    public void testSameTokensAsScanner() throws Exception {
+        String[] inputs = {"", "a", "a,b,c", ",a,b", "a,,b", "a,b,", "a,b,,", ",,", ",", "æøå,日本,x"};
+        for (String input : inputs) {
+            assertEquals("Input: " + input, scan(input, ","), tokenize(input, ",", 1, false));
+        }
+    }
+
+    @Test
+    public void testMultiByteDelimiter() throws Exception {
+        String[] inputs = {"a\r\nb\r\nc", "\r\na\r\n\r\nb\r\n", "a\rb\r\nc\n"};
+        for (String input : inputs) {
+            assertEquals("Input: " + input, scan(input, "\r\n"), tokenize(input, "\r\n", 1, false));
+        }
+    }
+
+    @Test
+    public void testLargeTokensAcrossBufferBoundaries() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            // vary the token sizes so some tokens are larger than the buffer
+            for (int j = 0; j < (i % 7) * i; j++) {
+                sb.append((char) ('a' + j % 26));
+            }
+            sb.append("<->");
+        }
+        String input = sb.toString();
+        assertEquals(scan(input, "<->"), tokenize(input, "<->", 1, false));
+    }
+
+    @Test
+    public void testGroup() throws Exception {
+        assertEquals(list("a,b", "c,d", "e"), tokenize("a,b,c,d,e", ",", 2, false));
+        assertEquals(list("a,,b", "c"), tokenize(",a,,b,c,", ",", 3, false));
+        assertEquals(list("b,c", "d"), tokenize("a,b,c,d", ",", 2, true));
+        assertEquals(list(""), tokenize("header", ",", 2, true));
+    }
+
+    @Test
+    public void testLiteral() throws Exception {
+        assertTrue(ByteTokenIterator.isLiteral(","));
+        assertTrue(ByteTokenIterator.isLiteral("\n"));
+        assertTrue(ByteTokenIterator.isLiteral("<->"));
+        assertFalse(ByteTokenIterator.isLiteral("\\n"));
+        assertFalse(ByteTokenIterator.isLiteral("a|b"));
+        assertFalse(ByteTokenIterator.isLiteral("."));
+    }
+
+    private static List<String> tokenize(String input, String delimiter, int group, boolean skipFirst) throws Exception {
+        InputStream in = new TrickleInputStream(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+        List<String> answer = new ArrayList<>();
+        try (ByteTokenIterator it = new ByteTokenIterator(in, StandardCharsets.UTF_8, delimiter, group, skipFirst)) {
+            while (it.hasNext()) {
+                answer.add(it.next());
+            }
+        }
+        return answer;
+    }
+
+    private static List<String> scan(String input, String delimiter) throws Exception {
+        List<String> answer = new ArrayList<>();
+        try (Scanner scanner = new Scanner(input, delimiter)) {
+            while (scanner.hasNext()) {
+                answer.add(scanner.next());
+            }
+        }
+        return answer;
+    }
+
+    private static List<String> list(String... tokens) {
+        List<String> answer = new ArrayList<>();
+        for (String token : tokens) {
+            answer.add(token);
+        }
+        return answer;
+    }
+
+    /**
+     * Returns only a few bytes per read to test tokens and delimiters that are split between reads.
+     */
+    private static final class TrickleInputStream extends FilterInputStream {
+        private int count;
+
+        private TrickleInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws java.io.IOException {
+            return super.read(b, off, Math.min(len, 1 + (count++ % 3)));
+        }
+    }
+}
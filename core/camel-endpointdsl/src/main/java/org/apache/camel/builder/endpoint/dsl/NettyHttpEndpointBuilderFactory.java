@@ -1665,6 +1665,40 @@ public interface NettyHttpEndpointBuilderFactory {
             doSetProperty("sendBufferSize", sendBufferSize);
             return this;
         }
+        /**
+         * The maximum time in millis to wait for more content when reading a
+         * streamed HTTP body, when disableStreamCache is enabled. If no more
+         * content has been received within this time, such as when the remote
+         * peer stalls, then reading the stream fails with a
+         * SocketTimeoutException. Use 0 to wait forever.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: advanced
+         */
+        default AdvancedNettyHttpEndpointConsumerBuilder streamReadTimeout(
+                long streamReadTimeout) {
+            doSetProperty("streamReadTimeout", streamReadTimeout);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more content when reading a
+         * streamed HTTP body, when disableStreamCache is enabled. If no more
+         * content has been received within this time, such as when the remote
+         * peer stalls, then reading the stream fails with a
+         * SocketTimeoutException. Use 0 to wait forever.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: advanced
+         */
+        default AdvancedNettyHttpEndpointConsumerBuilder streamReadTimeout(
+                String streamReadTimeout) {
+            doSetProperty("streamReadTimeout", streamReadTimeout);
+            return this;
+        }
         /**
          * If enabled and an Exchange failed processing on the consumer side,
          * and if the caused Exception was send back serialized in the response
@@ -3198,6 +3232,40 @@ public interface NettyHttpEndpointBuilderFactory {
             doSetProperty("sendBufferSize", sendBufferSize);
             return this;
         }
+        /**
+         * The maximum time in millis to wait for more content when reading a
+         * streamed HTTP body, when disableStreamCache is enabled. If no more
+         * content has been received within this time, such as when the remote
+         * peer stalls, then reading the stream fails with a
+         * SocketTimeoutException. Use 0 to wait forever.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: advanced
+         */
+        default AdvancedNettyHttpEndpointProducerBuilder streamReadTimeout(
+                long streamReadTimeout) {
+            doSetProperty("streamReadTimeout", streamReadTimeout);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more content when reading a
+         * streamed HTTP body, when disableStreamCache is enabled. If no more
+         * content has been received within this time, such as when the remote
+         * peer stalls, then reading the stream fails with a
+         * SocketTimeoutException. Use 0 to wait forever.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: advanced
+         */
+        default AdvancedNettyHttpEndpointProducerBuilder streamReadTimeout(
+                String streamReadTimeout) {
+            doSetProperty("streamReadTimeout", streamReadTimeout);
+            return this;
+        }
         /**
          * If enabled and an Exchange failed processing on the consumer side,
          * and if the caused Exception was send back serialized in the response
@@ -4256,6 +4324,40 @@ public interface NettyHttpEndpointBuilderFactory {
             doSetProperty("sendBufferSize", sendBufferSize);
             return this;
         }
+        /**
+         * The maximum time in millis to wait for more content when reading a
+         * streamed HTTP body, when disableStreamCache is enabled. If no more
+         * content has been received within this time, such as when the remote
+         * peer stalls, then reading the stream fails with a
+         * SocketTimeoutException. Use 0 to wait forever.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: advanced
+         */
+        default AdvancedNettyHttpEndpointBuilder streamReadTimeout(
+                long streamReadTimeout) {
+            doSetProperty("streamReadTimeout", streamReadTimeout);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more content when reading a
+         * streamed HTTP body, when disableStreamCache is enabled. If no more
+         * content has been received within this time, such as when the remote
+         * peer stalls, then reading the stream fails with a
+         * SocketTimeoutException. Use 0 to wait forever.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: advanced
+         */
+        default AdvancedNettyHttpEndpointBuilder streamReadTimeout(
+                String streamReadTimeout) {
+            doSetProperty("streamReadTimeout", streamReadTimeout);
+            return this;
+        }
         /**
          * If enabled and an Exchange failed processing on the consumer side,
          * and if the caused Exception was send back serialized in the response
@@ -169,6 +169,7 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
 
         private AttributedQName[] splitpath;
         private int index;
+        private List<int[]> matches = new ArrayList<>();
         private char mode;
         private int group;
         private RecordableReader in;
@@ -188,16 +189,22 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
         private Object nextToken;
         
         XMLTokenIterator(String path, Map<String, String> nsmap, char mode, int group, Reader in) throws XMLStreamException {
-            final String[] sl = path.substring(1).split("/");
+            final String[] sl = splitPath(path.substring(1));
             this.splitpath = new AttributedQName[sl.length];
             for (int i = 0; i < sl.length; i++) {
                 String s = sl[i];
                 if (s.length() > 0) {
-                    int d = s.indexOf(':');
-                    String pfx = d > 0 ? s.substring(0, d) : "";
+                    // the name may be followed by attribute predicates such as [@type='foo']
+                    int p = s.indexOf('[');
+                    String n = p > 0 ? s.substring(0, p) : s;
+                    int d = n.indexOf(':');
+                    String pfx = d > 0 ? n.substring(0, d) : "";
                     this.splitpath[i] = 
                         new AttributedQName(
-                            "*".equals(pfx) ? "*" : nsmap == null ? "" : nsmap.get(pfx), d > 0 ? s.substring(d + 1) : s, pfx);
+                            "*".equals(pfx) ? "*" : nsmap == null ? "" : nsmap.get(pfx), d > 0 ? n.substring(d + 1) : n, pfx);
+                    if (p > 0) {
+                        this.splitpath[i].setPredicates(s.substring(p), nsmap);
+                    }
                 }
             }
             
@@ -230,6 +237,41 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
             this.nextToken = getNextToken();
         }
         
+        /**
+         * Splits the path by its slashes like {@link String#split(String)} does,
+         * but ignores the slashes inside attribute predicates such as [@href='http://foo/bar'].
+         */
+        static String[] splitPath(String path) {
+            List<String> answer = new ArrayList<>();
+            int start = 0;
+            int brackets = 0;
+            char quote = 0;
+            for (int i = 0; i < path.length(); i++) {
+                char c = path.charAt(i);
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (brackets > 0 && (c == '\'' || c == '"')) {
+                    quote = c;
+                } else if (c == '[') {
+                    brackets++;
+                } else if (c == ']') {
+                    brackets--;
+                } else if (c == '/' && brackets == 0) {
+                    answer.add(path.substring(start, i));
+                    start = i + 1;
+                }
+            }
+            answer.add(path.substring(start));
+            // remove the trailing empty segments
+            int size = answer.size();
+            while (size > 1 && answer.get(size - 1).isEmpty()) {
+                size--;
+            }
+            return answer.subList(0, size).toArray(new String[size]);
+        }
+
         private boolean isDoS() {
             return splitpath[index] == null;
         }
@@ -238,11 +280,9 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
             return splitpath[index + (isDoS() ? 1 : 0)];
         }
         
-        private AttributedQName ancestor() {
-            return index == 0 ? null : splitpath[index - 1];
-        }
-
         private void down() {
+            // remember where to go back to when leaving the matched element
+            matches.add(new int[] {index, depth});
             if (isDoS()) {
                 index++;
             }
@@ -250,17 +290,17 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
         }
         
         private void up() {
-            index--;
+            index = matches.remove(matches.size() - 1)[0];
+        }
+
+        private boolean isLeavingMatch() {
+            return !matches.isEmpty() && matches.get(matches.size() - 1)[1] == depth;
         }
         
         private boolean isBottom() {
             return index == splitpath.length - (isDoS() ? 2 : 1);
         }
         
-        private boolean isTop() {
-            return index == 0;
-        }
-        
         private int readNext() throws XMLStreamException {
             int c = code;
             if (c > 0) {
@@ -478,7 +518,7 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
                         pushNamespaces(reader);
                     }
                     backtrack = false;
-                    if (current().matches(name)) {
+                    if (current().matches(name, reader)) {
                         // mark the position of the match in the segments list
                         if (isBottom()) {
                             // final match
@@ -512,6 +552,7 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
                         return getGroupedToken();
                     }
 
+                    boolean leaving = isLeavingMatch();
                     depth--;
                     QName endname = reader.getName();
                     LOG.trace("ee={}", endname);
@@ -534,18 +575,14 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
                         }
                     }
 
-                    if (backtrack) {
-                        if (mode == 'w') {
-                            for (int i = 0; i < pc; i++) {
-                                popSegment();
-                            }
-                        }
-
-                        if ((ancestor() == null && !isTop())
-                            || (ancestor() != null && ancestor().matches(endname))) {
-                            up();
+                    if (backtrack && mode == 'w') {
+                        for (int i = 0; i < pc; i++) {
+                            popSegment();
                         }
                     }
+                    if (leaving) {
+                        up();
+                    }
                     break;
                 case XMLStreamConstants.END_DOCUMENT:
                     LOG.trace("depth={}", depth);
@@ -603,8 +640,11 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
 
     static class AttributedQName extends QName {
         private static final long serialVersionUID = 9878370226894144L;
+        private static final Pattern PREDICATE_PATTERN = Pattern.compile("\\[\\s*@([^\\s=\\]]+)\\s*(?:=\\s*('[^']*'|\"[^\"]*\")\\s*)?\\]");
         private Pattern lcpattern;
         private boolean nsany;
+        private QName[] attributeNames;
+        private String[] attributeValues;
         
         AttributedQName(String localPart) {
             super(localPart);
@@ -628,6 +668,63 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
                 : getLocalPart().equals(qname.getLocalPart()));
         }
         
+        /**
+         * Matches the name and the attribute predicates against the current start element of the reader.
+         */
+        public boolean matches(QName qname, XMLStreamReader reader) {
+            if (!matches(qname)) {
+                return false;
+            }
+            if (attributeNames != null) {
+                for (int i = 0; i < attributeNames.length; i++) {
+                    String value = getAttributeValue(reader, attributeNames[i]);
+                    if (value == null || (attributeValues[i] != null && !attributeValues[i].equals(value))) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Sets the attribute predicates such as <tt>[@type]</tt> or <tt>[@type='foo'][@c:id="1"]</tt>
+         * the element must fulfill in addition of its name.
+         */
+        void setPredicates(String predicates, Map<String, String> nsmap) {
+            List<QName> names = new ArrayList<>();
+            List<String> values = new ArrayList<>();
+            Matcher matcher = PREDICATE_PATTERN.matcher(predicates);
+            int pos = 0;
+            while (pos < predicates.length()) {
+                matcher.region(pos, predicates.length());
+                if (!matcher.lookingAt()) {
+                    throw new IllegalArgumentException("Unsupported predicate " + predicates.substring(pos)
+                        + " only attribute predicates such as [@name] or [@name='value'] are supported");
+                }
+                String name = matcher.group(1);
+                int d = name.indexOf(':');
+                // unprefixed attributes are not in any namespace
+                String ns = d > 0 ? nsmap == null ? "" : nsmap.get(name.substring(0, d)) : "";
+                names.add(new QName(ns, d > 0 ? name.substring(d + 1) : name));
+                String value = matcher.group(2);
+                values.add(value != null ? value.substring(1, value.length() - 1) : null);
+                pos = matcher.end();
+            }
+            attributeNames = names.toArray(new QName[names.size()]);
+            attributeValues = values.toArray(new String[values.size()]);
+        }
+
+        private static String getAttributeValue(XMLStreamReader reader, QName name) {
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String ns = reader.getAttributeNamespace(i);
+                if (name.getLocalPart().equals(reader.getAttributeLocalName(i))
+                    && name.getNamespaceURI().equals(ns == null ? "" : ns)) {
+                    return reader.getAttributeValue(i);
+                }
+            }
+            return null;
+        }
+
         private void checkWildcard(String nsa, String lcp) {
             nsany = "*".equals(nsa);
             boolean wc = false;
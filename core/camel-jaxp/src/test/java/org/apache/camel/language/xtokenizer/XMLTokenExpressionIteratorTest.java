@@ -370,6 +370,35 @@ public class XMLTokenExpressionIteratorTest extends Assert {
                         'i', new ByteArrayInputStream(TEST_BODY), RESULTS_PARENT);
     }
     
+    @Test
+    public void testExtractChildWithAttributePredicate() throws Exception {
+        String[] result = {RESULTS_CHILD[2]};
+        invokeAndVerify("//C:child[@some_attr='c']",
+                        'i', new ByteArrayInputStream(TEST_BODY), result);
+    }
+
+    @Test
+    public void testExtractChildWithAncestorAttributePredicate() throws Exception {
+        String[] result = {RESULTS_CHILD[2], RESULTS_CHILD[3]};
+        invokeAndVerify("//C:parent[@some_attr=\"2\"]/C:child",
+                        'i', new ByteArrayInputStream(TEST_BODY), result);
+    }
+
+    @Test
+    public void testExtractChildWithAttributeExistsPredicate() throws Exception {
+        String[] result = {RESULTS_CHILD[4], RESULTS_CHILD[5]};
+        invokeAndVerify("/G:greatgrandparent/grandparent/C:parent[@some_attr='3'][@xmlns]/C:child",
+                        'i', new ByteArrayInputStream(TEST_BODY), RESULTS_NULL);
+        invokeAndVerify("/G:greatgrandparent/grandparent/C:parent[@some_attr='3']/C:child[@anotherAttr]",
+                        'i', new ByteArrayInputStream(TEST_BODY), result);
+    }
+
+    @Test
+    public void testSplitPathWithSlashInPredicate() throws Exception {
+        String[] sl = XMLTokenExpressionIterator.XMLTokenIterator.splitPath("a//b[@href='http://foo/bar']/c/");
+        assertArrayEquals(new String[] {"a", "", "b[@href='http://foo/bar']", "c"}, sl);
+    }
+
     @Test
     public void testExtractAuntWC1() throws Exception {
         invokeAndVerify("//a*t", 
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+
+public interface ManagedAdaptiveConcurrencyRoutePolicyMBean extends ManagedServiceMBean {
+
+    @ManagedAttribute(description = "Current limit of inflight exchanges")
+    int getLimit();
+
+    @ManagedAttribute(description = "Current inflight exchanges")
+    int getInflight();
+
+    @ManagedAttribute(description = "Number of exchanges rejected as the limit was reached")
+    long getRejectedCounter();
+
+    @ManagedAttribute(description = "Baseline latency in millis")
+    double getBaselineLatency();
+
+    @ManagedAttribute(description = "Average latency in millis")
+    double getAverageLatency();
+
+    @ManagedAttribute(description = "Minimum limit of inflight exchanges")
+    int getMinLimit();
+
+    @ManagedAttribute(description = "Minimum limit of inflight exchanges")
+    void setMinLimit(int minLimit);
+
+    @ManagedAttribute(description = "Maximum limit of inflight exchanges")
+    int getMaxLimit();
+
+    @ManagedAttribute(description = "Maximum limit of inflight exchanges")
+    void setMaxLimit(int maxLimit);
+
+    @ManagedAttribute(description = "Tolerance of latency above the baseline latency")
+    double getLatencyTolerance();
+
+    @ManagedAttribute(description = "Tolerance of latency above the baseline latency")
+    void setLatencyTolerance(double latencyTolerance);
+
+    @ManagedAttribute(description = "Algorithm")
+    String getAlgorithm();
+
+    @ManagedAttribute(description = "Algorithm")
+    void setAlgorithm(String algorithm);
+
+    @ManagedAttribute(description = "Overload action")
+    String getOverloadAction();
+
+    @ManagedAttribute(description = "Overload action")
+    void setOverloadAction(String overloadAction);
+
+    @ManagedAttribute(description = "Logging Level")
+    String getLoggingLevel();
+
+    @ManagedAttribute(description = "Logging Level")
+    void setLoggingLevel(String loggingLevel);
+
+}
@@ -126,6 +126,9 @@ public interface ManagedRouteMBean extends ManagedPerformanceCounterMBean {
     @ManagedAttribute(description = "Oldest inflight exchange id")
     String getOldestInflightExchangeId();
 
+    @ManagedAttribute(description = "Number of exchanges parked in the redelivery timer waiting for a delayed redelivery")
+    int getParkedRedeliveries();
+
     @Experimental
     @ManagedAttribute(description = "Route controller")
     Boolean getHasRouteController();
@@ -50,6 +50,7 @@ import org.apache.camel.StartupListener;
 import org.apache.camel.TimerListener;
 import org.apache.camel.VetoCamelContextStartException;
 import org.apache.camel.cluster.CamelClusterService;
+import org.apache.camel.management.mbean.ManagedAdaptiveConcurrencyRoutePolicy;
 import org.apache.camel.management.mbean.ManagedAsyncProcessorAwaitManager;
 import org.apache.camel.management.mbean.ManagedBacklogDebugger;
 import org.apache.camel.management.mbean.ManagedBacklogTracer;
@@ -108,6 +109,7 @@ import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.spi.ValidatorRegistry;
 import org.apache.camel.support.TimerListenerManager;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.throttling.AdaptiveConcurrencyRoutePolicy;
 import org.apache.camel.throttling.ThrottlingExceptionRoutePolicy;
 import org.apache.camel.throttling.ThrottlingInflightRoutePolicy;
 import org.apache.camel.util.KeyValueHolder;
@@ -532,6 +534,8 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
         } else if (service instanceof Processor) {
             // special for processors as we need to do some extra work
             return getManagedObjectForProcessor(context, (Processor) service, route);
+        } else if (service instanceof AdaptiveConcurrencyRoutePolicy) {
+            answer = new ManagedAdaptiveConcurrencyRoutePolicy(context, (AdaptiveConcurrencyRoutePolicy) service);
         } else if (service instanceof ThrottlingInflightRoutePolicy) {
             answer = new ManagedThrottlingInflightRoutePolicy(context, (ThrottlingInflightRoutePolicy) service);
         } else if (service instanceof ThrottlingExceptionRoutePolicy) {
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.ManagedAdaptiveConcurrencyRoutePolicyMBean;
+import org.apache.camel.throttling.AdaptiveConcurrencyRoutePolicy;
+
+@ManagedResource(description = "Managed AdaptiveConcurrencyRoutePolicy")
+public class ManagedAdaptiveConcurrencyRoutePolicy extends ManagedService implements ManagedAdaptiveConcurrencyRoutePolicyMBean {
+    private final AdaptiveConcurrencyRoutePolicy policy;
+
+    public ManagedAdaptiveConcurrencyRoutePolicy(CamelContext context, AdaptiveConcurrencyRoutePolicy policy) {
+        super(context, policy);
+        this.policy = policy;
+    }
+
+    public AdaptiveConcurrencyRoutePolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public int getLimit() {
+        return getPolicy().getLimit();
+    }
+
+    @Override
+    public int getInflight() {
+        return getPolicy().getInflight();
+    }
+
+    @Override
+    public long getRejectedCounter() {
+        return getPolicy().getRejectedCounter();
+    }
+
+    @Override
+    public double getBaselineLatency() {
+        return getPolicy().getBaselineLatency();
+    }
+
+    @Override
+    public double getAverageLatency() {
+        return getPolicy().getAverageLatency();
+    }
+
+    @Override
+    public int getMinLimit() {
+        return getPolicy().getMinLimit();
+    }
+
+    @Override
+    public void setMinLimit(int minLimit) {
+        getPolicy().setMinLimit(minLimit);
+    }
+
+    @Override
+    public int getMaxLimit() {
+        return getPolicy().getMaxLimit();
+    }
+
+    @Override
+    public void setMaxLimit(int maxLimit) {
+        getPolicy().setMaxLimit(maxLimit);
+    }
+
+    @Override
+    public double getLatencyTolerance() {
+        return getPolicy().getLatencyTolerance();
+    }
+
+    @Override
+    public void setLatencyTolerance(double latencyTolerance) {
+        getPolicy().setLatencyTolerance(latencyTolerance);
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return getPolicy().getAlgorithm().name();
+    }
+
+    @Override
+    public void setAlgorithm(String algorithm) {
+        getPolicy().setAlgorithm(AdaptiveConcurrencyRoutePolicy.LimitAlgorithm.valueOf(algorithm));
+    }
+
+    @Override
+    public String getOverloadAction() {
+        return getPolicy().getOverloadAction().name();
+    }
+
+    @Override
+    public void setOverloadAction(String overloadAction) {
+        getPolicy().setOverloadAction(AdaptiveConcurrencyRoutePolicy.OverloadAction.valueOf(overloadAction));
+    }
+
+    @Override
+    public String getLoggingLevel() {
+        return getPolicy().getLoggingLevel().name();
+    }
+
+    @Override
+    public void setLoggingLevel(String loggingLevel) {
+        LoggingLevel level = LoggingLevel.valueOf(loggingLevel);
+        getPolicy().setLoggingLevel(level);
+        getPolicy().getLogger().setLevel(level);
+    }
+
+}
@@ -52,6 +52,7 @@ import org.apache.camel.api.management.mbean.RouteError;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelHelper;
 import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.processor.errorhandler.RedeliveryTimer;
 import org.apache.camel.spi.InflightRepository;
 import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.spi.RoutePolicy;
@@ -586,6 +587,12 @@ public class ManagedRoute extends ManagedPerformanceCounter implements TimerList
         }
     }
 
+    @Override
+    public int getParkedRedeliveries() {
+        RedeliveryTimer timer = context.hasService(RedeliveryTimer.class);
+        return timer != null ? timer.getParkedCount(getRouteId()) : 0;
+    }
+
     @Override
     public Boolean getHasRouteController() {
         return route.getRouteContext().getRouteController() != null;
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.api.management.mbean.ManagedAdaptiveConcurrencyRoutePolicyMBean;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.throttling.AdaptiveConcurrencyRoutePolicy;
+import org.junit.Test;
+
+public class ManagedAdaptiveConcurrencyRoutePolicyTest extends ManagementTestSupport {
+
+    @Test
+    public void testPolicy() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        MBeanServer mbeanServer = getMBeanServer();
+
+        // should have route policy
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=routes,*"), null);
+        assertEquals(1, set.size());
+        ObjectName on = set.iterator().next();
+        String policy = (String) mbeanServer.getAttribute(on, "RoutePolicyList");
+        assertNotNull(policy);
+        assertTrue("Should be an adaptive concurrency policy, was: " + policy, policy.startsWith("AdaptiveConcurrencyRoutePolicy"));
+
+        // get the RoutePolicy
+        on = null;
+        for (ObjectName name : mbeanServer.queryNames(new ObjectName("*:type=services,*"), null)) {
+            if ("AdaptiveConcurrencyRoutePolicy".equals(mbeanServer.getAttribute(name, "ServiceType"))) {
+                on = name;
+            }
+        }
+        assertNotNull("Should be registered", on);
+
+        ManagedAdaptiveConcurrencyRoutePolicyMBean proxy = JMX.newMBeanProxy(mbeanServer, on, ManagedAdaptiveConcurrencyRoutePolicyMBean.class);
+        assertEquals(10, proxy.getLimit());
+        assertEquals(0, proxy.getInflight());
+        assertEquals("Gradient", proxy.getAlgorithm());
+        assertEquals("Suspend", proxy.getOverloadAction());
+
+        getMockEndpoint("mock:result").expectedMessageCount(5);
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "Hello World");
+        }
+        assertMockEndpointsSatisfied();
+
+        assertTrue(proxy.getBaselineLatency() > 0);
+        assertTrue(proxy.getAverageLatency() > 0);
+
+        proxy.setAlgorithm("Aimd");
+        proxy.setMaxLimit(50);
+        assertEquals("Aimd", proxy.getAlgorithm());
+        assertEquals(50, proxy.getMaxLimit());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                AdaptiveConcurrencyRoutePolicy policy = new AdaptiveConcurrencyRoutePolicy();
+                policy.setInitialLimit(10);
+
+                from("direct:start").routePolicy(policy)
+                    .to("log:foo").to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,430 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.InputStreamCache;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A compact binary codec for {@link DefaultExchangeHolder} which persistent repositories, such as
+ * aggregation repositories, can use instead of Java serialization.
+ * <p/>
+ * The encoded data starts with a {@link #MAGIC} byte and a format version, followed by the fields of the
+ * holder. Each value is written with a type tag, and the common types are written in a compact form:
+ * <ul>
+ *     <li>null, String, Boolean, Character, Byte, Short, Integer, Long, Float and Double</li>
+ *     <li>BigInteger, BigDecimal and Date</li>
+ *     <li>byte[] and {@link StreamCache}, which is decoded as a {@link InputStreamCache}</li>
+ *     <li>ArrayList and LinkedHashMap containing any of the supported values</li>
+ * </ul>
+ * Values of any other type are written using a {@link TypeCodec} added with {@link #addTypeCodec(int, Class, TypeCodec)},
+ * or using Java serialization as the last resort.
+ * <p/>
+ * This codec is thread-safe.
+ */
+public class BinaryExchangeCodec {
+
+    /**
+     * The first byte of the encoded data, which cannot be the first byte of a Java serialization stream.
+     */
+    public static final byte MAGIC = (byte) 0xCA;
+    /**
+     * The version of the format of the encoded data.
+     */
+    public static final byte VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte TRUE = 2;
+    private static final byte FALSE = 3;
+    private static final byte CHAR = 4;
+    private static final byte BYTE = 5;
+    private static final byte SHORT = 6;
+    private static final byte INT = 7;
+    private static final byte LONG = 8;
+    private static final byte FLOAT = 9;
+    private static final byte DOUBLE = 10;
+    private static final byte BIG_INTEGER = 11;
+    private static final byte BIG_DECIMAL = 12;
+    private static final byte DATE = 13;
+    private static final byte BYTES = 14;
+    private static final byte STREAM_CACHE = 15;
+    private static final byte LIST = 16;
+    private static final byte MAP = 17;
+    private static final byte CUSTOM = 30;
+    private static final byte SERIALIZED = 31;
+
+    private final Map<Class<?>, CustomType<?>> typesByClass = new ConcurrentHashMap<>();
+    private final Map<Integer, CustomType<?>> typesById = new ConcurrentHashMap<>();
+
+    /**
+     * Encodes and decodes values of a custom type.
+     */
+    public interface TypeCodec<T> {
+
+        void encode(T value, DataOutput out) throws IOException;
+
+        T decode(DataInput in) throws IOException;
+    }
+
+    private static final class CustomType<T> {
+        private final int id;
+        private final Class<T> type;
+        private final TypeCodec<T> codec;
+
+        private CustomType(int id, Class<T> type, TypeCodec<T> codec) {
+            this.id = id;
+            this.type = type;
+            this.codec = codec;
+        }
+    }
+
+    /**
+     * Adds a codec for values of the given type (and its sub types), which is used instead of Java serialization.
+     *
+     * @param id    the id which identifies the type in the encoded data, which must never change once data has been persisted
+     * @param type  the type
+     * @param codec the codec for the values of the type
+     */
+    public <T> void addTypeCodec(int id, Class<T> type, TypeCodec<T> codec) {
+        ObjectHelper.notNull(type, "type");
+        ObjectHelper.notNull(codec, "codec");
+        if (id < 0) {
+            throw new IllegalArgumentException("Id must not be negative, was: " + id);
+        }
+        CustomType<T> custom = new CustomType<>(id, type, codec);
+        if (typesById.putIfAbsent(id, custom) != null) {
+            throw new IllegalArgumentException("A TypeCodec with id " + id + " has already been added");
+        }
+        typesByClass.put(type, custom);
+    }
+
+    /**
+     * Whether the data is encoded by this codec, as opposed to for example Java serialization.
+     */
+    public static boolean isEncoded(byte[] data) {
+        return data != null && data.length > 0 && data[0] == MAGIC;
+    }
+
+    public byte[] encode(DefaultExchangeHolder holder) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        encode(holder, bytes);
+        return bytes.toByteArray();
+    }
+
+    public void encode(DefaultExchangeHolder holder, OutputStream outputStream) throws IOException {
+        ObjectHelper.notNull(holder, "holder");
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        writeValue(out, holder.getExchangeId());
+        writeValue(out, holder.getInBody());
+        writeValue(out, holder.getOutBody());
+        writeValue(out, holder.getInHeaders());
+        writeValue(out, holder.getOutHeaders());
+        writeValue(out, holder.getProperties());
+        writeValue(out, holder.getException());
+        out.flush();
+    }
+
+    public DefaultExchangeHolder decode(CamelContext camelContext, byte[] data) throws IOException, ClassNotFoundException {
+        return decode(camelContext, new ByteArrayInputStream(data));
+    }
+
+    /**
+     * Decodes the holder.
+     *
+     * @param camelContext the camel context which class loader is used for values which was written using Java serialization
+     * @param inputStream  the encoded data
+     * @return the holder
+     */
+    @SuppressWarnings("unchecked")
+    public DefaultExchangeHolder decode(CamelContext camelContext, InputStream inputStream) throws IOException, ClassNotFoundException {
+        DataInputStream in = new DataInputStream(inputStream);
+        byte magic = in.readByte();
+        if (magic != MAGIC) {
+            throw new StreamCorruptedException("Data is not encoded by " + getClass().getSimpleName());
+        }
+        byte version = in.readByte();
+        if (version > VERSION) {
+            throw new StreamCorruptedException("Unsupported version: " + version + " of encoded data, supported version is: " + VERSION);
+        }
+        DefaultExchangeHolder holder = new DefaultExchangeHolder();
+        holder.setExchangeId((String) readValue(camelContext, in));
+        holder.setInBody(readValue(camelContext, in));
+        holder.setOutBody(readValue(camelContext, in));
+        holder.setInHeaders((Map<String, Object>) readValue(camelContext, in));
+        holder.setOutHeaders((Map<String, Object>) readValue(camelContext, in));
+        holder.setProperties((Map<String, Object>) readValue(camelContext, in));
+        holder.setException((Exception) readValue(camelContext, in));
+        return holder;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Character) {
+            out.writeByte(CHAR);
+            out.writeChar((Character) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            writeVarLong(out, zigZag((Integer) value));
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            writeVarLong(out, zigZag((Long) value));
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value.getClass() == BigInteger.class) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(out, ((BigInteger) value).toByteArray());
+        } else if (value.getClass() == BigDecimal.class) {
+            out.writeByte(BIG_DECIMAL);
+            writeVarLong(out, zigZag(((BigDecimal) value).scale()));
+            writeBytes(out, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value.getClass() == Date.class) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof byte[]) {
+            out.writeByte(BYTES);
+            writeBytes(out, (byte[]) value);
+        } else if (value instanceof StreamCache) {
+            StreamCache cache = (StreamCache) value;
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            cache.writeTo(bytes);
+            cache.reset();
+            out.writeByte(STREAM_CACHE);
+            writeBytes(out, bytes.toByteArray());
+        } else if (value.getClass() == ArrayList.class) {
+            List<Object> list = (List<Object>) value;
+            out.writeByte(LIST);
+            writeVarLong(out, list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value.getClass() == LinkedHashMap.class && isStringKeys((Map<?, ?>) value)) {
+            Map<String, Object> map = (Map<String, Object>) value;
+            out.writeByte(MAP);
+            writeVarLong(out, map.size());
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                writeString(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            CustomType<Object> custom = (CustomType<Object>) findCustomType(value.getClass());
+            if (custom != null) {
+                out.writeByte(CUSTOM);
+                writeVarLong(out, custom.id);
+                custom.codec.encode(value, out);
+            } else if (value instanceof Serializable) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+                    objectOut.writeObject(value);
+                }
+                out.writeByte(SERIALIZED);
+                writeBytes(out, bytes.toByteArray());
+            } else {
+                throw new IOException("Cannot encode value of type: " + value.getClass().getName());
+            }
+        }
+    }
+
+    protected Object readValue(CamelContext camelContext, DataInputStream in) throws IOException, ClassNotFoundException {
+        byte tag = in.readByte();
+        switch (tag) {
+        case NULL:
+            return null;
+        case STRING:
+            return readString(in);
+        case TRUE:
+            return Boolean.TRUE;
+        case FALSE:
+            return Boolean.FALSE;
+        case CHAR:
+            return in.readChar();
+        case BYTE:
+            return in.readByte();
+        case SHORT:
+            return in.readShort();
+        case INT:
+            return (int) unZigZag(readVarLong(in));
+        case LONG:
+            return unZigZag(readVarLong(in));
+        case FLOAT:
+            return in.readFloat();
+        case DOUBLE:
+            return in.readDouble();
+        case BIG_INTEGER:
+            return new BigInteger(readBytes(in));
+        case BIG_DECIMAL:
+            int scale = (int) unZigZag(readVarLong(in));
+            return new BigDecimal(new BigInteger(readBytes(in)), scale);
+        case DATE:
+            return new Date(in.readLong());
+        case BYTES:
+            return readBytes(in);
+        case STREAM_CACHE:
+            return new InputStreamCache(readBytes(in));
+        case LIST:
+            int size = readSize(in);
+            List<Object> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(readValue(camelContext, in));
+            }
+            return list;
+        case MAP:
+            int entries = readSize(in);
+            Map<String, Object> map = new LinkedHashMap<>(entries * 2);
+            for (int i = 0; i < entries; i++) {
+                map.put(readString(in), readValue(camelContext, in));
+            }
+            return map;
+        case CUSTOM:
+            int id = readSize(in);
+            CustomType<?> custom = typesById.get(id);
+            if (custom == null) {
+                throw new StreamCorruptedException("No TypeCodec has been added with id: " + id);
+            }
+            return custom.codec.decode(in);
+        case SERIALIZED:
+            try (ObjectInputStream objectIn = new CamelObjectInputStream(new ByteArrayInputStream(readBytes(in)), camelContext)) {
+                return objectIn.readObject();
+            }
+        default:
+            throw new StreamCorruptedException("Unknown type tag: " + tag);
+        }
+    }
+
+    private CustomType<?> findCustomType(Class<?> type) {
+        if (typesByClass.isEmpty()) {
+            return null;
+        }
+        CustomType<?> answer = typesByClass.get(type);
+        if (answer == null) {
+            for (CustomType<?> custom : typesByClass.values()) {
+                if (custom.type.isAssignableFrom(type)) {
+                    return custom;
+                }
+            }
+        }
+        return answer;
+    }
+
+    private static boolean isStringKeys(Map<?, ?> map) {
+        for (Object key : map.keySet()) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        writeVarLong(out, value.length);
+        out.write(value);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] answer = new byte[readSize(in)];
+        in.readFully(answer);
+        return answer;
+    }
+
+    private static int readSize(DataInputStream in) throws IOException {
+        long size = readVarLong(in);
+        if (size < 0 || size > Integer.MAX_VALUE) {
+            throw new StreamCorruptedException("Invalid size: " + size);
+        }
+        return (int) size;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long answer = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            answer |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return answer;
+            }
+        }
+        throw new StreamCorruptedException("Malformed variable length number");
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Gathers single-message exchanges sent to an asynchronous producer, such as a {@link DefaultAsyncProducer},
+ * into batches so they can be written to a bulk capable system in one operation.
+ * <p/>
+ * The exchanges are held until either <tt>batchSize</tt> exchanges has been gathered, or <tt>batchTimeout</tt>
+ * has elapsed since the first exchange was gathered. Then the batch is handed to the {@link BatchProcessor}
+ * which is responsible for setting the result (or exception) on each exchange of the batch. If the
+ * {@link BatchProcessor} throws an exception, then all the exchanges in the batch which have no exception
+ * set are failed with that exception. The callbacks of the exchanges are completed when the batch has been
+ * processed.
+ * <p/>
+ * A full batch is processed by the thread adding the last exchange, and a batch that timed out is processed
+ * by a worker thread, so the scheduler thread is only used for triggering the timeouts. The batches may
+ * therefore be processed concurrently, and the {@link BatchProcessor} must be thread safe. When stopping, the pending exchanges are processed before the
+ * batcher is stopped.
+ *
+ * @param <T> the type of the item the producer prepared for each exchange, such as the request to write
+ */
+public class ExchangeBatcher<T> extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExchangeBatcher.class);
+
+    private final CamelContext camelContext;
+    private final Object source;
+    private final String name;
+    private final int batchSize;
+    private final long batchTimeout;
+    private final BatchProcessor<T> processor;
+
+    private final Lock lock = new ReentrantLock();
+    private List<Entry<T>> pending;
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> timeoutTask;
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
+
+    /**
+     * Processes a batch of exchanges.
+     *
+     * @param <T> the type of the items
+     */
+    @FunctionalInterface
+    public interface BatchProcessor<T> {
+
+        /**
+         * Processes the batch and sets the result or exception on each exchange.
+         *
+         * @param exchanges the exchanges in the batch
+         * @param items     the items of the exchanges, in the same order as the exchanges
+         * @throws Exception is thrown if the batch failed as a whole
+         */
+        void process(List<Exchange> exchanges, List<T> items) throws Exception;
+    }
+
+    /**
+     * Creates the batcher.
+     *
+     * @param camelContext the camel context
+     * @param source       the source (such as the producer) using the batcher, used for the scheduler thread
+     * @param name         the name of the batcher, used for the scheduler thread
+     * @param batchSize    the maximum number of exchanges in a batch
+     * @param batchTimeout the maximum time in millis to wait for a batch to be full
+     * @param processor    the processor for the batches
+     */
+    public ExchangeBatcher(CamelContext camelContext, Object source, String name, int batchSize, long batchTimeout, BatchProcessor<T> processor) {
+        ObjectHelper.notNull(camelContext, "camelContext");
+        ObjectHelper.notNull(processor, "processor");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("BatchSize must be positive, was: " + batchSize);
+        }
+        if (batchTimeout <= 0) {
+            throw new IllegalArgumentException("BatchTimeout must be positive, was: " + batchTimeout);
+        }
+        this.camelContext = camelContext;
+        this.source = source;
+        this.name = name;
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+        this.processor = processor;
+        this.pending = new ArrayList<>(batchSize);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the thread pool used for processing the batches that timed out. By default a thread pool is
+     * created from the {@link org.apache.camel.spi.ExecutorServiceManager} when the batcher is started,
+     * and shutdown when the batcher is stopped.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Gets the number of exchanges waiting in the current batch
+     */
+    public int getPendingSize() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the exchange to the current batch.
+     *
+     * @param exchange the exchange
+     * @param item     the item prepared for the exchange
+     * @param callback the callback to complete when the batch has been processed
+     * @return <tt>true</tt> if the exchange was completed synchronously, <tt>false</tt> if the callback is completed later
+     */
+    public boolean add(Exchange exchange, T item, AsyncCallback callback) {
+        Entry<T> entry = new Entry<>(exchange, item, callback);
+
+        List<Entry<T>> batch = null;
+        lock.lock();
+        try {
+            if (!isRunAllowed()) {
+                exchange.setException(new RejectedExecutionException("ExchangeBatcher is not started so cannot accept exchange"));
+                callback.done(true);
+                return true;
+            }
+            pending.add(entry);
+            if (pending.size() >= batchSize) {
+                batch = takePending();
+            } else if (pending.size() == 1) {
+                timeoutTask = scheduler.schedule(this::onTimeout, batchTimeout, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (batch != null) {
+            // the batch is full so process it using the current thread
+            processBatch(batch, exchange);
+            return true;
+        }
+        // the exchange is completed when the batch is processed
+        return false;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (scheduler == null) {
+            scheduler = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(source != null ? source : this, name);
+        }
+        if (executorService == null) {
+            executorService = camelContext.getExecutorServiceManager().newDefaultThreadPool(source != null ? source : this, name);
+            shutdownExecutorService = true;
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // process the remaining exchanges before stopping
+        List<Entry<T>> batch;
+        lock.lock();
+        try {
+            batch = takePending();
+        } finally {
+            lock.unlock();
+        }
+        if (!batch.isEmpty()) {
+            LOG.debug("Processing {} pending exchanges before stopping", batch.size());
+            processBatch(batch, null);
+        }
+
+        if (scheduler != null) {
+            camelContext.getExecutorServiceManager().shutdown(scheduler);
+            scheduler = null;
+        }
+        if (shutdownExecutorService && executorService != null) {
+            // let the batches that timed out complete
+            camelContext.getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+    }
+
+    /**
+     * Takes the pending exchanges, must be called while holding the lock.
+     */
+    private List<Entry<T>> takePending() {
+        if (timeoutTask != null) {
+            timeoutTask.cancel(false);
+            timeoutTask = null;
+        }
+        List<Entry<T>> answer = pending;
+        pending = new ArrayList<>(batchSize);
+        return answer;
+    }
+
+    private void onTimeout() {
+        List<Entry<T>> batch;
+        lock.lock();
+        try {
+            batch = takePending();
+        } finally {
+            lock.unlock();
+        }
+        if (!batch.isEmpty()) {
+            LOG.trace("Batch timeout triggered, processing {} exchanges", batch.size());
+            try {
+                executorService.execute(() -> processBatch(batch, null));
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Thread pool rejected processing batch of {} exchanges, processing the batch using the scheduler thread", batch.size());
+                processBatch(batch, null);
+            }
+        }
+    }
+
+    /**
+     * Processes the batch and completes the callbacks of all the exchanges in the batch.
+     *
+     * @param batch   the exchanges
+     * @param current the exchange that is being processed by the current thread (is completed synchronously), or <tt>null</tt>
+     */
+    private void processBatch(List<Entry<T>> batch, Exchange current) {
+        List<Exchange> exchanges = new ArrayList<>(batch.size());
+        List<T> items = new ArrayList<>(batch.size());
+        for (Entry<T> entry : batch) {
+            exchanges.add(entry.exchange);
+            items.add(entry.item);
+        }
+
+        try {
+            processor.process(exchanges, items);
+        } catch (Throwable e) {
+            LOG.debug("Failed to process batch of {} exchanges due to {}", batch.size(), e.getMessage());
+            for (Exchange exchange : exchanges) {
+                if (exchange.getException() == null) {
+                    exchange.setException(e);
+                }
+            }
+        }
+
+        for (Entry<T> entry : batch) {
+            entry.callback.done(entry.exchange == current);
+        }
+    }
+
+    private static final class Entry<T> {
+        private final Exchange exchange;
+        private final T item;
+        private final AsyncCallback callback;
+
+        private Entry(Exchange exchange, T item, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.item = item;
+            this.callback = callback;
+        }
+    }
+}
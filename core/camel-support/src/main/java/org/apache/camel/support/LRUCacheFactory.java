@@ -113,6 +113,20 @@ public abstract class LRUCacheFactory {
         return getInstance().createLRUCache(maximumCacheSize, onEvict);
     }
 
+    /**
+     * Constructs an empty thread safe <tt>LRUCache</tt> instance with the
+     * specified maximumCacheSize, where the entries expire when the time
+     * has elapsed since they were added (or replaced), and will stop on eviction.
+     *
+     * @param maximumCacheSize the max capacity.
+     * @param expireAfterWrite time in millis after an entry is added (or replaced) when it expires.
+     * @return the cache, or <tt>null</tt> if the cache factory does not support expiring entries
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public static <K, V> Map<K, V> newExpiringLRUCache(int maximumCacheSize, long expireAfterWrite) {
+        return getInstance().createExpiringLRUCache(maximumCacheSize, expireAfterWrite);
+    }
+
     /**
      * Constructs an empty <tt>LRUCache</tt> instance with the
      * specified initial capacity, maximumCacheSize, and will stop on eviction.
@@ -238,6 +252,22 @@ public abstract class LRUCacheFactory {
      */
     public abstract <K, V> Map<K, V> createLRUCache(int initialCapacity, int maximumCacheSize);
 
+    /**
+     * Constructs an empty thread safe <tt>LRUCache</tt> instance with the
+     * specified maximumCacheSize, where the entries expire when the time
+     * has elapsed since they were added (or replaced), and will stop on eviction.
+     * <p/>
+     * The default implementation returns <tt>null</tt> as expiring entries is not supported.
+     *
+     * @param maximumCacheSize the max capacity.
+     * @param expireAfterWrite time in millis after an entry is added (or replaced) when it expires.
+     * @return the cache, or <tt>null</tt> if expiring entries is not supported
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public <K, V> Map<K, V> createExpiringLRUCache(int maximumCacheSize, long expireAfterWrite) {
+        return null;
+    }
+
     /**
      * Constructs an empty <tt>LRUCache</tt> instance with the
      * specified initial capacity, maximumCacheSize,load factor and ordering mode.
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.builder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A forward only scanner over the bytes of an {@link InputStream}, which is used by the byte based tokenizers
+ * to find literal delimiters and XML tags without decoding the input into characters.
+ * <p/>
+ * Positions are absolute offsets in the stream. The scanner keeps the bytes from the {@link #mark(long) mark}
+ * in its buffer, so a token can be decoded in one go when it has been found. The buffer grows as needed
+ * when a single token is larger than the buffer.
+ */
+final class ByteScanner implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream in;
+    private byte[] buf = new byte[BUFFER_SIZE];
+    // the stream offset of buf[0]
+    private long base;
+    // number of valid bytes in buf
+    private int limit;
+    private long mark;
+    private boolean eof;
+
+    ByteScanner(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Whether the given charset can be scanned at byte level, which requires that the bytes of a character
+     * can never be mistaken for the bytes of another character (such as in UTF-8 and single byte charsets).
+     */
+    static boolean isByteSafe(Charset charset) {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return true;
+        }
+        try {
+            return charset.newEncoder().maxBytesPerChar() == 1.0f;
+        } catch (UnsupportedOperationException e) {
+            // the charset cannot encode
+            return false;
+        }
+    }
+
+    /**
+     * Whether the given text is encoded the same in the given charset as in US-ASCII
+     */
+    static boolean isAsciiCompatible(Charset charset, String text) {
+        return Arrays.equals(text.getBytes(charset), text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Marks the given position, the bytes before the position are no longer needed.
+     */
+    void mark(long position) {
+        this.mark = position;
+    }
+
+    /**
+     * Whether the byte at the given position is available, reads more input when needed.
+     *
+     * @return <tt>false</tt> if the end of the stream is before the position
+     */
+    boolean available(long position) throws IOException {
+        while (position >= base + limit) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the byte at the given position, which must be {@link #available(long) available}.
+     */
+    byte byteAt(long position) {
+        return buf[(int) (position - base)];
+    }
+
+    /**
+     * Whether the bytes at the given position are equal to the given bytes.
+     */
+    boolean startsWith(byte[] bytes, long position) throws IOException {
+        if (!available(position + bytes.length - 1)) {
+            return false;
+        }
+        int offset = (int) (position - base);
+        for (int i = 0; i < bytes.length; i++) {
+            if (buf[offset + i] != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the position of the given byte, reads more input when needed.
+     *
+     * @return the position, or <tt>-1</tt> if not found before the end of the stream
+     */
+    long indexOf(byte b, long from) throws IOException {
+        long position = from;
+        while (true) {
+            int end = limit;
+            for (int i = (int) (position - base); i < end; i++) {
+                if (buf[i] == b) {
+                    return base + i;
+                }
+            }
+            position = base + end;
+            if (!fill()) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Finds the position of the given bytes, reads more input when needed.
+     *
+     * @return the position, or <tt>-1</tt> if not found before the end of the stream
+     */
+    long indexOf(byte[] bytes, long from) throws IOException {
+        if (bytes.length == 1) {
+            return indexOf(bytes[0], from);
+        }
+        byte first = bytes[0];
+        long position = from;
+        while (true) {
+            int max = limit - bytes.length;
+            for (int i = (int) (position - base); i <= max; i++) {
+                if (buf[i] == first) {
+                    int j = 1;
+                    while (j < bytes.length && buf[i + j] == bytes[j]) {
+                        j++;
+                    }
+                    if (j == bytes.length) {
+                        return base + i;
+                    }
+                }
+            }
+            // continue where the bytes could no longer be matched within the buffer
+            position = Math.max(position, base + max + 1);
+            if (!fill()) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * The position after the last byte that has been read, which is the end of the stream
+     * when {@link #indexOf(byte[], long)} has returned <tt>-1</tt>.
+     */
+    long end() {
+        return base + limit;
+    }
+
+    /**
+     * Decodes the bytes between the given positions, which must be available.
+     * Malformed input is replaced with the default replacement of the charset.
+     */
+    String decode(long from, long to, Charset charset) {
+        return new String(buf, (int) (from - base), (int) (to - from), charset);
+    }
+
+    /**
+     * Decodes the bytes between the given positions, which must be available.
+     * Malformed input is handled according to the decoder.
+     */
+    String decode(long from, long to, CharsetDecoder decoder) throws CharacterCodingException {
+        return decoder.decode(ByteBuffer.wrap(buf, (int) (from - base), (int) (to - from))).toString();
+    }
+
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (limit == buf.length) {
+            int keep = (int) (mark - base);
+            if (keep >= buf.length / 4) {
+                // discard the bytes before the mark
+                System.arraycopy(buf, keep, buf, 0, limit - keep);
+                limit -= keep;
+                base = mark;
+            } else {
+                buf = Arrays.copyOf(buf, buf.length * 2);
+            }
+        }
+        int n = in.read(buf, limit, buf.length - limit);
+        if (n == -1) {
+            eof = true;
+            return false;
+        }
+        limit += n;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
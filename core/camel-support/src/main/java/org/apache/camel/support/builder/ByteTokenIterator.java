@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.builder;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.WrappedFile;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * An {@link Iterator} which splits a stream of bytes by a literal delimiter, without decoding the stream
+ * into characters and without using regular expressions. Only the emitted tokens are decoded.
+ * <p/>
+ * The tokens are the same as the {@link org.apache.camel.util.Scanner} would return for the same (literal) delimiter.
+ * When grouping then the given number of tokens are returned together (including the delimiters in between)
+ * as a single String, which is decoded from the bytes directly, instead of concatenating the individual tokens.
+ */
+public final class ByteTokenIterator implements Iterator<String>, Closeable {
+
+    private static final String REGEX_CHARS = "\\^$.|?*+()[]{}";
+
+    private final ByteScanner scanner;
+    private final CharsetDecoder decoder;
+    private final byte[] delimiter;
+    private final int group;
+    private boolean skipFirst;
+    private long position;
+    private long tokenStart;
+    private long tokenEnd;
+    private String next;
+    private boolean closed;
+
+    /**
+     * Creates a new byte token iterator
+     *
+     * @param in        the input stream
+     * @param charset   the charset of the input, must be byte safe such as UTF-8 or a single byte charset
+     * @param delimiter the literal delimiter
+     * @param group     number of tokens to group together
+     * @param skipFirst whether to skip the first token
+     */
+    public ByteTokenIterator(InputStream in, Charset charset, String delimiter, int group, boolean skipFirst) {
+        if (group <= 0) {
+            throw new IllegalArgumentException("Group must be a positive number, was: " + group);
+        }
+        this.scanner = new ByteScanner(in);
+        // report malformed input as the scanner does
+        this.decoder = charset.newDecoder();
+        this.delimiter = delimiter.getBytes(charset);
+        this.group = group;
+        this.skipFirst = skipFirst;
+    }
+
+    /**
+     * Creates a byte token iterator for the given value, if the value is a stream of bytes and the delimiter
+     * and charset can be tokenized at byte level.
+     *
+     * @return the iterator, or <tt>null</tt> if the value should be tokenized using a {@link org.apache.camel.util.Scanner} instead
+     */
+    public static ByteTokenIterator tryCreate(Exchange exchange, Object value, String delimiter, int group, boolean skipFirst) {
+        if (delimiter == null || delimiter.isEmpty() || !isLiteral(delimiter)) {
+            return null;
+        }
+        if (value instanceof WrappedFile) {
+            WrappedFile<?> gf = (WrappedFile<?>) value;
+            value = gf.getBody() != null ? gf.getBody() : gf.getFile();
+        }
+        if (!(value instanceof InputStream || value instanceof File || value instanceof byte[] || value instanceof ReadableByteChannel)) {
+            return null;
+        }
+
+        // use the same charset as the scanner would use
+        String charsetName = exchange.getProperty(Exchange.CHARSET_NAME, String.class);
+        Charset charset = charsetName != null ? Charset.forName(charsetName) : Charset.defaultCharset();
+        if (!ByteScanner.isByteSafe(charset)) {
+            return null;
+        }
+
+        InputStream in;
+        if (value instanceof InputStream) {
+            in = (InputStream) value;
+        } else if (value instanceof File) {
+            try {
+                in = new FileInputStream((File) value);
+            } catch (IOException e) {
+                throw new RuntimeCamelException(e);
+            }
+        } else if (value instanceof byte[]) {
+            in = new ByteArrayInputStream((byte[]) value);
+        } else {
+            in = Channels.newInputStream((ReadableByteChannel) value);
+        }
+        return new ByteTokenIterator(in, charset, delimiter, group, skipFirst);
+    }
+
+    /**
+     * Whether the delimiter is a literal, as the tokenizer uses the delimiter as a regular expression
+     * we can only tokenize at byte level when the delimiter has no special regular expression characters.
+     */
+    static boolean isLiteral(String delimiter) {
+        for (int i = 0; i < delimiter.length(); i++) {
+            if (REGEX_CHARS.indexOf(delimiter.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !closed) {
+            try {
+                next = readGroup();
+            } catch (IOException e) {
+                throw new RuntimeCamelException(e);
+            }
+            if (next == null) {
+                // auto close
+                IOHelper.close(this);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String answer = next;
+        next = null;
+        return answer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            scanner.close();
+        }
+    }
+
+    private String readGroup() throws IOException {
+        scanner.mark(position);
+        if (skipFirst) {
+            skipFirst = false;
+            if (!nextToken()) {
+                return null;
+            }
+            if (!nextToken()) {
+                // content with header only which is marked to skip
+                return "";
+            }
+        } else if (!nextToken()) {
+            return null;
+        }
+
+        // the tokens of the group are next to each other in the stream, so keep the bytes from the first token
+        long groupStart = tokenStart;
+        scanner.mark(groupStart);
+        for (int count = 1; count < group; count++) {
+            if (!nextToken()) {
+                break;
+            }
+        }
+        return scanner.decode(groupStart, tokenEnd, decoder);
+    }
+
+    /**
+     * Finds the next token, which follows the same rules as the scanner, where a delimiter at the start of the token
+     * is skipped, and there is no token after a delimiter at the end of the stream.
+     */
+    private boolean nextToken() throws IOException {
+        if (scanner.startsWith(delimiter, position)) {
+            position += delimiter.length;
+        }
+        if (!scanner.available(position)) {
+            return false;
+        }
+        tokenStart = position;
+        long index = scanner.indexOf(delimiter, position);
+        // no more delimiters so its the last token
+        position = index != -1 ? index : scanner.end();
+        tokenEnd = position;
+        return true;
+    }
+}
@@ -954,6 +954,11 @@ public class ExpressionBuilder {
             public Object evaluate(Exchange exchange) {
                 String text = simpleExpression(token).evaluate(exchange, String.class);
                 Object value = expression.evaluate(exchange, Object.class);
+                // prefer to tokenize streams at byte level
+                Iterator<String> it = ByteTokenIterator.tryCreate(exchange, value, text, 1, false);
+                if (it != null) {
+                    return it;
+                }
                 Scanner scanner = ExchangeHelper.getScanner(exchange, value, text);
                 return scanner;
             }
@@ -965,6 +970,35 @@ public class ExpressionBuilder {
         };
     }
 
+    /**
+     * Returns a tokenize expression which groups the tokens a number of times, using the token as the group delimiter.
+     * <p/>
+     * Streams are tokenized at byte level using {@link ByteTokenIterator} (when possible) which returns each group
+     * as a whole without concatenating the individual tokens.
+     */
+    public static Expression groupTokenizeExpression(final Expression expression, final String token, final String group, final boolean skipFirst) {
+        return new ExpressionAdapter() {
+            public Object evaluate(Exchange exchange) {
+                String text = simpleExpression(token).evaluate(exchange, String.class);
+                Object value = expression.evaluate(exchange, Object.class);
+                int parts = evaluateGroup(exchange, group);
+                if (text.equals(token)) {
+                    Iterator<String> it = ByteTokenIterator.tryCreate(exchange, value, text, parts, skipFirst);
+                    if (it != null) {
+                        return it;
+                    }
+                }
+                Scanner scanner = ExchangeHelper.getScanner(exchange, value, text);
+                return new GroupTokenIterator(exchange, scanner, token, parts, skipFirst);
+            }
+
+            @Override
+            public String toString() {
+                return "group tokenize(" + expression + ", " + token + ") " + group + " times";
+            }
+        };
+    }
+
     /**
      * Returns an expression that skips the first element
      */
@@ -1039,13 +1073,7 @@ public class ExpressionBuilder {
                 // evaluate expression as iterator
                 Iterator<?> it = expression.evaluate(exchange, Iterator.class);
                 ObjectHelper.notNull(it, "expression: " + expression + " evaluated on " + exchange + " must return an java.util.Iterator");
-                // the group can be a simple expression so evaluate it as a number
-                Integer parts = exchange.getContext().resolveLanguage("simple").createExpression(group).evaluate(exchange, Integer.class);
-                if (parts == null) {
-                    throw new RuntimeExchangeException("Group evaluated as null, must be evaluated as a positive Integer value from expression: " + group, exchange);
-                } else if (parts <= 0) {
-                    throw new RuntimeExchangeException("Group must be a positive number, was: " + parts, exchange);
-                }
+                int parts = evaluateGroup(exchange, group);
                 if (token != null) {
                     return new GroupTokenIterator(exchange, it, token, parts, skipFirst);
                 } else {
@@ -1060,6 +1088,17 @@ public class ExpressionBuilder {
         };
     }
 
+    private static int evaluateGroup(Exchange exchange, String group) {
+        // the group can be a simple expression so evaluate it as a number
+        Integer parts = exchange.getContext().resolveLanguage("simple").createExpression(group).evaluate(exchange, Integer.class);
+        if (parts == null) {
+            throw new RuntimeExchangeException("Group evaluated as null, must be evaluated as a positive Integer value from expression: " + group, exchange);
+        } else if (parts <= 0) {
+            throw new RuntimeExchangeException("Group must be a positive number, was: " + parts, exchange);
+        }
+        return parts;
+    }
+
     /**
      * Returns a sort expression which will sort the expression with the given comparator.
      * <p/>
@@ -19,12 +19,14 @@ package org.apache.camel.support.builder;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
 import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
@@ -32,6 +34,7 @@ import java.util.regex.Pattern;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.ExpressionAdapter;
 import org.apache.camel.support.LanguageSupport;
@@ -104,6 +107,14 @@ public class TokenXMLExpressionIterator extends ExpressionAdapter {
             throw new IllegalArgumentException("Namespace token must be a valid XML token, was: " + inherit);
         }
 
+        if (!OPTION_WRAP_TOKEN.equals(inherit)) {
+            // prefer to scan the stream at byte level
+            Iterator<?> iterator = ByteXMLTokenIterator.tryCreate(tag, inherit, in, charset);
+            if (iterator != null) {
+                return iterator;
+            }
+        }
+
         XMLTokenIterator iterator = new XMLTokenIterator(tag, inherit, in, charset);
         iterator.init();
         return iterator;
@@ -219,18 +230,7 @@ public class TokenXMLExpressionIterator extends ExpressionAdapter {
 
             // build answer accordingly to whether namespaces should be inherited or not
             if (inheritNamespaceToken != null && rootTokenNamespaces != null) {
-                String head = StringHelper.before(next, ">");
-                boolean empty = false;
-                if (head.endsWith("/")) {
-                    head = head.substring(0, head.length() - 1);
-                    empty = true;
-                }
-                StringBuilder sb = new StringBuilder();
-                // append root namespaces to local start token
-                // grab the text
-                String tail = StringHelper.after(next, ">");
-                // build result with inherited namespaces and skip the prefixes that are declared within the child itself.
-                next = sb.append(head).append(getMissingInherritNamespaces(head)).append(empty ? "/>" : ">").append(tail).toString();
+                next = inheritNamespaces(next, rootTokenNamespaces);
             } else if (wrapToken) {
                 // wrap the token
                 StringBuilder sb = new StringBuilder();
@@ -240,80 +240,6 @@ public class TokenXMLExpressionIterator extends ExpressionAdapter {
             return next;
         }
         
-        private String getMissingInherritNamespaces(final String text) {
-            final StringBuilder sb = new StringBuilder();
-            if (text != null) {
-                boolean first = true;
-                final String[] containedNamespaces = getNamespacesFromNamespaceTokenSplitter(text);
-                for (final String rn : rootTokenNamespaces) {
-                    boolean nsExists = false;
-                    for (final String cn : containedNamespaces) {
-                        if (rn.equals(cn)) {
-                            nsExists = true;
-                            // already existing namespace in child were found we need a separator, so we set first = false
-                            if (first) {
-                                first = false;
-                            }
-                            break;
-                        }
-                    }
-                    if (!nsExists) {
-                        sb.append(first ? rn : NAMESPACE_SEPERATOR + rn);
-                        if (first) {
-                            first = false;
-                        }
-                    }
-                }
-            }
-            return sb.toString();
-        }
-        
-        private String[] getNamespacesFromNamespaceTokenSplitter(final String text) {
-            final String namespaces = getNamespacesFromNamespaceToken(text);
-            return namespaces == null ? new String[0] : namespaces.split(NAMESPACE_SEPERATOR);
-        }
-        
-        private String getNamespacesFromNamespaceToken(String text) {
-            if (text == null) {
-                return null;
-            }
-
-            // find namespaces (there can be attributes mixed, so we should only grab the namespaces)
-            Map<String, String> namespaces = new LinkedHashMap<>();
-            Matcher matcher = NAMESPACE_PATTERN.matcher(text);
-            while (matcher.find()) {
-                String prefix = matcher.group(1);
-                String url = matcher.group(2);
-                if (ObjectHelper.isEmpty(prefix)) {
-                    prefix = "_DEFAULT_";
-                } else {
-                    // skip leading :
-                    prefix = prefix.substring(1);
-                }
-                namespaces.put(prefix, url);
-            }
-
-            // did we find any namespaces
-            if (namespaces.isEmpty()) {
-                return null;
-            }
-
-            // build namespace String
-            StringBuilder sb = new StringBuilder();
-            for (Map.Entry<String, String> entry : namespaces.entrySet()) {
-                String key = entry.getKey();
-                // note the value is already quoted
-                String value = entry.getValue();
-                if ("_DEFAULT_".equals(key)) {
-                    sb.append(" xmlns=").append(value);
-                } else {
-                    sb.append(" xmlns:").append(key).append("=").append(value);
-                }
-            }
-
-            return sb.toString();
-        }
-        
         @Override
         public boolean hasNext() {
             return image != null;
@@ -352,6 +278,320 @@ public class TokenXMLExpressionIterator extends ExpressionAdapter {
 
     }
 
+    /**
+     * Iterator which scans the bytes of the input stream for the start and end tags, without decoding the input
+     * into characters and without using regular expressions. Only the emitted tokens are decoded.
+     * <p/>
+     * The tags are matched the same way as {@link XMLTokenIterator} does, which is a tag with the given name
+     * (with an optional namespace prefix) until the first end tag with the same name, or an empty tag.
+     */
+    static final class ByteXMLTokenIterator implements Iterator<Object>, Closeable {
+        private static final Pattern NAME_PATTERN = Pattern.compile("[\\w:\\-]+");
+        private static final int MAX_PREFIX_LENGTH = 15;
+
+        private final ByteScanner scanner;
+        private final Charset charset;
+        private final byte[] tagName;
+        private final byte[] inheritNamespaceTagName;
+        private String[] rootTokenNamespaces;
+        private long position;
+        // the end of the last found start tag
+        private long startTagEnd;
+        private boolean emptyTag;
+        private boolean first = true;
+        private String next;
+        private boolean closed;
+
+        private ByteXMLTokenIterator(byte[] tagName, byte[] inheritNamespaceTagName, InputStream in, Charset charset) {
+            this.scanner = new ByteScanner(in);
+            this.charset = charset;
+            this.tagName = tagName;
+            this.inheritNamespaceTagName = inheritNamespaceTagName;
+        }
+
+        /**
+         * Creates the iterator if the tags and charset can be scanned at byte level
+         *
+         * @return the iterator, or <tt>null</tt> if the {@link XMLTokenIterator} should be used instead
+         */
+        static ByteXMLTokenIterator tryCreate(String tag, String inherit, InputStream in, String charsetName) {
+            String name = tag.substring(1, tag.length() - 1);
+            String inheritName = inherit != null ? inherit.substring(1, inherit.length() - 1) : null;
+            if (!NAME_PATTERN.matcher(name).matches() || (inheritName != null && !NAME_PATTERN.matcher(inheritName).matches())) {
+                return null;
+            }
+            Charset charset = Charset.forName(charsetName);
+            String markup = "<>/:=\"' \t\r\n" + name + (inheritName != null ? inheritName : "");
+            if (!ByteScanner.isByteSafe(charset) || !ByteScanner.isAsciiCompatible(charset, markup)) {
+                return null;
+            }
+            return new ByteXMLTokenIterator(name.getBytes(charset), inheritName != null ? inheritName.getBytes(charset) : null, in, charset);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !closed) {
+                try {
+                    next = readToken();
+                } catch (IOException e) {
+                    throw new RuntimeCamelException(e);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String answer = next;
+            next = null;
+            return answer;
+        }
+
+        @Override
+        public void remove() {
+            // noop
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                scanner.close();
+            }
+        }
+
+        private String readToken() throws IOException {
+            if (first) {
+                first = false;
+                if (inheritNamespaceTagName != null) {
+                    // initialize inherited namespaces from the parent tag
+                    String parent = null;
+                    // keep the bytes, as the tokens are scanned from the beginning if there is no parent tag
+                    long start = findStartTag(inheritNamespaceTagName, 0, false);
+                    if (start != -1) {
+                        parent = scanner.decode(start, startTagEnd, charset);
+                        position = startTagEnd;
+                    }
+                    rootTokenNamespaces = getNamespacesFromNamespaceTokenSplitter(parent);
+                }
+            }
+
+            long start = findStartTag(tagName, position, true);
+            if (start == -1) {
+                return null;
+            }
+            long end = startTagEnd;
+            if (!emptyTag) {
+                end = findEndTag(tagName, startTagEnd);
+                if (end == -1) {
+                    return null;
+                }
+            }
+            position = end;
+
+            String token = scanner.decode(start, end, charset);
+            if (rootTokenNamespaces != null) {
+                token = inheritNamespaces(token, rootTokenNamespaces);
+            }
+            return token;
+        }
+
+        /**
+         * Finds the start tag with the given name, and sets the end of the start tag and whether it is an empty tag.
+         *
+         * @param mark whether the bytes before the candidate tags can be discarded
+         * @return the position of the start tag, or <tt>-1</tt> if not found
+         */
+        private long findStartTag(byte[] name, long from, boolean mark) throws IOException {
+            long p = from;
+            while (true) {
+                long lt = scanner.indexOf((byte) '<', p);
+                if (lt == -1) {
+                    return -1;
+                }
+                if (mark) {
+                    // the bytes before the candidate tag are no longer needed
+                    scanner.mark(lt);
+                }
+                long afterName = matchName(name, lt + 1);
+                if (afterName != -1 && scanner.available(afterName)) {
+                    byte b = scanner.byteAt(afterName);
+                    if (b == '>') {
+                        startTagEnd = afterName + 1;
+                        emptyTag = false;
+                        return lt;
+                    } else if (b == '/') {
+                        if (scanner.available(afterName + 1) && scanner.byteAt(afterName + 1) == '>') {
+                            startTagEnd = afterName + 2;
+                            emptyTag = true;
+                            return lt;
+                        }
+                    } else if (isWhitespace(b)) {
+                        long gt = scanner.indexOf((byte) '>', afterName);
+                        if (gt == -1) {
+                            return -1;
+                        }
+                        startTagEnd = gt + 1;
+                        emptyTag = scanner.byteAt(gt - 1) == '/';
+                        return lt;
+                    }
+                }
+                p = lt + 1;
+            }
+        }
+
+        /**
+         * Finds the end tag with the given name
+         *
+         * @return the position after the end tag, or <tt>-1</tt> if not found
+         */
+        private long findEndTag(byte[] name, long from) throws IOException {
+            long p = from;
+            while (true) {
+                long lt = scanner.indexOf((byte) '<', p);
+                if (lt == -1) {
+                    return -1;
+                }
+                if (scanner.available(lt + 1) && scanner.byteAt(lt + 1) == '/') {
+                    long afterName = matchName(name, lt + 2);
+                    if (afterName != -1) {
+                        long q = afterName;
+                        while (scanner.available(q) && isWhitespace(scanner.byteAt(q))) {
+                            q++;
+                        }
+                        if (scanner.available(q) && scanner.byteAt(q) == '>') {
+                            return q + 1;
+                        }
+                    }
+                }
+                p = lt + 1;
+            }
+        }
+
+        /**
+         * Matches the name (with an optional namespace prefix) at the given position
+         *
+         * @return the position after the name, or <tt>-1</tt> if not matched
+         */
+        private long matchName(byte[] name, long from) throws IOException {
+            // the name may have a namespace prefix
+            for (long p = from; p <= from + MAX_PREFIX_LENGTH && scanner.available(p); p++) {
+                byte b = scanner.byteAt(p);
+                if (b == ':') {
+                    if (p > from && scanner.startsWith(name, p + 1)) {
+                        return p + 1 + name.length;
+                    }
+                    break;
+                } else if (b == '<' || b == '>' || b == '/' || isWhitespace(b)) {
+                    break;
+                }
+            }
+            if (scanner.startsWith(name, from)) {
+                return from + name.length;
+            }
+            return -1;
+        }
+
+        private static boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == 0x0B || b == '\f';
+        }
+    }
+
+    /**
+     * Adds the inherited namespaces to the start tag of the token, skipping the prefixes that are declared within the token itself.
+     */
+    private static String inheritNamespaces(String next, String[] rootTokenNamespaces) {
+        String head = StringHelper.before(next, ">");
+        boolean empty = false;
+        if (head.endsWith("/")) {
+            head = head.substring(0, head.length() - 1);
+            empty = true;
+        }
+        StringBuilder sb = new StringBuilder();
+        // append root namespaces to local start token
+        // grab the text
+        String tail = StringHelper.after(next, ">");
+        // build result with inherited namespaces and skip the prefixes that are declared within the child itself.
+        return sb.append(head).append(getMissingInherritNamespaces(head, rootTokenNamespaces)).append(empty ? "/>" : ">").append(tail).toString();
+    }
+
+    private static String getMissingInherritNamespaces(final String text, final String[] rootTokenNamespaces) {
+        final StringBuilder sb = new StringBuilder();
+        if (text != null) {
+            boolean first = true;
+            final String[] containedNamespaces = getNamespacesFromNamespaceTokenSplitter(text);
+            for (final String rn : rootTokenNamespaces) {
+                boolean nsExists = false;
+                for (final String cn : containedNamespaces) {
+                    if (rn.equals(cn)) {
+                        nsExists = true;
+                        // already existing namespace in child were found we need a separator, so we set first = false
+                        if (first) {
+                            first = false;
+                        }
+                        break;
+                    }
+                }
+                if (!nsExists) {
+                    sb.append(first ? rn : NAMESPACE_SEPERATOR + rn);
+                    if (first) {
+                        first = false;
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+    
+    private static String[] getNamespacesFromNamespaceTokenSplitter(final String text) {
+        final String namespaces = getNamespacesFromNamespaceToken(text);
+        return namespaces == null ? new String[0] : namespaces.split(NAMESPACE_SEPERATOR);
+    }
+    
+    private static String getNamespacesFromNamespaceToken(String text) {
+        if (text == null) {
+            return null;
+        }
+    
+        // find namespaces (there can be attributes mixed, so we should only grab the namespaces)
+        Map<String, String> namespaces = new LinkedHashMap<>();
+        Matcher matcher = NAMESPACE_PATTERN.matcher(text);
+        while (matcher.find()) {
+            String prefix = matcher.group(1);
+            String url = matcher.group(2);
+            if (ObjectHelper.isEmpty(prefix)) {
+                prefix = "_DEFAULT_";
+            } else {
+                // skip leading :
+                prefix = prefix.substring(1);
+            }
+            namespaces.put(prefix, url);
+        }
+    
+        // did we find any namespaces
+        if (namespaces.isEmpty()) {
+            return null;
+        }
+    
+        // build namespace String
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String> entry : namespaces.entrySet()) {
+            String key = entry.getKey();
+            // note the value is already quoted
+            String value = entry.getValue();
+            if ("_DEFAULT_".equals(key)) {
+                sb.append(" xmlns=").append(value);
+            } else {
+                sb.append(" xmlns:").append(key).append("=").append(value);
+            }
+        }
+    
+        return sb.toString();
+    }
+
     private static String buildXMLTail(String xmlhead) {
         // assume the input text is a portion of a well-formed xml
         List<String> tags = new ArrayList<>();
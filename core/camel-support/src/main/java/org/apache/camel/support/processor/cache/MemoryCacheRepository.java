@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.cache;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.CacheRepository;
+import org.apache.camel.support.DefaultLRUCacheFactory;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A memory based implementation of {@link org.apache.camel.spi.CacheRepository} using a LRU cache
+ * from the {@link LRUCacheFactory} (which is based on Caffeine when <tt>camel-caffeine-lrucache</tt> is on the classpath).
+ * <p/>
+ * The least recently used values are evicted when the repository holds <tt>maximumSize</tt> values,
+ * and values expire when <tt>timeToLive</tt> millis has elapsed since they were added.
+ * <p/>
+ * The values are not cached until the repository is started.
+ */
+@ManagedResource(description = "Memory based cache repository")
+public class MemoryCacheRepository extends ServiceSupport implements CacheRepository {
+
+    private int maximumSize;
+    private long timeToLive;
+    private volatile Map<String, Object> cache;
+    // whether the values expire by the cache, or the repository must check when they expire
+    private boolean expireByCache;
+
+    /**
+     * Creates a new memory based repository with a maximum of 1000 values that never expire.
+     */
+    public MemoryCacheRepository() {
+        this(1000, 0);
+    }
+
+    /**
+     * Creates a new memory based repository.
+     *
+     * @param maximumSize the maximum number of values
+     * @param timeToLive  the time in millis the values are kept, or 0 to keep the values until evicted
+     */
+    public MemoryCacheRepository(int maximumSize, long timeToLive) {
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public Object get(String key) {
+        Map<String, Object> cache = this.cache;
+        if (cache == null) {
+            return null;
+        }
+        Object value = cache.get(key);
+        if (value instanceof CachedValue) {
+            CachedValue cached = (CachedValue) value;
+            if (cached.expires <= System.currentTimeMillis()) {
+                cache.remove(key, cached);
+                return null;
+            }
+            return cached.value;
+        }
+        return value;
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        Map<String, Object> cache = this.cache;
+        if (cache == null) {
+            return;
+        }
+        if (timeToLive > 0 && !expireByCache) {
+            cache.put(key, new CachedValue(value, System.currentTimeMillis() + timeToLive));
+        } else {
+            cache.put(key, value);
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        Map<String, Object> cache = this.cache;
+        return cache != null && cache.remove(key) != null;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        Map<String, Object> cache = this.cache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    @ManagedAttribute(description = "The current cache size")
+    public int getCacheSize() {
+        Map<String, Object> cache = this.cache;
+        return cache != null ? cache.size() : 0;
+    }
+
+    @ManagedAttribute(description = "The maximum number of values")
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    @ManagedAttribute(description = "The time in millis the values are kept")
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (cache == null) {
+            Map<String, Object> answer = null;
+            if (timeToLive > 0) {
+                // let the cache expire the values if supported
+                answer = LRUCacheFactory.newExpiringLRUCache(maximumSize, timeToLive);
+            }
+            expireByCache = answer != null;
+            if (answer == null) {
+                answer = LRUCacheFactory.newLRUCache(maximumSize);
+                if (LRUCacheFactory.getInstance() instanceof DefaultLRUCacheFactory) {
+                    // the default cache is not thread safe
+                    answer = Collections.synchronizedMap(answer);
+                }
+            }
+            cache = answer;
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private static final class CachedValue {
+        private final Object value;
+        private final long expires;
+
+        private CachedValue(Object value, long expires) {
+            this.value = value;
+            this.expires = expires;
+        }
+    }
+}
@@ -193,6 +193,50 @@ public class ModelParser extends BaseParser {
             return true;
         }, optionalIdentifiedDefinitionElementHandler(), noValueHandler());
     }
+    protected CacheDefinition doParseCacheDefinition() throws IOException, XmlPullParserException {
+        return doParse(new CacheDefinition(), (def, key, val) -> {
+            switch (key) {
+                case "cacheRepositoryRef": def.setCacheRepositoryRef(val); break;
+                case "maximumSize": def.setMaximumSize(Integer.valueOf(val)); break;
+                case "timeToLive": def.setTimeToLive(Long.valueOf(val)); break;
+                default: return processorDefinitionAttributeHandler().accept(def, key, val);
+            }
+            return true;
+        }, outputExpressionNodeElementHandler(), noValueHandler());
+    }
+    protected <T extends OutputExpressionNode> ElementHandler<T> outputExpressionNodeElementHandler() {
+        return (def, key) -> {
+            ProcessorDefinition v = doParseProcessorDefinitionRef(key);
+            if (v != null) { 
+                doAdd(v, def.getOutputs(), def::setOutputs);
+                return true;
+            }
+            return expressionNodeElementHandler().accept(def, key);
+        };
+    }
+    protected <T extends ExpressionNode> ElementHandler<T> expressionNodeElementHandler() {
+        return (def, key) -> {
+            ExpressionDefinition v = doParseExpressionDefinitionRef(key);
+            if (v != null) { 
+                def.setExpression(v);
+                return true;
+            }
+            return optionalIdentifiedDefinitionElementHandler().accept(def, key);
+        };
+    }
+    protected <T extends ExpressionDefinition> AttributeHandler<T> expressionDefinitionAttributeHandler() {
+        return (def, key, val) -> {
+            switch (key) {
+                case "id": def.setId(val); break;
+                case "trim": def.setTrim(val); break;
+                default: return false;
+            }
+            return true;
+        };
+    }
+    protected ExpressionDefinition doParseExpressionDefinition() throws IOException, XmlPullParserException {
+        return doParse(new ExpressionDefinition(), expressionDefinitionAttributeHandler(),  noElementHandler(), expressionDefinitionValueHandler());
+    }
     protected CatchDefinition doParseCatchDefinition() throws IOException, XmlPullParserException {
         return doParse(new CatchDefinition(),
             processorDefinitionAttributeHandler(), (def, key) -> {
@@ -319,29 +363,6 @@ public class ModelParser extends BaseParser {
             return true;
         }, expressionNodeElementHandler(), noValueHandler());
     }
-    protected <T extends ExpressionNode> ElementHandler<T> expressionNodeElementHandler() {
-        return (def, key) -> {
-            ExpressionDefinition v = doParseExpressionDefinitionRef(key);
-            if (v != null) { 
-                def.setExpression(v);
-                return true;
-            }
-            return optionalIdentifiedDefinitionElementHandler().accept(def, key);
-        };
-    }
-    protected <T extends ExpressionDefinition> AttributeHandler<T> expressionDefinitionAttributeHandler() {
-        return (def, key, val) -> {
-            switch (key) {
-                case "id": def.setId(val); break;
-                case "trim": def.setTrim(val); break;
-                default: return false;
-            }
-            return true;
-        };
-    }
-    protected ExpressionDefinition doParseExpressionDefinition() throws IOException, XmlPullParserException {
-        return doParse(new ExpressionDefinition(), expressionDefinitionAttributeHandler(),  noElementHandler(), expressionDefinitionValueHandler());
-    }
     protected DynamicRouterDefinition doParseDynamicRouterDefinition() throws IOException, XmlPullParserException {
         return doParse(new DynamicRouterDefinition(), (def, key, val) -> {
             switch (key) {
@@ -372,16 +393,6 @@ public class ModelParser extends BaseParser {
         return doParse(new FilterDefinition(),
             processorDefinitionAttributeHandler(), outputExpressionNodeElementHandler(), noValueHandler());
     }
-    protected <T extends OutputExpressionNode> ElementHandler<T> outputExpressionNodeElementHandler() {
-        return (def, key) -> {
-            ProcessorDefinition v = doParseProcessorDefinitionRef(key);
-            if (v != null) { 
-                doAdd(v, def.getOutputs(), def::setOutputs);
-                return true;
-            }
-            return expressionNodeElementHandler().accept(def, key);
-        };
-    }
     protected FinallyDefinition doParseFinallyDefinition() throws IOException, XmlPullParserException {
         return doParse(new FinallyDefinition(),
             processorDefinitionAttributeHandler(), outputDefinitionElementHandler(), noValueHandler());
@@ -532,6 +543,8 @@ public class ModelParser extends BaseParser {
                 case "sticky": def.setLoadBalancerType(doParseStickyLoadBalancerDefinition()); break;
                 case "topic": def.setLoadBalancerType(doParseTopicLoadBalancerDefinition()); break;
                 case "weighted": def.setLoadBalancerType(doParseWeightedLoadBalancerDefinition()); break;
+                case "leastInflight": def.setLoadBalancerType(doParseLeastInflightLoadBalancerDefinition()); break;
+                case "powerOfTwoChoices": def.setLoadBalancerType(doParsePowerOfTwoChoicesLoadBalancerDefinition()); break;
                 default: return outputDefinitionElementHandler().accept(def, key);
             }
             return true;
@@ -1314,6 +1327,7 @@ public class ModelParser extends BaseParser {
     protected CachingServiceCallServiceDiscoveryConfiguration doParseCachingServiceCallServiceDiscoveryConfiguration() throws IOException, XmlPullParserException {
         return doParse(new CachingServiceCallServiceDiscoveryConfiguration(), (def, key, val) -> {
             switch (key) {
+                case "refreshInterval": def.setRefreshInterval(val); break;
                 case "timeout": def.setTimeout(val); break;
                 case "units": def.setUnits(TimeUnit.valueOf(val)); break;
                 default: return identifiedTypeAttributeHandler().accept(def, key, val);
@@ -1699,6 +1713,7 @@ public class ModelParser extends BaseParser {
             switch (key) {
                 case "allowEmptyStream": def.setAllowEmptyStream(Boolean.valueOf(val)); break;
                 case "classType": def.setClassType(val); break;
+                case "lazyLoad": def.setLazyLoad(Boolean.valueOf(val)); break;
                 case "locale": def.setLocale(val); break;
                 case "type": def.setType(BindyType.valueOf(val)); break;
                 case "unwrapSingleInstance": def.setUnwrapSingleInstance(Boolean.valueOf(val)); break;
@@ -1761,6 +1776,9 @@ public class ModelParser extends BaseParser {
                 case "marshallerFactoryRef": def.setMarshallerFactoryRef(val); break;
                 case "nullString": def.setNullString(val); break;
                 case "nullStringDisabled": def.setNullStringDisabled(Boolean.valueOf(val)); break;
+                case "parallelChunkSize": def.setParallelChunkSize(Integer.valueOf(val)); break;
+                case "parallelOrdered": def.setParallelOrdered(Boolean.valueOf(val)); break;
+                case "parallelProcessing": def.setParallelProcessing(Boolean.valueOf(val)); break;
                 case "quote": def.setQuote(val); break;
                 case "quoteDisabled": def.setQuoteDisabled(Boolean.valueOf(val)); break;
                 case "quoteMode": def.setQuoteMode(val); break;
@@ -1860,8 +1878,16 @@ public class ModelParser extends BaseParser {
         }, noElementHandler(), noValueHandler());
     }
     protected GzipDataFormat doParseGzipDataFormat() throws IOException, XmlPullParserException {
-        return doParse(new GzipDataFormat(),
-            dataFormatDefinitionAttributeHandler(), noElementHandler(), noValueHandler());
+        return doParse(new GzipDataFormat(), (def, key, val) -> {
+            switch (key) {
+                case "blockSize": def.setBlockSize(Integer.valueOf(val)); break;
+                case "compressionLevel": def.setCompressionLevel(Integer.valueOf(val)); break;
+                case "parallel": def.setParallel(Boolean.valueOf(val)); break;
+                case "parallelism": def.setParallelism(Integer.valueOf(val)); break;
+                default: return dataFormatDefinitionAttributeHandler().accept(def, key, val);
+            }
+            return true;
+        }, noElementHandler(), noValueHandler());
     }
     protected HL7DataFormat doParseHL7DataFormat() throws IOException, XmlPullParserException {
         return doParse(new HL7DataFormat(), (def, key, val) -> {
@@ -1912,6 +1938,7 @@ public class ModelParser extends BaseParser {
                 case "fragment": def.setFragment(Boolean.valueOf(val)); break;
                 case "ignoreJAXBElement": def.setIgnoreJAXBElement(Boolean.valueOf(val)); break;
                 case "jaxbProviderProperties": def.setJaxbProviderProperties(val); break;
+                case "lazyLoad": def.setLazyLoad(Boolean.valueOf(val)); break;
                 case "mustBeJAXBElement": def.setMustBeJAXBElement(Boolean.valueOf(val)); break;
                 case "namespacePrefixRef": def.setNamespacePrefixRef(val); break;
                 case "noNamespaceSchemaLocation": def.setNoNamespaceSchemaLocation(val); break;
@@ -1943,6 +1970,7 @@ public class ModelParser extends BaseParser {
             switch (key) {
                 case "allowJmsType": def.setAllowJmsType(Boolean.valueOf(val)); break;
                 case "allowUnmarshallType": def.setAllowUnmarshallType(Boolean.valueOf(val)); break;
+                case "arrayPointer": def.setArrayPointer(val); break;
                 case "autoDiscoverObjectMapper": def.setAutoDiscoverObjectMapper(Boolean.valueOf(val)); break;
                 case "collectionTypeName": def.setCollectionTypeName(val); break;
                 case "disableFeatures": def.setDisableFeatures(val); break;
@@ -1950,6 +1978,7 @@ public class ModelParser extends BaseParser {
                 case "enableJaxbAnnotationModule": def.setEnableJaxbAnnotationModule(Boolean.valueOf(val)); break;
                 case "include": def.setInclude(val); break;
                 case "jsonView": def.setJsonView(asClass(val)); break;
+                case "lazyLoad": def.setLazyLoad(Boolean.valueOf(val)); break;
                 case "library": def.setLibrary(JsonLibrary.valueOf(val)); break;
                 case "moduleClassNames": def.setModuleClassNames(val); break;
                 case "moduleRefs": def.setModuleRefs(val); break;
@@ -2329,6 +2358,9 @@ public class ModelParser extends BaseParser {
         return doParse(new ZipFileDataFormat(), (def, key, val) -> {
             switch (key) {
                 case "allowEmptyDirectory": def.setAllowEmptyDirectory(Boolean.valueOf(val)); break;
+                case "maxInFlightBytes": def.setMaxInFlightBytes(Long.valueOf(val)); break;
+                case "parallel": def.setParallel(Boolean.valueOf(val)); break;
+                case "parallelism": def.setParallelism(Integer.valueOf(val)); break;
                 case "preservePathElements": def.setPreservePathElements(Boolean.valueOf(val)); break;
                 case "usingIterator": def.setUsingIterator(Boolean.valueOf(val)); break;
                 default: return dataFormatDefinitionAttributeHandler().accept(def, key, val);
@@ -2363,6 +2395,7 @@ public class ModelParser extends BaseParser {
                 case "allowSimple": def.setAllowSimple(val); break;
                 case "headerName": def.setHeaderName(val); break;
                 case "resultType": def.setResultTypeName(val); break;
+                case "streaming": def.setStreaming(val); break;
                 case "suppressExceptions": def.setSuppressExceptions(val); break;
                 case "writeAsString": def.setWriteAsString(val); break;
                 default: return expressionDefinitionAttributeHandler().accept(def, key, val);
@@ -2454,6 +2487,7 @@ public class ModelParser extends BaseParser {
                 case "objectModel": def.setObjectModel(val); break;
                 case "resultType": def.setResultTypeName(val); break;
                 case "saxon": def.setSaxon(val); break;
+                case "streaming": def.setStreaming(val); break;
                 case "threadSafety": def.setThreadSafety(val); break;
                 default: return expressionDefinitionAttributeHandler().accept(def, key, val);
             }
@@ -2496,6 +2530,24 @@ public class ModelParser extends BaseParser {
             return false;
         }, noValueHandler());
     }
+    protected LeastInflightLoadBalancerDefinition doParseLeastInflightLoadBalancerDefinition() throws IOException, XmlPullParserException {
+        return doParse(new LeastInflightLoadBalancerDefinition(), (def, key, val) -> {
+            if ("smoothingFactor".equals(key)) {
+                def.setSmoothingFactor(val);
+                return true;
+            }
+            return identifiedTypeAttributeHandler().accept(def, key, val);
+        }, noElementHandler(), noValueHandler());
+    }
+    protected PowerOfTwoChoicesLoadBalancerDefinition doParsePowerOfTwoChoicesLoadBalancerDefinition() throws IOException, XmlPullParserException {
+        return doParse(new PowerOfTwoChoicesLoadBalancerDefinition(), (def, key, val) -> {
+            if ("smoothingFactor".equals(key)) {
+                def.setSmoothingFactor(val);
+                return true;
+            }
+            return identifiedTypeAttributeHandler().accept(def, key, val);
+        }, noElementHandler(), noValueHandler());
+    }
     protected RandomLoadBalancerDefinition doParseRandomLoadBalancerDefinition() throws IOException, XmlPullParserException {
         return doParse(new RandomLoadBalancerDefinition(),
             identifiedTypeAttributeHandler(), noElementHandler(), noValueHandler());
@@ -2898,6 +2950,7 @@ public class ModelParser extends BaseParser {
         switch (key) {
             case "aggregate": return doParseAggregateDefinition();
             case "bean": return doParseBeanDefinition();
+            case "cache": return doParseCacheDefinition();
             case "doCatch": return doParseCatchDefinition();
             case "when": return doParseWhenDefinition();
             case "choice": return doParseChoiceDefinition();
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.BinaryExchangeCodec;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests encoding and decoding an aggregated exchange, as stored in the persistent aggregation repositories,
+ * using the {@link BinaryExchangeCodec} and using Java serialization.
+ */
+public class BinaryExchangeCodecTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            .threads(2)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Test
+    public void encodedSize() throws Exception {
+        BenchmarkState state = new BenchmarkState();
+        state.initialize();
+        try {
+            Assert.assertTrue("The codec should be more compact than Java serialization: "
+                    + state.encoded.length + " >= " + state.serialized.length, state.encoded.length < state.serialized.length);
+        } finally {
+            state.close();
+        }
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        CamelContext camel;
+        BinaryExchangeCodec codec;
+        DefaultExchangeHolder holder;
+        byte[] encoded;
+        byte[] serialized;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.start();
+
+            Exchange exchange = new DefaultExchange(camel);
+            exchange.getIn().setBody(Arrays.asList("order-1", "order-2", "order-3", "order-4", "order-5"));
+            exchange.getIn().setHeader("CamelAggregatedSize", 5);
+            exchange.getIn().setHeader("CamelAggregatedCorrelationKey", "customer-42");
+            exchange.getIn().setHeader("total", new BigDecimal("1234.56"));
+            exchange.getIn().setHeader("received", new Date());
+            exchange.getIn().setHeader("priority", 7L);
+            exchange.setProperty("CamelAggregatedCompletedBy", "size");
+            exchange.setProperty("CamelAggregatedTimeout", 5000L);
+
+            codec = new BinaryExchangeCodec();
+            holder = DefaultExchangeHolder.marshal(exchange, true);
+            encoded = codec.encode(holder);
+            serialized = serialize(holder);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            camel.stop();
+        }
+    }
+
+    private static byte[] serialize(DefaultExchangeHolder holder) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(holder);
+        }
+        return bos.toByteArray();
+    }
+
+    @Benchmark
+    public Object codecEncode(BenchmarkState state) throws Exception {
+        return state.codec.encode(state.holder);
+    }
+
+    @Benchmark
+    public Object codecDecode(BenchmarkState state) throws Exception {
+        return state.codec.decode(state.camel, state.encoded);
+    }
+
+    @Benchmark
+    public Object serializationEncode(BenchmarkState state) throws Exception {
+        return serialize(state.holder);
+    }
+
+    @Benchmark
+    public Object serializationDecode(BenchmarkState state) throws Exception {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(state.serialized))) {
+            return ois.readObject();
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.dataformat.csv.CsvDataFormat;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Tests unmarshalling a large CSV file with the lazy load iterator and with parallel parsing of chunks.
+ * <p/>
+ * The size of the generated file can be set with the <tt>csv.size</tt> system property in megabytes
+ * (default 256), such as <tt>-Dcsv.size=4096</tt> to unmarshal a multi-GB file.
+ */
+public class CsvUnmarshalTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.SingleShotTime)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupIterations(1)
+            .measurementIterations(3)
+            .threads(1)
+            .forks(1)
+            .jvmArgsAppend("-Dcsv.size=" + Integer.getInteger("csv.size", 256))
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        File csv;
+        CamelContext camel;
+        CsvDataFormat lazy;
+        CsvDataFormat parallel;
+        CsvDataFormat unordered;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            long size = Integer.getInteger("csv.size", 256) * 1024L * 1024L;
+            csv = new File("target/csv/customers.csv");
+            csv.getParentFile().mkdirs();
+            if (csv.length() < size) {
+                writeCsv(csv, size);
+            }
+
+            camel = new DefaultCamelContext();
+            camel.start();
+
+            lazy = new CsvDataFormat().setLazyLoad(true).setUseMaps(true);
+            parallel = new CsvDataFormat().setLazyLoad(true).setUseMaps(true).setParallelProcessing(true);
+            unordered = new CsvDataFormat().setLazyLoad(true).setUseMaps(true).setParallelProcessing(true).setParallelOrdered(false);
+            for (CsvDataFormat format : new CsvDataFormat[] {lazy, parallel, unordered}) {
+                format.start();
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            camel.stop();
+        }
+
+        private static void writeCsv(File file, long size) throws IOException {
+            byte[] line = "1,Camel,Rider,\"123 Apache Street, Somewhere\",12345,camel@apache.org\n".getBytes(StandardCharsets.UTF_8);
+            try (OutputStream os = new BufferedOutputStream(new FileOutputStream(file), 65536)) {
+                os.write("id,firstName,lastName,address,zip,email\n".getBytes(StandardCharsets.UTF_8));
+                for (long written = 0; written < size; written += line.length) {
+                    os.write(line);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void lazyLoad(BenchmarkState state, Blackhole bh) throws Exception {
+        unmarshal(state, state.lazy, bh);
+    }
+
+    @Benchmark
+    public void parallelOrdered(BenchmarkState state, Blackhole bh) throws Exception {
+        unmarshal(state, state.parallel, bh);
+    }
+
+    @Benchmark
+    public void parallelUnordered(BenchmarkState state, Blackhole bh) throws Exception {
+        unmarshal(state, state.unordered, bh);
+    }
+
+    private static void unmarshal(BenchmarkState state, CsvDataFormat format, Blackhole bh) throws Exception {
+        Exchange exchange = new DefaultExchange(state.camel);
+        InputStream is = new BufferedInputStream(new FileInputStream(state.csv));
+        Iterator<?> it = (Iterator<?>) format.unmarshal(exchange, is);
+        try {
+            while (it.hasNext()) {
+                bh.consume(it.next());
+            }
+        } finally {
+            IOHelper.closeIterator(it);
+            IOHelper.close(is);
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.ExchangeBatcher;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests writing single-message exchanges to a bulk capable sink one by one, and batched using the {@link ExchangeBatcher}.
+ * <p/>
+ * The sink is a local stand-in for a bulk API such as the Elasticsearch bulk request or MongoDB insertMany, where each
+ * request has a fixed round trip cost of 1 millis and each item costs 10 micros, and at most 8 requests are
+ * handled concurrently.
+ */
+public class ExchangeBatcherTest {
+
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long ITEM_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final Semaphore CONNECTIONS = new Semaphore(8);
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(2))
+            .measurementIterations(3)
+            .threads(32)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        CamelContext camel;
+        ExchangeBatcher<String> batcher;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.start();
+
+            batcher = new ExchangeBatcher<>(camel, this, "Benchmark", 16, 5, BenchmarkState::bulkWrite);
+            batcher.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            batcher.stop();
+            camel.stop();
+        }
+
+        private static void bulkWrite(List<Exchange> exchanges, List<String> items) throws InterruptedException {
+            write(items.size());
+            for (int i = 0; i < exchanges.size(); i++) {
+                exchanges.get(i).getMessage().setBody(items.get(i).length());
+            }
+        }
+    }
+
+    private static void write(int items) throws InterruptedException {
+        CONNECTIONS.acquire();
+        try {
+            LockSupport.parkNanos(ROUND_TRIP_NANOS + ITEM_NANOS * items);
+        } finally {
+            CONNECTIONS.release();
+        }
+    }
+
+    @Benchmark
+    public Object single(BenchmarkState state) throws Exception {
+        Exchange exchange = new DefaultExchange(state.camel);
+        write(1);
+        exchange.getMessage().setBody("document".length());
+        return exchange.getMessage().getBody();
+    }
+
+    @Benchmark
+    public Object batched(BenchmarkState state) throws Exception {
+        Exchange exchange = new DefaultExchange(state.camel);
+        CountDownLatch latch = new CountDownLatch(1);
+        if (!state.batcher.add(exchange, "document", doneSync -> latch.countDown())) {
+            latch.await();
+        }
+        return exchange.getMessage().getBody();
+    }
+
+}
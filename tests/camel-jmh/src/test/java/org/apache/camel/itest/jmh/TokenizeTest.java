@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.language.tokenizer.TokenizeLanguage;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.builder.ByteTokenIterator;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.Scanner;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests tokenizing large line and XML files using the {@link Scanner} and the byte based {@link ByteTokenIterator}.
+ * <p/>
+ * The size of the generated files can be set with the <tt>tokenize.size</tt> system property in megabytes
+ * (default 256), such as <tt>-Dtokenize.size=4096</tt> to tokenize multi-GB files.
+ */
+public class TokenizeTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.SingleShotTime)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupIterations(1)
+            .measurementIterations(3)
+            .threads(1)
+            .forks(1)
+            .jvmArgsAppend("-Dtokenize.size=" + Integer.getInteger("tokenize.size", 256))
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        File lines;
+        File xml;
+        CamelContext camel;
+        Expression xmlTokenizer;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            long size = Integer.getInteger("tokenize.size", 256) * 1024L * 1024L;
+            lines = new File("target/tokenize/lines.txt");
+            xml = new File("target/tokenize/orders.xml");
+            lines.getParentFile().mkdirs();
+            if (lines.length() != size) {
+                writeLines(lines, size);
+            }
+            if (xml.length() < size) {
+                writeXml(xml, size);
+            }
+
+            camel = new DefaultCamelContext();
+            camel.start();
+            xmlTokenizer = TokenizeLanguage.tokenizeXML("order", "orders");
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            camel.stop();
+        }
+
+        private static void writeLines(File file, long size) throws IOException {
+            byte[] line = "1,Camel,Rider,123 Apache Street,Somewhere,12345,camel@apache.org\n".getBytes(StandardCharsets.UTF_8);
+            try (OutputStream os = new BufferedOutputStream(new FileOutputStream(file), 65536)) {
+                for (long written = 0; written < size; written += line.length) {
+                    os.write(line, 0, (int) Math.min(line.length, size - written));
+                }
+            }
+        }
+
+        private static void writeXml(File file, long size) throws IOException {
+            byte[] order = "  <order id=\"1\"><item>Camel</item><amount>123</amount><customer>Rider</customer></order>\n"
+                .getBytes(StandardCharsets.UTF_8);
+            try (OutputStream os = new BufferedOutputStream(new FileOutputStream(file), 65536)) {
+                os.write("<orders xmlns=\"http://camel.apache.org/orders\">\n".getBytes(StandardCharsets.UTF_8));
+                for (long written = 0; written < size; written += order.length) {
+                    os.write(order);
+                }
+                os.write("</orders>\n".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Benchmark
+    public void scannerLines(BenchmarkState state, Blackhole bh) throws Exception {
+        try (Scanner scanner = new Scanner(new FileInputStream(state.lines), "UTF-8", "\n")) {
+            while (scanner.hasNext()) {
+                bh.consume(scanner.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public void byteLines(BenchmarkState state, Blackhole bh) throws Exception {
+        try (ByteTokenIterator it = new ByteTokenIterator(new FileInputStream(state.lines), StandardCharsets.UTF_8, "\n", 1, false)) {
+            while (it.hasNext()) {
+                bh.consume(it.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public void byteLinesGroup(BenchmarkState state, Blackhole bh) throws Exception {
+        try (ByteTokenIterator it = new ByteTokenIterator(new FileInputStream(state.lines), StandardCharsets.UTF_8, "\n", 1000, false)) {
+            while (it.hasNext()) {
+                bh.consume(it.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public void byteXml(BenchmarkState state, Blackhole bh) throws Exception {
+        Exchange exchange = new DefaultExchange(state.camel);
+        InputStream is = new BufferedInputStream(new FileInputStream(state.xml));
+        exchange.getIn().setBody(is);
+        Iterator<?> it = state.xmlTokenizer.evaluate(exchange, Iterator.class);
+        try {
+            while (it.hasNext()) {
+                bh.consume(it.next());
+            }
+        } finally {
+            IOHelper.closeIterator(it);
+            IOHelper.close(is);
+        }
+    }
+
+}